@@ -17,9 +17,18 @@ package com.mssousa.auth.application.exception;
  * Segurança:
  * - Detalhes reais vão apenas para logs
  * - Cliente recebe apenas mensagem genérica
+ *
+ * Desempenho:
+ * - Falhas esperadas (credenciais inválidas) usam uma instância pré-alocada e sem
+ *   stack trace, via {@link #invalidCredentials()}: sob credential stuffing, capturar
+ *   a pilha a cada tentativa custa CPU e alocação sem ajudar o diagnóstico
+ * - A instância compartilhada não aceita causa nem exceções suprimidas, e é imutável
  */
 public class AuthenticationFailedException extends RuntimeException {
 
+    private static final AuthenticationFailedException INVALID_CREDENTIALS =
+            new AuthenticationFailedException("Invalid credentials", false);
+
     public AuthenticationFailedException(String message) {
         super(message);
     }
@@ -27,4 +36,19 @@ public class AuthenticationFailedException extends RuntimeException {
     public AuthenticationFailedException(String message, Throwable cause) {
         super(message, cause);
     }
-}
\ No newline at end of file
+
+    /**
+     * Construtor para instâncias pré-alocadas: sem causa, sem supressão e,
+     * opcionalmente, sem stack trace.
+     */
+    protected AuthenticationFailedException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
+
+    /**
+     * Falha genérica de credenciais inválidas, compartilhada e sem stack trace.
+     */
+    public static AuthenticationFailedException invalidCredentials() {
+        return INVALID_CREDENTIALS;
+    }
+}
@@ -0,0 +1,51 @@
+package com.mssousa.auth.application.exception;
+
+/**
+ * Exceção lançada quando a autenticação é recusada por excesso de carga.
+ *
+ * Características:
+ * - Não indica credenciais inválidas: a senha sequer foi verificada
+ * - Permite que a camada de Infrastructure responda com 429 (Too Many Requests)
+ *   em vez de 401, sinalizando ao cliente que pode tentar novamente
+ *
+ * Razões de recusa (nunca expostas ao cliente):
+ * - Fila de verificação de senha cheia
+ * - Tempo máximo de espera pela verificação excedido
+ *
+ * Cada motivo tem uma instância pré-alocada e sem stack trace, pois a recusa
+ * ocorre justamente quando o nó está sobrecarregado.
+ */
+public class AuthenticationThrottledException extends AuthenticationFailedException {
+
+    private static final AuthenticationThrottledException QUEUE_FULL =
+            new AuthenticationThrottledException("Password verification queue is full", false);
+
+    private static final AuthenticationThrottledException WAIT_TIMEOUT =
+            new AuthenticationThrottledException("Password verification wait timeout exceeded", false);
+
+    public AuthenticationThrottledException(String message) {
+        super(message);
+    }
+
+    public AuthenticationThrottledException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    private AuthenticationThrottledException(String message, boolean writableStackTrace) {
+        super(message, writableStackTrace);
+    }
+
+    /**
+     * Recusa por fila de verificação cheia.
+     */
+    public static AuthenticationThrottledException queueFull() {
+        return QUEUE_FULL;
+    }
+
+    /**
+     * Recusa por tempo máximo de espera excedido.
+     */
+    public static AuthenticationThrottledException waitTimeout() {
+        return WAIT_TIMEOUT;
+    }
+}
@@ -0,0 +1,37 @@
+package com.mssousa.auth.application.exception;
+
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+
+/**
+ * OAuth2AuthenticationException sem stack trace, para falhas esperadas de autorização
+ * (ex: usuário sem acesso ao sistema, client inativo).
+ *
+ * Características:
+ * - O erro OAuth2 é compartilhado; a exceção em si é criada a cada falha, pois o
+ *   Spring Security a altera (setAuthenticationRequest) durante o processamento
+ * - A pilha não é capturada: a falha é um resultado de negócio, não um erro a diagnosticar
+ */
+public class StacklessOAuth2AuthenticationException extends OAuth2AuthenticationException {
+
+    private static final OAuth2Error ACCESS_DENIED = new OAuth2Error(OAuth2ErrorCodes.ACCESS_DENIED);
+    private static final OAuth2Error INVALID_CLIENT = new OAuth2Error(OAuth2ErrorCodes.INVALID_CLIENT);
+
+    public StacklessOAuth2AuthenticationException(OAuth2Error error) {
+        super(error);
+    }
+
+    public static StacklessOAuth2AuthenticationException accessDenied() {
+        return new StacklessOAuth2AuthenticationException(ACCESS_DENIED);
+    }
+
+    public static StacklessOAuth2AuthenticationException invalidClient() {
+        return new StacklessOAuth2AuthenticationException(INVALID_CLIENT);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -1,7 +1,19 @@
 package com.mssousa.auth.application.service.authentication;
 
+import java.util.concurrent.CompletableFuture;
+
 import com.mssousa.auth.application.service.authentication.model.AuthenticatedUser;
 
 public interface AuthenticationService {
     AuthenticatedUser authenticate(String login, String password);
+
+    /**
+     * Variante não bloqueante de {@link #authenticate(String, String)}.
+     *
+     * As credenciais são carregadas em uma transação curta, liberando a conexão
+     * antes da verificação de senha, que é executada no pool de hash.
+     * Falhas concluem o future com AuthenticationFailedException (ou
+     * AuthenticationThrottledException), possivelmente envolvida em CompletionException.
+     */
+    CompletableFuture<AuthenticatedUser> authenticateAsync(String login, String password);
 }
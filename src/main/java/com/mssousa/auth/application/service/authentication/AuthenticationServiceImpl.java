@@ -1,15 +1,16 @@
 package com.mssousa.auth.application.service.authentication;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import com.mssousa.auth.application.exception.AuthenticationFailedException;
 import com.mssousa.auth.application.service.authentication.model.AuthenticatedUser;
 import com.mssousa.auth.domain.model.user.Email;
-import com.mssousa.auth.domain.model.user.User;
-import com.mssousa.auth.domain.model.user.UserStatus;
+import com.mssousa.auth.domain.model.user.LoginCredentials;
 import com.mssousa.auth.domain.model.user.Username;
 import com.mssousa.auth.domain.repository.UserRepository;
+import com.mssousa.auth.domain.service.PasswordHasher;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,12 +20,16 @@ import lombok.extern.slf4j.Slf4j;
  * 
  * Responsabilidades:
  * - Resolver login por username ou email
- * - Validar credenciais via domínio
+ * - Recusar usuários bloqueados temporariamente por falhas repetidas
+ * - Validar credenciais via domínio (executadas pelo PasswordVerificationEngine),
+ *   reaproveitando verificações recentes quando o cache estiver habilitado
  * - Validar status do usuário
- * - Retornar AuthenticatedUser em caso de sucesso
+ * - Atualizar hashes de senha desatualizados (em segundo plano)
+ * - Retornar AuthenticatedUser em caso de sucesso (ou um future, na variante assíncrona)
  * - Lançar exceção genérica em qualquer falha (segurança)
  * 
  * Princípios:
+ * - Nenhuma transação envolvendo o cálculo de hash (conexão liberada antes da verificação)
  * - Nenhuma dependência de Spring Security
  * - Nenhuma lógica de infraestrutura
  * - Falha genérica para não expor informações sensíveis
@@ -35,105 +40,216 @@ import lombok.extern.slf4j.Slf4j;
 public class AuthenticationServiceImpl implements AuthenticationService {
 
     private final UserRepository userRepository;
+    private final PasswordVerificationEngine passwordVerificationEngine;
+    private final LoginAttemptTracker loginAttemptTracker;
+    private final VerifiedCredentialCache verifiedCredentialCache;
+    private final PasswordHasher passwordHasher;
 
+    /**
+     * Sem transação no método: a consulta das credenciais usa a transação curta do
+     * repositório, e a conexão é devolvida ao pool antes do cálculo de hash.
+     * Manter a transação aberta durante o hash prenderia uma conexão pelo tempo
+     * de toda a verificação.
+     */
     @Override
-    @Transactional(readOnly = true)
     public AuthenticatedUser authenticate(String login, String password) {
 
         log.debug("Attempting authentication for login: {}", login);
 
-        User user = resolveUser(login);
-
-        validatePassword(user, password);
+        LoginCredentials credentials = resolveCredentials(login);
 
-        validateUserStatus(user);
+        validateNotLocked(credentials);
 
-        log.info("Authentication successful for user: {}", user.getUsername().value());
+        validatePassword(credentials, password);
 
-        return buildAuthenticatedUser(user);
+        return completeAuthentication(credentials, password);
     }
 
-
     /**
-     * Resolve o usuário tentando por username primeiro, depois por email.
+     * Assim como {@link #authenticate(String, String)}, não mantém transação durante o hash.
      */
-    private User resolveUser(String login) {
-        
-        // Tentar buscar por username
+    @Override
+    public CompletableFuture<AuthenticatedUser> authenticateAsync(String login, String password) {
+
+        log.debug("Attempting async authentication for login: {}", login);
+
+        LoginCredentials credentials;
         try {
-            Username username = Username.of(login);
-            return userRepository.findByUsername(username)
-                    .orElseThrow(() -> {
-                        log.warn("User not found by username: {}", login);
-                        return new AuthenticationFailedException("Invalid credentials");
-                    });
-                    
-        } catch (IllegalArgumentException usernameInvalid) {
-            // Se não é um username válido, tentar como email
-            log.debug("Login '{}' is not a valid username, trying as email", login);
+            credentials = resolveCredentials(login);
+            validateNotLocked(credentials);
+            validatePasswordPresent(password);
+
+            if (isPasswordCached(credentials, password)) {
+                return CompletableFuture.completedFuture(completeAuthentication(credentials, password));
+            }
+
+        } catch (RuntimeException ex) {
+            return CompletableFuture.failedFuture(ex);
         }
-        
-        // Tentar buscar por email
-        try {
-            Email email = Email.of(login);
-            return userRepository.findByEmail(email)
-                    .orElseThrow(() -> {
-                        log.warn("User not found by email: {}", login);
-                        return new AuthenticationFailedException("Invalid credentials");
-                    });
-                    
-        } catch (IllegalArgumentException emailInvalid) {
-            // Se não é nem username nem email válido
+
+        return passwordVerificationEngine.verifyAsync(() -> credentials.verifyPassword(password, passwordHasher))
+                .thenApply(passwordMatches -> {
+                    handleVerificationResult(credentials, password, passwordMatches);
+                    return completeAuthentication(credentials, password);
+                });
+    }
+
+    /**
+     * Etapas finais, após a senha ter sido validada: status, zerar falhas,
+     * atualização de hash e construção do resultado.
+     */
+    private AuthenticatedUser completeAuthentication(LoginCredentials credentials, String password) {
+
+        validateUserStatus(credentials);
+
+        loginAttemptTracker.recordSuccess(credentials.userId());
+
+        upgradePasswordHashIfNeeded(credentials, password);
+
+        log.info("Authentication successful for user: {}", credentials.username());
+
+        return buildAuthenticatedUser(credentials);
+    }
+
+    /**
+     * Resolve as credenciais por username ou email em uma única consulta.
+     * O login é classificado sem exceções: entradas que não são username nem email
+     * válidos falham sem acessar o banco.
+     * Apenas a projeção de login é carregada; o agregado User não é hidratado.
+     */
+    private LoginCredentials resolveCredentials(String login) {
+
+        if (!Username.isValid(login) && !Email.isValid(login)) {
             log.warn("Login '{}' is neither a valid username nor email", login);
-            throw new AuthenticationFailedException("Invalid credentials");
+            throw AuthenticationFailedException.invalidCredentials();
+        }
+
+        return userRepository.findLoginCredentials(login)
+                .orElseThrow(() -> {
+                    log.warn("User not found by login: {}", login);
+                    return AuthenticationFailedException.invalidCredentials();
+                });
+    }
+
+    /**
+     * Recusa o login de usuários bloqueados temporariamente, antes de qualquer
+     * cálculo de hash. A falha é genérica para não revelar o bloqueio.
+     */
+    private void validateNotLocked(LoginCredentials credentials) {
+
+        if (loginAttemptTracker.isLocked(credentials.userId())) {
+            log.warn("Authentication refused: user {} is temporarily locked", credentials.username());
+            throw AuthenticationFailedException.invalidCredentials();
         }
     }
 
     /**
      * Valida a senha usando o método de domínio.
+     * A verificação do hash é executada pelo PasswordVerificationEngine, que pode
+     * recusá-la com AuthenticationThrottledException em caso de sobrecarga.
+     * Uma verificação recente da mesma senha, para o mesmo hash, dispensa o cálculo.
      */
-    private void validatePassword(User user, String plainPassword) {
+    private void validatePassword(LoginCredentials credentials, String plainPassword) {
+
+        validatePasswordPresent(plainPassword);
+
+        if (isPasswordCached(credentials, plainPassword)) {
+            return;
+        }
         
+        boolean passwordMatches = passwordVerificationEngine.verify(
+                () -> credentials.verifyPassword(plainPassword, passwordHasher));
+
+        handleVerificationResult(credentials, plainPassword, passwordMatches);
+    }
+
+    private void validatePasswordPresent(String plainPassword) {
+
         if (plainPassword == null || plainPassword.isBlank()) {
             log.warn("Password validation failed: password is null or blank");
-            throw new AuthenticationFailedException("Invalid credentials");
+            throw AuthenticationFailedException.invalidCredentials();
         }
-        
-        boolean passwordMatches = user.verifyPassword(plainPassword);
-        
+    }
+
+    private boolean isPasswordCached(LoginCredentials credentials, String plainPassword) {
+
+        if (verifiedCredentialCache.isVerified(credentials, plainPassword)) {
+            log.debug("Password validated from cache for user: {}", credentials.username());
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Registra o resultado da verificação: falha conta para o bloqueio temporário,
+     * sucesso é guardado no cache de senhas verificadas.
+     */
+    private void handleVerificationResult(LoginCredentials credentials, String plainPassword,
+            boolean passwordMatches) {
+
         if (!passwordMatches) {
-            log.warn("Password validation failed for user: {}", user.getUsername().value());
-            throw new AuthenticationFailedException("Invalid credentials");
+            log.warn("Password validation failed for user: {}", credentials.username());
+            loginAttemptTracker.recordFailure(credentials.userId());
+            throw AuthenticationFailedException.invalidCredentials();
         }
+
+        verifiedCredentialCache.remember(credentials, plainPassword);
         
-        log.debug("Password validated successfully for user: {}", user.getUsername().value());
+        log.debug("Password validated successfully for user: {}", credentials.username());
     }
 
     /**
      * Valida se o usuário está em status ativo.
      */
-    private void validateUserStatus(User user) {
+    private void validateUserStatus(LoginCredentials credentials) {
         
-        if (user.getStatus() != UserStatus.ACTIVE) {
+        if (!credentials.isActive()) {
             log.warn("Authentication blocked: user {} has status {}", 
-                    user.getUsername().value(), 
-                    user.getStatus());
-            throw new AuthenticationFailedException("Invalid credentials");
+                    credentials.username(), 
+                    credentials.status());
+            throw AuthenticationFailedException.invalidCredentials();
         }
         
-        log.debug("User status validated: {}", user.getStatus());
+        log.debug("User status validated: {}", credentials.status());
+    }
+
+    /**
+     * Refaz o hash da senha quando o algoritmo ou o custo estão desatualizados.
+     * Executado em segundo plano e best-effort: o login não aguarda nem falha por isso.
+     * Apenas o hash ocupa o pool de verificação; a gravação é feita fora dele.
+     * A atualização só é aplicada se o hash não tiver mudado desde a leitura.
+     */
+    private void upgradePasswordHashIfNeeded(LoginCredentials credentials, String plainPassword) {
+
+        if (!credentials.needsRehash(passwordHasher)) {
+            return;
+        }
+
+        boolean scheduled = passwordVerificationEngine.tryExecute(
+                () -> credentials.rehash(plainPassword, passwordHasher),
+                newHash -> {
+                    boolean updated = userRepository.updatePasswordHash(
+                            credentials.userId(), credentials.passwordHash(), newHash);
+                    log.debug("Password hash upgrade for user {}: {}", credentials.username(),
+                            updated ? "applied" : "skipped (hash changed concurrently)");
+                });
+
+        if (!scheduled) {
+            log.debug("Password hash upgrade for user {} postponed: pool is busy", credentials.username());
+        }
     }
 
     /**
-     * Constrói o DTO AuthenticatedUser a partir da entidade de domínio.
+     * Constrói o DTO AuthenticatedUser a partir das credenciais.
+     * Os Value Objects só são criados após a autenticação ter sucesso.
      */
-    private AuthenticatedUser buildAuthenticatedUser(User user) {
+    private AuthenticatedUser buildAuthenticatedUser(LoginCredentials credentials) {
         return new AuthenticatedUser(
-            user.getId(),
-            user.getUsername(),
-            user.getEmail(),
-            user.getName(),
-            user.isMaster()
+            credentials.userId(),
+            Username.of(credentials.username()),
+            Email.of(credentials.email()),
+            credentials.name(),
+            credentials.master()
         );
     }
 }
\ No newline at end of file
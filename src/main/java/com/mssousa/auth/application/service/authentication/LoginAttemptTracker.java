@@ -0,0 +1,27 @@
+package com.mssousa.auth.application.service.authentication;
+
+import com.mssousa.auth.domain.model.user.UserId;
+
+/**
+ * Controle de tentativas de login malsucedidas por usuário.
+ *
+ * Ao atingir o limite de falhas, o usuário fica temporariamente bloqueado:
+ * novas tentativas são recusadas antes da verificação de senha.
+ */
+public interface LoginAttemptTracker {
+
+    /**
+     * Indica se o usuário está temporariamente bloqueado.
+     */
+    boolean isLocked(UserId userId);
+
+    /**
+     * Registra uma tentativa malsucedida (senha incorreta).
+     */
+    void recordFailure(UserId userId);
+
+    /**
+     * Registra um login bem-sucedido, zerando as falhas acumuladas.
+     */
+    void recordSuccess(UserId userId);
+}
@@ -0,0 +1,51 @@
+package com.mssousa.auth.application.service.authentication;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import com.mssousa.auth.application.exception.AuthenticationThrottledException;
+
+/**
+ * Motor de execução das verificações de senha.
+ *
+ * A verificação de hash (BCrypt) é a operação mais cara do login. Isolá-la atrás
+ * desta interface permite executá-la em um pool dedicado e limitado, sem ocupar
+ * as threads que atendem o restante da aplicação.
+ */
+public interface PasswordVerificationEngine {
+
+    /**
+     * Executa a verificação de senha e aguarda o resultado.
+     *
+     * @param verification verificação a ser executada (ex: {@code user.verifyPassword(senha)})
+     * @return resultado da verificação
+     * @throws AuthenticationThrottledException se a verificação for recusada por excesso de carga
+     */
+    boolean verify(BooleanSupplier verification);
+
+    /**
+     * Executa a verificação de senha sem bloquear quem a submeteu.
+     *
+     * O future é concluído na thread de hash. Em caso de sobrecarga (fila cheia ou
+     * tempo de espera excedido), é concluído com {@link AuthenticationThrottledException}.
+     *
+     * @param verification verificação a ser executada
+     * @return future com o resultado da verificação
+     */
+    CompletableFuture<Boolean> verifyAsync(BooleanSupplier verification);
+
+    /**
+     * Agenda um cálculo de hash em segundo plano, sem aguardar o resultado.
+     * Best-effort: se o pool estiver saturado, a tarefa é descartada.
+     *
+     * O resultado é entregue a {@code followUp} fora do pool de hash, para que
+     * operações de I/O (ex: gravar o novo hash) não ocupem as threads de verificação.
+     *
+     * @param task     cálculo a ser executado (ex: novo hash da senha)
+     * @param followUp consumidor do resultado (ex: persistência do novo hash)
+     * @return true se a tarefa foi aceita
+     */
+    <T> boolean tryExecute(Supplier<T> task, Consumer<T> followUp);
+}
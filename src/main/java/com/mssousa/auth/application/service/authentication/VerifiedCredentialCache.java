@@ -0,0 +1,30 @@
+package com.mssousa.auth.application.service.authentication;
+
+import com.mssousa.auth.domain.model.user.LoginCredentials;
+import com.mssousa.auth.domain.model.user.UserId;
+
+/**
+ * Cache de curta duração de senhas já verificadas.
+ *
+ * Evita repetir o cálculo de hash quando o mesmo usuário se autentica várias vezes
+ * em poucos segundos (ex: recarga de abas, renovação de tokens em paralelo).
+ * O cache apenas substitui a verificação da senha: status e bloqueios continuam
+ * sendo validados em todo login.
+ */
+public interface VerifiedCredentialCache {
+
+    /**
+     * Indica se a mesma senha já foi verificada recentemente para o hash atual do usuário.
+     */
+    boolean isVerified(LoginCredentials credentials, String plainPassword);
+
+    /**
+     * Registra uma senha verificada com sucesso para o hash atual do usuário.
+     */
+    void remember(LoginCredentials credentials, String plainPassword);
+
+    /**
+     * Descarta a verificação em cache do usuário (ex: troca de senha, bloqueio).
+     */
+    void invalidate(UserId userId);
+}
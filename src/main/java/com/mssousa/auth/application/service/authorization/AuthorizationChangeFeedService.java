@@ -0,0 +1,176 @@
+package com.mssousa.auth.application.service.authorization;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.mssousa.auth.application.service.authorization.UserAuthorizationService.UserAuthorization;
+import com.mssousa.auth.domain.exception.DomainException;
+import com.mssousa.auth.domain.model.authorization.AuthorizationChange;
+import com.mssousa.auth.domain.model.system.SystemId;
+import com.mssousa.auth.domain.model.user.UserId;
+import com.mssousa.auth.domain.repository.AuthorizationChangeLogRepository;
+import com.mssousa.auth.domain.repository.UserSystemRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Registro incremental das alterações de autorização, consumido pelos resource servers
+ * para manter um cache local de autorizações sem recarregá-lo por completo.
+ * <p>
+ * Toda alteração publicada como {@link AuthorizationChangedEvent} (vínculos, perfis,
+ * hierarquia, grupos) é registrada na mesma transação, ao final dela, com a próxima
+ * versão do sistema. O consumidor carrega o cache local pelo {@link #snapshot}, guarda a
+ * última versão aplicada e pede apenas as alterações posteriores:
+ * </p>
+ * <ul>
+ * <li>{@code reset}: recarregar o cache local pelo {@link #snapshot} (alteração de todo
+ * o sistema, ou versão anterior à retenção do registro);</li>
+ * <li>caso contrário, substituir as autorizações dos usuários retornados (usuários não
+ * autorizados devem ser removidos) e adotar {@code toVersion};</li>
+ * <li>{@code hasMore}: repetir a consulta a partir de {@code toVersion}.</li>
+ * </ul>
+ * <p>
+ * As autorizações retornadas são as atuais, e não as da versão: podem antecipar
+ * alterações que ainda aparecerão em uma consulta seguinte, sem prejuízo ao consumidor.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class AuthorizationChangeFeedService {
+
+    /**
+     * Quantidade máxima de alterações lidas por consulta.
+     */
+    static final int MAX_CHANGES = 1_000;
+
+    /**
+     * Quantidade máxima de usuários por página do snapshot.
+     */
+    static final int MAX_SNAPSHOT_USERS = 1_000;
+
+    private final AuthorizationChangeLogRepository changeLogRepository;
+    private final UserAuthorizationService userAuthorizationService;
+    private final UserSystemRepository userSystemRepository;
+
+    /**
+     * Registra a alteração na transação de quem a publicou, antes do commit: a versão só
+     * é incrementada depois de todas as alterações da transação, independentemente de o
+     * evento ter sido publicado antes ou depois delas, e o bloqueio do contador dura
+     * apenas até o commit. Um rollback descarta também a entrada e a versão.
+     * Sem transação ativa, é executado imediatamente.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onAuthorizationChanged(AuthorizationChangedEvent event) {
+        changeLogRepository.append(event.systemId(), event.userId());
+    }
+
+    /**
+     * Alterações de autorização do sistema posteriores à versão informada.
+     */
+    @Transactional(readOnly = true)
+    public AuthorizationDelta changesSince(SystemId systemId, long version) {
+        if (version < 0) {
+            throw new DomainException("Versão não pode ser negativa");
+        }
+
+        long current = changeLogRepository.currentVersion(systemId);
+        if (version == current) {
+            return AuthorizationDelta.unchanged(version);
+        }
+        if (version > current) {
+            return AuthorizationDelta.reset(version, current);
+        }
+
+        List<AuthorizationChange> changes = changeLogRepository.findSince(systemId, version, MAX_CHANGES);
+
+        // Entradas removidas pela retenção: o consumidor não tem como se atualizar.
+        if (changes.isEmpty() || changes.get(0).version() != version + 1) {
+            return AuthorizationDelta.reset(version, current);
+        }
+        if (changes.stream().anyMatch(AuthorizationChange::isSystemWide)) {
+            return AuthorizationDelta.reset(version, current);
+        }
+
+        Set<UserId> users = new LinkedHashSet<>();
+        changes.forEach(change -> users.add(change.userId()));
+
+        long toVersion = changes.get(changes.size() - 1).version();
+        List<UserAuthorization> authorizations = userAuthorizationService.authorizeAll(users, systemId).toList();
+
+        return new AuthorizationDelta(version, toVersion, false, toVersion < current, authorizations);
+    }
+
+    /**
+     * Autorizações atuais dos usuários vinculados ao sistema, paginadas por id, para a
+     * carga inicial do consumidor e após um {@code reset}.
+     * <p>
+     * A versão é lida antes das autorizações, que portanto refletem ao menos essa
+     * versão. O consumidor adota a versão da primeira página e segue pedindo páginas a
+     * partir do último usuário recebido enquanto {@code hasMore}; alterações feitas
+     * entre as páginas são entregues depois por {@link #changesSince}.
+     * </p>
+     *
+     * @param afterUserId id do último usuário da página anterior, ou 0 na primeira página
+     */
+    @Transactional(readOnly = true)
+    public AuthorizationSnapshot snapshot(SystemId systemId, long afterUserId) {
+        if (afterUserId < 0) {
+            throw new DomainException("Usuário inicial não pode ser negativo");
+        }
+
+        long version = changeLogRepository.currentVersion(systemId);
+        List<UserId> users = userSystemRepository.findUserIdsBySystemId(systemId, afterUserId, MAX_SNAPSHOT_USERS);
+        if (users.isEmpty()) {
+            return new AuthorizationSnapshot(version, false, List.of());
+        }
+
+        List<UserAuthorization> authorizations = userAuthorizationService.authorizeAll(users, systemId).toList();
+        return new AuthorizationSnapshot(version, users.size() == MAX_SNAPSHOT_USERS, authorizations);
+    }
+
+    /**
+     * Resultado de {@link #changesSince}.
+     *
+     * @param fromVersion versão informada pelo consumidor
+     * @param toVersion   versão a ser adotada após aplicar o resultado
+     * @param reset       indica que o cache local deve ser recarregado pelo snapshot
+     * @param hasMore     indica que há alterações posteriores a {@code toVersion}
+     * @param users       autorizações atuais dos usuários alterados
+     */
+    public record AuthorizationDelta(
+        long fromVersion,
+        long toVersion,
+        boolean reset,
+        boolean hasMore,
+        List<UserAuthorization> users
+    ) {
+
+        static AuthorizationDelta unchanged(long version) {
+            return new AuthorizationDelta(version, version, false, false, List.of());
+        }
+
+        static AuthorizationDelta reset(long fromVersion, long current) {
+            return new AuthorizationDelta(fromVersion, current, true, false, List.of());
+        }
+    }
+
+    /**
+     * Resultado de {@link #snapshot}.
+     *
+     * @param version versão a ser adotada após carregar todas as páginas
+     * @param hasMore indica que há usuários após o último desta página
+     * @param users   autorizações atuais dos usuários da página
+     */
+    public record AuthorizationSnapshot(
+        long version,
+        boolean hasMore,
+        List<UserAuthorization> users
+    ) {
+    }
+}
@@ -0,0 +1,33 @@
+package com.mssousa.auth.application.service.authorization;
+
+import com.mssousa.auth.domain.model.system.SystemId;
+import com.mssousa.auth.domain.model.user.UserId;
+
+/**
+ * Evento publicado quando vínculos ou perfis que compõem a autorização de usuários
+ * são alterados (UserSystem, UserSystemRole ou SystemRole salvos ou removidos).
+ *
+ * @param systemId sistema afetado
+ * @param userId   usuário afetado, ou null quando a alteração afeta todos os usuários
+ *                 do sistema (ex: alteração de um SystemRole)
+ */
+public record AuthorizationChangedEvent(
+    SystemId systemId,
+    UserId userId
+) {
+
+    public static AuthorizationChangedEvent forUser(UserId userId, SystemId systemId) {
+        return new AuthorizationChangedEvent(systemId, userId);
+    }
+
+    public static AuthorizationChangedEvent forSystem(SystemId systemId) {
+        return new AuthorizationChangedEvent(systemId, null);
+    }
+
+    /**
+     * Indica se a alteração afeta a autorização do usuário no sistema.
+     */
+    public boolean affects(UserId user, SystemId system) {
+        return systemId.equals(system) && (userId == null || userId.equals(user));
+    }
+}
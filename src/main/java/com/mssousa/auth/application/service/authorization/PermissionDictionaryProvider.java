@@ -0,0 +1,13 @@
+package com.mssousa.auth.application.service.authorization;
+
+import com.mssousa.auth.domain.model.role.PermissionDictionary;
+import com.mssousa.auth.domain.model.system.SystemId;
+
+/**
+ * Fornece o dicionário de permissões vigente de cada sistema, usado para codificar
+ * as permissões no token e publicado para os resource servers.
+ */
+public interface PermissionDictionaryProvider {
+
+    PermissionDictionary forSystem(SystemId systemId);
+}
@@ -1,7 +1,10 @@
 package com.mssousa.auth.application.service.authorization;
 
+import java.util.Collection;
 import java.util.Set;
+import java.util.stream.Stream;
 
+import com.mssousa.auth.domain.model.role.EffectiveRoles;
 import com.mssousa.auth.domain.model.system.SystemId;
 import com.mssousa.auth.domain.model.user.UserId;
 
@@ -12,6 +15,30 @@ public interface UserAuthorizationService {
             SystemId systemId,
             boolean isMaster);
 
+    /**
+     * Resolve os perfis efetivos de vários usuários em um sistema, com as mesmas regras
+     * de status de {@link #authorize}, usando poucas consultas em lote.
+     * <p>
+     * O resultado é produzido sob demanda, em lotes, na ordem dos usuários informados
+     * (sem repetições). Negações não lançam exceção: vêm como {@link UserAuthorization}
+     * não concedida. Não há bypass para MASTER, pois a consulta é sobre os vínculos.
+     * </p>
+     */
+    Stream<UserAuthorization> authorizeAll(
+            Collection<UserId> userIds,
+            SystemId systemId);
+
     record AuthorizedUser(Set<String> roles) {
     }
+
+    record UserAuthorization(UserId userId, EffectiveRoles effectiveRoles) {
+
+        public boolean isGranted() {
+            return effectiveRoles.isGranted();
+        }
+
+        public Set<String> roles() {
+            return effectiveRoles.roleCodes();
+        }
+    }
 }
@@ -1,27 +1,35 @@
 package com.mssousa.auth.application.service.authorization;
 
+import com.mssousa.auth.application.exception.StacklessOAuth2AuthenticationException;
 import com.mssousa.auth.domain.model.user.UserId;
-import com.mssousa.auth.domain.model.binding.userSystem.UserSystem;
-import com.mssousa.auth.domain.model.binding.userSystemRole.UserSystemRole;
-import com.mssousa.auth.domain.model.role.SystemRole;
+import com.mssousa.auth.domain.model.role.EffectiveRoles;
 import com.mssousa.auth.domain.model.system.SystemId;
-import com.mssousa.auth.domain.repository.UserSystemRepository;
 import com.mssousa.auth.domain.repository.UserSystemRoleRepository;
-import com.mssousa.auth.domain.repository.SystemRoleRepository;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
-import org.springframework.security.oauth2.core.OAuth2Error;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
+@Slf4j
 @RequiredArgsConstructor
 public class UserAuthorizationServiceImpl implements UserAuthorizationService {
 
-    private final UserSystemRepository userSystemRepository;
+    /**
+     * Quantidade de usuários por consulta em lote.
+     * Mantém a lista do IN bem abaixo do limite de parâmetros do driver.
+     */
+    static final int CHUNK_SIZE = 1_000;
+
     private final UserSystemRoleRepository userSystemRoleRepository;
-    private final SystemRoleRepository systemRoleRepository;
 
     @Override
     public AuthorizedUser authorize(
@@ -35,56 +43,44 @@ public class UserAuthorizationServiceImpl implements UserAuthorizationService {
             return new AuthorizedUser(Set.of("MASTER"));
         }
 
-        // Busca vínculo usuário <-> sistema. Se não localizado, lança exceção.
-        UserSystem userSystem = userSystemRepository
-                .findByUserIdAndSystemId(userId, systemId)
-                .orElseThrow(() -> accessDenied());
-
-        // Se o vínculo existir, mas não estiver ativo, lança exceção.
-        if (!userSystem.isActive()) {
-            throw accessDenied();
-        }
-
-        // Busca o bind de usuário <-> sistema <-> role
-        var bindings = userSystemRoleRepository
-                .findByUserSystemId(userSystem.getId());
-
-        /* 
-         * 1. Filtra apenas o binds ativos de usuário <-> sistema <-> role;
-         * 2. Coleta apenas os ids;
-         * 3. Transforma o resultado em uma coleção.
-         */ 
-        var activeRoleIds = bindings.stream()
-                .filter(UserSystemRole::isActive)
-                .map(UserSystemRole::getSystemRoleId)
-                .collect(Collectors.toSet());
+        /*
+         * Resolve, em uma única consulta, os códigos dos perfis efetivos:
+         * vínculo usuário <-> sistema ativo, bind usuário <-> sistema <-> role ativo
+         * e role ativa, incluindo as roles ativas implicadas pela hierarquia (fecho
+         * transitivo pré-calculado). Os filtros de status são aplicados no banco.
+         */
+        EffectiveRoles effectiveRoles = userSystemRoleRepository.findEffectiveRoles(userId, systemId);
 
         // Acesso negado, caso não exista nenhuma role que atenda os critérios anteriores.
-        if (activeRoleIds.isEmpty()) {
-            throw accessDenied();
-        }
-
-        // Busca todas as roles filtradas anteriormente.
-        var roles = systemRoleRepository.findAllById(activeRoleIds);
-
-        // Filtra apenas as roles ativas e coleta apenas os códigos.
-        Set<String> roleCodes = roles.stream()
-                .filter(SystemRole::isActive)
-                .map(SystemRole::getCode)
-                .collect(Collectors.toSet());
-
-        // Acesso negado, caso não exista nenhuma role que atenda os critérios anteriores.
-        if (roleCodes.isEmpty()) {
+        if (!effectiveRoles.isGranted()) {
+            log.debug("Access denied for user {} on system {}: {}",
+                    userId.value(), systemId.value(), effectiveRoles.outcome());
             throw accessDenied();
         }
 
         // Retorna as roles autorizadas.
-        return new AuthorizedUser(roleCodes);
+        return new AuthorizedUser(effectiveRoles.roleCodes());
+    }
+
+    @Override
+    public Stream<UserAuthorization> authorizeAll(Collection<UserId> userIds, SystemId systemId) {
+
+        List<UserId> distinctIds = new ArrayList<>(new LinkedHashSet<>(userIds));
+        int chunks = (distinctIds.size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+
+        // Uma consulta por lote, executada apenas quando o lote é consumido.
+        return IntStream.range(0, chunks)
+                .mapToObj(chunk -> distinctIds.subList(
+                        chunk * CHUNK_SIZE, Math.min((chunk + 1) * CHUNK_SIZE, distinctIds.size())))
+                .flatMap(chunk -> {
+                    Map<UserId, EffectiveRoles> effectiveRoles =
+                            userSystemRoleRepository.findEffectiveRoles(chunk, systemId);
+                    return chunk.stream()
+                            .map(userId -> new UserAuthorization(userId, effectiveRoles.get(userId)));
+                });
     }
 
     private OAuth2AuthenticationException accessDenied() {
-        return new OAuth2AuthenticationException(
-                new OAuth2Error("access_denied")
-        );
+        return StacklessOAuth2AuthenticationException.accessDenied();
     }
 }
@@ -0,0 +1,19 @@
+package com.mssousa.auth.application.service.client;
+
+import java.util.Optional;
+
+import com.mssousa.auth.domain.model.system.ClientSystem;
+
+/**
+ * Consulta de clients por clientId no fluxo de emissão de tokens.
+ * <p>
+ * Implementações podem servir o client de um snapshot em memória: o ClientSystem
+ * retornado deve ser tratado como somente leitura. Alterações devem partir de uma
+ * instância carregada pelo {@code ClientSystemRepository}.
+ * </p>
+ */
+@FunctionalInterface
+public interface ClientRegistry {
+
+    Optional<ClientSystem> findByClientId(String clientId);
+}
@@ -0,0 +1,16 @@
+package com.mssousa.auth.application.service.client;
+
+/**
+ * Verificação de client secrets contra o hash armazenado.
+ *
+ * Clients se autenticam a cada requisição de token (ex: client_credentials), com
+ * o mesmo secret. Implementações podem memorizar verificações recentes para não
+ * executar o algoritmo de hash em toda requisição.
+ */
+public interface ClientSecretVerifier {
+
+    /**
+     * Indica se o secret em texto plano corresponde ao hash armazenado.
+     */
+    boolean matches(String providedSecret, String hashedSecret);
+}
@@ -0,0 +1,15 @@
+package com.mssousa.auth.application.service.client;
+
+import com.mssousa.auth.domain.model.system.SystemId;
+
+/**
+ * Evento publicado quando um ClientSystem é salvo ou removido.
+ *
+ * @param systemId id do sistema
+ * @param clientId clientId do sistema
+ */
+public record ClientSystemChangedEvent(
+    SystemId systemId,
+    String clientId
+) {
+}
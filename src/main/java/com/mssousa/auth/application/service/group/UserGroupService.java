@@ -0,0 +1,164 @@
+package com.mssousa.auth.application.service.group;
+
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.mssousa.auth.application.service.authorization.AuthorizationChangedEvent;
+import com.mssousa.auth.domain.exception.DomainException;
+import com.mssousa.auth.domain.model.binding.userSystem.UserSystem;
+import com.mssousa.auth.domain.model.group.UserGroup;
+import com.mssousa.auth.domain.model.group.UserGroupId;
+import com.mssousa.auth.domain.model.group.UserGroupStatus;
+import com.mssousa.auth.domain.model.role.SystemRole;
+import com.mssousa.auth.domain.model.role.SystemRoleId;
+import com.mssousa.auth.domain.model.shared.IdGenerator;
+import com.mssousa.auth.domain.model.system.SystemId;
+import com.mssousa.auth.domain.model.user.UserId;
+import com.mssousa.auth.domain.repository.SystemRoleRepository;
+import com.mssousa.auth.domain.repository.UserGroupRepository;
+import com.mssousa.auth.domain.repository.UserSystemRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Gerencia grupos de usuários de um sistema.
+ * <p>
+ * Perfis vinculados a um grupo ativo são concedidos a todos os membros. A expansão
+ * por usuário é mantida materializada pelo repositório, de modo que a autorização
+ * a lê com a mesma consulta dos vínculos diretos.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class UserGroupService {
+
+    private final UserGroupRepository userGroupRepository;
+    private final UserSystemRepository userSystemRepository;
+    private final SystemRoleRepository systemRoleRepository;
+    private final IdGenerator idGenerator;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public UserGroup createGroup(Long systemId, String code, String description) {
+        SystemId system = SystemId.of(systemId);
+
+        if (userGroupRepository.existsBySystemIdAndCode(system, code)) {
+            throw new DomainException("Grupo '" + code + "' já existe no sistema.");
+        }
+
+        UserGroup group = UserGroup.builder()
+                .id(UserGroupId.of(idGenerator.generate()))
+                .systemId(system)
+                .code(code)
+                .description(description)
+                .status(UserGroupStatus.ACTIVE)
+                .build();
+
+        return userGroupRepository.save(group);
+    }
+
+    @Transactional
+    public UserGroup activateGroup(Long groupId) {
+        UserGroup group = findGroup(groupId);
+        if (group.isActive()) {
+            return group;
+        }
+        group.activate();
+        return saveAndInvalidate(group);
+    }
+
+    @Transactional
+    public UserGroup deactivateGroup(Long groupId) {
+        UserGroup group = findGroup(groupId);
+        if (!group.isActive()) {
+            return group;
+        }
+        group.deactivate();
+        return saveAndInvalidate(group);
+    }
+
+    @Transactional
+    public void deleteGroup(Long groupId) {
+        UserGroup group = findGroup(groupId);
+        userGroupRepository.deleteById(group.getId());
+        eventPublisher.publishEvent(AuthorizationChangedEvent.forSystem(group.getSystemId()));
+    }
+
+    @Transactional(readOnly = true)
+    public List<UserGroup> listGroups(Long systemId) {
+        return userGroupRepository.findBySystemId(SystemId.of(systemId));
+    }
+
+    /**
+     * Inclui o usuário no grupo. O usuário precisa estar vinculado ao sistema do grupo.
+     */
+    @Transactional
+    public void addMember(Long groupId, Long userId) {
+        UserGroup group = findGroup(groupId);
+        UserSystem binding = findBinding(UserId.of(userId), group.getSystemId());
+
+        if (userGroupRepository.addMember(group.getId(), binding.getId())) {
+            eventPublisher.publishEvent(AuthorizationChangedEvent.forUser(UserId.of(userId), group.getSystemId()));
+        }
+    }
+
+    @Transactional
+    public void removeMember(Long groupId, Long userId) {
+        UserGroup group = findGroup(groupId);
+        UserSystem binding = findBinding(UserId.of(userId), group.getSystemId());
+
+        if (userGroupRepository.removeMember(group.getId(), binding.getId())) {
+            eventPublisher.publishEvent(AuthorizationChangedEvent.forUser(UserId.of(userId), group.getSystemId()));
+        }
+    }
+
+    /**
+     * Vincula o perfil ao grupo. O perfil precisa pertencer ao sistema do grupo.
+     */
+    @Transactional
+    public void addRole(Long groupId, Long roleId) {
+        UserGroup group = findGroup(groupId);
+        SystemRole role = findRole(roleId, group);
+
+        if (userGroupRepository.addRole(group.getId(), role.getId())) {
+            eventPublisher.publishEvent(AuthorizationChangedEvent.forSystem(group.getSystemId()));
+        }
+    }
+
+    @Transactional
+    public void removeRole(Long groupId, Long roleId) {
+        UserGroup group = findGroup(groupId);
+
+        if (userGroupRepository.removeRole(group.getId(), SystemRoleId.of(roleId))) {
+            eventPublisher.publishEvent(AuthorizationChangedEvent.forSystem(group.getSystemId()));
+        }
+    }
+
+    private UserGroup saveAndInvalidate(UserGroup group) {
+        UserGroup saved = userGroupRepository.save(group);
+        eventPublisher.publishEvent(AuthorizationChangedEvent.forSystem(group.getSystemId()));
+        return saved;
+    }
+
+    private UserGroup findGroup(Long groupId) {
+        return userGroupRepository.findById(UserGroupId.of(groupId))
+                .orElseThrow(() -> new DomainException("Grupo não encontrado com ID: " + groupId));
+    }
+
+    private UserSystem findBinding(UserId userId, SystemId systemId) {
+        return userSystemRepository.findByUserIdAndSystemId(userId, systemId)
+                .orElseThrow(() -> new DomainException("Usuário não está vinculado ao sistema do grupo."));
+    }
+
+    private SystemRole findRole(Long roleId, UserGroup group) {
+        SystemRole role = systemRoleRepository.findById(SystemRoleId.of(roleId))
+                .orElseThrow(() -> new DomainException("Perfil não encontrado com ID: " + roleId));
+        if (!role.belongsTo(group.getSystemId())) {
+            throw new DomainException("Perfil não pertence ao sistema do grupo.");
+        }
+        return role;
+    }
+}
@@ -0,0 +1,13 @@
+package com.mssousa.auth.application.service.policy;
+
+import com.mssousa.auth.domain.model.system.SystemId;
+
+/**
+ * Evento publicado quando a política de acesso de um sistema é definida ou removida.
+ *
+ * @param systemId sistema afetado
+ */
+public record AccessPolicyChangedEvent(
+    SystemId systemId
+) {
+}
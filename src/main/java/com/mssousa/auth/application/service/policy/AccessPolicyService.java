@@ -0,0 +1,63 @@
+package com.mssousa.auth.application.service.policy;
+
+import java.util.Optional;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.mssousa.auth.domain.exception.DomainException;
+import com.mssousa.auth.domain.model.policy.AccessPolicy;
+import com.mssousa.auth.domain.model.system.ClientSystem;
+import com.mssousa.auth.domain.model.system.SystemId;
+import com.mssousa.auth.domain.repository.AccessPolicyRepository;
+import com.mssousa.auth.domain.repository.ClientSystemRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Gerencia as políticas de acesso dos sistemas.
+ * <p>
+ * A expressão é compilada antes de ser gravada, de modo que apenas políticas válidas
+ * chegam ao banco. Após o commit, o evento publicado faz com que a política seja
+ * recompilada no próximo acesso ao sistema.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class AccessPolicyService {
+
+    private final AccessPolicyRepository accessPolicyRepository;
+    private final ClientSystemRepository clientSystemRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public AccessPolicy definePolicy(Long systemId, String expression) {
+        SystemId system = findSystem(systemId);
+        AccessPolicy policy = AccessPolicy.compile(expression);
+
+        accessPolicyRepository.save(system, policy.getExpression());
+        eventPublisher.publishEvent(new AccessPolicyChangedEvent(system));
+        return policy;
+    }
+
+    @Transactional
+    public void removePolicy(Long systemId) {
+        SystemId system = SystemId.of(systemId);
+
+        if (accessPolicyRepository.deleteBySystemId(system)) {
+            eventPublisher.publishEvent(new AccessPolicyChangedEvent(system));
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<String> findPolicy(Long systemId) {
+        return accessPolicyRepository.findExpression(SystemId.of(systemId));
+    }
+
+    private SystemId findSystem(Long systemId) {
+        return clientSystemRepository.findById(SystemId.of(systemId))
+                .map(ClientSystem::getId)
+                .orElseThrow(() -> new DomainException("Sistema não encontrado com ID: " + systemId));
+    }
+}
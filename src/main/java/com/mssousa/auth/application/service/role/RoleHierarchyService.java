@@ -0,0 +1,100 @@
+package com.mssousa.auth.application.service.role;
+
+import java.util.Set;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.mssousa.auth.application.service.authorization.AuthorizationChangedEvent;
+import com.mssousa.auth.domain.exception.DomainException;
+import com.mssousa.auth.domain.model.role.SystemRole;
+import com.mssousa.auth.domain.model.role.SystemRoleId;
+import com.mssousa.auth.domain.repository.RoleHierarchyRepository;
+import com.mssousa.auth.domain.repository.SystemRoleRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Gerencia a hierarquia de perfis de um sistema: o perfil pai implica o perfil filho
+ * (ex: ADMIN -> EDITOR -> VIEWER). Um usuário com o perfil pai recebe, na autorização,
+ * todos os perfis ativos descendentes, obtidos do fecho transitivo pré-calculado.
+ */
+@Service
+@RequiredArgsConstructor
+public class RoleHierarchyService {
+
+    private final SystemRoleRepository systemRoleRepository;
+    private final RoleHierarchyRepository roleHierarchyRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public void addParent(Long roleId, Long parentId) {
+        SystemRole role = findRole(roleId);
+        SystemRole parent = findRole(parentId);
+
+        if (!role.getSystemId().equals(parent.getSystemId())) {
+            throw new DomainException("Perfis de sistemas diferentes não podem ser relacionados.");
+        }
+
+        if (role.getId().equals(parent.getId())) {
+            throw new DomainException("Um perfil não pode ser pai de si mesmo.");
+        }
+
+        // Serializa as alterações do sistema, para que a verificação de ciclo valha até o commit
+        roleHierarchyRepository.lock(role.getSystemId());
+
+        if (roleHierarchyRepository.existsParent(role.getId(), parent.getId())) {
+            return;
+        }
+
+        // O perfil já implica o novo pai: a aresta fecharia um ciclo
+        if (roleHierarchyRepository.implies(role.getId(), parent.getId())) {
+            throw new DomainException("O perfil '" + parent.getCode() + "' já é implicado por '"
+                    + role.getCode() + "'; a hierarquia não pode conter ciclos.");
+        }
+
+        roleHierarchyRepository.addParent(role.getId(), parent.getId());
+        eventPublisher.publishEvent(AuthorizationChangedEvent.forSystem(role.getSystemId()));
+    }
+
+    @Transactional
+    public void removeParent(Long roleId, Long parentId) {
+        SystemRole role = findRole(roleId);
+
+        roleHierarchyRepository.lock(role.getSystemId());
+
+        if (!roleHierarchyRepository.existsParent(role.getId(), SystemRoleId.of(parentId))) {
+            return;
+        }
+
+        roleHierarchyRepository.removeParent(role.getId(), SystemRoleId.of(parentId));
+        eventPublisher.publishEvent(AuthorizationChangedEvent.forSystem(role.getSystemId()));
+    }
+
+    /**
+     * Remove o perfil e suas arestas na mesma transação, sob o lock do sistema:
+     * o fecho dos demais perfis é atualizado sem concorrer com inclusões de arestas.
+     * A remoção publica a invalidação das autorizações do sistema.
+     */
+    @Transactional
+    public void deleteRole(Long roleId) {
+        SystemRole role = findRole(roleId);
+
+        roleHierarchyRepository.lock(role.getSystemId());
+
+        // Remove as arestas antes do perfil, atualizando o fecho dos demais perfis
+        roleHierarchyRepository.detach(role.getId());
+        systemRoleRepository.deleteById(role.getId());
+    }
+
+    @Transactional(readOnly = true)
+    public Set<SystemRoleId> findImpliedRoles(Long roleId) {
+        return roleHierarchyRepository.findImpliedRoles(findRole(roleId).getId());
+    }
+
+    private SystemRole findRole(Long roleId) {
+        return systemRoleRepository.findById(SystemRoleId.of(roleId))
+                .orElseThrow(() -> new DomainException("Perfil não encontrado com ID: " + roleId));
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.mssousa.auth.application.service.authentication.VerifiedCredentialCache;
 import com.mssousa.auth.domain.exception.DomainException;
 import com.mssousa.auth.domain.model.shared.IdGenerator;
 import com.mssousa.auth.domain.model.user.Email;
@@ -18,6 +19,7 @@ import com.mssousa.auth.domain.model.user.Username;
 import com.mssousa.auth.domain.repository.UserRepository;
 import com.mssousa.auth.domain.service.EmailSender;
 import com.mssousa.auth.domain.service.MasterUserPolicy;
+import com.mssousa.auth.domain.service.PasswordHasher;
 
 import lombok.RequiredArgsConstructor;
 
@@ -29,6 +31,8 @@ public class UserService {
     private final MasterUserPolicy masterUserPolicy;
     private final IdGenerator idGenerator;
     private final EmailSender emailSender;
+    private final VerifiedCredentialCache verifiedCredentialCache;
+    private final PasswordHasher passwordHasher;
 
     @Transactional
     public User createUser(String username, String email, String password, String name, boolean master, User creator) {
@@ -55,7 +59,7 @@ public class UserService {
             .id(UserId.of(id))
             .username(Username.of(username))
             .email(Email.of(email))
-            .password(Password.fromPlainText(password))
+            .password(Password.fromPlainText(password, passwordHasher))
             .master(master)
             .status(UserStatus.ACTIVE)
             .name(name)
@@ -94,12 +98,13 @@ public class UserService {
     public void changePassword(Long userId, String currentPassword, String newPassword) {
         User user = findByIdOrThrow(userId);
 
-        if (!user.verifyPassword(currentPassword)) {
+        if (!user.verifyPassword(currentPassword, passwordHasher)) {
             throw new DomainException("Senha atual incorreta.");
         }
 
-        user.changePassword(Password.fromPlainText(newPassword));
+        user.changePassword(Password.fromPlainText(newPassword, passwordHasher));
         userRepository.save(user);
+        verifiedCredentialCache.invalidate(user.getId());
     }
 
     @Transactional
@@ -146,6 +151,7 @@ public class UserService {
     public User disableUser(Long userId) {
         User user = findByIdOrThrow(userId);
         user.disable();
+        verifiedCredentialCache.invalidate(user.getId());
         return userRepository.save(user);
     }
 
@@ -153,6 +159,7 @@ public class UserService {
     public User blockUser(Long userId) {
         User user = findByIdOrThrow(userId);
         user.block();
+        verifiedCredentialCache.invalidate(user.getId());
         return userRepository.save(user);
     }
     
@@ -180,6 +187,7 @@ public class UserService {
     public void deleteUser(Long userId) {
         User user = findByIdOrThrow(userId);
         userRepository.deleteById(user.getId());
+        verifiedCredentialCache.invalidate(user.getId());
     }
 
     // Helper privado para buscar ou lançar exceção
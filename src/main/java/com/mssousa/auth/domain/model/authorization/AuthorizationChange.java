@@ -0,0 +1,23 @@
+package com.mssousa.auth.domain.model.authorization;
+
+import java.time.Instant;
+
+import com.mssousa.auth.domain.model.user.UserId;
+
+/**
+ * Entrada do registro de alterações de autorização de um sistema.
+ *
+ * @param version   versão do sistema após a alteração (contínua e crescente por sistema)
+ * @param userId    usuário afetado, ou null quando a alteração afeta todos os usuários
+ * @param changedAt instante da alteração
+ */
+public record AuthorizationChange(
+    long version,
+    UserId userId,
+    Instant changedAt
+) {
+
+    public boolean isSystemWide() {
+        return userId == null;
+    }
+}
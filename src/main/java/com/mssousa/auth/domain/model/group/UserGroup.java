@@ -0,0 +1,161 @@
+package com.mssousa.auth.domain.model.group;
+
+import com.mssousa.auth.domain.exception.DomainException;
+import com.mssousa.auth.domain.model.system.SystemId;
+
+/**
+ * Entidade de domínio representando um Grupo de usuários de um sistema.
+ * <p>
+ * Perfis vinculados ao grupo são concedidos a todos os seus membros enquanto o
+ * grupo estiver ativo, sem a necessidade de um vínculo usuário-perfil por usuário.
+ * </p>
+ */
+public class UserGroup {
+    // Mensagens de erro para validações
+    private static final String ID_REQUIRED = "ID do grupo não pode ser nulo";
+    private static final String SYSTEM_ID_REQUIRED = "SystemId é obrigatório no grupo";
+    private static final String CODE_REQUIRED = "Código do grupo não pode ser nulo ou vazio";
+    private static final String STATUS_REQUIRED = "Status do grupo não pode ser nulo";
+
+    private final UserGroupId id;
+    private final SystemId systemId;
+    private final String code;
+    private String description;
+    private UserGroupStatus status;
+
+    /**
+     * Cria um novo grupo.
+     *
+     * @param builder builder do grupo
+     */
+    private UserGroup(Builder builder) {
+        this.id = builder.id;
+        this.systemId = builder.systemId;
+        this.code = builder.code;
+        this.description = builder.description;
+        this.status = builder.status;
+    }
+
+    // ==================== Getters ====================
+
+    public UserGroupId getId() {
+        return id;
+    }
+
+    public SystemId getSystemId() {
+        return systemId;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public UserGroupStatus getStatus() {
+        return status;
+    }
+
+    // ==================== Gerenciamento de Status ====================
+
+    /**
+     * Ativa o grupo, concedendo seus perfis aos membros.
+     * Operação idempotente - pode ser chamada múltiplas vezes sem efeitos colaterais.
+     */
+    public void activate() {
+        this.status = UserGroupStatus.ACTIVE;
+    }
+
+    /**
+     * Desativa o grupo, retirando seus perfis dos membros.
+     * Operação idempotente - pode ser chamada múltiplas vezes sem efeitos colaterais.
+     */
+    public void deactivate() {
+        this.status = UserGroupStatus.INACTIVE;
+    }
+
+    /**
+     * Verifica se o grupo está ativo
+     */
+    public boolean isActive() {
+        return this.status == UserGroupStatus.ACTIVE;
+    }
+
+    /**
+     * Atualiza a descrição do grupo.
+     *
+     * @param newDescription nova descrição
+     */
+    public void updateDescription(String newDescription) {
+        this.description = newDescription;
+    }
+
+    // ==================== Verificação ====================
+
+    /**
+     * Verifica se o grupo pertence ao sistema
+     *
+     * @param systemId id do sistema para verificação
+     * @return true se o grupo pertencer ao sistema, false caso contrário
+     */
+    public boolean belongsTo(SystemId systemId) {
+        return this.systemId.equals(systemId);
+    }
+
+    // ==================== Padrão Builder ====================
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private UserGroupId id;
+        private SystemId systemId;
+        private String code;
+        private String description;
+        private UserGroupStatus status;
+
+        public Builder id(UserGroupId id) {
+            this.id = id;
+            return this;
+        }
+
+        public Builder systemId(SystemId systemId) {
+            this.systemId = systemId;
+            return this;
+        }
+
+        public Builder code(String code) {
+            this.code = code;
+            return this;
+        }
+
+        public Builder description(String description) {
+            this.description = description != null ? description : "";
+            return this;
+        }
+
+        public Builder status(UserGroupStatus status) {
+            this.status = status;
+            return this;
+        }
+
+        public UserGroup build() {
+            if (this.id == null) {
+                throw new DomainException(ID_REQUIRED);
+            }
+            if (this.systemId == null) {
+                throw new DomainException(SYSTEM_ID_REQUIRED);
+            }
+            if (this.code == null || this.code.isBlank()) {
+                throw new DomainException(CODE_REQUIRED);
+            }
+            if (this.status == null) {
+                throw new DomainException(STATUS_REQUIRED);
+            }
+            return new UserGroup(this);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.mssousa.auth.domain.model.group;
+
+import com.mssousa.auth.domain.exception.DomainException;
+import com.mssousa.auth.domain.model.shared.DomainId;
+
+/**
+ * Value Object representando o identificador único de um grupo de usuários.
+ * Garante que o ID seja válido conforme regras de negócio.
+ */
+public final class UserGroupId extends DomainId {
+
+    private UserGroupId(Long value) {
+        super(value);
+        validate(value);
+    }
+
+    public static UserGroupId of(Long value) {
+        return new UserGroupId(value);
+    }
+
+    private void validate(Long value) {
+        if (value <= 0) {
+            throw new DomainException("UserGroupId deve ser um número positivo");
+        }
+    }
+}
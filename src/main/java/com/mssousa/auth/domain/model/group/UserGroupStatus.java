@@ -0,0 +1,16 @@
+package com.mssousa.auth.domain.model.group;
+
+/**
+ * Enum representando o status de um grupo de usuários no Auth Server.
+ */
+public enum UserGroupStatus {
+    /**
+     * Grupo ativo: seus perfis são concedidos aos membros.
+     */
+    ACTIVE,
+
+    /**
+     * Grupo inativo: seus perfis não são concedidos aos membros.
+     */
+    INACTIVE
+}
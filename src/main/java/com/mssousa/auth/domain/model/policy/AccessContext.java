@@ -0,0 +1,133 @@
+package com.mssousa.auth.domain.model.policy;
+
+import java.net.InetAddress;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.mssousa.auth.domain.exception.DomainException;
+
+/**
+ * Atributos de uma tentativa de acesso avaliados pela política do sistema:
+ * instante, endereço de origem, indicador MASTER e atributos do usuário.
+ * <p>
+ * O endereço é guardado como 128 bits (IPv4 no formato ::ffff:a.b.c.d), de modo que
+ * a comparação com as faixas da política use apenas operações sobre {@code long}.
+ * </p>
+ */
+public final class AccessContext {
+
+    private static final String INSTANT_REQUIRED = "Instante do acesso não pode ser nulo";
+
+    private final Instant instant;
+    private final boolean hasAddress;
+    private final long addressHigh;
+    private final long addressLow;
+    private final boolean master;
+    private final Map<String, String> attributes;
+
+    private AccessContext(Builder builder) {
+        this.instant = builder.instant;
+        this.hasAddress = builder.address != null;
+        long[] address = hasAddress ? toWords(builder.address.getAddress()) : new long[2];
+        this.addressHigh = address[0];
+        this.addressLow = address[1];
+        this.master = builder.master;
+        this.attributes = Map.copyOf(builder.attributes);
+    }
+
+    public Instant getInstant() {
+        return instant;
+    }
+
+    public boolean hasAddress() {
+        return hasAddress;
+    }
+
+    long addressHigh() {
+        return addressHigh;
+    }
+
+    long addressLow() {
+        return addressLow;
+    }
+
+    public boolean isMaster() {
+        return master;
+    }
+
+    /**
+     * Valor do atributo do usuário, ou null quando ausente.
+     */
+    public String attribute(String name) {
+        return attributes.get(name);
+    }
+
+    /**
+     * Converte um endereço IPv4 (4 bytes) ou IPv6 (16 bytes) nas duas palavras de
+     * 64 bits usadas na comparação de faixas.
+     */
+    static long[] toWords(byte[] address) {
+        byte[] bytes = address;
+        if (address.length == 4) {
+            bytes = new byte[16];
+            bytes[10] = (byte) 0xff;
+            bytes[11] = (byte) 0xff;
+            System.arraycopy(address, 0, bytes, 12, 4);
+        }
+        long high = 0;
+        long low = 0;
+        for (int i = 0; i < 8; i++) {
+            high = (high << 8) | (bytes[i] & 0xffL);
+            low = (low << 8) | (bytes[i + 8] & 0xffL);
+        }
+        return new long[] { high, low };
+    }
+
+    // ==================== Padrão Builder ====================
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private Instant instant;
+        private InetAddress address;
+        private boolean master;
+        private final Map<String, String> attributes = new HashMap<>();
+
+        public Builder instant(Instant instant) {
+            this.instant = instant;
+            return this;
+        }
+
+        public Builder address(InetAddress address) {
+            this.address = address;
+            return this;
+        }
+
+        public Builder master(boolean master) {
+            this.master = master;
+            return this;
+        }
+
+        public Builder attribute(String name, String value) {
+            if (value != null) {
+                this.attributes.put(name, value);
+            }
+            return this;
+        }
+
+        public Builder attributes(Map<String, String> attributes) {
+            attributes.forEach(this::attribute);
+            return this;
+        }
+
+        public AccessContext build() {
+            if (this.instant == null) {
+                throw new DomainException(INSTANT_REQUIRED);
+            }
+            return new AccessContext(this);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.mssousa.auth.domain.model.policy;
+
+/**
+ * Política de acesso de um sistema, compilada a partir da sua expressão.
+ * <p>
+ * A expressão combina condições com {@code and}, {@code or}, {@code not} e parênteses:
+ * </p>
+ * <pre>
+ * time between 08:00 and 18:00 zone "America/Sao_Paulo"
+ * weekday in (MON, TUE, WED, THU, FRI)
+ * ip in ("10.0.0.0/8", "2001:db8::/32")
+ * user.master
+ * attr.department in ("finance", "ops")
+ * attr.department = "finance"
+ * true | false
+ * </pre>
+ * <p>
+ * A janela de horário é fechada no início e aberta no fim, e atravessa a meia-noite
+ * quando o início é maior que o fim. Sem {@code zone}, horário e dia da semana são
+ * avaliados em UTC.
+ * </p>
+ * <p>
+ * A compilação ocorre uma única vez, quando a política é carregada ou alterada, e gera
+ * uma árvore de decisão com constantes resolvidas e os testes mais baratos primeiro.
+ * A avaliação percorre a árvore sem alocar objetos.
+ * </p>
+ */
+public final class AccessPolicy {
+
+    /**
+     * Política dos sistemas sem expressão cadastrada: todo acesso é permitido.
+     */
+    public static final AccessPolicy ALLOW_ALL = new AccessPolicy("true", Condition.Constant.TRUE);
+
+    /**
+     * Política usada quando a expressão cadastrada não pode ser compilada.
+     */
+    public static final AccessPolicy DENY_ALL = new AccessPolicy("false", Condition.Constant.FALSE);
+
+    private final String expression;
+    private final Condition root;
+
+    AccessPolicy(String expression, Condition root) {
+        this.expression = expression;
+        this.root = root;
+    }
+
+    /**
+     * Compila a expressão.
+     *
+     * @throws com.mssousa.auth.domain.exception.DomainException se a expressão for inválida
+     */
+    public static AccessPolicy compile(String expression) {
+        return new AccessPolicy(expression, AccessPolicyCompiler.compile(expression));
+    }
+
+    public String getExpression() {
+        return expression;
+    }
+
+    /**
+     * Indica se a política permite o acesso descrito pelo contexto.
+     */
+    public boolean allows(AccessContext context) {
+        return root.test(context);
+    }
+
+    /**
+     * Indica se a política permite qualquer acesso, dispensando a montagem do contexto.
+     */
+    public boolean isUnrestricted() {
+        return root == Condition.Constant.TRUE;
+    }
+
+    Condition root() {
+        return root;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+}
@@ -0,0 +1,431 @@
+package com.mssousa.auth.domain.model.policy;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import com.mssousa.auth.domain.exception.DomainException;
+
+/**
+ * Analisador descendente recursivo da linguagem de {@link AccessPolicy} e otimizador
+ * da árvore resultante.
+ *
+ * Gramática:
+ * <pre>
+ * expr      := term ("or" term)*
+ * term      := factor ("and" factor)*
+ * factor    := "not" factor | "(" expr ")" | "true" | "false" | predicate
+ * predicate := "time" "between" HH:MM "and" HH:MM [zone]
+ *            | "weekday" "in" "(" DAY ("," DAY)* ")" [zone]
+ *            | "ip" "in" "(" STRING ("," STRING)* ")"
+ *            | "user.master"
+ *            | "attr." NAME ("=" STRING | "in" "(" STRING ("," STRING)* ")")
+ * zone      := "zone" STRING
+ * </pre>
+ *
+ * Otimizações: conjunções e disjunções aninhadas são achatadas, constantes são
+ * propagadas, negações duplas são removidas e os filhos são ordenados pelo custo
+ * estimado, para que o curto-circuito descarte os testes mais caros.
+ */
+final class AccessPolicyCompiler {
+
+    private static final int MAX_LENGTH = 4_000;
+    private static final Pattern TIME = Pattern.compile("^([01]\\d|2[0-3]):([0-5]\\d)$|^24:00$");
+    private static final Pattern ATTRIBUTE = Pattern.compile("^attr\\.[a-z0-9_][a-z0-9_.-]*$");
+    private static final List<String> DAYS = List.of("MON", "TUE", "WED", "THU", "FRI", "SAT", "SUN");
+    private static final Condition.LocalClock UTC = Condition.LocalClock.of(ZoneOffset.UTC);
+
+    private final List<Token> tokens;
+    private int position;
+
+    private AccessPolicyCompiler(List<Token> tokens) {
+        this.tokens = tokens;
+    }
+
+    static Condition compile(String expression) {
+        if (expression == null || expression.isBlank()) {
+            throw new DomainException("Política de acesso não pode ser vazia");
+        }
+        if (expression.length() > MAX_LENGTH) {
+            throw new DomainException("Política de acesso excede " + MAX_LENGTH + " caracteres");
+        }
+        AccessPolicyCompiler compiler = new AccessPolicyCompiler(tokenize(expression));
+        Condition root = compiler.expression();
+        compiler.expectEnd();
+        return root;
+    }
+
+    // ==================== Análise sintática ====================
+
+    private Condition expression() {
+        List<Condition> terms = new ArrayList<>();
+        terms.add(term());
+        while (acceptKeyword("or")) {
+            terms.add(term());
+        }
+        return anyOf(terms);
+    }
+
+    private Condition term() {
+        List<Condition> factors = new ArrayList<>();
+        factors.add(factor());
+        while (acceptKeyword("and")) {
+            factors.add(factor());
+        }
+        return allOf(factors);
+    }
+
+    private Condition factor() {
+        if (acceptKeyword("not")) {
+            return not(factor());
+        }
+        if (accept("(")) {
+            Condition inner = expression();
+            expect(")");
+            return inner;
+        }
+        if (acceptKeyword("true")) {
+            return Condition.Constant.TRUE;
+        }
+        if (acceptKeyword("false")) {
+            return Condition.Constant.FALSE;
+        }
+        if (acceptKeyword("time")) {
+            return timeWindow();
+        }
+        if (acceptKeyword("weekday")) {
+            return weekdays();
+        }
+        if (acceptKeyword("ip")) {
+            return addressRange();
+        }
+        if (acceptKeyword("user.master")) {
+            return new Condition.Master();
+        }
+        Token token = peek();
+        if (token.kind() == Kind.WORD && ATTRIBUTE.matcher(token.text()).matches()) {
+            position++;
+            return attribute(token.text().substring("attr.".length()));
+        }
+        throw error(token, "condição esperada");
+    }
+
+    private Condition timeWindow() {
+        expectKeyword("between");
+        int start = secondOfDay(next());
+        expectKeyword("and");
+        int end = secondOfDay(next());
+        return new Condition.TimeWindow(zone(), start, end);
+    }
+
+    private Condition weekdays() {
+        expectKeyword("in");
+        int mask = 0;
+        for (Token day : list(Kind.WORD)) {
+            int index = DAYS.indexOf(day.text().toUpperCase(Locale.ROOT));
+            if (index < 0) {
+                throw error(day, "dia da semana inválido (use MON, TUE, WED, THU, FRI, SAT ou SUN)");
+            }
+            mask |= 1 << index;
+        }
+        return new Condition.Weekdays(zone(), mask);
+    }
+
+    private Condition addressRange() {
+        expectKeyword("in");
+        List<Token> ranges = list(Kind.STRING);
+        long[] highs = new long[ranges.size()];
+        long[] lows = new long[ranges.size()];
+        long[] highMasks = new long[ranges.size()];
+        long[] lowMasks = new long[ranges.size()];
+
+        for (int i = 0; i < ranges.size(); i++) {
+            Token range = ranges.get(i);
+            String[] parts = range.text().split("/", -1);
+            // Literais IPv4-mapeados (::ffff:a.b.c.d) voltam com 4 bytes, mas o prefixo é de IPv6
+            boolean ipv4 = !parts[0].contains(":");
+            byte[] address = ipv4 ? parseIpv4(range, parts[0]) : parseIpv6(range, parts[0]);
+            int maxPrefix = ipv4 ? 32 : 128;
+            int prefix = parts.length == 1 ? maxPrefix : parsePrefix(range, parts, maxPrefix);
+            if (ipv4) {
+                prefix += 96;
+            }
+
+            long[] words = AccessContext.toWords(address);
+            highMasks[i] = mask(prefix);
+            lowMasks[i] = mask(prefix - 64);
+            highs[i] = words[0] & highMasks[i];
+            lows[i] = words[1] & lowMasks[i];
+        }
+        return new Condition.AddressRange(highs, lows, highMasks, lowMasks);
+    }
+
+    private Condition attribute(String name) {
+        if (accept("=")) {
+            return new Condition.AttributeIn(name, new String[] { expectString().text() });
+        }
+        expectKeyword("in");
+        Set<String> values = new LinkedHashSet<>();
+        for (Token value : list(Kind.STRING)) {
+            values.add(value.text());
+        }
+        return new Condition.AttributeIn(name, values.toArray(String[]::new));
+    }
+
+    private Condition.LocalClock zone() {
+        if (!acceptKeyword("zone")) {
+            return UTC;
+        }
+        Token zone = expectString();
+        try {
+            return Condition.LocalClock.of(ZoneId.of(zone.text()));
+        } catch (DateTimeException e) {
+            throw error(zone, "fuso horário desconhecido");
+        }
+    }
+
+    private List<Token> list(Kind kind) {
+        expect("(");
+        List<Token> items = new ArrayList<>();
+        do {
+            Token item = next();
+            if (item.kind() != kind) {
+                throw error(item, kind == Kind.STRING ? "texto entre aspas esperado" : "valor esperado");
+            }
+            items.add(item);
+        } while (accept(","));
+        expect(")");
+        return items;
+    }
+
+    // ==================== Otimização ====================
+
+    private static Condition allOf(List<Condition> conditions) {
+        List<Condition> children = new ArrayList<>();
+        for (Condition condition : conditions) {
+            if (condition == Condition.Constant.FALSE) {
+                return Condition.Constant.FALSE;
+            }
+            if (condition instanceof Condition.AllOf nested) {
+                children.addAll(List.of(nested.children()));
+            } else if (condition != Condition.Constant.TRUE) {
+                children.add(condition);
+            }
+        }
+        if (children.isEmpty()) {
+            return Condition.Constant.TRUE;
+        }
+        if (children.size() == 1) {
+            return children.get(0);
+        }
+        children.sort(Comparator.comparingInt(Condition::cost));
+        return new Condition.AllOf(children.toArray(Condition[]::new), totalCost(children));
+    }
+
+    private static Condition anyOf(List<Condition> conditions) {
+        List<Condition> children = new ArrayList<>();
+        for (Condition condition : conditions) {
+            if (condition == Condition.Constant.TRUE) {
+                return Condition.Constant.TRUE;
+            }
+            if (condition instanceof Condition.AnyOf nested) {
+                children.addAll(List.of(nested.children()));
+            } else if (condition != Condition.Constant.FALSE) {
+                children.add(condition);
+            }
+        }
+        if (children.isEmpty()) {
+            return Condition.Constant.FALSE;
+        }
+        if (children.size() == 1) {
+            return children.get(0);
+        }
+        children.sort(Comparator.comparingInt(Condition::cost));
+        return new Condition.AnyOf(children.toArray(Condition[]::new), totalCost(children));
+    }
+
+    private static Condition not(Condition condition) {
+        if (condition instanceof Condition.Constant constant) {
+            return Condition.Constant.of(!constant.value());
+        }
+        if (condition instanceof Condition.Not negated) {
+            return negated.child();
+        }
+        return new Condition.Not(condition);
+    }
+
+    private static int totalCost(List<Condition> children) {
+        return children.stream().mapToInt(Condition::cost).sum();
+    }
+
+    // ==================== Operandos ====================
+
+    private int secondOfDay(Token token) {
+        var matcher = TIME.matcher(token.text());
+        if (token.kind() != Kind.WORD || !matcher.matches()) {
+            throw error(token, "horário HH:MM esperado");
+        }
+        if (matcher.group(1) == null) {
+            return 86_400;
+        }
+        return Integer.parseInt(matcher.group(1)) * 3_600 + Integer.parseInt(matcher.group(2)) * 60;
+    }
+
+    private byte[] parseIpv4(Token token, String text) {
+        String[] octets = text.split("\\.", -1);
+        if (octets.length != 4) {
+            throw error(token, "endereço IP inválido");
+        }
+        byte[] address = new byte[4];
+        for (int i = 0; i < 4; i++) {
+            if (!octets[i].matches("^\\d{1,3}$") || Integer.parseInt(octets[i]) > 255) {
+                throw error(token, "endereço IP inválido");
+            }
+            address[i] = (byte) Integer.parseInt(octets[i]);
+        }
+        return address;
+    }
+
+    private byte[] parseIpv6(Token token, String text) {
+        // Entre colchetes o literal é analisado como IPv6 e nunca é resolvido por DNS;
+        // identificadores de escopo (%) não são aceitos.
+        if (text.contains("%") || text.contains("[") || text.contains("]")) {
+            throw error(token, "endereço IP inválido");
+        }
+        try {
+            return InetAddress.getByName("[" + text + "]").getAddress();
+        } catch (UnknownHostException e) {
+            throw error(token, "endereço IP inválido");
+        }
+    }
+
+    private int parsePrefix(Token token, String[] parts, int maxPrefix) {
+        if (parts.length != 2 || !parts[1].matches("^\\d{1,3}$") || Integer.parseInt(parts[1]) > maxPrefix) {
+            throw error(token, "prefixo de rede inválido");
+        }
+        return Integer.parseInt(parts[1]);
+    }
+
+    /**
+     * Máscara com os {@code bits} bits mais significativos ligados (0 a 64).
+     */
+    private static long mask(int bits) {
+        if (bits <= 0) {
+            return 0L;
+        }
+        return bits >= 64 ? -1L : -1L << (64 - bits);
+    }
+
+    // ==================== Tokens ====================
+
+    private enum Kind { WORD, STRING, SYMBOL, END }
+
+    private record Token(Kind kind, String text, int offset) {
+    }
+
+    private static List<Token> tokenize(String expression) {
+        List<Token> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < expression.length()) {
+            char c = expression.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '(' || c == ')' || c == ',' || c == '=') {
+                tokens.add(new Token(Kind.SYMBOL, String.valueOf(c), i));
+                i++;
+            } else if (c == '"') {
+                int close = expression.indexOf('"', i + 1);
+                if (close < 0) {
+                    throw new DomainException("Política de acesso inválida na posição " + i + ": aspas não fechadas");
+                }
+                tokens.add(new Token(Kind.STRING, expression.substring(i + 1, close), i));
+                i = close + 1;
+            } else if (isWordChar(c)) {
+                int start = i;
+                while (i < expression.length() && isWordChar(expression.charAt(i))) {
+                    i++;
+                }
+                tokens.add(new Token(Kind.WORD, expression.substring(start, i), start));
+            } else {
+                throw new DomainException("Política de acesso inválida na posição " + i + ": caractere '" + c + "'");
+            }
+        }
+        tokens.add(new Token(Kind.END, "", expression.length()));
+        return tokens;
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '.' || c == ':' || c == '-';
+    }
+
+    private Token peek() {
+        return tokens.get(position);
+    }
+
+    private Token next() {
+        Token token = tokens.get(position);
+        if (token.kind() != Kind.END) {
+            position++;
+        }
+        return token;
+    }
+
+    private boolean accept(String symbol) {
+        Token token = peek();
+        if (token.kind() == Kind.SYMBOL && token.text().equals(symbol)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean acceptKeyword(String keyword) {
+        Token token = peek();
+        if (token.kind() == Kind.WORD && token.text().equalsIgnoreCase(keyword)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(String symbol) {
+        if (!accept(symbol)) {
+            throw error(peek(), "'" + symbol + "' esperado");
+        }
+    }
+
+    private void expectKeyword(String keyword) {
+        if (!acceptKeyword(keyword)) {
+            throw error(peek(), "'" + keyword + "' esperado");
+        }
+    }
+
+    private Token expectString() {
+        Token token = next();
+        if (token.kind() != Kind.STRING) {
+            throw error(token, "texto entre aspas esperado");
+        }
+        return token;
+    }
+
+    private void expectEnd() {
+        if (peek().kind() != Kind.END) {
+            throw error(peek(), "fim da expressão esperado");
+        }
+    }
+
+    private static DomainException error(Token token, String message) {
+        String found = token.kind() == Kind.END ? "fim da expressão" : "'" + token.text() + "'";
+        return new DomainException("Política de acesso inválida na posição " + token.offset()
+                + ": " + message + ", encontrado " + found);
+    }
+}
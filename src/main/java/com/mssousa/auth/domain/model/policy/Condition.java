@@ -0,0 +1,213 @@
+package com.mssousa.auth.domain.model.policy;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.zone.ZoneRules;
+
+/**
+ * Nó da árvore de decisão compilada de uma {@link AccessPolicy}.
+ * <p>
+ * Os nós são imutáveis e guardam os operandos já convertidos (segundos do dia, máscara
+ * de dias da semana, faixas de endereço em {@code long}), de modo que a avaliação não
+ * aloca objetos. O custo estimado é usado pelo compilador para avaliar primeiro os
+ * testes mais baratos de cada conjunção ou disjunção.
+ * </p>
+ */
+sealed interface Condition {
+
+    boolean test(AccessContext context);
+
+    int cost();
+
+    record Constant(boolean value) implements Condition {
+
+        static final Constant TRUE = new Constant(true);
+        static final Constant FALSE = new Constant(false);
+
+        static Constant of(boolean value) {
+            return value ? TRUE : FALSE;
+        }
+
+        @Override
+        public boolean test(AccessContext context) {
+            return value;
+        }
+
+        @Override
+        public int cost() {
+            return 0;
+        }
+    }
+
+    record AllOf(Condition[] children, int cost) implements Condition {
+
+        @Override
+        public boolean test(AccessContext context) {
+            for (Condition child : children) {
+                if (!child.test(context)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    record AnyOf(Condition[] children, int cost) implements Condition {
+
+        @Override
+        public boolean test(AccessContext context) {
+            for (Condition child : children) {
+                if (child.test(context)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    record Not(Condition child) implements Condition {
+
+        @Override
+        public boolean test(AccessContext context) {
+            return !child.test(context);
+        }
+
+        @Override
+        public int cost() {
+            return child.cost();
+        }
+    }
+
+    record Master() implements Condition {
+
+        @Override
+        public boolean test(AccessContext context) {
+            return context.isMaster();
+        }
+
+        @Override
+        public int cost() {
+            return 1;
+        }
+    }
+
+    /**
+     * Janela diária [start, end) em segundos do dia no fuso informado. Quando
+     * start > end, a janela atravessa a meia-noite.
+     */
+    record TimeWindow(LocalClock clock, int start, int end) implements Condition {
+
+        @Override
+        public boolean test(AccessContext context) {
+            int second = clock.secondOfDay(context);
+            return start <= end
+                    ? second >= start && second < end
+                    : second >= start || second < end;
+        }
+
+        @Override
+        public int cost() {
+            return 2;
+        }
+    }
+
+    /**
+     * Dias da semana permitidos, um bit por dia (segunda-feira = bit 0).
+     */
+    record Weekdays(LocalClock clock, int mask) implements Condition {
+
+        @Override
+        public boolean test(AccessContext context) {
+            return (mask & (1 << clock.dayOfWeek(context))) != 0;
+        }
+
+        @Override
+        public int cost() {
+            return 2;
+        }
+    }
+
+    /**
+     * Faixas de endereço (CIDR) em 128 bits. Acessos sem endereço conhecido não
+     * pertencem a nenhuma faixa.
+     */
+    record AddressRange(long[] highs, long[] lows, long[] highMasks, long[] lowMasks) implements Condition {
+
+        @Override
+        public boolean test(AccessContext context) {
+            if (!context.hasAddress()) {
+                return false;
+            }
+            long high = context.addressHigh();
+            long low = context.addressLow();
+            for (int i = 0; i < highs.length; i++) {
+                if ((high & highMasks[i]) == highs[i] && (low & lowMasks[i]) == lows[i]) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public int cost() {
+            return 2 + highs.length;
+        }
+    }
+
+    record AttributeIn(String name, String[] values) implements Condition {
+
+        @Override
+        public boolean test(AccessContext context) {
+            String actual = context.attribute(name);
+            if (actual == null) {
+                return false;
+            }
+            for (String value : values) {
+                if (value.equals(actual)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public int cost() {
+            return 3 + values.length;
+        }
+    }
+
+    /**
+     * Converte o instante do acesso para o horário local de um fuso. Fusos de
+     * deslocamento fixo usam o deslocamento pré-calculado; os demais consultam as
+     * regras de transição do fuso.
+     */
+    record LocalClock(ZoneRules rules, int fixedOffset) {
+
+        private static final int SECONDS_PER_DAY = 86_400;
+
+        static LocalClock of(ZoneId zone) {
+            ZoneRules rules = zone.getRules();
+            return new LocalClock(rules, rules.isFixedOffset()
+                    ? rules.getOffset(Instant.EPOCH).getTotalSeconds()
+                    : Integer.MIN_VALUE);
+        }
+
+        private long localEpochSecond(AccessContext context) {
+            int offset = fixedOffset != Integer.MIN_VALUE
+                    ? fixedOffset
+                    : rules.getOffset(context.getInstant()).getTotalSeconds();
+            return context.getInstant().getEpochSecond() + offset;
+        }
+
+        int secondOfDay(AccessContext context) {
+            return Math.floorMod(localEpochSecond(context), SECONDS_PER_DAY);
+        }
+
+        /**
+         * Dia da semana, de 0 (segunda-feira) a 6 (domingo). 1970-01-01 foi uma quinta-feira.
+         */
+        int dayOfWeek(AccessContext context) {
+            return Math.floorMod(Math.floorDiv(localEpochSecond(context), SECONDS_PER_DAY) + 3, 7);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.mssousa.auth.domain.model.role;
+
+import java.util.Set;
+
+/**
+ * Resultado da resolução dos perfis efetivos de um usuário em um sistema.
+ * <p>
+ * Contém apenas os códigos dos perfis ativos, vinculados por vínculos ativos.
+ * Quando não há perfil efetivo, {@code outcome} indica o motivo (nunca exposto
+ * ao cliente, apenas para logs).
+ * </p>
+ *
+ * @param outcome   resultado da resolução
+ * @param roleCodes códigos distintos dos perfis efetivos (vazio quando negado)
+ */
+public record EffectiveRoles(
+    Outcome outcome,
+    Set<String> roleCodes
+) {
+
+    public enum Outcome {
+        /** Usuário possui ao menos um perfil efetivo no sistema. */
+        GRANTED,
+        /** Não existe vínculo entre o usuário e o sistema. */
+        NO_BINDING,
+        /** O vínculo entre o usuário e o sistema está inativo. */
+        BINDING_INACTIVE,
+        /** O vínculo está ativo, mas nenhum perfil ativo está vinculado a ele. */
+        NO_ACTIVE_ROLES
+    }
+
+    public EffectiveRoles {
+        roleCodes = Set.copyOf(roleCodes);
+    }
+
+    public static EffectiveRoles granted(Set<String> roleCodes) {
+        if (roleCodes.isEmpty()) {
+            return denied(Outcome.NO_ACTIVE_ROLES);
+        }
+        return new EffectiveRoles(Outcome.GRANTED, roleCodes);
+    }
+
+    public static EffectiveRoles denied(Outcome outcome) {
+        return new EffectiveRoles(outcome, Set.of());
+    }
+
+    public boolean isGranted() {
+        return outcome == Outcome.GRANTED;
+    }
+}
@@ -0,0 +1,170 @@
+package com.mssousa.auth.domain.model.role;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.mssousa.auth.domain.model.system.SystemId;
+
+/**
+ * Índice denso das permissões dos perfis ativos de um sistema, com o bitmap de
+ * permissões de cada perfil.
+ * <p>
+ * As permissões são ordenadas alfabeticamente, e o índice de cada uma é a sua posição.
+ * O bitmap codificado no token usa um bit por permissão: o bit {@code i} fica no byte
+ * {@code i / 8}, na posição {@code i % 8} (bit menos significativo primeiro), e bytes
+ * zerados ao final são omitidos. Um resource server testa a permissão de índice
+ * {@code i} com {@code (bitmap[i >> 3] & (1 << (i & 7))) != 0}.
+ * </p>
+ * <p>
+ * A versão é derivada apenas da lista de permissões: é a mesma em todas as instâncias
+ * do servidor e só muda quando o índice muda, permitindo que resource servers mantenham
+ * o dicionário em cache até receberem um token com outra versão.
+ * </p>
+ */
+public final class PermissionDictionary {
+
+    private static final Base64.Encoder BASE64URL = Base64.getUrlEncoder().withoutPadding();
+
+    private final SystemId systemId;
+    private final List<String> permissions;
+    private final Map<String, Integer> indexes;
+    private final Map<String, long[]> roleBitmaps;
+    private final String version;
+
+    private PermissionDictionary(SystemId systemId, List<String> permissions, Map<String, long[]> roleBitmaps) {
+        this.systemId = systemId;
+        this.permissions = permissions;
+        this.indexes = new HashMap<>(permissions.size() * 2);
+        for (int i = 0; i < permissions.size(); i++) {
+            indexes.put(permissions.get(i), i);
+        }
+        this.roleBitmaps = roleBitmaps;
+        this.version = computeVersion(permissions);
+    }
+
+    /**
+     * Cria o dicionário a partir dos perfis do sistema; perfis inativos são ignorados.
+     */
+    public static PermissionDictionary of(SystemId systemId, Collection<SystemRole> roles) {
+        List<SystemRole> active = roles.stream()
+                .filter(SystemRole::isActive)
+                .toList();
+
+        List<String> permissions = active.stream()
+                .flatMap(role -> role.getPermissions().stream())
+                .distinct()
+                .sorted()
+                .toList();
+
+        PermissionDictionary dictionary = new PermissionDictionary(systemId, permissions, new HashMap<>());
+        for (SystemRole role : active) {
+            long[] bitmap = new long[(permissions.size() + 63) >> 6];
+            for (String permission : role.getPermissions()) {
+                int index = dictionary.indexOf(permission);
+                bitmap[index >> 6] |= 1L << index;
+            }
+            dictionary.roleBitmaps.put(role.getCode(), bitmap);
+        }
+        return dictionary;
+    }
+
+    public SystemId getSystemId() {
+        return systemId;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    /**
+     * Permissões na ordem do índice.
+     */
+    public List<String> getPermissions() {
+        return permissions;
+    }
+
+    public int size() {
+        return permissions.size();
+    }
+
+    /**
+     * Índice da permissão, ou -1 quando nenhum perfil ativo do sistema a concede.
+     */
+    public int indexOf(String permission) {
+        Integer index = indexes.get(permission);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * Bitmap, em base64url sem padding, da união das permissões dos perfis informados.
+     * Códigos sem perfil ativo correspondente são ignorados.
+     */
+    public String encode(Collection<String> roleCodes) {
+        long[] union = new long[(permissions.size() + 63) >> 6];
+        for (String code : roleCodes) {
+            long[] bitmap = roleBitmaps.get(code);
+            if (bitmap == null) {
+                continue;
+            }
+            for (int i = 0; i < union.length; i++) {
+                union[i] |= bitmap[i];
+            }
+        }
+        return BASE64URL.encodeToString(toBytes(union));
+    }
+
+    /**
+     * Bitmap com todas as permissões do sistema (usuários MASTER).
+     */
+    public String encodeAll() {
+        return encode(roleBitmaps.keySet());
+    }
+
+    /**
+     * Permissões presentes no bitmap codificado por {@link #encode(Collection)}.
+     */
+    public Set<String> decode(String encoded) {
+        byte[] bytes = Base64.getUrlDecoder().decode(encoded);
+        Set<String> result = new LinkedHashSet<>();
+        for (int i = 0; i < permissions.size() && (i >> 3) < bytes.length; i++) {
+            if ((bytes[i >> 3] & (1 << (i & 7))) != 0) {
+                result.add(permissions.get(i));
+            }
+        }
+        return result;
+    }
+
+    private static byte[] toBytes(long[] words) {
+        byte[] bytes = new byte[words.length * 8];
+        int length = 0;
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (words[i >> 3] >>> ((i & 7) * 8));
+            if (bytes[i] != 0) {
+                length = i + 1;
+            }
+        }
+        return Arrays.copyOf(bytes, length);
+    }
+
+    private static String computeVersion(List<String> permissions) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String permission : permissions) {
+                digest.update(permission.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '\n');
+            }
+            return BASE64URL.encodeToString(Arrays.copyOf(digest.digest(), 8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
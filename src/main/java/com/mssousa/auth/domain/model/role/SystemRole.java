@@ -1,5 +1,10 @@
 package com.mssousa.auth.domain.model.role;
 
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.regex.Pattern;
+
 import com.mssousa.auth.domain.exception.DomainException;
 import com.mssousa.auth.domain.model.system.SystemId;
 
@@ -16,12 +21,17 @@ public class SystemRole {
     private static final String SYSTEM_ID_REQUIRED = "SystemId é obrigatório no vínculo UserSystem";
     private static final String CODE_REQUIRED = "Código do perfil não pode ser nulo ou vazio";
     private static final String STATUS_REQUIRED = "Status do vínculo não pode ser nulo";
+    private static final String INVALID_PERMISSION = "Permissão deve seguir o formato recurso:ação (ex: invoice:read): ";
+
+    /** Permissão no formato recurso:ação, ex: invoice:read. */
+    private static final Pattern PERMISSION_PATTERN = Pattern.compile("^[a-z0-9][a-z0-9_.-]*:[a-z0-9][a-z0-9_.-]*$");
 
     private final SystemRoleId id;
     private final SystemId system_id;
     private final String code;
     private String description;
     private SystemRoleStatus status;
+    private final Set<String> permissions;
 
     /**
      * Cria um novo perfil.
@@ -34,6 +44,7 @@ public class SystemRole {
         this.code = builder.code;
         this.description = builder.description;
         this.status = builder.status;
+        this.permissions = new LinkedHashSet<>(builder.permissions);
 
         validate();
     }
@@ -60,6 +71,10 @@ public class SystemRole {
         return status;
     }
 
+    public Set<String> getPermissions() {
+        return Collections.unmodifiableSet(permissions);
+    }
+
     // ==================== Validações ====================
 
     private void validate() {
@@ -78,6 +93,14 @@ public class SystemRole {
         if (status == null) {
             throw new DomainException(STATUS_REQUIRED);
         }
+
+        permissions.forEach(SystemRole::validatePermission);
+    }
+
+    private static void validatePermission(String permission) {
+        if (permission == null || !PERMISSION_PATTERN.matcher(permission).matches()) {
+            throw new DomainException(INVALID_PERMISSION + permission);
+        }
     }
 
     // ==================== Gerenciamento de Status ====================
@@ -123,6 +146,27 @@ public class SystemRole {
         this.description = newDescription;
     }
 
+    // ==================== Gerenciamento de Permissões ====================
+
+    /**
+     * Concede a permissão ao perfil.
+     * Operação idempotente - pode ser chamada múltiplas vezes sem efeitos colaterais.
+     *
+     * @param permission permissão no formato recurso:ação
+     */
+    public void grantPermission(String permission) {
+        validatePermission(permission);
+        this.permissions.add(permission);
+    }
+
+    /**
+     * Retira a permissão do perfil.
+     * Operação idempotente - pode ser chamada múltiplas vezes sem efeitos colaterais.
+     */
+    public void revokePermission(String permission) {
+        this.permissions.remove(permission);
+    }
+
     // ==================== Verificação ====================
     /**
      * Verifica se uma role pertence a um sistema pelo id do sistema
@@ -146,6 +190,7 @@ public class SystemRole {
         private String code;
         private String description;
         private SystemRoleStatus status;
+        private Set<String> permissions = Set.of();
 
         public Builder id(SystemRoleId id) {
             this.id = id;
@@ -172,6 +217,11 @@ public class SystemRole {
             return this;
         }
 
+        public Builder permissions(Set<String> permissions) {
+            this.permissions = permissions != null ? permissions : Set.of();
+            return this;
+        }
+
         public SystemRole build() {
             if (this.id == null) {
                 throw new DomainException(ID_REQUIRED);
@@ -0,0 +1,16 @@
+package com.mssousa.auth.domain.model.system;
+
+/**
+ * Enum representando como um sistema cliente apresenta o client secret ao Auth Server.
+ */
+public enum ClientAuthMethod {
+    /**
+     * Secret no cabeçalho Authorization (HTTP Basic).
+     */
+    CLIENT_SECRET_BASIC,
+
+    /**
+     * Secret no corpo da requisição (client_id e client_secret).
+     */
+    CLIENT_SECRET_POST
+}
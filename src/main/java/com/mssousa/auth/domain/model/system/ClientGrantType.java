@@ -0,0 +1,21 @@
+package com.mssousa.auth.domain.model.system;
+
+/**
+ * Enum representando os fluxos OAuth2 que um sistema cliente pode usar para obter tokens.
+ */
+public enum ClientGrantType {
+    /**
+     * Login do usuário com redirecionamento e troca do código pelo token.
+     */
+    AUTHORIZATION_CODE,
+
+    /**
+     * Renovação do access token a partir do refresh token.
+     */
+    REFRESH_TOKEN,
+
+    /**
+     * Token emitido para o próprio sistema, sem usuário.
+     */
+    CLIENT_CREDENTIALS
+}
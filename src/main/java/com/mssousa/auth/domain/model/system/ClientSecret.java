@@ -0,0 +1,91 @@
+package com.mssousa.auth.domain.model.system;
+
+import com.mssousa.auth.domain.exception.DomainException;
+import com.mssousa.auth.domain.service.PasswordHasher;
+
+import java.util.Objects;
+
+/**
+ * Value Object representando o secret de um sistema cliente, armazenado como hash.
+ * <p>
+ * O algoritmo é definido pelo {@link PasswordHasher} recebido em cada operação, o
+ * mesmo das senhas de usuário, fornecido por quem usa o secret (via injeção).
+ * A comparação é feita pelo próprio algoritmo de hash, em tempo constante.
+ * </p>
+ */
+public final class ClientSecret {
+
+    private final String hashedValue;
+
+    private ClientSecret(String hashedValue) {
+        this.hashedValue = hashedValue;
+    }
+
+    /**
+     * Cria um ClientSecret a partir do secret em texto plano, convertendo-o em hash.
+     *
+     * @param plainSecret secret em texto plano
+     * @param hasher      estratégia de hash
+     * @return ClientSecret com o hash do secret
+     * @throws DomainException se o secret for nulo ou vazio
+     */
+    public static ClientSecret fromPlainText(String plainSecret, PasswordHasher hasher) {
+        if (plainSecret == null || plainSecret.isBlank()) {
+            throw new DomainException(ClientSystem.CLIENT_SECRET_NULL_OR_BLANK);
+        }
+        return new ClientSecret(hasher.hash(plainSecret));
+    }
+
+    /**
+     * Reconstrói um ClientSecret a partir de um hash armazenado.
+     *
+     * @param hashedSecret hash do secret
+     * @return ClientSecret com o hash fornecido
+     * @throws DomainException se o hash for nulo ou vazio
+     */
+    public static ClientSecret fromHash(String hashedSecret) {
+        if (hashedSecret == null || hashedSecret.isBlank()) {
+            throw new DomainException(ClientSystem.CLIENT_SECRET_NULL_OR_BLANK);
+        }
+        return new ClientSecret(hashedSecret);
+    }
+
+    /**
+     * Verifica se o secret em texto plano corresponde ao hash armazenado.
+     *
+     * @param plainSecret secret em texto plano para verificar
+     * @param hasher      estratégia de hash
+     * @return true se o secret corresponder, false caso contrário
+     */
+    public boolean matches(String plainSecret, PasswordHasher hasher) {
+        if (plainSecret == null) {
+            return false;
+        }
+        return hasher.matches(plainSecret, hashedValue);
+    }
+
+    /**
+     * Retorna o hash do secret.
+     * Deve ser usado apenas para persistência.
+     *
+     * @return hash do secret
+     */
+    public String hashedValue() {
+        return hashedValue;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ClientSecret that = (ClientSecret) o;
+        return hashedValue.equals(that.hashedValue);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(hashedValue);
+    }
+
+    // Não implementar toString() por questões de segurança
+}
@@ -1,12 +1,33 @@
 package com.mssousa.auth.domain.model.system;
 
 import com.mssousa.auth.domain.exception.DomainException;
+import com.mssousa.auth.domain.service.PasswordHasher;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 /**
  * Entidade de domínio representando um Sistema Cliente no Auth Server.
  * <p>
  * Um sistema cliente é uma aplicação que consome autenticação do Auth Server.
- * Cada sistema possui identificadores OAuth2, URI de redirecionamento e status.
+ * Cada sistema possui identificadores OAuth2, URIs de redirecionamento e status.
+ * </p>
+ * <p>
+ * A URI principal ({@link #getRedirectUri()}) é obrigatória; URIs adicionais (ex: uma
+ * por ambiente, ou de loopback com porta curinga) são mantidas junto a ela e
+ * compiladas em um {@link RedirectUriMatcher}.
+ * </p>
+ * <p>
+ * O client secret é mantido como hash (ver {@link ClientSecret}); o builder recebe
+ * o hash armazenado e {@link #updateClientSecret(String, PasswordHasher)} recebe o secret em texto plano.
+ * </p>
+ * <p>
+ * Os fluxos OAuth2 ({@link ClientGrantType}) e as formas de apresentar o secret
+ * ({@link ClientAuthMethod}) são definidos por sistema. Sem configuração, o sistema
+ * usa apenas o login de usuários (authorization_code e refresh_token) com HTTP Basic.
  * </p>
  */
 public class ClientSystem {
@@ -17,12 +38,24 @@ public class ClientSystem {
     public static final String NAME_NULL_OR_BLANK = "Nome do sistema não pode ser nulo ou vazio";
     public static final String REDIRECT_URI_INVALID = "Redirect URI não pode ser nulo ou vazio e deve começar com http:// ou https://";
     public static final String STATUS_NULL_OR_BLANK = "Status do sistema não pode ser nulo ou vazio";
+    public static final String REDIRECT_URI_PRIMARY_REMOVAL = "A URI de redirecionamento principal não pode ser removida";
+    public static final String GRANT_TYPES_EMPTY = "O sistema deve permitir ao menos um fluxo OAuth2";
+    public static final String AUTH_METHODS_EMPTY = "O sistema deve permitir ao menos uma forma de autenticação";
+
+    public static final Set<ClientGrantType> DEFAULT_GRANT_TYPES =
+            Collections.unmodifiableSet(EnumSet.of(ClientGrantType.AUTHORIZATION_CODE, ClientGrantType.REFRESH_TOKEN));
+    public static final Set<ClientAuthMethod> DEFAULT_AUTH_METHODS =
+            Collections.unmodifiableSet(EnumSet.of(ClientAuthMethod.CLIENT_SECRET_BASIC));
 
     private final SystemId id;
     private final String clientId;
     private String clientSecret;
     private String name;
     private String redirectUri;
+    private Set<String> redirectUris;
+    private RedirectUriMatcher redirectUriMatcher;
+    private Set<ClientGrantType> grantTypes;
+    private Set<ClientAuthMethod> authMethods;
     private SystemStatus status;
 
     /**
@@ -37,8 +70,13 @@ public class ClientSystem {
         this.name = builder.name;
         this.redirectUri = builder.redirectUri;
         this.status = builder.status != null ? builder.status : SystemStatus.ACTIVE;
+        this.grantTypes = copyOf(builder.grantTypes, DEFAULT_GRANT_TYPES, ClientGrantType.class);
+        this.authMethods = copyOf(builder.authMethods, DEFAULT_AUTH_METHODS, ClientAuthMethod.class);
 
         validate();
+
+        builder.redirectUris.forEach(this::validateRedirectUri);
+        useRedirectUris(builder.redirectUris);
     }
 
     // ==================== Validações ====================
@@ -75,12 +113,33 @@ public class ClientSystem {
         }
     }
 
+    /**
+     * Define as URIs adicionais (a principal é sempre incluída) e recompila o índice.
+     */
+    private void useRedirectUris(Collection<String> additionalRedirectUris) {
+        Set<String> uris = new LinkedHashSet<>();
+        uris.add(redirectUri);
+        uris.addAll(additionalRedirectUris);
+
+        this.redirectUriMatcher = RedirectUriMatcher.compile(uris);
+        this.redirectUris = Collections.unmodifiableSet(uris);
+    }
+
     public void validateClientSecret(String clientSecret) {
         if (clientSecret == null || clientSecret.isBlank()) {
             throw new DomainException(CLIENT_SECRET_NULL_OR_BLANK);
         }
     }
 
+    private static <E extends Enum<E>> Set<E> copyOf(Collection<E> values, Set<E> defaults, Class<E> type) {
+        if (values.isEmpty()) {
+            return defaults;
+        }
+        EnumSet<E> copy = EnumSet.noneOf(type);
+        copy.addAll(values);
+        return Collections.unmodifiableSet(copy);
+    }
+
     // ==================== Getters ====================
 
     public SystemId getId() {
@@ -103,6 +162,27 @@ public class ClientSystem {
         return redirectUri;
     }
 
+    /**
+     * Todas as URIs de redirecionamento registradas, começando pela principal.
+     */
+    public Set<String> getRedirectUris() {
+        return redirectUris;
+    }
+
+    /**
+     * Fluxos OAuth2 permitidos ao sistema.
+     */
+    public Set<ClientGrantType> getGrantTypes() {
+        return grantTypes;
+    }
+
+    /**
+     * Formas de apresentação do client secret aceitas do sistema.
+     */
+    public Set<ClientAuthMethod> getAuthMethods() {
+        return authMethods;
+    }
+
     public SystemStatus getStatus() {
         return status;
     }
@@ -146,14 +226,17 @@ public class ClientSystem {
     // ==================== Gerenciamento de Configurações ====================
 
     /**
-     * Atualiza o client secret do sistema.
+     * Atualiza o client secret do sistema, armazenando o hash do novo secret.
+     * Como cada hash tem salt próprio, verificações memorizadas do secret anterior
+     * deixam de corresponder.
      *
-     * @param newClientSecret novo client secret
+     * @param newClientSecret novo client secret em texto plano
+     * @param hasher          estratégia de hash
      * @throws DomainException se o novo secret for nulo ou vazio
      */
-    public void updateClientSecret(String newClientSecret) {
+    public void updateClientSecret(String newClientSecret, PasswordHasher hasher) {
         validateClientSecret(newClientSecret);
-        this.clientSecret = newClientSecret;
+        this.clientSecret = ClientSecret.fromPlainText(newClientSecret, hasher).hashedValue();
     }
 
     /**
@@ -175,7 +258,71 @@ public class ClientSystem {
      */
     public void updateRedirectUri(String newRedirectUri) {
         validateRedirectUri(newRedirectUri);
+        Set<String> additional = additionalRedirectUris();
         this.redirectUri = newRedirectUri;
+        useRedirectUris(additional);
+    }
+
+    /**
+     * Registra uma URI de redirecionamento adicional.
+     * Operação idempotente.
+     *
+     * @param newRedirectUri URI fixa ou de loopback com porta curinga (ex: http://127.0.0.1:*&#47;callback)
+     * @throws DomainException se a URI for inválida
+     */
+    public void addRedirectUri(String newRedirectUri) {
+        validateRedirectUri(newRedirectUri);
+        Set<String> additional = additionalRedirectUris();
+        additional.add(newRedirectUri);
+        useRedirectUris(additional);
+    }
+
+    /**
+     * Remove uma URI de redirecionamento adicional.
+     * Operação idempotente.
+     *
+     * @param redirectUriToRemove URI a remover
+     * @throws DomainException se for a URI principal
+     */
+    public void removeRedirectUri(String redirectUriToRemove) {
+        if (redirectUri.equals(redirectUriToRemove)) {
+            throw new DomainException(REDIRECT_URI_PRIMARY_REMOVAL);
+        }
+        Set<String> additional = additionalRedirectUris();
+        additional.remove(redirectUriToRemove);
+        useRedirectUris(additional);
+    }
+
+    /**
+     * Define os fluxos OAuth2 permitidos ao sistema.
+     *
+     * @param newGrantTypes fluxos permitidos
+     * @throws DomainException se nenhum fluxo for informado
+     */
+    public void updateGrantTypes(Collection<ClientGrantType> newGrantTypes) {
+        if (newGrantTypes == null || newGrantTypes.isEmpty()) {
+            throw new DomainException(GRANT_TYPES_EMPTY);
+        }
+        this.grantTypes = copyOf(newGrantTypes, DEFAULT_GRANT_TYPES, ClientGrantType.class);
+    }
+
+    /**
+     * Define as formas de apresentação do client secret aceitas do sistema.
+     *
+     * @param newAuthMethods formas aceitas
+     * @throws DomainException se nenhuma forma for informada
+     */
+    public void updateAuthMethods(Collection<ClientAuthMethod> newAuthMethods) {
+        if (newAuthMethods == null || newAuthMethods.isEmpty()) {
+            throw new DomainException(AUTH_METHODS_EMPTY);
+        }
+        this.authMethods = copyOf(newAuthMethods, DEFAULT_AUTH_METHODS, ClientAuthMethod.class);
+    }
+
+    private Set<String> additionalRedirectUris() {
+        Set<String> additional = new LinkedHashSet<>(redirectUris);
+        additional.remove(redirectUri);
+        return additional;
     }
 
     // ==================== Validação de Acesso ====================
@@ -190,29 +337,26 @@ public class ClientSystem {
     }
 
     /**
-     * Verifica se a URI de redirecionamento fornecida corresponde à registrada.
+     * Verifica se a URI de redirecionamento fornecida corresponde a alguma das registradas.
      *
      * @param providedRedirectUri URI fornecida na requisição
      * @return true se a URI corresponder
      */
     public boolean matchesRedirectUri(String providedRedirectUri) {
-        if (providedRedirectUri == null) {
-            return false;
-        }
-        return this.redirectUri.equals(providedRedirectUri);
+        return redirectUriMatcher.matches(providedRedirectUri);
     }
 
     /**
-     * Valida se o client secret fornecido corresponde ao registrado.
+     * Valida se o client secret fornecido corresponde ao hash registrado.
+     * Executa o algoritmo de hash completo; no fluxo de emissão de tokens, usar o
+     * ClientSecretVerifier, que memoriza verificações recentes.
      *
      * @param providedSecret secret fornecido na requisição
+     * @param hasher         estratégia de hash
      * @return true se o secret corresponder
      */
-    public boolean verifyClientSecret(String providedSecret) {
-        if (providedSecret == null) {
-            return false;
-        }
-        return this.clientSecret.equals(providedSecret);
+    public boolean verifyClientSecret(String providedSecret, PasswordHasher hasher) {
+        return ClientSecret.fromHash(this.clientSecret).matches(providedSecret, hasher);
     }
 
     // ==================== Padrão Builder ====================
@@ -227,6 +371,9 @@ public class ClientSystem {
         private String clientSecret;
         private String name;
         private String redirectUri;
+        private final Set<String> redirectUris = new LinkedHashSet<>();
+        private final Set<ClientGrantType> grantTypes = EnumSet.noneOf(ClientGrantType.class);
+        private final Set<ClientAuthMethod> authMethods = EnumSet.noneOf(ClientAuthMethod.class);
         private SystemStatus status;
 
         public Builder id(SystemId id) {
@@ -254,6 +401,30 @@ public class ClientSystem {
             return this;
         }
 
+        /**
+         * URIs de redirecionamento adicionais à principal.
+         */
+        public Builder redirectUris(Collection<String> redirectUris) {
+            this.redirectUris.addAll(redirectUris);
+            return this;
+        }
+
+        /**
+         * Fluxos OAuth2 permitidos; sem valores, {@link ClientSystem#DEFAULT_GRANT_TYPES}.
+         */
+        public Builder grantTypes(Collection<ClientGrantType> grantTypes) {
+            this.grantTypes.addAll(grantTypes);
+            return this;
+        }
+
+        /**
+         * Formas de autenticação aceitas; sem valores, {@link ClientSystem#DEFAULT_AUTH_METHODS}.
+         */
+        public Builder authMethods(Collection<ClientAuthMethod> authMethods) {
+            this.authMethods.addAll(authMethods);
+            return this;
+        }
+
         public Builder status(SystemStatus status) {
             this.status = status;
             return this;
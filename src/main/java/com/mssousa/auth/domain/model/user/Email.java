@@ -29,6 +29,17 @@ public final class Email {
         return new Email(value);
     }
 
+    /**
+     * Verifica se o valor é um email válido (após normalização), sem lançar exceção.
+     * Usado para classificar entradas ambíguas (ex: login por username ou email).
+     */
+    public static boolean isValid(String value) {
+        String normalized = normalize(value);
+        return normalized != null
+                && !normalized.isBlank()
+                && EMAIL_PATTERN.matcher(normalized).matches();
+    }
+
     private void validate(String value) {
         if (value == null || value.isBlank()) {
             throw new DomainException(DEFAULT_ERROR_EMAIL);
@@ -39,7 +50,10 @@ public final class Email {
         }
     }
 
-    private String normalize(String value) {
+    /**
+     * Normaliza o email para a forma persistida (lowercase, sem espaços nas bordas).
+     */
+    public static String normalize(String value) {
         if (value == null) {
             return null;
         }
@@ -0,0 +1,28 @@
+package com.mssousa.auth.domain.model.user;
+
+import java.time.Instant;
+
+/**
+ * Registro das tentativas de login malsucedidas de um usuário.
+ * <p>
+ * Mantido em memória durante a operação e persistido periodicamente em lote.
+ * Enquanto {@code lockedUntil} estiver no futuro, o login do usuário é recusado
+ * sem verificação de senha.
+ * </p>
+ *
+ * @param userId        usuário
+ * @param failedCount   tentativas malsucedidas consideradas (com decaimento no tempo)
+ * @param lastFailureAt última tentativa malsucedida, ou null
+ * @param lockedUntil   fim do bloqueio temporário, ou null
+ */
+public record LoginAttempt(
+    UserId userId,
+    int failedCount,
+    Instant lastFailureAt,
+    Instant lockedUntil
+) {
+
+    public boolean isLockedAt(Instant instant) {
+        return lockedUntil != null && lockedUntil.isAfter(instant);
+    }
+}
@@ -0,0 +1,58 @@
+package com.mssousa.auth.domain.model.user;
+
+import com.mssousa.auth.domain.service.PasswordHasher;
+
+/**
+ * Modelo de leitura com os dados necessários para autenticar um usuário.
+ * <p>
+ * Diferente de {@link User}, não é um agregado: não reconstrói os Value Objects
+ * (Username, Email) nem participa de regras de alteração. Carregado diretamente
+ * por projeção, apenas para o fluxo de login.
+ * </p>
+ */
+public record LoginCredentials(
+    UserId userId,
+    String username,
+    String email,
+    String name,
+    String passwordHash,
+    boolean master,
+    UserStatus status
+) {
+
+    /**
+     * Verifica se a senha em texto plano corresponde ao hash armazenado.
+     *
+     * @param plainPassword senha em texto plano
+     * @param hasher        estratégia de hash
+     * @return true se a senha corresponder
+     */
+    public boolean verifyPassword(String plainPassword, PasswordHasher hasher) {
+        return Password.fromHash(passwordHash).matches(plainPassword, hasher);
+    }
+
+    /**
+     * Indica se o hash armazenado foi gerado com algoritmo ou custo desatualizado.
+     */
+    public boolean needsRehash(PasswordHasher hasher) {
+        return Password.fromHash(passwordHash).needsRehash(hasher);
+    }
+
+    /**
+     * Gera o hash da senha já verificada segundo a política atual.
+     *
+     * @param plainPassword senha em texto plano já verificada
+     * @param hasher        estratégia de hash com a política atual
+     * @return novo hash, para persistência
+     */
+    public String rehash(String plainPassword, PasswordHasher hasher) {
+        return Password.fromHash(passwordHash).rehash(plainPassword, hasher).hashedValue();
+    }
+
+    /**
+     * Verifica se o usuário está ativo (único status que permite login).
+     */
+    public boolean isActive() {
+        return status == UserStatus.ACTIVE;
+    }
+}
@@ -1,13 +1,17 @@
 package com.mssousa.auth.domain.model.user;
 
 import com.mssousa.auth.domain.exception.DomainException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import com.mssousa.auth.domain.service.PasswordHasher;
 
 import java.util.Objects;
 
 /**
- * Value Object representando uma senha com hash BCrypt.
+ * Value Object representando uma senha com hash.
  * Garante que senhas sejam armazenadas de forma segura.
+ * <p>
+ * O algoritmo é definido pelo {@link PasswordHasher} recebido em cada operação,
+ * fornecido por quem usa a senha (serviços de aplicação, via injeção).
+ * </p>
  */
 public final class Password {
 
@@ -15,7 +19,6 @@ public final class Password {
     public static final String DEFAULT_ERROR_PASSWORD_MIN_LENGTH = "Senha deve ter pelo menos 8 caracteres";
 
     private static final int MIN_LENGTH = 8;
-    private static final BCryptPasswordEncoder ENCODER = new BCryptPasswordEncoder(12);
 
     private final String hashedValue;
 
@@ -25,15 +28,16 @@ public final class Password {
 
     /**
      * Cria um Password a partir de uma senha em texto plano.
-     * A senha será validada e convertida em hash BCrypt.
+     * A senha será validada e convertida em hash segundo a política atual.
      *
      * @param plainPassword senha em texto plano
+     * @param hasher        estratégia de hash
      * @return Password com hash da senha
      * @throws DomainException se a senha for inválida
      */
-    public static Password fromPlainText(String plainPassword) {
+    public static Password fromPlainText(String plainPassword, PasswordHasher hasher) {
         validatePlainPassword(plainPassword);
-        String hash = ENCODER.encode(plainPassword);
+        String hash = hasher.hash(plainPassword);
         return new Password(hash);
     }
 
@@ -41,7 +45,7 @@ public final class Password {
      * Reconstrói um Password a partir de um hash existente.
      * Usado para carregar senhas já armazenadas no banco de dados.
      *
-     * @param hashedPassword hash BCrypt da senha
+     * @param hashedPassword hash da senha
      * @return Password com o hash fornecido
      * @throws DomainException se o hash for inválido
      */
@@ -66,20 +70,43 @@ public final class Password {
      * Verifica se a senha em texto plano corresponde ao hash armazenado.
      *
      * @param plainPassword senha em texto plano para verificar
+     * @param hasher        estratégia de hash
      * @return true se a senha corresponder, false caso contrário
      */
-    public boolean matches(String plainPassword) {
+    public boolean matches(String plainPassword, PasswordHasher hasher) {
         if (plainPassword == null) {
             return false;
         }
-        return ENCODER.matches(plainPassword, hashedValue);
+        return hasher.matches(plainPassword, hashedValue);
     }
 
     /**
-     * Retorna o hash BCrypt da senha.
+     * Indica se o hash foi gerado com algoritmo ou custo desatualizado.
+     *
+     * @param hasher estratégia de hash com a política atual
+     * @return true se a senha deve ser refeita com a política atual
+     */
+    public boolean needsRehash(PasswordHasher hasher) {
+        return hasher.needsRehash(hashedValue);
+    }
+
+    /**
+     * Gera um novo hash da mesma senha segundo a política atual.
+     * Deve ser chamado apenas após {@link #matches(String, PasswordHasher)} confirmar a senha.
+     *
+     * @param plainPassword senha em texto plano já verificada
+     * @param hasher        estratégia de hash com a política atual
+     * @return Password com o hash atualizado
+     */
+    public Password rehash(String plainPassword, PasswordHasher hasher) {
+        return new Password(hasher.hash(plainPassword));
+    }
+
+    /**
+     * Retorna o hash da senha.
      * Deve ser usado apenas para persistência.
      *
-     * @return hash BCrypt da senha
+     * @return hash da senha
      */
     public String hashedValue() {
         return hashedValue;
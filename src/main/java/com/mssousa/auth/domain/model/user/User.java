@@ -1,6 +1,7 @@
 package com.mssousa.auth.domain.model.user;
 
 import com.mssousa.auth.domain.exception.DomainException;
+import com.mssousa.auth.domain.service.PasswordHasher;
 
 /**
  * Entidade de domínio representando um Usuário no sistema de autenticação.
@@ -164,12 +165,24 @@ public class User {
 
     /**
      * Verifica se a senha em texto plano corresponde à senha armazenada.
+     * <p>
+     * Se a senha corresponder e o hash estiver desatualizado (algoritmo ou custo
+     * diferente da política atual), o hash é refeito em memória e será persistido
+     * no próximo save do usuário.
+     * </p>
      *
      * @param plainPassword senha em texto plano para verificar
+     * @param hasher        estratégia de hash com a política atual
      * @return true se a senha corresponder
      */
-    public boolean verifyPassword(String plainPassword) {
-        return this.password.matches(plainPassword);
+    public boolean verifyPassword(String plainPassword, PasswordHasher hasher) {
+        if (!this.password.matches(plainPassword, hasher)) {
+            return false;
+        }
+        if (this.password.needsRehash(hasher)) {
+            this.password = this.password.rehash(plainPassword, hasher);
+        }
+        return true;
     }
 
     // ==================== Gerenciamento de Perfil Master ====================
@@ -31,6 +31,17 @@ public final class Username {
         return new Username(value);
     }
 
+    /**
+     * Verifica se o valor é um username válido, sem lançar exceção.
+     * Usado para classificar entradas ambíguas (ex: login por username ou email).
+     */
+    public static boolean isValid(String value) {
+        return value != null
+                && value.length() >= MIN_LENGTH
+                && value.length() <= MAX_LENGTH
+                && VALID_PATTERN.matcher(value).matches();
+    }
+
     private void validate(String value) {
         if (value == null || value.isBlank()) {
             throw new DomainException(DEFAULT_ERROR_USERNAME);
@@ -0,0 +1,25 @@
+package com.mssousa.auth.domain.repository;
+
+import java.util.Optional;
+
+import com.mssousa.auth.domain.model.system.SystemId;
+
+/**
+ * Expressões das políticas de acesso dos sistemas.
+ */
+public interface AccessPolicyRepository {
+
+    Optional<String> findExpression(SystemId systemId);
+
+    /**
+     * Inclui ou substitui a expressão da política do sistema.
+     */
+    void save(SystemId systemId, String expression);
+
+    /**
+     * Remove a política do sistema.
+     *
+     * @return true se havia política cadastrada
+     */
+    boolean deleteBySystemId(SystemId systemId);
+}
@@ -0,0 +1,45 @@
+package com.mssousa.auth.domain.repository;
+
+import java.time.Duration;
+import java.util.List;
+
+import com.mssousa.auth.domain.model.authorization.AuthorizationChange;
+import com.mssousa.auth.domain.model.system.SystemId;
+import com.mssousa.auth.domain.model.user.UserId;
+
+/**
+ * Registro versionado das alterações de autorização de cada sistema.
+ * <p>
+ * As versões de um sistema começam em 1 e crescem de um em um, sem lacunas: a
+ * gravação bloqueia o contador do sistema até o fim da transação, de modo que uma
+ * versão só fica visível depois de todas as anteriores.
+ * </p>
+ */
+public interface AuthorizationChangeLogRepository {
+
+    /**
+     * Registra a alteração na transação corrente.
+     *
+     * @param userId usuário afetado, ou null quando a alteração afeta todo o sistema
+     * @return versão atribuída à alteração
+     */
+    long append(SystemId systemId, UserId userId);
+
+    /**
+     * Versão corrente do sistema, ou 0 se nenhuma alteração foi registrada.
+     */
+    long currentVersion(SystemId systemId);
+
+    /**
+     * Alterações com versão maior que {@code version}, em ordem de versão.
+     */
+    List<AuthorizationChange> findSince(SystemId systemId, long version, int limit);
+
+    /**
+     * Remove as entradas mais antigas que a retenção. A versão corrente dos sistemas
+     * é preservada.
+     *
+     * @return quantidade de entradas removidas
+     */
+    int deleteOlderThan(Duration retention);
+}
@@ -0,0 +1,20 @@
+package com.mssousa.auth.domain.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import com.mssousa.auth.domain.model.user.LoginAttempt;
+
+public interface LoginAttemptRepository {
+
+    /**
+     * Insere ou atualiza, em lote, o registro de tentativas de cada usuário.
+     */
+    void saveAll(Collection<LoginAttempt> attempts);
+
+    /**
+     * Registros com bloqueio ainda vigente no instante informado.
+     */
+    List<LoginAttempt> findLockedAfter(Instant instant);
+}
@@ -0,0 +1,45 @@
+package com.mssousa.auth.domain.repository;
+
+import com.mssousa.auth.domain.model.role.SystemRoleId;
+import com.mssousa.auth.domain.model.system.SystemId;
+import java.util.Set;
+
+/**
+ * Hierarquia de perfis de um sistema (perfil pai implica perfil filho) e seu fecho
+ * transitivo pré-calculado.
+ */
+public interface RoleHierarchyRepository {
+
+    /**
+     * Serializa as alterações de hierarquia do sistema até o fim da transação,
+     * impedindo que inclusões concorrentes formem um ciclo.
+     */
+    void lock(SystemId systemId);
+
+    boolean existsParent(SystemRoleId roleId, SystemRoleId parentId);
+
+    /**
+     * Inclui a aresta e atualiza o fecho transitivo. Não valida ciclos.
+     */
+    void addParent(SystemRoleId roleId, SystemRoleId parentId);
+
+    /**
+     * Remove a aresta e atualiza o fecho transitivo.
+     */
+    void removeParent(SystemRoleId roleId, SystemRoleId parentId);
+
+    /**
+     * Remove todas as arestas em que o perfil participa, atualizando o fecho.
+     */
+    void detach(SystemRoleId roleId);
+
+    /**
+     * Indica se {@code ancestorId} implica {@code descendantId}, direta ou indiretamente.
+     */
+    boolean implies(SystemRoleId ancestorId, SystemRoleId descendantId);
+
+    /**
+     * Perfis implicados pelo perfil (descendentes), sem incluí-lo.
+     */
+    Set<SystemRoleId> findImpliedRoles(SystemRoleId roleId);
+}
@@ -0,0 +1,56 @@
+package com.mssousa.auth.domain.repository;
+
+import com.mssousa.auth.domain.model.binding.userSystem.UserSystemId;
+import com.mssousa.auth.domain.model.group.UserGroup;
+import com.mssousa.auth.domain.model.group.UserGroupId;
+import com.mssousa.auth.domain.model.role.SystemRoleId;
+import com.mssousa.auth.domain.model.system.SystemId;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Grupos de usuários, seus membros e perfis.
+ * <p>
+ * Toda alteração mantém a expansão materializada (perfis recebidos por cada vínculo
+ * usuário-sistema através de grupos ativos) na mesma transação.
+ * </p>
+ */
+public interface UserGroupRepository {
+
+    /**
+     * Inclui ou atualiza o grupo. A mudança de status concede ou retira os perfis
+     * do grupo de todos os membros.
+     */
+    UserGroup save(UserGroup group);
+
+    Optional<UserGroup> findById(UserGroupId id);
+
+    List<UserGroup> findBySystemId(SystemId systemId);
+
+    boolean existsBySystemIdAndCode(SystemId systemId, String code);
+
+    /**
+     * Remove o grupo, retirando seus perfis dos membros.
+     */
+    void deleteById(UserGroupId id);
+
+    /**
+     * @return false quando o vínculo já era membro do grupo
+     */
+    boolean addMember(UserGroupId groupId, UserSystemId userSystemId);
+
+    /**
+     * @return false quando o vínculo não era membro do grupo
+     */
+    boolean removeMember(UserGroupId groupId, UserSystemId userSystemId);
+
+    /**
+     * @return false quando o perfil já estava vinculado ao grupo
+     */
+    boolean addRole(UserGroupId groupId, SystemRoleId systemRoleId);
+
+    /**
+     * @return false quando o perfil não estava vinculado ao grupo
+     */
+    boolean removeRole(UserGroupId groupId, SystemRoleId systemRoleId);
+}
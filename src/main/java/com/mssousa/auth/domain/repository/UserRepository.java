@@ -6,6 +6,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import com.mssousa.auth.domain.model.user.Email;
+import com.mssousa.auth.domain.model.user.LoginCredentials;
 import com.mssousa.auth.domain.model.user.User;
 import com.mssousa.auth.domain.model.user.UserId;
 import com.mssousa.auth.domain.model.user.Username;
@@ -19,4 +20,18 @@ public interface UserRepository {
     boolean existsByEmail(Email email);
     void deleteById(UserId id);
     Page<User> findAll(Pageable pageable);
+
+    /**
+     * Busca apenas os dados de autenticação do usuário cujo username ou email
+     * corresponda ao login, sem carregar o agregado completo.
+     */
+    Optional<LoginCredentials> findLoginCredentials(String login);
+
+    /**
+     * Substitui o hash da senha apenas se o hash atual ainda for o esperado.
+     * Evita sobrescrever uma troca de senha concorrente.
+     *
+     * @return true se o hash foi atualizado
+     */
+    boolean updatePasswordHash(UserId id, String expectedHash, String newHash);
 }
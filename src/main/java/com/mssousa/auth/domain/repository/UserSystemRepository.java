@@ -12,5 +12,10 @@ public interface UserSystemRepository {
     Optional<UserSystem> findById(UserSystemId id);
     Optional<UserSystem> findByUserIdAndSystemId(UserId userId, SystemId systemId);
     List<UserSystem> findByUserId(UserId userId);
+
+    /**
+     * Usuários vinculados ao sistema com id maior que {@code afterUserId}, em ordem de id.
+     */
+    List<UserId> findUserIdsBySystemId(SystemId systemId, long afterUserId, int limit);
     void deleteById(UserSystemId id);
 }
@@ -3,8 +3,13 @@ package com.mssousa.auth.domain.repository;
 import com.mssousa.auth.domain.model.binding.userSystem.UserSystemId;
 import com.mssousa.auth.domain.model.binding.userSystemRole.UserSystemRole;
 import com.mssousa.auth.domain.model.binding.userSystemRole.UserSystemRoleId;
+import com.mssousa.auth.domain.model.role.EffectiveRoles;
 import com.mssousa.auth.domain.model.role.SystemRoleId;
+import com.mssousa.auth.domain.model.system.SystemId;
+import com.mssousa.auth.domain.model.user.UserId;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface UserSystemRoleRepository {
@@ -13,4 +18,17 @@ public interface UserSystemRoleRepository {
     List<UserSystemRole> findByUserSystemId(UserSystemId userSystemId);
     Optional<UserSystemRole> findByUserSystemIdAndSystemRoleId(UserSystemId userSystemId, SystemRoleId systemRoleId);
     void deleteById(UserSystemRoleId id);
+
+    /**
+     * Resolve, em uma única consulta, os códigos dos perfis ativos vinculados ao
+     * usuário por vínculos ativos no sistema, ou o motivo da ausência de perfis.
+     */
+    EffectiveRoles findEffectiveRoles(UserId userId, SystemId systemId);
+
+    /**
+     * Resolve, em uma única consulta, os perfis efetivos de vários usuários no sistema,
+     * com as mesmas regras de {@link #findEffectiveRoles(UserId, SystemId)}.
+     * Todo usuário informado está presente no resultado (NO_BINDING quando sem vínculo).
+     */
+    Map<UserId, EffectiveRoles> findEffectiveRoles(Collection<UserId> userIds, SystemId systemId);
 }
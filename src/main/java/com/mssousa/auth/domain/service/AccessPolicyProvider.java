@@ -0,0 +1,13 @@
+package com.mssousa.auth.domain.service;
+
+import com.mssousa.auth.domain.model.policy.AccessPolicy;
+import com.mssousa.auth.domain.model.system.SystemId;
+
+/**
+ * Fornece a política de acesso compilada de cada sistema.
+ * Sistemas sem política cadastrada recebem {@link AccessPolicy#ALLOW_ALL}.
+ */
+public interface AccessPolicyProvider {
+
+    AccessPolicy forSystem(SystemId systemId);
+}
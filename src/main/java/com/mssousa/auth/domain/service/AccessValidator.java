@@ -1,9 +1,12 @@
 package com.mssousa.auth.domain.service;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import com.mssousa.auth.domain.exception.DomainException;
 import com.mssousa.auth.domain.model.binding.userSystem.UserSystem;
+import com.mssousa.auth.domain.model.policy.AccessContext;
+import com.mssousa.auth.domain.model.policy.AccessPolicy;
 import com.mssousa.auth.domain.model.system.ClientSystem;
 import com.mssousa.auth.domain.model.user.User;
 
@@ -11,10 +14,27 @@ import com.mssousa.auth.domain.model.user.User;
  * Domain Service responsável por validar se um usuário possui acesso a um sistema.
  * 
  * Encapsula as regras de negócio de autorização que não pertencem a uma única entidade.
+ * Além das regras fixas, aplica a política de acesso compilada de cada sistema
+ * (janelas de horário, faixas de IP, atributos do usuário) quando o contexto do
+ * acesso é informado.
  */
 @Service
 public class AccessValidator {
 
+    private final AccessPolicyProvider accessPolicyProvider;
+
+    /**
+     * Validador sem políticas por sistema: apenas as regras fixas são aplicadas.
+     */
+    public AccessValidator() {
+        this(systemId -> AccessPolicy.ALLOW_ALL);
+    }
+
+    @Autowired
+    public AccessValidator(AccessPolicyProvider accessPolicyProvider) {
+        this.accessPolicyProvider = accessPolicyProvider;
+    }
+
     /**
      * Valida se um usuário pode acessar um sistema específico.
      * 
@@ -54,6 +74,23 @@ public class AccessValidator {
         validateBindingStatus(userSystem, user, system);
     }
 
+    /**
+     * Valida as regras fixas e, em seguida, a política de acesso do sistema.
+     * 
+     * A política se aplica também a usuários MASTER; uma exceção para eles deve ser
+     * expressa na própria política (ex: "user.master or ip in (...)").
+     * 
+     * @param user Usuário que está tentando acessar
+     * @param system Sistema que está sendo acessado
+     * @param userSystem Vínculo entre usuário e sistema (pode ser null se não existir)
+     * @param context Atributos do acesso (instante, endereço de origem, atributos do usuário)
+     * @throws DomainException se o acesso for negado
+     */
+    public void validateAccess(User user, ClientSystem system, UserSystem userSystem, AccessContext context) {
+        validateAccess(user, system, userSystem);
+        validatePolicy(user, system, context);
+    }
+
     /**
      * Valida se o usuário está em status válido para acesso.
      */
@@ -90,6 +127,20 @@ public class AccessValidator {
         }
     }
 
+    /**
+     * Valida se a política de acesso do sistema permite o acesso descrito pelo contexto.
+     */
+    private void validatePolicy(User user, ClientSystem system, AccessContext context) {
+        AccessPolicy policy = accessPolicyProvider.forSystem(system.getId());
+        if (!policy.allows(context)) {
+            throw new DomainException(
+                String.format("Acesso do usuário '%s' ao sistema '%s' negado pela política de acesso",
+                    user.getUsername().value(),
+                    system.getName())
+            );
+        }
+    }
+
     /**
      * Verifica se um usuário pode acessar um sistema (retorna boolean).
      * Não lança exceção, apenas retorna true/false.
@@ -107,4 +158,23 @@ public class AccessValidator {
             return false;
         }
     }
+
+    /**
+     * Verifica se um usuário pode acessar um sistema, considerando a política de acesso
+     * do sistema (retorna boolean).
+     * 
+     * @param user Usuário
+     * @param system Sistema
+     * @param userSystem Vínculo (pode ser null)
+     * @param context Atributos do acesso
+     * @return true se pode acessar, false caso contrário
+     */
+    public boolean canAccess(User user, ClientSystem system, UserSystem userSystem, AccessContext context) {
+        try {
+            validateAccess(user, system, userSystem, context);
+            return true;
+        } catch (DomainException e) {
+            return false;
+        }
+    }
 }
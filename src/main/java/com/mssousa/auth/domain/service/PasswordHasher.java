@@ -0,0 +1,26 @@
+package com.mssousa.auth.domain.service;
+
+/**
+ * Estratégia de hash de senhas usada pelo Value Object Password.
+ *
+ * Hashes gerados por uma implementação podem carregar um prefixo de algoritmo
+ * (ex: {bcrypt}, {argon2id}, {pbkdf2}), permitindo trocar o algoritmo ou o custo
+ * sem invalidar as senhas já armazenadas.
+ */
+public interface PasswordHasher {
+
+    /**
+     * Gera o hash da senha segundo a política atual.
+     */
+    String hash(String plainPassword);
+
+    /**
+     * Verifica a senha contra um hash de qualquer algoritmo suportado.
+     */
+    boolean matches(String plainPassword, String hashedPassword);
+
+    /**
+     * Indica se o hash foi gerado com algoritmo ou custo diferente da política atual.
+     */
+    boolean needsRehash(String hashedPassword);
+}
@@ -0,0 +1,193 @@
+package com.mssousa.auth.infrastructure.concurrent;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Agrupa cargas concorrentes da mesma chave em uma única execução.
+ *
+ * Funcionamento:
+ * - A primeira thread a pedir uma chave executa a carga; as que chegam enquanto ela
+ *   está em andamento aguardam o mesmo CompletableFuture e recebem o mesmo resultado
+ *   (ou a mesma exceção)
+ * - Nada é guardado após a conclusão: a próxima chamada executa uma nova carga
+ * - Cada carga guarda a geração informada por quem a iniciou; quem chega com outra
+ *   geração (ex: após uma invalidação do cache) não aguarda a carga em andamento, que
+ *   pode ter lido dados anteriores à invalidação, e inicia uma nova
+ * - As cargas em andamento ficam em stripes, cada uma com seu próprio lock, que é
+ *   mantido apenas para registrar ou remover a carga, nunca durante a execução
+ *
+ * Restrições:
+ * - A carga deve ser somente leitura: quem aguarda recebe um valor lido na transação
+ *   de outra thread
+ * - A carga não pode pedir a mesma chave ao mesmo SingleFlight (a thread aguardaria
+ *   a si mesma)
+ *
+ * Métricas (prefixo auth.single-flight, tag name):
+ * - loads: cargas executadas
+ * - coalesced: chamadas atendidas por uma carga já em andamento
+ * - superseded: cargas em andamento substituídas por uma de geração diferente
+ */
+public class SingleFlight<K, V> {
+
+    private static final String METRIC_PREFIX = "auth.single-flight";
+    private static final int DEFAULT_STRIPES = 64;
+
+    private final Stripe<K, V>[] stripes;
+    private final int mask;
+    private final Counter loadCounter;
+    private final Counter coalescedCounter;
+    private final Counter supersededCounter;
+
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        this(name, DEFAULT_STRIPES, meterRegistry);
+    }
+
+    /**
+     * @param name        nome usado na tag das métricas
+     * @param stripeCount quantidade de stripes (arredondada para potência de 2)
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public SingleFlight(String name, int stripeCount, MeterRegistry meterRegistry) {
+
+        if (stripeCount <= 0) {
+            throw new IllegalArgumentException("Stripe count must be positive");
+        }
+
+        int size = 1;
+        while (size < stripeCount) {
+            size <<= 1;
+        }
+
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new Stripe<>();
+        }
+        this.mask = size - 1;
+        this.loadCounter = Counter.builder(METRIC_PREFIX + ".loads")
+                .description("Loads executed by a single-flight group")
+                .tag("name", name)
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder(METRIC_PREFIX + ".coalesced")
+                .description("Calls served by a load already in flight")
+                .tag("name", name)
+                .register(meterRegistry);
+        this.supersededCounter = Counter.builder(METRIC_PREFIX + ".superseded")
+                .description("Loads in flight replaced by a load of another generation")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Retorna o resultado da carga da chave, executando-a apenas se não houver outra
+     * carga da mesma chave em andamento.
+     */
+    public V load(K key, Function<? super K, ? extends V> loader) {
+        return load(key, 0L, loader);
+    }
+
+    /**
+     * Retorna o resultado da carga da chave, aguardando a carga em andamento apenas se
+     * ela tiver sido iniciada na mesma geração; caso contrário, executa uma nova carga,
+     * que passa a ser a aguardada pelas chamadas seguintes.
+     *
+     * @param generation geração lida por quem chama antes de consultar o cache
+     */
+    public V load(K key, long generation, Function<? super K, ? extends V> loader) {
+
+        Stripe<K, V> stripe = stripes[spread(key.hashCode()) & mask];
+        Flight<V> flight;
+        boolean leader = false;
+
+        stripe.lock.lock();
+        try {
+            flight = stripe.inFlight.get(key);
+            if (flight == null || flight.generation() != generation) {
+                if (flight != null) {
+                    supersededCounter.increment();
+                }
+                flight = new Flight<>(new CompletableFuture<>(), generation);
+                stripe.inFlight.put(key, flight);
+                leader = true;
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+
+        if (!leader) {
+            coalescedCounter.increment();
+            return await(flight.future());
+        }
+
+        loadCounter.increment();
+        try {
+            V value = loader.apply(key);
+            flight.future().complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.future().completeExceptionally(e);
+            throw e;
+        } finally {
+            stripe.lock.lock();
+            try {
+                stripe.inFlight.remove(key, flight);
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Quantidade de cargas em andamento.
+     */
+    public int inFlight() {
+        int total = 0;
+        for (Stripe<K, V> stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                total += stripe.inFlight.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return total;
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * @param future     resultado aguardado pelas chamadas agrupadas
+     * @param generation geração informada por quem iniciou a carga
+     */
+    private record Flight<V>(CompletableFuture<V> future, long generation) {
+    }
+
+    private static final class Stripe<K, V> {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<K, Flight<V>> inFlight = new HashMap<>();
+    }
+}
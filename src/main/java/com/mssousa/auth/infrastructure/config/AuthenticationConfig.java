@@ -0,0 +1,26 @@
+package com.mssousa.auth.infrastructure.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authentication.AuthenticationProvider;
+
+import com.mssousa.auth.application.service.authentication.AuthenticationService;
+import com.mssousa.auth.infrastructure.security.oauth2.CustomAuthenticationProvider;
+import com.mssousa.auth.infrastructure.security.ratelimit.LoginRateLimiter;
+
+/**
+ * Configuração da autenticação de usuários.
+ * Registra o CustomAuthenticationProvider como bean: sendo o único AuthenticationProvider,
+ * o Spring Security o instala no AuthenticationManager global, usado pelo login por
+ * formulário da cadeia padrão. Todo login passa, assim, pelo rate limit e pelo
+ * AuthenticationService.
+ */
+@Configuration
+public class AuthenticationConfig {
+
+    @Bean
+    public AuthenticationProvider customAuthenticationProvider(AuthenticationService authenticationService,
+            LoginRateLimiter loginRateLimiter) {
+        return new CustomAuthenticationProvider(authenticationService, loginRateLimiter);
+    }
+}
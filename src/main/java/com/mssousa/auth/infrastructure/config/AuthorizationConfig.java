@@ -0,0 +1,56 @@
+package com.mssousa.auth.infrastructure.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.mssousa.auth.application.service.authorization.PermissionDictionaryProvider;
+import com.mssousa.auth.application.service.authorization.UserAuthorizationService;
+import com.mssousa.auth.application.service.authorization.UserAuthorizationServiceImpl;
+import com.mssousa.auth.domain.repository.AccessPolicyRepository;
+import com.mssousa.auth.domain.repository.SystemRoleRepository;
+import com.mssousa.auth.domain.repository.UserSystemRoleRepository;
+import com.mssousa.auth.domain.service.AccessPolicyProvider;
+import com.mssousa.auth.infrastructure.security.authorization.AccessPolicyProperties;
+import com.mssousa.auth.infrastructure.security.authorization.AccessPolicyRegistry;
+import com.mssousa.auth.infrastructure.security.authorization.AuthorizationCacheProperties;
+import com.mssousa.auth.infrastructure.security.authorization.AuthorizationChangeFeedProperties;
+import com.mssousa.auth.infrastructure.security.authorization.CachingUserAuthorizationService;
+import com.mssousa.auth.infrastructure.security.authorization.PermissionDictionaryCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Configuração da autorização de usuários.
+ * Registra o UserAuthorizationService, envolvido pelo cache quando habilitado,
+ * o provedor dos dicionários de permissões e o das políticas de acesso compiladas.
+ */
+@Configuration
+@EnableConfigurationProperties({ AuthorizationCacheProperties.class, AuthorizationChangeFeedProperties.class,
+        AccessPolicyProperties.class })
+public class AuthorizationConfig {
+
+    @Bean
+    public UserAuthorizationService userAuthorizationService(UserSystemRoleRepository userSystemRoleRepository,
+            AuthorizationCacheProperties properties, MeterRegistry meterRegistry) {
+
+        UserAuthorizationService delegate = new UserAuthorizationServiceImpl(userSystemRoleRepository);
+
+        if (!properties.isEnabled()) {
+            return delegate;
+        }
+        return new CachingUserAuthorizationService(delegate, properties, meterRegistry);
+    }
+
+    @Bean
+    public PermissionDictionaryProvider permissionDictionaryProvider(SystemRoleRepository systemRoleRepository,
+            AuthorizationCacheProperties properties, MeterRegistry meterRegistry) {
+        return new PermissionDictionaryCache(systemRoleRepository, properties, meterRegistry);
+    }
+
+    @Bean
+    public AccessPolicyProvider accessPolicyProvider(AccessPolicyRepository accessPolicyRepository,
+            AccessPolicyProperties properties, MeterRegistry meterRegistry) {
+        return new AccessPolicyRegistry(accessPolicyRepository, properties, meterRegistry);
+    }
+}
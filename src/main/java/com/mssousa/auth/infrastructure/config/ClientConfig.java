@@ -0,0 +1,68 @@
+package com.mssousa.auth.infrastructure.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClientRepository;
+
+import com.mssousa.auth.application.service.client.ClientRegistry;
+import com.mssousa.auth.application.service.client.ClientSecretVerifier;
+import com.mssousa.auth.application.service.client.ClientValidationService;
+import com.mssousa.auth.application.service.client.ClientValidationServiceImpl;
+import com.mssousa.auth.domain.repository.ClientSystemRepository;
+import com.mssousa.auth.domain.service.PasswordHasher;
+import com.mssousa.auth.infrastructure.security.client.CachingClientRegistry;
+import com.mssousa.auth.infrastructure.security.client.ClientRegistryProperties;
+import com.mssousa.auth.infrastructure.security.client.ClientSecretCacheProperties;
+import com.mssousa.auth.infrastructure.security.client.ClientSecretPasswordEncoder;
+import com.mssousa.auth.infrastructure.security.client.ClientSystemRegisteredClientRepository;
+import com.mssousa.auth.infrastructure.security.client.MemoizingClientSecretVerifier;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Configuração da validação de clients.
+ * Registra o ClientRegistry, servido da memória quando habilitado, e os dois
+ * consumidores que o consultam: o RegisteredClientRepository do Authorization Server
+ * e o ClientValidationService usado na emissão do token.
+ * Registra também a verificação dos client secrets (hash com memória das
+ * verificações recentes), usada pelo Authorization Server via PasswordEncoder.
+ */
+@Configuration
+@EnableConfigurationProperties({ClientRegistryProperties.class, ClientSecretCacheProperties.class})
+public class ClientConfig {
+
+    @Bean
+    public ClientRegistry clientRegistry(ClientSystemRepository clientSystemRepository,
+            ClientRegistryProperties properties, MeterRegistry meterRegistry) {
+
+        if (!properties.isEnabled()) {
+            return clientSystemRepository::findByClientId;
+        }
+        return new CachingClientRegistry(clientSystemRepository, properties, meterRegistry);
+    }
+
+    @Bean
+    public ClientValidationService clientValidationService(ClientRegistry clientRegistry) {
+        return new ClientValidationServiceImpl(clientRegistry);
+    }
+
+    @Bean
+    public RegisteredClientRepository registeredClientRepository(ClientRegistry clientRegistry,
+            ClientSystemRepository clientSystemRepository) {
+        return new ClientSystemRegisteredClientRepository(clientRegistry, clientSystemRepository);
+    }
+
+    @Bean
+    public ClientSecretVerifier clientSecretVerifier(PasswordHasher passwordHasher,
+            ClientSecretCacheProperties properties, MeterRegistry meterRegistry) {
+        return new MemoizingClientSecretVerifier(passwordHasher, properties, meterRegistry);
+    }
+
+    @Bean
+    public PasswordEncoder clientSecretPasswordEncoder(ClientSecretVerifier clientSecretVerifier,
+            PasswordHasher passwordHasher) {
+        return new ClientSecretPasswordEncoder(clientSecretVerifier, passwordHasher);
+    }
+}
@@ -1,17 +1,71 @@
 package com.mssousa.auth.infrastructure.config;
 
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.core.OAuth2Token;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.security.oauth2.server.authorization.token.DelegatingOAuth2TokenGenerator;
+import org.springframework.security.oauth2.server.authorization.token.JwtEncodingContext;
+import org.springframework.security.oauth2.server.authorization.token.JwtGenerator;
+import org.springframework.security.oauth2.server.authorization.token.OAuth2AccessTokenGenerator;
+import org.springframework.security.oauth2.server.authorization.token.OAuth2RefreshTokenGenerator;
+import org.springframework.security.oauth2.server.authorization.token.OAuth2TokenCustomizer;
+import org.springframework.security.oauth2.server.authorization.token.OAuth2TokenGenerator;
 
+import com.mssousa.auth.application.service.authorization.PermissionDictionaryProvider;
+import com.mssousa.auth.application.service.authorization.UserAuthorizationService;
+import com.mssousa.auth.application.service.client.ClientValidationService;
+import com.mssousa.auth.infrastructure.security.jwt.ClientCredentialsTokenCache;
+import com.mssousa.auth.infrastructure.security.jwt.ClientTokenCacheProperties;
 import com.mssousa.auth.infrastructure.security.jwt.JwtProperties;
+import com.mssousa.auth.infrastructure.security.jwt.JwtTokenCustomizer;
+
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 /**
  * Configuração de segurança para JWT.
- * Habilita as propriedades de configuração JWT.
+ * Habilita as propriedades de configuração JWT, registra o customizador dos access
+ * tokens (claims de autorização conforme auth.jwt.permission-claims) e o gerador de
+ * tokens do Authorization Server (JWT, opaco e refresh token), com a reutilização de
+ * access tokens client_credentials.
  */
 @Configuration
-@EnableConfigurationProperties(JwtProperties.class)
+@EnableConfigurationProperties({JwtProperties.class, ClientTokenCacheProperties.class})
 public class JwtConfig {
-    // Esta classe habilita o carregamento das JwtProperties
-    // Configurações adicionais de segurança podem ser adicionadas aqui no futuro
+
+    @Bean
+    public OAuth2TokenCustomizer<JwtEncodingContext> jwtTokenCustomizer(
+            ClientValidationService clientValidationService,
+            UserAuthorizationService userAuthorizationService,
+            PermissionDictionaryProvider permissionDictionaryProvider,
+            JwtProperties jwtProperties) {
+        return new JwtTokenCustomizer(clientValidationService, userAuthorizationService,
+                permissionDictionaryProvider, jwtProperties.getPermissionClaims());
+    }
+
+    @Bean
+    public ClientCredentialsTokenCache clientCredentialsTokenCache(ClientTokenCacheProperties properties,
+            JwtProperties jwtProperties, MeterRegistry meterRegistry) {
+        return new ClientCredentialsTokenCache(properties, jwtProperties, meterRegistry);
+    }
+
+    /**
+     * Gerador de tokens usado pelo Authorization Server em todos os grants. Os JWTs são
+     * assinados com a chave do JWKSource e recebem as claims do customizador.
+     */
+    @Bean
+    public OAuth2TokenGenerator<OAuth2Token> tokenGenerator(JWKSource<SecurityContext> jwkSource,
+            OAuth2TokenCustomizer<JwtEncodingContext> jwtTokenCustomizer,
+            ClientCredentialsTokenCache clientCredentialsTokenCache) {
+
+        JwtGenerator jwtGenerator = new JwtGenerator(new NimbusJwtEncoder(jwkSource));
+        jwtGenerator.setJwtCustomizer(jwtTokenCustomizer);
+
+        return clientCredentialsTokenCache.decorate(new DelegatingOAuth2TokenGenerator(
+                jwtGenerator, new OAuth2AccessTokenGenerator(), new OAuth2RefreshTokenGenerator()));
+    }
 }
@@ -0,0 +1,15 @@
+package com.mssousa.auth.infrastructure.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import com.mssousa.auth.infrastructure.security.lockout.LoginLockoutProperties;
+
+/**
+ * Configuração do bloqueio temporário por falhas de login.
+ * Habilita as propriedades de limite, decaimento e gravação em lote.
+ */
+@Configuration
+@EnableConfigurationProperties(LoginLockoutProperties.class)
+public class LoginLockoutConfig {
+}
@@ -0,0 +1,15 @@
+package com.mssousa.auth.infrastructure.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import com.mssousa.auth.infrastructure.security.ratelimit.LoginRateLimitProperties;
+
+/**
+ * Configuração do rate limit de login.
+ * Habilita as propriedades de limite por login e por IP.
+ */
+@Configuration
+@EnableConfigurationProperties(LoginRateLimitProperties.class)
+public class LoginRateLimitConfig {
+}
@@ -0,0 +1,30 @@
+package com.mssousa.auth.infrastructure.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.mssousa.auth.domain.service.PasswordHasher;
+import com.mssousa.auth.infrastructure.security.password.DelegatingPasswordHasher;
+import com.mssousa.auth.infrastructure.security.password.PasswordHashingCalibrator;
+import com.mssousa.auth.infrastructure.security.password.PasswordHashingPolicy;
+import com.mssousa.auth.infrastructure.security.password.PasswordHashingProperties;
+
+/**
+ * Configuração do hash de senhas.
+ * Calibra a política na inicialização e a expõe como bean, injetado nos serviços que
+ * criam ou verificam senhas e client secrets.
+ */
+@Configuration
+@EnableConfigurationProperties(PasswordHashingProperties.class)
+public class PasswordHashingConfig {
+
+    @Bean
+    public PasswordHasher passwordHasher(PasswordHashingProperties properties) {
+        PasswordHashingPolicy policy = properties.isCalibrate()
+                ? new PasswordHashingCalibrator().calibrate(properties)
+                : PasswordHashingPolicy.from(properties);
+
+        return new DelegatingPasswordHasher(policy);
+    }
+}
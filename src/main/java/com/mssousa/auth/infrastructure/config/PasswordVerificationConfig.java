@@ -0,0 +1,15 @@
+package com.mssousa.auth.infrastructure.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import com.mssousa.auth.infrastructure.security.password.PasswordVerificationProperties;
+
+/**
+ * Configuração do motor de verificação de senhas.
+ * Habilita as propriedades do pool de verificação.
+ */
+@Configuration
+@EnableConfigurationProperties(PasswordVerificationProperties.class)
+public class PasswordVerificationConfig {
+}
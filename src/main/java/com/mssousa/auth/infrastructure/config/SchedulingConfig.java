@@ -0,0 +1,12 @@
+package com.mssousa.auth.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita as tarefas agendadas da aplicação (ex: gravação em lote das tentativas de login).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,110 @@
+package com.mssousa.auth.infrastructure.config;
+
+import static org.springframework.security.config.Customizer.withDefaults;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.oauth2.server.authorization.OAuth2AuthorizationServerConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.oauth2.server.authorization.authentication.OAuth2AuthorizationCodeRequestAuthenticationContext;
+import org.springframework.security.oauth2.server.authorization.authentication.OAuth2AuthorizationCodeRequestAuthenticationProvider;
+import org.springframework.security.oauth2.server.authorization.authentication.OAuth2PushedAuthorizationRequestAuthenticationProvider;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.LoginUrlAuthenticationEntryPoint;
+import org.springframework.security.web.util.matcher.MediaTypeRequestMatcher;
+
+import com.mssousa.auth.application.service.client.ClientRegistry;
+import com.mssousa.auth.infrastructure.security.client.RegisteredRedirectUriValidator;
+import com.mssousa.auth.infrastructure.security.client.SystemClientAuthorizationManager;
+
+/**
+ * Cadeias de filtros do Spring Security.
+ *
+ * Declarar qualquer SecurityFilterChain desativa as cadeias padrão do Spring Boot;
+ * por isso a cadeia do Authorization Server e a de login por formulário são
+ * reproduzidas aqui, com a mesma configuração do auto-configure.
+ *
+ * Cadeias, na ordem de avaliação:
+ * - Authorization Server: endpoints OAuth2/OIDC; o redirect_uri das requisições de
+ *   autorização é validado pelas URIs do ClientSystem (RegisteredRedirectUriValidator)
+ * - API (/api/**): stateless, autenticada por JWT (Bearer) emitido por este servidor;
+ *   o feed de alterações de autorização só atende o próprio sistema
+ * - Padrão: demais requisições autenticadas, com login por formulário
+ */
+@Configuration
+public class SecurityConfig {
+
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public SecurityFilterChain authorizationServerSecurityFilterChain(HttpSecurity http,
+            ClientRegistry clientRegistry) throws Exception {
+
+        Consumer<OAuth2AuthorizationCodeRequestAuthenticationContext> authorizationRequestValidator =
+                new RegisteredRedirectUriValidator(clientRegistry).withDefaultScopeValidation();
+
+        OAuth2AuthorizationServerConfigurer authorizationServer = new OAuth2AuthorizationServerConfigurer();
+        http.securityMatcher(authorizationServer.getEndpointsMatcher())
+                .with(authorizationServer, withDefaults())
+                .authorizeHttpRequests(authorize -> authorize.anyRequest().authenticated());
+        http.getConfigurer(OAuth2AuthorizationServerConfigurer.class)
+                .oidc(withDefaults())
+                .authorizationEndpoint(endpoint -> endpoint.authenticationProviders(
+                        providers -> useValidator(providers, authorizationRequestValidator)))
+                .pushedAuthorizationRequestEndpoint(endpoint -> endpoint.authenticationProviders(
+                        providers -> useValidator(providers, authorizationRequestValidator)));
+        http.oauth2ResourceServer(resourceServer -> resourceServer.jwt(withDefaults()))
+                .exceptionHandling(exceptions -> exceptions.defaultAuthenticationEntryPointFor(
+                        new LoginUrlAuthenticationEntryPoint("/login"), htmlRequestMatcher()));
+        return http.build();
+    }
+
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    public SecurityFilterChain apiSecurityFilterChain(HttpSecurity http) throws Exception {
+
+        http.securityMatcher("/api/**")
+                .authorizeHttpRequests(authorize -> authorize
+                        .requestMatchers("/api/systems/{clientId}/authorization-changes/**")
+                                .access(new SystemClientAuthorizationManager())
+                        .anyRequest().authenticated())
+                .oauth2ResourceServer(resourceServer -> resourceServer.jwt(withDefaults()))
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
+        return http.build();
+    }
+
+    @Bean
+    @Order(Ordered.LOWEST_PRECEDENCE - 5)
+    public SecurityFilterChain defaultSecurityFilterChain(HttpSecurity http) throws Exception {
+
+        http.authorizeHttpRequests(authorize -> authorize.anyRequest().authenticated())
+                .formLogin(withDefaults());
+        return http.build();
+    }
+
+    private static void useValidator(List<AuthenticationProvider> providers,
+            Consumer<OAuth2AuthorizationCodeRequestAuthenticationContext> validator) {
+
+        for (AuthenticationProvider provider : providers) {
+            if (provider instanceof OAuth2AuthorizationCodeRequestAuthenticationProvider authorizationRequest) {
+                authorizationRequest.setAuthenticationValidator(validator);
+            } else if (provider instanceof OAuth2PushedAuthorizationRequestAuthenticationProvider pushedRequest) {
+                pushedRequest.setAuthenticationValidator(validator);
+            }
+        }
+    }
+
+    private static MediaTypeRequestMatcher htmlRequestMatcher() {
+        MediaTypeRequestMatcher matcher = new MediaTypeRequestMatcher(MediaType.TEXT_HTML);
+        matcher.setIgnoredMediaTypes(Set.of(MediaType.ALL));
+        return matcher;
+    }
+}
@@ -0,0 +1,15 @@
+package com.mssousa.auth.infrastructure.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import com.mssousa.auth.infrastructure.security.password.VerifiedCredentialCacheProperties;
+
+/**
+ * Configuração do cache de senhas verificadas.
+ * Habilita as propriedades de TTL e tamanho máximo.
+ */
+@Configuration
+@EnableConfigurationProperties(VerifiedCredentialCacheProperties.class)
+public class VerifiedCredentialCacheConfig {
+}
@@ -0,0 +1,54 @@
+package com.mssousa.auth.infrastructure.persistence.adapter;
+
+import java.util.Optional;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.mssousa.auth.domain.model.system.SystemId;
+import com.mssousa.auth.domain.repository.AccessPolicyRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Adapter JDBC de client_system_access_policy.
+ */
+@Component
+@RequiredArgsConstructor
+public class AccessPolicyRepositoryImpl implements AccessPolicyRepository {
+
+    private static final String SELECT_SQL = """
+            SELECT expression FROM client_system_access_policy WHERE system_id = ?
+            """;
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO client_system_access_policy (system_id, expression)
+            VALUES (?, ?)
+            ON CONFLICT (system_id) DO UPDATE SET
+                expression = EXCLUDED.expression,
+                updated_at = NOW()
+            """;
+
+    private static final String DELETE_SQL = """
+            DELETE FROM client_system_access_policy WHERE system_id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<String> findExpression(SystemId systemId) {
+        return jdbcTemplate.queryForList(SELECT_SQL, String.class, systemId.value())
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public void save(SystemId systemId, String expression) {
+        jdbcTemplate.update(UPSERT_SQL, systemId.value(), expression);
+    }
+
+    @Override
+    public boolean deleteBySystemId(SystemId systemId) {
+        return jdbcTemplate.update(DELETE_SQL, systemId.value()) > 0;
+    }
+}
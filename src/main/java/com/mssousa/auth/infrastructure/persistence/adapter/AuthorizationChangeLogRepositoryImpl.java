@@ -0,0 +1,95 @@
+package com.mssousa.auth.infrastructure.persistence.adapter;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import com.mssousa.auth.domain.model.authorization.AuthorizationChange;
+import com.mssousa.auth.domain.model.system.SystemId;
+import com.mssousa.auth.domain.model.user.UserId;
+import com.mssousa.auth.domain.repository.AuthorizationChangeLogRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Adapter JDBC de authorization_version e authorization_change_log.
+ *
+ * O incremento do contador e a inclusão da entrada ocorrem em uma única instrução;
+ * o UPDATE do contador mantém a linha do sistema bloqueada até o commit, serializando
+ * as alterações de autorização concorrentes do mesmo sistema.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuthorizationChangeLogRepositoryImpl implements AuthorizationChangeLogRepository {
+
+    /** Parâmetros: system_id, system_id, user_id. */
+    private static final String APPEND_SQL = """
+            WITH next AS (
+                INSERT INTO authorization_version (system_id, version)
+                VALUES (?, 1)
+                ON CONFLICT (system_id) DO UPDATE SET
+                    version = authorization_version.version + 1
+                RETURNING version
+            )
+            INSERT INTO authorization_change_log (system_id, version, user_id)
+            SELECT ?, version, CAST(? AS BIGINT) FROM next
+            RETURNING version
+            """;
+
+    private static final String CURRENT_VERSION_SQL = """
+            SELECT version FROM authorization_version WHERE system_id = ?
+            """;
+
+    private static final String FIND_SINCE_SQL = """
+            SELECT version, user_id, changed_at
+            FROM authorization_change_log
+            WHERE system_id = ?
+              AND version > ?
+            ORDER BY version
+            LIMIT ?
+            """;
+
+    private static final String DELETE_OLDER_THAN_SQL = """
+            DELETE FROM authorization_change_log
+            WHERE changed_at < NOW() - make_interval(secs => ?)
+            """;
+
+    private static final RowMapper<AuthorizationChange> ROW_MAPPER = (rs, rowNum) -> {
+        long userId = rs.getLong("user_id");
+        UserId affectedUser = rs.wasNull() ? null : UserId.of(userId);
+        return new AuthorizationChange(
+                rs.getLong("version"),
+                affectedUser,
+                rs.getTimestamp("changed_at").toInstant());
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public long append(SystemId systemId, UserId userId) {
+        Long version = jdbcTemplate.queryForObject(APPEND_SQL, Long.class,
+                systemId.value(), systemId.value(), userId != null ? userId.value() : null);
+        return version != null ? version : 0L;
+    }
+
+    @Override
+    public long currentVersion(SystemId systemId) {
+        return jdbcTemplate.queryForList(CURRENT_VERSION_SQL, Long.class, systemId.value())
+                .stream()
+                .findFirst()
+                .orElse(0L);
+    }
+
+    @Override
+    public List<AuthorizationChange> findSince(SystemId systemId, long version, int limit) {
+        return jdbcTemplate.query(FIND_SINCE_SQL, ROW_MAPPER, systemId.value(), version, limit);
+    }
+
+    @Override
+    public int deleteOlderThan(Duration retention) {
+        return jdbcTemplate.update(DELETE_OLDER_THAN_SQL, retention.toSeconds());
+    }
+}
@@ -1,5 +1,6 @@
 package com.mssousa.auth.infrastructure.persistence.adapter;
 
+import com.mssousa.auth.application.service.client.ClientSystemChangedEvent;
 import com.mssousa.auth.domain.model.system.ClientSystem;
 import com.mssousa.auth.domain.model.system.SystemId;
 import com.mssousa.auth.domain.repository.ClientSystemRepository;
@@ -8,8 +9,10 @@ import com.mssousa.auth.infrastructure.persistence.jpa.ClientSystemJpaRepository
 import com.mssousa.auth.infrastructure.persistence.mapper.AuthMapper;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Optional;
 
 @Component
@@ -18,11 +21,13 @@ public class ClientSystemRepositoryImpl implements ClientSystemRepository {
 
     private final ClientSystemJpaRepository jpaRepository;
     private final AuthMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public ClientSystem save(ClientSystem system) {
         ClientSystemEntity entity = mapper.toEntity(system);
         ClientSystemEntity savedEntity = jpaRepository.save(entity);
+        eventPublisher.publishEvent(new ClientSystemChangedEvent(system.getId(), system.getClientId()));
         return mapper.toDomain(savedEntity);
     }
 
@@ -38,6 +43,13 @@ public class ClientSystemRepositoryImpl implements ClientSystemRepository {
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public List<ClientSystem> findAll() {
+        return jpaRepository.findAll().stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
     @Override
     public boolean existsByClientId(String clientId) {
         return jpaRepository.existsByClientId(clientId);
@@ -45,6 +57,10 @@ public class ClientSystemRepositoryImpl implements ClientSystemRepository {
 
     @Override
     public void deleteById(SystemId id) {
+        Optional<ClientSystem> system = findById(id);
         jpaRepository.deleteById(id.value());
+        // Publicado só após a remoção: um recarregamento disparado pelo evento já não vê o client
+        system.ifPresent(removed -> eventPublisher.publishEvent(
+                new ClientSystemChangedEvent(removed.getId(), removed.getClientId())));
     }
 }
@@ -0,0 +1,81 @@
+package com.mssousa.auth.infrastructure.persistence.adapter;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.mssousa.auth.domain.model.user.LoginAttempt;
+import com.mssousa.auth.domain.model.user.UserId;
+import com.mssousa.auth.domain.repository.LoginAttemptRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Adapter JDBC de login_attempt.
+ * Usa JdbcTemplate em vez de JPA: as escritas são upserts em lote, sem necessidade
+ * de carregar as linhas no contexto de persistência.
+ */
+@Component
+@RequiredArgsConstructor
+public class LoginAttemptRepositoryImpl implements LoginAttemptRepository {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO login_attempt (user_id, failed_count, last_failure_at, locked_until, updated_at)
+            VALUES (?, ?, ?, ?, NOW())
+            ON CONFLICT (user_id) DO UPDATE SET
+                failed_count    = EXCLUDED.failed_count,
+                last_failure_at = EXCLUDED.last_failure_at,
+                locked_until    = EXCLUDED.locked_until,
+                updated_at      = EXCLUDED.updated_at
+            """;
+
+    private static final String FIND_LOCKED_SQL = """
+            SELECT user_id, failed_count, last_failure_at, locked_until
+            FROM login_attempt
+            WHERE locked_until > ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void saveAll(Collection<LoginAttempt> attempts) {
+        if (attempts.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batch = new ArrayList<>(attempts.size());
+        for (LoginAttempt attempt : attempts) {
+            batch.add(new Object[] {
+                attempt.userId().value(),
+                attempt.failedCount(),
+                toTimestamp(attempt.lastFailureAt()),
+                toTimestamp(attempt.lockedUntil())
+            });
+        }
+
+        jdbcTemplate.batchUpdate(UPSERT_SQL, batch);
+    }
+
+    @Override
+    public List<LoginAttempt> findLockedAfter(Instant instant) {
+        return jdbcTemplate.query(FIND_LOCKED_SQL, (rs, rowNum) -> new LoginAttempt(
+                UserId.of(rs.getLong("user_id")),
+                rs.getInt("failed_count"),
+                toInstant(rs.getTimestamp("last_failure_at")),
+                toInstant(rs.getTimestamp("locked_until"))),
+                Timestamp.from(instant));
+    }
+
+    private static Timestamp toTimestamp(Instant instant) {
+        return instant != null ? Timestamp.from(instant) : null;
+    }
+
+    private static Instant toInstant(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toInstant() : null;
+    }
+}
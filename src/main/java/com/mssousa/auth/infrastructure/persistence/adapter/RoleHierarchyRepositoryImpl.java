@@ -0,0 +1,166 @@
+package com.mssousa.auth.infrastructure.persistence.adapter;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.mssousa.auth.domain.model.role.SystemRoleId;
+import com.mssousa.auth.domain.model.system.SystemId;
+import com.mssousa.auth.domain.repository.RoleHierarchyRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Adapter JDBC de system_role_parent e system_role_closure.
+ *
+ * O fecho é mantido incrementalmente: incluir a aresta pai -> filho soma, para cada
+ * par (ancestral de pai ou o próprio pai, descendente de filho ou o próprio filho),
+ * a quantidade de caminhos que passam pela nova aresta; remover subtrai a mesma
+ * quantidade e apaga os pares que ficam sem caminho. Como o grafo é acíclico, as
+ * linhas usadas no cálculo (ancestrais do pai e descendentes do filho) nunca são
+ * alteradas pela própria operação.
+ */
+@Component
+@RequiredArgsConstructor
+public class RoleHierarchyRepositoryImpl implements RoleHierarchyRepository {
+
+    /** Pares afetados pela aresta (parent -> child): parâmetros parent, parent, child, child. */
+    private static final String PATHS_CTE = """
+            WITH up AS (
+                SELECT ancestor_id AS id, path_count AS n FROM system_role_closure WHERE descendant_id = ?
+                UNION ALL
+                SELECT CAST(? AS BIGINT), CAST(1 AS BIGINT)
+            ),
+            down AS (
+                SELECT descendant_id AS id, path_count AS n FROM system_role_closure WHERE ancestor_id = ?
+                UNION ALL
+                SELECT CAST(? AS BIGINT), CAST(1 AS BIGINT)
+            ),
+            paths AS (
+                SELECT up.id AS ancestor_id, down.id AS descendant_id, up.n * down.n AS n
+                FROM up CROSS JOIN down
+            )
+            """;
+
+    private static final String INSERT_PARENT_SQL = """
+            INSERT INTO system_role_parent (system_role_id, parent_role_id)
+            VALUES (?, ?)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String ADD_PATHS_SQL = PATHS_CTE + """
+            INSERT INTO system_role_closure (ancestor_id, descendant_id, path_count)
+            SELECT ancestor_id, descendant_id, n FROM paths
+            ON CONFLICT (ancestor_id, descendant_id) DO UPDATE SET
+                path_count = system_role_closure.path_count + EXCLUDED.path_count
+            """;
+
+    private static final String DELETE_PARENT_SQL = """
+            DELETE FROM system_role_parent
+            WHERE system_role_id = ? AND parent_role_id = ?
+            """;
+
+    private static final String DELETE_EXHAUSTED_PATHS_SQL = PATHS_CTE + """
+            DELETE FROM system_role_closure c
+            USING paths
+            WHERE c.ancestor_id = paths.ancestor_id
+              AND c.descendant_id = paths.descendant_id
+              AND c.path_count = paths.n
+            """;
+
+    private static final String SUBTRACT_PATHS_SQL = PATHS_CTE + """
+            UPDATE system_role_closure c
+            SET path_count = c.path_count - paths.n
+            FROM paths
+            WHERE c.ancestor_id = paths.ancestor_id
+              AND c.descendant_id = paths.descendant_id
+            """;
+
+    private static final String LOCK_SYSTEM_SQL = """
+            SELECT id FROM client_system WHERE id = ? FOR UPDATE
+            """;
+
+    private static final String EXISTS_PARENT_SQL = """
+            SELECT EXISTS (
+                SELECT 1 FROM system_role_parent WHERE system_role_id = ? AND parent_role_id = ?
+            )
+            """;
+
+    private static final String FIND_EDGES_SQL = """
+            SELECT system_role_id, parent_role_id
+            FROM system_role_parent
+            WHERE system_role_id = ? OR parent_role_id = ?
+            """;
+
+    private static final String IMPLIES_SQL = """
+            SELECT EXISTS (
+                SELECT 1 FROM system_role_closure WHERE ancestor_id = ? AND descendant_id = ?
+            )
+            """;
+
+    private static final String FIND_IMPLIED_SQL = """
+            SELECT descendant_id FROM system_role_closure WHERE ancestor_id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void lock(SystemId systemId) {
+        jdbcTemplate.queryForList(LOCK_SYSTEM_SQL, Long.class, systemId.value());
+    }
+
+    @Override
+    public boolean existsParent(SystemRoleId roleId, SystemRoleId parentId) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                EXISTS_PARENT_SQL, Boolean.class, roleId.value(), parentId.value()));
+    }
+
+    @Override
+    public void addParent(SystemRoleId roleId, SystemRoleId parentId) {
+        if (jdbcTemplate.update(INSERT_PARENT_SQL, roleId.value(), parentId.value()) == 0) {
+            return;
+        }
+        jdbcTemplate.update(ADD_PATHS_SQL, pathsArgs(roleId, parentId));
+    }
+
+    @Override
+    public void removeParent(SystemRoleId roleId, SystemRoleId parentId) {
+        if (jdbcTemplate.update(DELETE_PARENT_SQL, roleId.value(), parentId.value()) == 0) {
+            return;
+        }
+        Object[] args = pathsArgs(roleId, parentId);
+        jdbcTemplate.update(DELETE_EXHAUSTED_PATHS_SQL, args);
+        jdbcTemplate.update(SUBTRACT_PATHS_SQL, args);
+    }
+
+    @Override
+    public void detach(SystemRoleId roleId) {
+        List<SystemRoleId[]> edges = jdbcTemplate.query(FIND_EDGES_SQL, (rs, rowNum) -> new SystemRoleId[] {
+                SystemRoleId.of(rs.getLong("system_role_id")),
+                SystemRoleId.of(rs.getLong("parent_role_id"))
+        }, roleId.value(), roleId.value());
+
+        for (SystemRoleId[] edge : edges) {
+            removeParent(edge[0], edge[1]);
+        }
+    }
+
+    @Override
+    public boolean implies(SystemRoleId ancestorId, SystemRoleId descendantId) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                IMPLIES_SQL, Boolean.class, ancestorId.value(), descendantId.value()));
+    }
+
+    @Override
+    public Set<SystemRoleId> findImpliedRoles(SystemRoleId roleId) {
+        return new HashSet<>(jdbcTemplate.query(FIND_IMPLIED_SQL,
+                (rs, rowNum) -> SystemRoleId.of(rs.getLong("descendant_id")), roleId.value()));
+    }
+
+    private static Object[] pathsArgs(SystemRoleId roleId, SystemRoleId parentId) {
+        return new Object[] { parentId.value(), parentId.value(), roleId.value(), roleId.value() };
+    }
+}
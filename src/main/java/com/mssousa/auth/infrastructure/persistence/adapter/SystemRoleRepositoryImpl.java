@@ -1,5 +1,6 @@
 package com.mssousa.auth.infrastructure.persistence.adapter;
 
+import com.mssousa.auth.application.service.authorization.AuthorizationChangedEvent;
 import com.mssousa.auth.domain.model.role.SystemRole;
 import com.mssousa.auth.domain.model.role.SystemRoleId;
 import com.mssousa.auth.domain.model.system.SystemId;
@@ -11,6 +12,7 @@ import com.mssousa.auth.infrastructure.persistence.jpa.SystemRoleJpaRepository;
 import com.mssousa.auth.infrastructure.persistence.mapper.AuthMapper;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -25,6 +27,7 @@ public class SystemRoleRepositoryImpl implements SystemRoleRepository {
     private final SystemRoleJpaRepository jpaRepository;
     private final ClientSystemJpaRepository clientSystemJpaRepository;
     private final AuthMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public SystemRole save(SystemRole role) {
@@ -33,6 +36,7 @@ public class SystemRoleRepositoryImpl implements SystemRoleRepository {
         
         SystemRoleEntity entity = mapper.toEntity(role, systemEntity);
         SystemRoleEntity savedEntity = jpaRepository.save(entity);
+        eventPublisher.publishEvent(AuthorizationChangedEvent.forSystem(role.getSystemId()));
         return mapper.toDomain(savedEntity);
     }
 
@@ -68,7 +72,11 @@ public class SystemRoleRepositoryImpl implements SystemRoleRepository {
 
     @Override
     public void deleteById(SystemRoleId id) {
+        Optional<SystemRole> role = findById(id);
         jpaRepository.deleteById(id.value());
+        // Publicado só após a remoção: um recarregamento disparado pelo evento já não vê o perfil
+        role.ifPresent(removed -> eventPublisher.publishEvent(
+                AuthorizationChangedEvent.forSystem(removed.getSystemId())));
     }
 
 }
@@ -0,0 +1,257 @@
+package com.mssousa.auth.infrastructure.persistence.adapter;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import com.mssousa.auth.domain.model.binding.userSystem.UserSystemId;
+import com.mssousa.auth.domain.model.group.UserGroup;
+import com.mssousa.auth.domain.model.group.UserGroupId;
+import com.mssousa.auth.domain.model.group.UserGroupStatus;
+import com.mssousa.auth.domain.model.role.SystemRoleId;
+import com.mssousa.auth.domain.model.system.SystemId;
+import com.mssousa.auth.domain.repository.UserGroupRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Adapter JDBC de user_group, user_group_member, user_group_role e da expansão
+ * materializada user_system_group_role.
+ *
+ * Cada alteração bloqueia a linha do grupo e aplica à expansão apenas os pares
+ * (membro, perfil) afetados: somando 1 em group_count ao conceder e subtraindo 1 ao
+ * retirar, removendo a linha quando nenhum grupo ativo concede mais o perfil.
+ * A retirada bloqueia antes as linhas afetadas da expansão, já que grupos distintos
+ * podem retirar o mesmo par ao mesmo tempo: sem o bloqueio, ambos decrementariam uma
+ * linha com group_count 2 sem que nenhum a removesse.
+ * Os pares são calculados a partir das tabelas de membros e perfis do grupo, por isso
+ * a concessão ocorre depois da inclusão e a retirada antes da remoção.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserGroupRepositoryImpl implements UserGroupRepository {
+
+    private static final Expansion ALL_PAIRS = Expansion.filteredBy("");
+    private static final Expansion MEMBER_PAIRS = Expansion.filteredBy("AND m.user_system_id = ?");
+    private static final Expansion ROLE_PAIRS = Expansion.filteredBy("AND r.system_role_id = ?");
+
+    private static final String LOCK_STATUS_SQL = """
+            SELECT status FROM user_group WHERE id = ? FOR UPDATE
+            """;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO user_group (id, system_id, code, description, status)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    private static final String UPDATE_SQL = """
+            UPDATE user_group SET description = ?, status = ? WHERE id = ?
+            """;
+
+    private static final String DELETE_SQL = """
+            DELETE FROM user_group WHERE id = ?
+            """;
+
+    private static final String SELECT_SQL = """
+            SELECT id, system_id, code, description, status FROM user_group
+            """;
+
+    private static final String EXISTS_CODE_SQL = """
+            SELECT EXISTS (SELECT 1 FROM user_group WHERE system_id = ? AND code = ?)
+            """;
+
+    private static final String INSERT_MEMBER_SQL = """
+            INSERT INTO user_group_member (group_id, user_system_id)
+            VALUES (?, ?)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String DELETE_MEMBER_SQL = """
+            DELETE FROM user_group_member WHERE group_id = ? AND user_system_id = ?
+            """;
+
+    private static final String INSERT_ROLE_SQL = """
+            INSERT INTO user_group_role (group_id, system_role_id)
+            VALUES (?, ?)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String DELETE_ROLE_SQL = """
+            DELETE FROM user_group_role WHERE group_id = ? AND system_role_id = ?
+            """;
+
+    private static final RowMapper<UserGroup> ROW_MAPPER = (rs, rowNum) -> UserGroup.builder()
+            .id(UserGroupId.of(rs.getLong("id")))
+            .systemId(SystemId.of(rs.getLong("system_id")))
+            .code(rs.getString("code"))
+            .description(rs.getString("description"))
+            .status(UserGroupStatus.valueOf(rs.getString("status")))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public UserGroup save(UserGroup group) {
+        Long id = group.getId().value();
+        Optional<UserGroupStatus> previous = lockStatus(group.getId());
+
+        if (previous.isEmpty()) {
+            jdbcTemplate.update(INSERT_SQL, id, group.getSystemId().value(), group.getCode(),
+                    group.getDescription(), group.getStatus().name());
+            return group;
+        }
+
+        boolean wasActive = previous.get() == UserGroupStatus.ACTIVE;
+        if (wasActive && !group.isActive()) {
+            retract(ALL_PAIRS, id);
+        }
+
+        jdbcTemplate.update(UPDATE_SQL, group.getDescription(), group.getStatus().name(), id);
+
+        if (!wasActive && group.isActive()) {
+            grant(ALL_PAIRS, id);
+        }
+        return group;
+    }
+
+    @Override
+    public Optional<UserGroup> findById(UserGroupId id) {
+        return jdbcTemplate.query(SELECT_SQL + " WHERE id = ?", ROW_MAPPER, id.value())
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public List<UserGroup> findBySystemId(SystemId systemId) {
+        return jdbcTemplate.query(SELECT_SQL + " WHERE system_id = ? ORDER BY code", ROW_MAPPER, systemId.value());
+    }
+
+    @Override
+    public boolean existsBySystemIdAndCode(SystemId systemId, String code) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                EXISTS_CODE_SQL, Boolean.class, systemId.value(), code));
+    }
+
+    @Override
+    public void deleteById(UserGroupId id) {
+        if (lockStatus(id).isEmpty()) {
+            return;
+        }
+        retract(ALL_PAIRS, id.value());
+        jdbcTemplate.update(DELETE_SQL, id.value());
+    }
+
+    @Override
+    public boolean addMember(UserGroupId groupId, UserSystemId userSystemId) {
+        lockStatus(groupId);
+        if (jdbcTemplate.update(INSERT_MEMBER_SQL, groupId.value(), userSystemId.value()) == 0) {
+            return false;
+        }
+        grant(MEMBER_PAIRS, groupId.value(), userSystemId.value());
+        return true;
+    }
+
+    @Override
+    public boolean removeMember(UserGroupId groupId, UserSystemId userSystemId) {
+        lockStatus(groupId);
+        retract(MEMBER_PAIRS, groupId.value(), userSystemId.value());
+        return jdbcTemplate.update(DELETE_MEMBER_SQL, groupId.value(), userSystemId.value()) > 0;
+    }
+
+    @Override
+    public boolean addRole(UserGroupId groupId, SystemRoleId systemRoleId) {
+        lockStatus(groupId);
+        if (jdbcTemplate.update(INSERT_ROLE_SQL, groupId.value(), systemRoleId.value()) == 0) {
+            return false;
+        }
+        grant(ROLE_PAIRS, groupId.value(), systemRoleId.value());
+        return true;
+    }
+
+    @Override
+    public boolean removeRole(UserGroupId groupId, SystemRoleId systemRoleId) {
+        lockStatus(groupId);
+        retract(ROLE_PAIRS, groupId.value(), systemRoleId.value());
+        return jdbcTemplate.update(DELETE_ROLE_SQL, groupId.value(), systemRoleId.value()) > 0;
+    }
+
+    /**
+     * Bloqueia a linha do grupo até o fim da transação, serializando as alterações de
+     * membros, perfis e status, e retorna o status atual.
+     */
+    private Optional<UserGroupStatus> lockStatus(UserGroupId id) {
+        return jdbcTemplate.queryForList(LOCK_STATUS_SQL, String.class, id.value())
+                .stream()
+                .findFirst()
+                .map(UserGroupStatus::valueOf);
+    }
+
+    private void grant(Expansion expansion, Object... args) {
+        jdbcTemplate.update(expansion.grantSql(), args);
+    }
+
+    /**
+     * Com as linhas da expansão bloqueadas, cada instrução seguinte (READ COMMITTED)
+     * enxerga o group_count já gravado por retiradas concorrentes de outros grupos.
+     */
+    private void retract(Expansion expansion, Object... args) {
+        jdbcTemplate.query(expansion.lockSql(), rs -> { }, args);
+        jdbcTemplate.update(expansion.deleteExhaustedSql(), args);
+        jdbcTemplate.update(expansion.decrementSql(), args);
+    }
+
+    /**
+     * Instruções de manutenção da expansão para os pares (membro, perfil) de um grupo
+     * ativo, opcionalmente restritos a um membro ou a um perfil.
+     * Parâmetros: id do grupo e, quando houver filtro, o valor do filtro.
+     */
+    private record Expansion(String grantSql, String lockSql, String deleteExhaustedSql, String decrementSql) {
+
+        static Expansion filteredBy(String filter) {
+            String pairs = """
+                    WITH pairs AS (
+                        SELECT m.user_system_id, r.system_role_id
+                        FROM user_group g
+                        JOIN user_group_member m ON m.group_id = g.id
+                        JOIN user_group_role r ON r.group_id = g.id
+                        WHERE g.id = ?
+                          AND g.status = 'ACTIVE'
+                          %s
+                    )
+                    """.formatted(filter);
+
+            return new Expansion(
+                    pairs + """
+                            INSERT INTO user_system_group_role (user_system_id, system_role_id, group_count)
+                            SELECT user_system_id, system_role_id, 1 FROM pairs
+                            ON CONFLICT (user_system_id, system_role_id) DO UPDATE SET
+                                group_count = user_system_group_role.group_count + 1
+                            """,
+                    pairs + """
+                            SELECT 1 FROM user_system_group_role t
+                            JOIN pairs
+                              ON t.user_system_id = pairs.user_system_id
+                             AND t.system_role_id = pairs.system_role_id
+                            ORDER BY t.user_system_id, t.system_role_id
+                            FOR UPDATE OF t
+                            """,
+                    pairs + """
+                            DELETE FROM user_system_group_role t
+                            USING pairs
+                            WHERE t.user_system_id = pairs.user_system_id
+                              AND t.system_role_id = pairs.system_role_id
+                              AND t.group_count = 1
+                            """,
+                    pairs + """
+                            UPDATE user_system_group_role t
+                            SET group_count = t.group_count - 1
+                            FROM pairs
+                            WHERE t.user_system_id = pairs.user_system_id
+                              AND t.system_role_id = pairs.system_role_id
+                            """);
+        }
+    }
+}
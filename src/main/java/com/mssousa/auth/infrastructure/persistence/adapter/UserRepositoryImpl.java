@@ -7,6 +7,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
 import com.mssousa.auth.domain.model.user.Email;
+import com.mssousa.auth.domain.model.user.LoginCredentials;
 import com.mssousa.auth.domain.model.user.User;
 import com.mssousa.auth.domain.model.user.UserId;
 import com.mssousa.auth.domain.model.user.Username;
@@ -69,4 +70,15 @@ public class UserRepositoryImpl implements UserRepository {
         return jpaRepository.findAll(pageable)
                 .map(mapper::toDomain);
     }
+
+    @Override
+    public Optional<LoginCredentials> findLoginCredentials(String login) {
+        return jpaRepository.findLoginCredentials(login, Email.normalize(login))
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    public boolean updatePasswordHash(UserId id, String expectedHash, String newHash) {
+        return jpaRepository.updatePasswordHash(id.value(), expectedHash, newHash) > 0;
+    }
 }
@@ -1,5 +1,6 @@
 package com.mssousa.auth.infrastructure.persistence.adapter;
 
+import com.mssousa.auth.application.service.authorization.AuthorizationChangedEvent;
 import com.mssousa.auth.domain.model.binding.userSystem.UserSystem;
 import com.mssousa.auth.domain.model.binding.userSystem.UserSystemId;
 import com.mssousa.auth.domain.model.system.SystemId;
@@ -14,6 +15,8 @@ import com.mssousa.auth.infrastructure.persistence.jpa.UserSystemJpaRepository;
 import com.mssousa.auth.infrastructure.persistence.mapper.AuthMapper;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -28,6 +31,7 @@ public class UserSystemRepositoryImpl implements UserSystemRepository {
     private final UserJpaRepository userJpaRepository;
     private final ClientSystemJpaRepository clientSystemJpaRepository;
     private final AuthMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public UserSystem save(UserSystem userSystem) {
@@ -36,6 +40,7 @@ public class UserSystemRepositoryImpl implements UserSystemRepository {
 
         UserSystemEntity entity = mapper.toEntity(userSystem, userEntity, systemEntity);
         UserSystemEntity savedEntity = jpaRepository.save(entity);
+        eventPublisher.publishEvent(AuthorizationChangedEvent.forUser(userSystem.getUserId(), userSystem.getSystemId()));
         return mapper.toDomain(savedEntity);
     }
 
@@ -58,8 +63,19 @@ public class UserSystemRepositoryImpl implements UserSystemRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<UserId> findUserIdsBySystemId(SystemId systemId, long afterUserId, int limit) {
+        return jpaRepository.findUserIdsBySystemId(systemId.value(), afterUserId, Limit.of(limit)).stream()
+                .map(UserId::of)
+                .toList();
+    }
+
     @Override
     public void deleteById(UserSystemId id) {
+        Optional<UserSystem> userSystem = findById(id);
         jpaRepository.deleteById(id.value());
+        // Publicado só após a remoção: um recarregamento disparado pelo evento já não vê o vínculo
+        userSystem.ifPresent(removed -> eventPublisher.publishEvent(
+                AuthorizationChangedEvent.forUser(removed.getUserId(), removed.getSystemId())));
     }
 }
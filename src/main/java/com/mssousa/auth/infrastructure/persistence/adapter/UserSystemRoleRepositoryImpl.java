@@ -3,7 +3,12 @@ package com.mssousa.auth.infrastructure.persistence.adapter;
 import com.mssousa.auth.domain.model.binding.userSystem.UserSystemId;
 import com.mssousa.auth.domain.model.binding.userSystemRole.UserSystemRole;
 import com.mssousa.auth.domain.model.binding.userSystemRole.UserSystemRoleId;
+import com.mssousa.auth.application.service.authorization.AuthorizationChangedEvent;
+import com.mssousa.auth.domain.model.binding.BindingStatus;
+import com.mssousa.auth.domain.model.role.EffectiveRoles;
 import com.mssousa.auth.domain.model.role.SystemRoleId;
+import com.mssousa.auth.domain.model.system.SystemId;
+import com.mssousa.auth.domain.model.user.UserId;
 import com.mssousa.auth.domain.repository.UserSystemRoleRepository;
 import com.mssousa.auth.infrastructure.persistence.entity.SystemRoleEntity;
 import com.mssousa.auth.infrastructure.persistence.entity.UserSystemEntity;
@@ -12,12 +17,19 @@ import com.mssousa.auth.infrastructure.persistence.jpa.SystemRoleJpaRepository;
 import com.mssousa.auth.infrastructure.persistence.jpa.UserSystemJpaRepository;
 import com.mssousa.auth.infrastructure.persistence.jpa.UserSystemRoleJpaRepository;
 import com.mssousa.auth.infrastructure.persistence.mapper.AuthMapper;
+import com.mssousa.auth.infrastructure.persistence.projection.EffectiveRoleRow;
+import com.mssousa.auth.infrastructure.persistence.projection.UserEffectiveRoleRow;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Component
@@ -28,6 +40,7 @@ public class UserSystemRoleRepositoryImpl implements UserSystemRoleRepository {
     private final UserSystemJpaRepository userSystemJpaRepository;
     private final SystemRoleJpaRepository systemRoleJpaRepository;
     private final AuthMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public UserSystemRole save(UserSystemRole userSystemRole) {
@@ -36,6 +49,7 @@ public class UserSystemRoleRepositoryImpl implements UserSystemRoleRepository {
 
         UserSystemRoleEntity entity = mapper.toEntity(userSystemRole, userSystemEntity, systemRoleEntity);
         UserSystemRoleEntity savedEntity = jpaRepository.save(entity);
+        publishChanged(userSystemEntity);
         return mapper.toDomain(savedEntity);
     }
 
@@ -60,6 +74,60 @@ public class UserSystemRoleRepositoryImpl implements UserSystemRoleRepository {
 
     @Override
     public void deleteById(UserSystemRoleId id) {
+        Optional<UserSystemEntity> userSystem = jpaRepository.findById(id.value())
+                .map(UserSystemRoleEntity::getUserSystem);
         jpaRepository.deleteById(id.value());
+        // Publicado só após a remoção: um recarregamento disparado pelo evento já não vê o vínculo
+        userSystem.ifPresent(this::publishChanged);
+    }
+
+    @Override
+    public EffectiveRoles findEffectiveRoles(UserId userId, SystemId systemId) {
+        return toEffectiveRoles(jpaRepository.findEffectiveRoles(userId.value(), systemId.value()));
+    }
+
+    @Override
+    public Map<UserId, EffectiveRoles> findEffectiveRoles(Collection<UserId> userIds, SystemId systemId) {
+
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<UserEffectiveRoleRow> rows = jpaRepository.findEffectiveRolesForUsers(
+                userIds.stream().map(UserId::value).distinct().toList(),
+                systemId.value());
+
+        Map<Long, List<UserEffectiveRoleRow>> rowsByUser = rows.stream()
+                .collect(Collectors.groupingBy(UserEffectiveRoleRow::getUserId));
+
+        Map<UserId, EffectiveRoles> result = new HashMap<>();
+        for (UserId userId : userIds) {
+            result.put(userId, toEffectiveRoles(rowsByUser.getOrDefault(userId.value(), List.of())));
+        }
+        return result;
+    }
+
+    private static EffectiveRoles toEffectiveRoles(List<? extends EffectiveRoleRow> rows) {
+
+        if (rows.isEmpty()) {
+            return EffectiveRoles.denied(EffectiveRoles.Outcome.NO_BINDING);
+        }
+
+        if (!BindingStatus.ACTIVE.name().equals(rows.get(0).getBindingStatus())) {
+            return EffectiveRoles.denied(EffectiveRoles.Outcome.BINDING_INACTIVE);
+        }
+
+        Set<String> roleCodes = rows.stream()
+                .map(EffectiveRoleRow::getRoleCode)
+                .filter(code -> code != null)
+                .collect(Collectors.toSet());
+
+        return EffectiveRoles.granted(roleCodes);
+    }
+
+    private void publishChanged(UserSystemEntity userSystem) {
+        eventPublisher.publishEvent(AuthorizationChangedEvent.forUser(
+                UserId.of(userSystem.getUser().getId()),
+                SystemId.of(userSystem.getSystem().getId())));
     }
 }
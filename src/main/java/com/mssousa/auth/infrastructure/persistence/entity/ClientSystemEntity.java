@@ -1,7 +1,17 @@
 package com.mssousa.auth.infrastructure.persistence.entity;
 
+import java.util.HashSet;
+import java.util.Set;
+
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+
+import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -35,6 +45,29 @@ public class ClientSystemEntity extends AuditableJpaEntity {
     @Column(name = "redirect_uri", nullable = false)
     private String redirectUri;
 
+    /**
+     * Todas as URIs de redirecionamento do sistema, incluindo a principal.
+     * Carregadas junto com o sistema, em uma consulta por lote de sistemas (SUBSELECT),
+     * pois o registro de clients carrega todos os sistemas na inicialização.
+     */
+    @ElementCollection(fetch = FetchType.EAGER)
+    @Fetch(FetchMode.SUBSELECT)
+    @CollectionTable(name = "client_system_redirect_uri", joinColumns = @JoinColumn(name = "client_system_id"))
+    @Column(name = "redirect_uri", nullable = false)
+    private Set<String> redirectUris = new HashSet<>();
+
+    /**
+     * Fluxos OAuth2 permitidos, separados por vírgula.
+     */
+    @Column(name = "grant_types", nullable = false)
+    private String grantTypes;
+
+    /**
+     * Formas de autenticação do client aceitas, separadas por vírgula.
+     */
+    @Column(name = "auth_methods", nullable = false)
+    private String authMethods;
+
     @Column(nullable = false)
     private String status;
 }
\ No newline at end of file
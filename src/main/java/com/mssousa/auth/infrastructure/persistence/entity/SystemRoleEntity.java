@@ -1,7 +1,16 @@
 package com.mssousa.auth.infrastructure.persistence.entity;
 
+import java.util.HashSet;
+import java.util.Set;
+
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+
+import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -37,4 +46,15 @@ public class SystemRoleEntity extends AuditableJpaEntity {
 
     @Column(nullable = false)
     private String status;
+
+    /**
+     * Permissões do perfil (recurso:ação).
+     * Carregadas junto com o perfil, em uma consulta por lote de perfis (SUBSELECT),
+     * pois o domínio é montado fora da sessão (open-in-view desabilitado).
+     */
+    @ElementCollection(fetch = FetchType.EAGER)
+    @Fetch(FetchMode.SUBSELECT)
+    @CollectionTable(name = "system_role_permission", joinColumns = @JoinColumn(name = "system_role_id"))
+    @Column(name = "permission", nullable = false, length = 100)
+    private Set<String> permissions = new HashSet<>();
 }
@@ -1,8 +1,13 @@
 package com.mssousa.auth.infrastructure.persistence.jpa;
 
 import com.mssousa.auth.infrastructure.persistence.entity.UserEntity;
+import com.mssousa.auth.infrastructure.persistence.projection.LoginCredentialsProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -12,4 +17,20 @@ public interface UserJpaRepository extends JpaRepository<UserEntity, Long> {
     Optional<UserEntity> findByEmail(String email);
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
+
+    @Transactional(readOnly = true)
+    @Query("""
+            select new com.mssousa.auth.infrastructure.persistence.projection.LoginCredentialsProjection(
+                u.id, u.username, u.email, u.name, u.passwordHash, u.master, u.status)
+            from UserEntity u
+            where u.username = :username or u.email = :email
+            """)
+    Optional<LoginCredentialsProjection> findLoginCredentials(@Param("username") String username,
+            @Param("email") String email);
+
+    @Modifying
+    @Transactional
+    @Query("update UserEntity u set u.passwordHash = :newHash where u.id = :id and u.passwordHash = :expectedHash")
+    int updatePasswordHash(@Param("id") Long id, @Param("expectedHash") String expectedHash,
+            @Param("newHash") String newHash);
 }
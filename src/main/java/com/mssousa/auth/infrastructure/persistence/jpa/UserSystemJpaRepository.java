@@ -1,7 +1,10 @@
 package com.mssousa.auth.infrastructure.persistence.jpa;
 
 import com.mssousa.auth.infrastructure.persistence.entity.UserSystemEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,4 +14,12 @@ import java.util.Optional;
 public interface UserSystemJpaRepository extends JpaRepository<UserSystemEntity, Long> {
     Optional<UserSystemEntity> findByUserIdAndSystemId(Long userId, Long systemId);
     List<UserSystemEntity> findByUserId(Long userId);
+
+    @Query("""
+            select us.user.id from UserSystemEntity us
+            where us.system.id = :systemId and us.user.id > :afterUserId
+            order by us.user.id
+            """)
+    List<Long> findUserIdsBySystemId(@Param("systemId") Long systemId, @Param("afterUserId") Long afterUserId,
+            Limit limit);
 }
@@ -1,9 +1,14 @@
 package com.mssousa.auth.infrastructure.persistence.jpa;
 
 import com.mssousa.auth.infrastructure.persistence.entity.UserSystemRoleEntity;
+import com.mssousa.auth.infrastructure.persistence.projection.EffectiveRoleRow;
+import com.mssousa.auth.infrastructure.persistence.projection.UserEffectiveRoleRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,4 +16,63 @@ import java.util.Optional;
 public interface UserSystemRoleJpaRepository extends JpaRepository<UserSystemRoleEntity, Long> {
     List<UserSystemRoleEntity> findByUserSystemId(Long userSystemId);
     Optional<UserSystemRoleEntity> findByUserSystemIdAndSystemRoleId(Long userSystemId, Long systemRoleId);
+
+    /**
+     * Perfis efetivos do usuário no sistema, em uma única consulta.
+     * Perfis concedidos diretamente (user_system_role) ou por grupos ativos, a partir da
+     * expansão materializada (user_system_group_role), e os perfis que eles implicam,
+     * pelo fecho transitivo da hierarquia (system_role_closure), sem percorrer o grafo.
+     * Os filtros de status ficam nos LEFT JOINs para que o vínculo seja retornado
+     * mesmo sem perfis efetivos, permitindo identificar o motivo da negação.
+     */
+    @Query(value = """
+            SELECT DISTINCT us.status AS bindingStatus, sr.code AS roleCode
+            FROM user_system us
+            LEFT JOIN (
+                SELECT user_system_id, system_role_id FROM user_system_role WHERE status = 'ACTIVE'
+                UNION ALL
+                SELECT user_system_id, system_role_id FROM user_system_group_role
+            ) usr
+                   ON usr.user_system_id = us.id
+                  AND us.status = 'ACTIVE'
+            LEFT JOIN system_role granted
+                   ON granted.id = usr.system_role_id
+                  AND granted.status = 'ACTIVE'
+            LEFT JOIN system_role_closure src
+                   ON src.ancestor_id = granted.id
+            LEFT JOIN system_role sr
+                   ON (sr.id = granted.id OR sr.id = src.descendant_id)
+                  AND sr.status = 'ACTIVE'
+            WHERE us.user_id = :userId
+              AND us.system_id = :systemId
+            """, nativeQuery = true)
+    List<EffectiveRoleRow> findEffectiveRoles(@Param("userId") Long userId, @Param("systemId") Long systemId);
+
+    /**
+     * Mesma consulta de {@link #findEffectiveRoles(Long, Long)}, para vários usuários
+     * do sistema. Usuários sem vínculo não aparecem no resultado.
+     */
+    @Query(value = """
+            SELECT DISTINCT us.user_id AS userId, us.status AS bindingStatus, sr.code AS roleCode
+            FROM user_system us
+            LEFT JOIN (
+                SELECT user_system_id, system_role_id FROM user_system_role WHERE status = 'ACTIVE'
+                UNION ALL
+                SELECT user_system_id, system_role_id FROM user_system_group_role
+            ) usr
+                   ON usr.user_system_id = us.id
+                  AND us.status = 'ACTIVE'
+            LEFT JOIN system_role granted
+                   ON granted.id = usr.system_role_id
+                  AND granted.status = 'ACTIVE'
+            LEFT JOIN system_role_closure src
+                   ON src.ancestor_id = granted.id
+            LEFT JOIN system_role sr
+                   ON (sr.id = granted.id OR sr.id = src.descendant_id)
+                  AND sr.status = 'ACTIVE'
+            WHERE us.user_id IN (:userIds)
+              AND us.system_id = :systemId
+            """, nativeQuery = true)
+    List<UserEffectiveRoleRow> findEffectiveRolesForUsers(@Param("userIds") Collection<Long> userIds,
+            @Param("systemId") Long systemId);
 }
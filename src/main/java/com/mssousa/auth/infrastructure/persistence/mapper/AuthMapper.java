@@ -1,6 +1,11 @@
 package com.mssousa.auth.infrastructure.persistence.mapper;
 
 import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Component;
 
@@ -12,6 +17,8 @@ import com.mssousa.auth.domain.model.binding.userSystemRole.UserSystemRoleId;
 import com.mssousa.auth.domain.model.role.SystemRole;
 import com.mssousa.auth.domain.model.role.SystemRoleId;
 import com.mssousa.auth.domain.model.role.SystemRoleStatus;
+import com.mssousa.auth.domain.model.system.ClientAuthMethod;
+import com.mssousa.auth.domain.model.system.ClientGrantType;
 import com.mssousa.auth.domain.model.system.ClientSystem;
 import com.mssousa.auth.domain.model.system.SystemId;
 import com.mssousa.auth.domain.model.system.SystemStatus;
@@ -21,6 +28,7 @@ import com.mssousa.auth.domain.model.token.passwordResetToken.PasswordResetToken
 import com.mssousa.auth.domain.model.token.passwordResetToken.PasswordResetTokenId;
 import com.mssousa.auth.domain.model.token.passwordResetToken.ResetTokenValue;
 import com.mssousa.auth.domain.model.user.Email;
+import com.mssousa.auth.domain.model.user.LoginCredentials;
 import com.mssousa.auth.domain.model.user.Password;
 import com.mssousa.auth.domain.model.user.User;
 import com.mssousa.auth.domain.model.user.UserId;
@@ -34,6 +42,7 @@ import com.mssousa.auth.infrastructure.persistence.entity.SystemRoleEntity;
 import com.mssousa.auth.infrastructure.persistence.entity.UserEntity;
 import com.mssousa.auth.infrastructure.persistence.entity.UserSystemEntity;
 import com.mssousa.auth.infrastructure.persistence.entity.UserSystemRoleEntity;
+import com.mssousa.auth.infrastructure.persistence.projection.LoginCredentialsProjection;
 
 @Component
 public class AuthMapper {
@@ -95,6 +104,19 @@ public class AuthMapper {
         return entity;
     }
 
+    public LoginCredentials toDomain(LoginCredentialsProjection projection) {
+        if (projection == null) return null;
+        return new LoginCredentials(
+            UserId.of(projection.id()),
+            projection.username(),
+            projection.email(),
+            projection.name(),
+            projection.passwordHash(),
+            projection.master(),
+            UserStatus.valueOf(projection.status())
+        );
+    }
+
     // ==================== ClientSystem ====================
 
     public ClientSystem toDomain(ClientSystemEntity entity) {
@@ -105,6 +127,9 @@ public class AuthMapper {
             .clientSecret(entity.getClientSecret())
             .name(entity.getName())
             .redirectUri(entity.getRedirectUri())
+            .redirectUris(entity.getRedirectUris())
+            .grantTypes(splitEnums(entity.getGrantTypes(), ClientGrantType.class))
+            .authMethods(splitEnums(entity.getAuthMethods(), ClientAuthMethod.class))
             .status(SystemStatus.valueOf(entity.getStatus()))
             .build();
     }
@@ -118,10 +143,29 @@ public class AuthMapper {
         entity.setClientSecret(system.getClientSecret());
         entity.setName(system.getName());
         entity.setRedirectUri(system.getRedirectUri());
+        entity.setRedirectUris(new HashSet<>(system.getRedirectUris()));
+        entity.setGrantTypes(joinEnums(system.getGrantTypes()));
+        entity.setAuthMethods(joinEnums(system.getAuthMethods()));
         entity.setStatus(system.getStatus().name());
         return entity;
     }
 
+    private static <E extends Enum<E>> List<E> splitEnums(String values, Class<E> type) {
+        if (values == null || values.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(values.split(","))
+            .map(String::trim)
+            .map(value -> Enum.valueOf(type, value))
+            .toList();
+    }
+
+    private static String joinEnums(Set<? extends Enum<?>> values) {
+        return values.stream()
+            .map(Enum::name)
+            .collect(Collectors.joining(","));
+    }
+
     // ==================== SystemRole ====================
 
     public SystemRole toDomain(SystemRoleEntity entity) {
@@ -132,6 +176,7 @@ public class AuthMapper {
             .code(entity.getCode())
             .description(entity.getDescription())
             .status(SystemRoleStatus.valueOf(entity.getStatus()))
+            .permissions(entity.getPermissions())
             .build();
     }
 
@@ -144,6 +189,7 @@ public class AuthMapper {
         entity.setCode(role.getCode());
         entity.setDescription(role.getDescription());
         entity.setStatus(role.getStatus().name());
+        entity.setPermissions(new HashSet<>(role.getPermissions()));
         return entity;
     }
 
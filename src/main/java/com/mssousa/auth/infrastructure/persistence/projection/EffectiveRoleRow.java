@@ -0,0 +1,12 @@
+package com.mssousa.auth.infrastructure.persistence.projection;
+
+/**
+ * Linha da consulta de perfis efetivos: status do vínculo usuário-sistema e o código
+ * de um perfil efetivo (null quando o vínculo não possui perfil efetivo).
+ */
+public interface EffectiveRoleRow {
+
+    String getBindingStatus();
+
+    String getRoleCode();
+}
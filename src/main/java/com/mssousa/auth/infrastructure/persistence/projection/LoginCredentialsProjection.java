@@ -0,0 +1,18 @@
+package com.mssousa.auth.infrastructure.persistence.projection;
+
+/**
+ * Projeção JPQL das colunas de "user" usadas no login.
+ * <p>
+ * Instanciada via {@code select new}: não é registrada no contexto de persistência
+ * e não gera snapshot para dirty checking.
+ * </p>
+ */
+public record LoginCredentialsProjection(
+    Long id,
+    String username,
+    String email,
+    String name,
+    String passwordHash,
+    boolean master,
+    String status
+) {}
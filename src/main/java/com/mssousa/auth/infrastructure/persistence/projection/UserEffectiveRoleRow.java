@@ -0,0 +1,10 @@
+package com.mssousa.auth.infrastructure.persistence.projection;
+
+/**
+ * Linha da consulta de perfis efetivos em lote: identifica o usuário a que
+ * pertencem o status do vínculo e o código do perfil.
+ */
+public interface UserEffectiveRoleRow extends EffectiveRoleRow {
+
+    Long getUserId();
+}
@@ -0,0 +1,187 @@
+package com.mssousa.auth.infrastructure.security;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Memória, por nó, de verificações de segredos (senhas, client secrets) bem-sucedidas.
+ *
+ * Funcionamento:
+ * - Guarda, por chave opaca (ex: id do usuário, hash armazenado), um HMAC-SHA256 dos
+ *   campos verificados e o instante de expiração
+ * - A chave do HMAC é aleatória e gerada a cada inicialização: nada em memória é
+ *   reaproveitável fora do processo nem permite recuperar o segredo
+ * - Os campos entram no HMAC com tamanho prefixado, para que a sequência não seja
+ *   ambígua, e o HMAC é comparado em tempo constante
+ * - Tamanho limitado: com a memória cheia, entradas expiradas são removidas e, se
+ *   ainda não houver espaço, a nova verificação simplesmente não é guardada
+ * - A varredura das expiradas é amortizada: roda em uma thread por vez e só
+ *   depois que a entrada mais antiga pode ter expirado (e no máximo uma vez a
+ *   cada 1/8 do TTL); até lá, inserções com a memória cheia são descartadas sem varrer
+ *
+ * Métricas (prefixo informado):
+ * - lookups: consultas, por resultado (hit, miss)
+ * - entries: verificações em memória
+ *
+ * @param <K> chave das entradas
+ */
+public final class HmacVerificationMemo<K> {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int SWEEPS_PER_TTL = 8;
+
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final LongSupplier nanoClock;
+
+    private final Map<K, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+    private volatile long nextSweepAt;
+    private final ThreadLocal<Mac> mac;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    /**
+     * @param metricPrefix prefixo das métricas (ex: auth.password.verified-cache)
+     * @param ttlNanos     validade de cada verificação
+     * @param maxEntries   quantidade máxima de entradas
+     */
+    public HmacVerificationMemo(String metricPrefix, long ttlNanos, int maxEntries,
+            MeterRegistry meterRegistry, LongSupplier nanoClock) {
+
+        this.ttlNanos = ttlNanos;
+        this.maxEntries = maxEntries;
+        this.nanoClock = nanoClock;
+        this.nextSweepAt = nanoClock.getAsLong();
+
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        SecretKeySpec key = new SecretKeySpec(secret, HMAC_ALGORITHM);
+        this.mac = ThreadLocal.withInitial(() -> newMac(key));
+
+        this.hitCounter = lookupCounter(meterRegistry, metricPrefix, "hit");
+        this.missCounter = lookupCounter(meterRegistry, metricPrefix, "miss");
+        Gauge.builder(metricPrefix + ".entries", entries, Map::size)
+                .description("Successful secret verifications held in memory")
+                .register(meterRegistry);
+    }
+
+    /**
+     * HMAC dos campos, na ordem informada.
+     */
+    public byte[] digest(String... fields) {
+
+        byte[][] bytes = new byte[fields.length][];
+        int length = 0;
+        for (int i = 0; i < fields.length; i++) {
+            bytes[i] = fields[i].getBytes(StandardCharsets.UTF_8);
+            length += Integer.BYTES + bytes[i].length;
+        }
+
+        ByteBuffer message = ByteBuffer.allocate(length);
+        for (byte[] field : bytes) {
+            message.putInt(field.length).put(field);
+        }
+        return mac.get().doFinal(message.array());
+    }
+
+    /**
+     * Indica se há uma verificação válida da chave com o mesmo HMAC.
+     */
+    public boolean matches(K key, byte[] digest) {
+
+        Entry entry = entries.get(key);
+        boolean hit = entry != null
+                && entry.expiresAt() - nanoClock.getAsLong() > 0
+                && MessageDigest.isEqual(entry.digest(), digest);
+
+        (hit ? hitCounter : missCounter).increment();
+        return hit;
+    }
+
+    /**
+     * Guarda a verificação da chave, substituindo a anterior, se houver espaço.
+     */
+    public void remember(K key, byte[] digest) {
+
+        long now = nanoClock.getAsLong();
+        if (entries.size() >= maxEntries) {
+            sweepExpired(now);
+            if (entries.size() >= maxEntries) {
+                return;
+            }
+        }
+
+        entries.put(key, new Entry(digest, now + ttlNanos));
+    }
+
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Remove as entradas expiradas, se já houver alguma a remover. Agenda a próxima
+     * varredura para quando a entrada mais antiga restante expirar.
+     */
+    private void sweepExpired(long now) {
+
+        if (now - nextSweepAt < 0 || !sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long earliestExpiry = now + ttlNanos;
+            for (Iterator<Entry> iterator = entries.values().iterator(); iterator.hasNext(); ) {
+                long expiresAt = iterator.next().expiresAt();
+                if (expiresAt - now <= 0) {
+                    iterator.remove();
+                } else if (expiresAt - earliestExpiry < 0) {
+                    earliestExpiry = expiresAt;
+                }
+            }
+            long minInterval = ttlNanos / SWEEPS_PER_TTL;
+            nextSweepAt = Math.max(earliestExpiry - now, minInterval) + now;
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    private static Mac newMac(SecretKeySpec key) {
+        try {
+            Mac instance = Mac.getInstance(HMAC_ALGORITHM);
+            instance.init(key);
+            return instance;
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException(HMAC_ALGORITHM + " is not available", ex);
+        }
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String metricPrefix, String result) {
+        return Counter.builder(metricPrefix + ".lookups")
+                .description("Verified secret memory lookups")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record Entry(byte[] digest, long expiresAt) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.mssousa.auth.infrastructure.security.authorization;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Propriedades de configuração das políticas de acesso compiladas.
+ * Carregadas do application.yml com prefixo "auth.access-policy".
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "auth.access-policy")
+public class AccessPolicyProperties {
+
+    /**
+     * Tempo de vida de uma política compilada, por nó. Limita a defasagem dos nós que
+     * não receberam a invalidação (ex: política restringida em outro nó).
+     */
+    @Positive(message = "TTL deve ser positivo")
+    private int ttlSeconds = 60;
+}
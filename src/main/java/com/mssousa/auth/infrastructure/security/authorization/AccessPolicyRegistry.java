@@ -0,0 +1,124 @@
+package com.mssousa.auth.infrastructure.security.authorization;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.mssousa.auth.application.service.policy.AccessPolicyChangedEvent;
+import com.mssousa.auth.domain.exception.DomainException;
+import com.mssousa.auth.domain.model.policy.AccessPolicy;
+import com.mssousa.auth.domain.model.system.SystemId;
+import com.mssousa.auth.domain.repository.AccessPolicyRepository;
+import com.mssousa.auth.domain.service.AccessPolicyProvider;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Políticas de acesso compiladas por sistema.
+ *
+ * Funcionamento:
+ * - Carregada e compilada no primeiro acesso ao sistema, uma vez por SystemId
+ * - Descartada, após o commit, quando a política do sistema é alterada; o próximo
+ *   acesso recompila a expressão gravada
+ * - A invalidação só alcança o nó que fez a alteração: cada política expira após
+ *   auth.access-policy.ttl-seconds, o que limita a defasagem dos demais nós
+ * - A carga ocorre fora do lock do mapa; uma invalidação durante a carga descarta o
+ *   resultado, que pode ter sido lido antes da alteração
+ * - Uma expressão gravada que não compila (alterada fora da aplicação) nega todo
+ *   acesso ao sistema; a expressão é lida novamente após no máximo 30 segundos, para
+ *   que a correção feita fora da aplicação seja aplicada sem reinício
+ *
+ * Métricas (prefixo auth.access-policy):
+ * - compilations: políticas carregadas e compiladas
+ * - failures: expressões gravadas inválidas
+ */
+@Slf4j
+public class AccessPolicyRegistry implements AccessPolicyProvider {
+
+    static final long FAILURE_RETRY_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private final AccessPolicyRepository accessPolicyRepository;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final Map<SystemId, Entry> policies = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final Counter compilationCounter;
+    private final Counter failureCounter;
+
+    public AccessPolicyRegistry(AccessPolicyRepository accessPolicyRepository, AccessPolicyProperties properties,
+            MeterRegistry meterRegistry) {
+        this(accessPolicyRepository, properties, meterRegistry, System::nanoTime);
+    }
+
+    AccessPolicyRegistry(AccessPolicyRepository accessPolicyRepository, AccessPolicyProperties properties,
+            MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.accessPolicyRepository = accessPolicyRepository;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(properties.getTtlSeconds());
+        this.nanoClock = nanoClock;
+        this.compilationCounter = Counter.builder("auth.access-policy.compilations")
+                .description("Access policies loaded and compiled")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("auth.access-policy.failures")
+                .description("Stored access policies that failed to compile")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public AccessPolicy forSystem(SystemId systemId) {
+
+        long now = nanoClock.getAsLong();
+        Entry entry = policies.get(systemId);
+        if (entry != null && entry.expiresAt() - now > 0) {
+            return entry.policy();
+        }
+
+        long loadGeneration = generation.get();
+        Entry loaded = load(systemId, now);
+        policies.put(systemId, loaded);
+
+        // uma invalidação ocorreu durante a carga: o resultado pode estar desatualizado
+        if (generation.get() != loadGeneration) {
+            policies.remove(systemId, loaded);
+        }
+        return loaded.policy();
+    }
+
+    /**
+     * Descarta a política do sistema após o commit da alteração.
+     * Sem transação ativa, é executado imediatamente.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAccessPolicyChanged(AccessPolicyChangedEvent event) {
+        generation.incrementAndGet();
+        policies.remove(event.systemId());
+    }
+
+    private Entry load(SystemId systemId, long now) {
+        return accessPolicyRepository.findExpression(systemId)
+                .map(expression -> compile(systemId, expression, now))
+                .orElseGet(() -> new Entry(AccessPolicy.ALLOW_ALL, now + ttlNanos));
+    }
+
+    private Entry compile(SystemId systemId, String expression, long now) {
+        compilationCounter.increment();
+        try {
+            return new Entry(AccessPolicy.compile(expression), now + ttlNanos);
+        } catch (DomainException e) {
+            failureCounter.increment();
+            log.error("Invalid access policy for system {}, denying access: {}", systemId.value(), e.getMessage());
+            return new Entry(AccessPolicy.DENY_ALL, now + Math.min(ttlNanos, FAILURE_RETRY_NANOS));
+        }
+    }
+
+    /**
+     * @param expiresAt instante (nanoTime) a partir do qual a política é recarregada
+     */
+    private record Entry(AccessPolicy policy, long expiresAt) {
+    }
+}
@@ -0,0 +1,34 @@
+package com.mssousa.auth.infrastructure.security.authorization;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Propriedades de configuração do cache de autorização.
+ * Carregadas do application.yml com prefixo "auth.authorization-cache".
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "auth.authorization-cache")
+public class AuthorizationCacheProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Tempo de vida de cada autorização em cache.
+     * Limita a defasagem caso uma alteração não passe pelos adapters (ex: SQL manual).
+     */
+    @Positive(message = "TTL seconds deve ser positivo")
+    private int ttlSeconds = 300;
+
+    /**
+     * Quantidade máxima de pares (usuário, sistema) em cache.
+     */
+    @Positive(message = "Max entries deve ser positivo")
+    private int maxEntries = 50_000;
+}
@@ -0,0 +1,32 @@
+package com.mssousa.auth.infrastructure.security.authorization;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Propriedades de configuração do registro de alterações de autorização.
+ * Carregadas do application.yml com prefixo "auth.authorization-change-feed".
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "auth.authorization-change-feed")
+public class AuthorizationChangeFeedProperties {
+
+    /**
+     * Tempo de retenção das entradas. Consumidores com versão mais antiga recebem
+     * um reset.
+     */
+    @Positive(message = "Retention hours deve ser positivo")
+    private int retentionHours = 168;
+
+    /**
+     * Intervalo entre as remoções de entradas expiradas.
+     */
+    @Positive(message = "Prune interval deve ser positivo")
+    private long pruneIntervalMs = 3_600_000;
+}
@@ -0,0 +1,32 @@
+package com.mssousa.auth.infrastructure.security.authorization;
+
+import java.time.Duration;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.mssousa.auth.domain.repository.AuthorizationChangeLogRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Remove periodicamente as entradas do registro de alterações de autorização mais
+ * antigas que a retenção configurada.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuthorizationChangeLogPruner {
+
+    private final AuthorizationChangeLogRepository changeLogRepository;
+    private final AuthorizationChangeFeedProperties properties;
+
+    @Scheduled(fixedDelayString = "${auth.authorization-change-feed.prune-interval-ms:3600000}")
+    public void prune() {
+        int removed = changeLogRepository.deleteOlderThan(Duration.ofHours(properties.getRetentionHours()));
+        if (removed > 0) {
+            log.debug("Pruned {} authorization change log entries", removed);
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package com.mssousa.auth.infrastructure.security.authorization;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.mssousa.auth.application.service.authorization.AuthorizationChangedEvent;
+import com.mssousa.auth.application.service.authorization.UserAuthorizationService;
+import com.mssousa.auth.domain.model.system.SystemId;
+import com.mssousa.auth.domain.model.user.UserId;
+import com.mssousa.auth.infrastructure.concurrent.SingleFlight;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cache em memória das autorizações calculadas, na frente do UserAuthorizationService.
+ *
+ * Funcionamento:
+ * - Chave (UserId, SystemId); usuários MASTER não passam pelo cache (não há consulta)
+ * - Cada entrada expira após o TTL; ao exceder o tamanho máximo, as expiradas são
+ *   removidas e, se necessário, entradas arbitrárias até voltar ao limite
+ * - Negações (exceção) não são armazenadas
+ * - Os conjuntos de perfis são internados na carga: usuários com os mesmos perfis
+ *   compartilham o mesmo conjunto imutável (até {@value #MAX_SHARED_ROLE_SETS}
+ *   combinações), e um hit devolve a autorização já pronta, sem alocar
+ * - Invalidação precisa por {@link AuthorizationChangedEvent}, após o commit da
+ *   transação que alterou vínculos ou perfis
+ * - Um contador de gerações descarta cargas iniciadas antes de uma invalidação,
+ *   evitando que um resultado antigo volte ao cache depois dela
+ * - Misses concorrentes do mesmo par são agrupados por um {@link SingleFlight}: uma
+ *   única consulta ao banco, cujo resultado é entregue a todas as chamadas feitas
+ *   antes da próxima invalidação
+ *
+ * Métricas (prefixo auth.authorization.cache):
+ * - lookups: consultas, por resultado (hit, miss)
+ * - evictions: remoções, por motivo (expired, size, invalidated)
+ * - load: tempo de cálculo da autorização em caso de miss
+ * - entries: pares (usuário, sistema) em cache
+ */
+@Slf4j
+public class CachingUserAuthorizationService implements UserAuthorizationService {
+
+    private static final String METRIC_PREFIX = "auth.authorization.cache";
+    private static final int MAX_SHARED_ROLE_SETS = 1024;
+
+    private final UserAuthorizationService delegate;
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final LongSupplier nanoClock;
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<Set<String>, Set<String>> sharedRoles = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final SingleFlight<Key, AuthorizedUser> loads;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter expiredCounter;
+    private final Counter sizeEvictionCounter;
+    private final Counter invalidatedCounter;
+    private final Timer loadTimer;
+
+    public CachingUserAuthorizationService(UserAuthorizationService delegate,
+            AuthorizationCacheProperties properties, MeterRegistry meterRegistry) {
+        this(delegate, properties, meterRegistry, System::nanoTime);
+    }
+
+    CachingUserAuthorizationService(UserAuthorizationService delegate,
+            AuthorizationCacheProperties properties, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+
+        this.delegate = delegate;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(properties.getTtlSeconds());
+        this.maxEntries = properties.getMaxEntries();
+        this.nanoClock = nanoClock;
+        this.loads = new SingleFlight<>("authorization", meterRegistry);
+
+        this.hitCounter = lookupCounter(meterRegistry, "hit");
+        this.missCounter = lookupCounter(meterRegistry, "miss");
+        this.expiredCounter = evictionCounter(meterRegistry, "expired");
+        this.sizeEvictionCounter = evictionCounter(meterRegistry, "size");
+        this.invalidatedCounter = evictionCounter(meterRegistry, "invalidated");
+        this.loadTimer = Timer.builder(METRIC_PREFIX + ".load")
+                .description("Time to compute an authorization on cache miss")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".entries", entries, Map::size)
+                .description("Authorizations held in cache")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public AuthorizedUser authorize(UserId userId, SystemId systemId, boolean isMaster) {
+
+        if (isMaster) {
+            return delegate.authorize(userId, systemId, true);
+        }
+
+        Key key = new Key(userId, systemId);
+        long now = nanoClock.getAsLong();
+
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            if (entry.expiresAt() - now > 0) {
+                hitCounter.increment();
+                return entry.authorizedUser();
+            }
+            if (entries.remove(key, entry)) {
+                expiredCounter.increment();
+            }
+        }
+
+        missCounter.increment();
+        return loads.load(key, generation.get(), this::load);
+    }
+
+    /**
+     * Consultas em lote não passam pelo cache: são usadas por rotinas administrativas,
+     * que esperam o estado atual do banco e não devem deslocar as entradas do login.
+     */
+    @Override
+    public Stream<UserAuthorization> authorizeAll(Collection<UserId> userIds, SystemId systemId) {
+        return delegate.authorizeAll(userIds, systemId);
+    }
+
+    /**
+     * Invalida as autorizações afetadas após o commit da alteração.
+     * Sem transação ativa, é executado imediatamente.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuthorizationChanged(AuthorizationChangedEvent event) {
+
+        generation.incrementAndGet();
+
+        int removed = 0;
+        if (event.userId() != null) {
+            if (entries.remove(new Key(event.userId(), event.systemId())) != null) {
+                removed++;
+            }
+        } else {
+            Iterator<Key> iterator = entries.keySet().iterator();
+            while (iterator.hasNext()) {
+                Key key = iterator.next();
+                if (event.affects(key.userId(), key.systemId())) {
+                    iterator.remove();
+                    removed++;
+                }
+            }
+        }
+
+        invalidatedCounter.increment(removed);
+        log.debug("Authorization cache invalidated for {}: {} entries removed", event, removed);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * Calcula e armazena a autorização. Executada por uma única thread por chave; as
+     * demais recebem o mesmo resultado (ou a mesma negação).
+     */
+    private AuthorizedUser load(Key key) {
+
+        long loadGeneration = generation.get();
+        long start = nanoClock.getAsLong();
+        AuthorizedUser authorizedUser = delegate.authorize(key.userId(), key.systemId(), false);
+        loadTimer.record(nanoClock.getAsLong() - start, TimeUnit.NANOSECONDS);
+
+        return store(key, authorizedUser, loadGeneration);
+    }
+
+    /**
+     * @return a autorização armazenada, com o conjunto de perfis compartilhado
+     */
+    private AuthorizedUser store(Key key, AuthorizedUser authorizedUser, long loadGeneration) {
+
+        AuthorizedUser shared = new AuthorizedUser(share(authorizedUser.roles()));
+
+        long now = nanoClock.getAsLong();
+        if (entries.size() >= maxEntries) {
+            evict(now);
+        }
+
+        entries.put(key, new Entry(shared, now + ttlNanos));
+
+        // uma invalidação ocorreu durante a carga: o resultado pode estar desatualizado
+        if (generation.get() != loadGeneration) {
+            entries.remove(key);
+        }
+        return shared;
+    }
+
+    /**
+     * Instância compartilhada do conjunto de perfis. Além do limite de combinações,
+     * devolve uma cópia própria.
+     */
+    private Set<String> share(Set<String> roles) {
+
+        Set<String> shared = sharedRoles.get(roles);
+        if (shared != null) {
+            return shared;
+        }
+
+        Set<String> copy = Set.copyOf(roles);
+        if (sharedRoles.size() < MAX_SHARED_ROLE_SETS) {
+            shared = sharedRoles.putIfAbsent(copy, copy);
+            return shared != null ? shared : copy;
+        }
+        return copy;
+    }
+
+    private void evict(long now) {
+
+        entries.values().removeIf(entry -> {
+            boolean expired = entry.expiresAt() - now <= 0;
+            if (expired) {
+                expiredCounter.increment();
+            }
+            return expired;
+        });
+
+        Iterator<Key> iterator = entries.keySet().iterator();
+        while (entries.size() >= maxEntries && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            sizeEvictionCounter.increment();
+        }
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(METRIC_PREFIX + ".lookups")
+                .description("Authorization cache lookups")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static Counter evictionCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder(METRIC_PREFIX + ".evictions")
+                .description("Authorizations removed from cache")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private record Key(UserId userId, SystemId systemId) {
+    }
+
+    private record Entry(AuthorizedUser authorizedUser, long expiresAt) {
+    }
+}
@@ -0,0 +1,90 @@
+package com.mssousa.auth.infrastructure.security.authorization;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.mssousa.auth.application.service.authorization.AuthorizationChangedEvent;
+import com.mssousa.auth.application.service.authorization.PermissionDictionaryProvider;
+import com.mssousa.auth.domain.model.role.PermissionDictionary;
+import com.mssousa.auth.domain.model.system.SystemId;
+import com.mssousa.auth.domain.repository.SystemRoleRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Dicionários de permissões por sistema.
+ *
+ * Funcionamento:
+ * - Carregado sob demanda a partir dos perfis do sistema, um por SystemId
+ * - Expira após o TTL do cache de autorização e é descartado, após o commit, quando
+ *   um perfil do sistema é alterado (evento sem usuário)
+ * - A carga ocorre dentro do computeIfAbsent: uma invalidação concorrente aguarda o
+ *   fim da carga e a remove
+ *
+ * Métricas (prefixo auth.authorization.permission-dictionary):
+ * - loads: dicionários carregados do banco
+ */
+public class PermissionDictionaryCache implements PermissionDictionaryProvider {
+
+    private final SystemRoleRepository systemRoleRepository;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+
+    private final Map<SystemId, Entry> dictionaries = new ConcurrentHashMap<>();
+    private final Counter loadCounter;
+
+    public PermissionDictionaryCache(SystemRoleRepository systemRoleRepository,
+            AuthorizationCacheProperties properties, MeterRegistry meterRegistry) {
+        this(systemRoleRepository, properties, meterRegistry, System::nanoTime);
+    }
+
+    PermissionDictionaryCache(SystemRoleRepository systemRoleRepository,
+            AuthorizationCacheProperties properties, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+
+        this.systemRoleRepository = systemRoleRepository;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(properties.getTtlSeconds());
+        this.nanoClock = nanoClock;
+        this.loadCounter = Counter.builder("auth.authorization.permission-dictionary.loads")
+                .description("Permission dictionaries loaded from the database")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public PermissionDictionary forSystem(SystemId systemId) {
+
+        long now = nanoClock.getAsLong();
+        Entry entry = dictionaries.get(systemId);
+        if (entry == null || entry.expiresAt() - now <= 0) {
+            if (entry != null) {
+                dictionaries.remove(systemId, entry);
+            }
+            entry = dictionaries.computeIfAbsent(systemId, this::load);
+        }
+        return entry.dictionary();
+    }
+
+    /**
+     * Descarta o dicionário do sistema após o commit de uma alteração de perfis.
+     * Sem transação ativa, é executado imediatamente.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuthorizationChanged(AuthorizationChangedEvent event) {
+        if (event.userId() == null) {
+            dictionaries.remove(event.systemId());
+        }
+    }
+
+    private Entry load(SystemId systemId) {
+        loadCounter.increment();
+        PermissionDictionary dictionary = PermissionDictionary.of(systemId, systemRoleRepository.findBySystemId(systemId));
+        return new Entry(dictionary, nanoClock.getAsLong() + ttlNanos);
+    }
+
+    private record Entry(PermissionDictionary dictionary, long expiresAt) {
+    }
+}
@@ -0,0 +1,242 @@
+package com.mssousa.auth.infrastructure.security.client;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.mssousa.auth.application.service.client.ClientRegistry;
+import com.mssousa.auth.application.service.client.ClientSystemChangedEvent;
+import com.mssousa.auth.domain.model.system.ClientSystem;
+import com.mssousa.auth.domain.repository.ClientSystemRepository;
+import com.mssousa.auth.infrastructure.concurrent.SingleFlight;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Snapshot em memória dos clients, consultado a cada emissão de token.
+ *
+ * Funcionamento:
+ * - Todos os clients são carregados quando a aplicação fica pronta; os demais são
+ *   carregados sob demanda, com consultas concorrentes do mesmo clientId agrupadas
+ * - Clients inativos ficam em memória como os ativos (a validação os rejeita)
+ * - ClientIds desconhecidos são guardados em um cache negativo, com TTL curto e
+ *   tamanho limitado (removendo os expirados ao atingir o limite)
+ * - Refresh-ahead: um client consultado nos últimos segundos antes de expirar é
+ *   recarregado em segundo plano, uma recarga por vez por clientId; a consulta
+ *   continua respondendo com o valor atual
+ * - Invalidação por {@link ClientSystemChangedEvent}, após o commit da alteração;
+ *   um contador de gerações descarta cargas iniciadas antes da invalidação
+ *
+ * Métricas (prefixo auth.client-registry):
+ * - lookups: consultas, por resultado (hit, negative, miss)
+ * - refreshes: recargas em segundo plano
+ * - entries: clients em memória
+ */
+@Slf4j
+public class CachingClientRegistry implements ClientRegistry {
+
+    private static final String METRIC_PREFIX = "auth.client-registry";
+
+    private final ClientSystemRepository clientSystemRepository;
+    private final long ttlNanos;
+    private final long refreshAheadNanos;
+    private final long negativeTtlNanos;
+    private final int maxNegativeEntries;
+    private final Executor refreshExecutor;
+    private final LongSupplier nanoClock;
+
+    private final Map<String, Entry> clients = new ConcurrentHashMap<>();
+    private final Map<String, Long> unknown = new ConcurrentHashMap<>();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final AtomicLong generation = new AtomicLong();
+    private final SingleFlight<String, Optional<ClientSystem>> loads;
+
+    private final Counter hitCounter;
+    private final Counter negativeHitCounter;
+    private final Counter missCounter;
+    private final Counter refreshCounter;
+
+    public CachingClientRegistry(ClientSystemRepository clientSystemRepository,
+            ClientRegistryProperties properties, MeterRegistry meterRegistry) {
+        this(clientSystemRepository, properties, meterRegistry, newRefreshExecutor(), System::nanoTime);
+    }
+
+    CachingClientRegistry(ClientSystemRepository clientSystemRepository, ClientRegistryProperties properties,
+            MeterRegistry meterRegistry, Executor refreshExecutor, LongSupplier nanoClock) {
+
+        this.clientSystemRepository = clientSystemRepository;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(properties.getTtlSeconds());
+        this.refreshAheadNanos = Math.min(TimeUnit.SECONDS.toNanos(properties.getRefreshAheadSeconds()), ttlNanos);
+        this.negativeTtlNanos = TimeUnit.SECONDS.toNanos(properties.getNegativeTtlSeconds());
+        this.maxNegativeEntries = properties.getMaxNegativeEntries();
+        this.refreshExecutor = refreshExecutor;
+        this.nanoClock = nanoClock;
+        this.loads = new SingleFlight<>("client", meterRegistry);
+
+        this.hitCounter = lookupCounter(meterRegistry, "hit");
+        this.negativeHitCounter = lookupCounter(meterRegistry, "negative");
+        this.missCounter = lookupCounter(meterRegistry, "miss");
+        this.refreshCounter = Counter.builder(METRIC_PREFIX + ".refreshes")
+                .description("Clients reloaded ahead of expiration")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".entries", clients, Map::size)
+                .description("Clients held in memory")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Optional<ClientSystem> findByClientId(String clientId) {
+
+        long now = nanoClock.getAsLong();
+
+        Entry entry = clients.get(clientId);
+        if (entry != null && entry.expiresAt() - now > 0) {
+            hitCounter.increment();
+            if (entry.expiresAt() - now <= refreshAheadNanos) {
+                refreshAhead(clientId);
+            }
+            return entry.client();
+        }
+
+        Long unknownUntil = unknown.get(clientId);
+        if (unknownUntil != null && unknownUntil - now > 0) {
+            negativeHitCounter.increment();
+            return Optional.empty();
+        }
+
+        missCounter.increment();
+        return loads.load(clientId, generation.get(), this::load);
+    }
+
+    /**
+     * Carrega todos os clients. Uma falha não impede a inicialização: os clients
+     * passam a ser carregados sob demanda.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadSnapshot() {
+        try {
+            long loadGeneration = generation.get();
+            List<ClientSystem> all = clientSystemRepository.findAll();
+            all.forEach(client -> store(client.getClientId(), Optional.of(client), loadGeneration));
+            log.info("Loaded {} clients into the client registry", all.size());
+
+        } catch (DataAccessException ex) {
+            log.warn("Failed to load the client registry snapshot", ex);
+        }
+    }
+
+    /**
+     * Descarta o client após o commit da alteração. Sem transação ativa, é executado
+     * imediatamente.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onClientSystemChanged(ClientSystemChangedEvent event) {
+        generation.incrementAndGet();
+        clients.remove(event.clientId());
+        unknown.remove(event.clientId());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (refreshExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    int size() {
+        return clients.size();
+    }
+
+    private void refreshAhead(String clientId) {
+
+        if (!refreshing.add(clientId)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    refreshCounter.increment();
+                    loads.load(clientId, generation.get(), this::load);
+                } catch (RuntimeException ex) {
+                    // o valor atual continua válido até expirar; a próxima consulta tenta de novo
+                    log.warn("Failed to refresh client {}", clientId, ex);
+                } finally {
+                    refreshing.remove(clientId);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            refreshing.remove(clientId);
+        }
+    }
+
+    private Optional<ClientSystem> load(String clientId) {
+        long loadGeneration = generation.get();
+        Optional<ClientSystem> client = clientSystemRepository.findByClientId(clientId);
+        store(clientId, client, loadGeneration);
+        return client;
+    }
+
+    private void store(String clientId, Optional<ClientSystem> client, long loadGeneration) {
+
+        long now = nanoClock.getAsLong();
+
+        if (client.isPresent()) {
+            clients.put(clientId, new Entry(client, now + ttlNanos));
+            unknown.remove(clientId);
+        } else {
+            clients.remove(clientId);
+            if (unknown.size() >= maxNegativeEntries) {
+                unknown.values().removeIf(expiresAt -> expiresAt - now <= 0);
+            }
+            if (unknown.size() < maxNegativeEntries) {
+                unknown.put(clientId, now + negativeTtlNanos);
+            }
+        }
+
+        // uma invalidação ocorreu durante a carga: o resultado pode estar desatualizado
+        if (generation.get() != loadGeneration) {
+            clients.remove(clientId);
+            unknown.remove(clientId);
+        }
+    }
+
+    private static ExecutorService newRefreshExecutor() {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "client-registry-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(METRIC_PREFIX + ".lookups")
+                .description("Client registry lookups")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param client    client carregado (sempre presente; Optional para evitar alocação por consulta)
+     * @param expiresAt instante de expiração, em nanos do relógio monotônico
+     */
+    private record Entry(Optional<ClientSystem> client, long expiresAt) {
+    }
+}
@@ -0,0 +1,49 @@
+package com.mssousa.auth.infrastructure.security.client;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Propriedades de configuração do registro de clients em memória.
+ * Carregadas do application.yml com prefixo "auth.client-registry".
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "auth.client-registry")
+public class ClientRegistryProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Tempo de vida de cada client em memória.
+     * Limita a defasagem caso uma alteração não passe pelo adapter (ex: SQL manual).
+     */
+    @Positive(message = "TTL seconds deve ser positivo")
+    private int ttlSeconds = 600;
+
+    /**
+     * Antecedência, em relação à expiração, com que um client consultado é recarregado
+     * em segundo plano. Clients em uso nunca chegam a expirar.
+     */
+    @PositiveOrZero(message = "Refresh ahead seconds não pode ser negativo")
+    private int refreshAheadSeconds = 120;
+
+    /**
+     * Tempo de vida dos clientIds desconhecidos (cache negativo).
+     */
+    @Positive(message = "Negative TTL seconds deve ser positivo")
+    private int negativeTtlSeconds = 60;
+
+    /**
+     * Quantidade máxima de clientIds desconhecidos em memória. Os ids são informados
+     * pelo chamador, por isso o cache negativo precisa de limite.
+     */
+    @Positive(message = "Max negative entries deve ser positivo")
+    private int maxNegativeEntries = 10_000;
+}
@@ -0,0 +1,36 @@
+package com.mssousa.auth.infrastructure.security.client;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Propriedades de configuração do cache de client secrets verificados.
+ * Carregadas do application.yml com prefixo "auth.client-secret-cache".
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "auth.client-secret-cache")
+public class ClientSecretCacheProperties {
+
+    /**
+     * Habilitado por padrão: clients repetem o mesmo secret a cada requisição de token.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Tempo de vida de cada verificação em cache.
+     */
+    @Positive(message = "TTL seconds deve ser positivo")
+    private int ttlSeconds = 300;
+
+    /**
+     * Quantidade máxima de secrets em cache.
+     */
+    @Positive(message = "Max entries deve ser positivo")
+    private int maxEntries = 10_000;
+}
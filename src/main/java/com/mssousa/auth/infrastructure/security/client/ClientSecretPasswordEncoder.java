@@ -0,0 +1,34 @@
+package com.mssousa.auth.infrastructure.security.client;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.mssousa.auth.application.service.client.ClientSecretVerifier;
+import com.mssousa.auth.domain.model.system.ClientSecret;
+import com.mssousa.auth.domain.service.PasswordHasher;
+
+/**
+ * PasswordEncoder usado pelo Spring Authorization Server na autenticação de clients.
+ *
+ * O RegisteredClient carrega o hash armazenado em ClientSystem; a comparação é
+ * delegada ao {@link ClientSecretVerifier}, que memoriza verificações recentes.
+ */
+public class ClientSecretPasswordEncoder implements PasswordEncoder {
+
+    private final ClientSecretVerifier clientSecretVerifier;
+    private final PasswordHasher passwordHasher;
+
+    public ClientSecretPasswordEncoder(ClientSecretVerifier clientSecretVerifier, PasswordHasher passwordHasher) {
+        this.clientSecretVerifier = clientSecretVerifier;
+        this.passwordHasher = passwordHasher;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return ClientSecret.fromPlainText(rawPassword.toString(), passwordHasher).hashedValue();
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return rawPassword != null && clientSecretVerifier.matches(rawPassword.toString(), encodedPassword);
+    }
+}
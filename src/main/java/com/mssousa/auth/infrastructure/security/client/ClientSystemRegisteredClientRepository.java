@@ -0,0 +1,223 @@
+package com.mssousa.auth.infrastructure.security.client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.ClientAuthenticationMethod;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClient;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClientRepository;
+
+import com.mssousa.auth.application.service.client.ClientRegistry;
+import com.mssousa.auth.domain.model.system.ClientAuthMethod;
+import com.mssousa.auth.domain.model.system.ClientGrantType;
+import com.mssousa.auth.domain.model.system.ClientSystem;
+import com.mssousa.auth.domain.model.system.RedirectUriMatcher;
+import com.mssousa.auth.domain.model.system.SystemId;
+import com.mssousa.auth.domain.model.system.SystemStatus;
+import com.mssousa.auth.domain.repository.ClientSystemRepository;
+
+/**
+ * RegisteredClientRepository do Spring Authorization Server servido pelo ClientRegistry.
+ *
+ * Funcionamento:
+ * - A autenticação do client e o JwtTokenCustomizer consultam o mesmo ClientRegistry,
+ *   e portanto recebem a mesma instância de ClientSystem em memória
+ * - O RegisteredClient é montado uma única vez por instância de ClientSystem e
+ *   reaproveitado enquanto o registro devolver essa mesma instância; quando o client
+ *   é alterado, o registro devolve uma nova instância e o RegisteredClient é remontado
+ * - Clients inativos ou desconhecidos resultam em null (invalid_client)
+ * - O id do RegisteredClient é o id do sistema
+ * - O secret é o hash armazenado, verificado pelo ClientSecretPasswordEncoder
+ * - Fluxos e formas de autenticação são os configurados em cada ClientSystem
+ * - URIs de loopback com porta curinga são registradas sem a porta; o redirect_uri
+ *   das requisições é validado pelo RegisteredRedirectUriValidator, com as URIs
+ *   originais do ClientSystem
+ *
+ * save grava o client como ClientSystem (ver {@link #save(RegisteredClient)}).
+ */
+public class ClientSystemRegisteredClientRepository implements RegisteredClientRepository {
+
+    private final ClientRegistry clientRegistry;
+    private final ClientSystemRepository clientSystemRepository;
+
+    private final Map<String, View> views = new ConcurrentHashMap<>();
+    private final Map<String, String> clientIdsById = new ConcurrentHashMap<>();
+
+    public ClientSystemRegisteredClientRepository(ClientRegistry clientRegistry,
+            ClientSystemRepository clientSystemRepository) {
+        this.clientRegistry = clientRegistry;
+        this.clientSystemRepository = clientSystemRepository;
+    }
+
+    @Override
+    public RegisteredClient findByClientId(String clientId) {
+
+        Optional<ClientSystem> client = clientRegistry.findByClientId(clientId);
+        if (client.isEmpty()) {
+            views.remove(clientId);
+            return null;
+        }
+        if (!client.get().isActive()) {
+            return null;
+        }
+        return viewOf(client.get());
+    }
+
+    /**
+     * Usado pelo Authorization Server ao recarregar autorizações persistidas
+     * (ex: refresh token). O id é resolvido para o clientId pelo índice em memória
+     * ou, na primeira vez, pelo banco.
+     */
+    @Override
+    public RegisteredClient findById(String id) {
+
+        SystemId systemId = parseId(id);
+        if (systemId == null) {
+            return null;
+        }
+
+        String clientId = clientIdsById.get(id);
+        if (clientId == null) {
+            Optional<ClientSystem> client = clientSystemRepository.findById(systemId);
+            if (client.isEmpty()) {
+                return null;
+            }
+            clientId = client.get().getClientId();
+        }
+
+        RegisteredClient registeredClient = findByClientId(clientId);
+        if (registeredClient == null || !registeredClient.getId().equals(id)) {
+            clientIdsById.remove(id);
+            return null;
+        }
+        return registeredClient;
+    }
+
+    /**
+     * Grava o client como ClientSystem, pelo ClientSystemRepository; o evento publicado
+     * pela gravação atualiza o ClientRegistry e, com ele, este repositório.
+     * <p>
+     * O id deve ser o id do sistema, o secret deve vir codificado pelo PasswordEncoder
+     * (ClientSecretPasswordEncoder) e a primeira URI de redirecionamento passa a ser a
+     * principal. Um client existente mantém o seu status; um novo é criado ativo.
+     * Fluxos ou formas de autenticação sem equivalente no domínio são rejeitados.
+     * </p>
+     *
+     * @throws IllegalArgumentException se o client não puder ser representado como ClientSystem
+     */
+    @Override
+    public void save(RegisteredClient registeredClient) {
+
+        SystemId systemId = parseId(registeredClient.getId());
+        if (systemId == null) {
+            throw new IllegalArgumentException("O id do RegisteredClient deve ser o id do sistema: "
+                    + registeredClient.getId());
+        }
+        if (registeredClient.getRedirectUris().isEmpty()) {
+            throw new IllegalArgumentException("O client deve ter ao menos uma URI de redirecionamento");
+        }
+
+        List<String> redirectUris = new ArrayList<>(registeredClient.getRedirectUris());
+        ClientSystem client = ClientSystem.builder()
+                .id(systemId)
+                .clientId(registeredClient.getClientId())
+                .clientSecret(registeredClient.getClientSecret())
+                .name(registeredClient.getClientName())
+                .redirectUri(redirectUris.get(0))
+                .redirectUris(redirectUris.subList(1, redirectUris.size()))
+                .grantTypes(registeredClient.getAuthorizationGrantTypes().stream()
+                        .map(ClientSystemRegisteredClientRepository::toGrantType)
+                        .toList())
+                .authMethods(registeredClient.getClientAuthenticationMethods().stream()
+                        .map(ClientSystemRegisteredClientRepository::toAuthMethod)
+                        .toList())
+                .status(clientSystemRepository.findById(systemId)
+                        .map(ClientSystem::getStatus)
+                        .orElse(SystemStatus.ACTIVE))
+                .build();
+
+        clientSystemRepository.save(client);
+    }
+
+    private RegisteredClient viewOf(ClientSystem client) {
+
+        View view = views.get(client.getClientId());
+        if (view != null && view.source() == client) {
+            return view.registeredClient();
+        }
+
+        RegisteredClient registeredClient = toRegisteredClient(client);
+        views.put(client.getClientId(), new View(client, registeredClient));
+        clientIdsById.put(registeredClient.getId(), client.getClientId());
+        return registeredClient;
+    }
+
+    static RegisteredClient toRegisteredClient(ClientSystem client) {
+        return RegisteredClient.withId(String.valueOf(client.getId().value()))
+                .clientId(client.getClientId())
+                .clientSecret(client.getClientSecret())
+                .clientName(client.getName())
+                .clientAuthenticationMethods(methods -> client.getAuthMethods().stream()
+                        .map(ClientSystemRegisteredClientRepository::toAuthenticationMethod)
+                        .forEach(methods::add))
+                .authorizationGrantTypes(grants -> client.getGrantTypes().stream()
+                        .map(ClientSystemRegisteredClientRepository::toAuthorizationGrantType)
+                        .forEach(grants::add))
+                .redirectUris(uris -> client.getRedirectUris().stream()
+                        .map(RedirectUriMatcher::withoutPortWildcard)
+                        .forEach(uris::add))
+                .build();
+    }
+
+    private static AuthorizationGrantType toAuthorizationGrantType(ClientGrantType grantType) {
+        return switch (grantType) {
+            case AUTHORIZATION_CODE -> AuthorizationGrantType.AUTHORIZATION_CODE;
+            case REFRESH_TOKEN -> AuthorizationGrantType.REFRESH_TOKEN;
+            case CLIENT_CREDENTIALS -> AuthorizationGrantType.CLIENT_CREDENTIALS;
+        };
+    }
+
+    private static ClientAuthenticationMethod toAuthenticationMethod(ClientAuthMethod authMethod) {
+        return switch (authMethod) {
+            case CLIENT_SECRET_BASIC -> ClientAuthenticationMethod.CLIENT_SECRET_BASIC;
+            case CLIENT_SECRET_POST -> ClientAuthenticationMethod.CLIENT_SECRET_POST;
+        };
+    }
+
+    private static ClientGrantType toGrantType(AuthorizationGrantType grantType) {
+        for (ClientGrantType candidate : ClientGrantType.values()) {
+            if (toAuthorizationGrantType(candidate).equals(grantType)) {
+                return candidate;
+            }
+        }
+        throw new IllegalArgumentException("Fluxo OAuth2 não suportado: " + grantType.getValue());
+    }
+
+    private static ClientAuthMethod toAuthMethod(ClientAuthenticationMethod authenticationMethod) {
+        for (ClientAuthMethod candidate : ClientAuthMethod.values()) {
+            if (toAuthenticationMethod(candidate).equals(authenticationMethod)) {
+                return candidate;
+            }
+        }
+        throw new IllegalArgumentException("Forma de autenticação não suportada: " + authenticationMethod.getValue());
+    }
+
+    private static SystemId parseId(String id) {
+        try {
+            return SystemId.of(Long.parseLong(id));
+        } catch (RuntimeException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * @param source           instância do registro a partir da qual o client foi montado
+     * @param registeredClient client montado (imutável)
+     */
+    private record View(ClientSystem source, RegisteredClient registeredClient) {
+    }
+}
@@ -0,0 +1,83 @@
+package com.mssousa.auth.infrastructure.security.client;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import com.mssousa.auth.application.service.client.ClientSecretVerifier;
+import com.mssousa.auth.domain.model.system.ClientSecret;
+import com.mssousa.auth.domain.service.PasswordHasher;
+import com.mssousa.auth.infrastructure.security.HmacVerificationMemo;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Verificador de client secrets com memória, por nó, das verificações recentes.
+ *
+ * Funcionamento:
+ * - Guarda, por hash armazenado, um HMAC de (secret, hash) em um {@link HmacVerificationMemo}
+ * - Apenas verificações bem-sucedidas são guardadas; um secret errado sempre
+ *   executa o algoritmo de hash
+ * - A entrada é indexada pelo hash armazenado: ao trocar o secret
+ *   (ClientSystem.updateClientSecret) o hash muda e as verificações anteriores
+ *   deixam de ser encontradas em todos os nós, sem depender de invalidação
+ *
+ * Métricas (prefixo auth.client-secret.verified-cache):
+ * - lookups: consultas, por resultado (hit, miss)
+ * - entries: secrets em cache
+ */
+@Slf4j
+public class MemoizingClientSecretVerifier implements ClientSecretVerifier {
+
+    private static final String METRIC_PREFIX = "auth.client-secret.verified-cache";
+
+    private final PasswordHasher passwordHasher;
+    private final boolean enabled;
+    private final HmacVerificationMemo<String> memo;
+
+    public MemoizingClientSecretVerifier(PasswordHasher passwordHasher, ClientSecretCacheProperties properties,
+            MeterRegistry meterRegistry) {
+        this(passwordHasher, properties, meterRegistry, System::nanoTime);
+    }
+
+    MemoizingClientSecretVerifier(PasswordHasher passwordHasher, ClientSecretCacheProperties properties,
+            MeterRegistry meterRegistry, LongSupplier nanoClock) {
+
+        this.passwordHasher = passwordHasher;
+        this.enabled = properties.isEnabled();
+        this.memo = new HmacVerificationMemo<>(METRIC_PREFIX,
+                TimeUnit.SECONDS.toNanos(properties.getTtlSeconds()), properties.getMaxEntries(),
+                meterRegistry, nanoClock);
+
+        if (enabled) {
+            log.info("Client secret cache enabled: ttlSeconds={}, maxEntries={}",
+                    properties.getTtlSeconds(), properties.getMaxEntries());
+        }
+    }
+
+    @Override
+    public boolean matches(String providedSecret, String hashedSecret) {
+
+        if (providedSecret == null || hashedSecret == null || hashedSecret.isBlank()) {
+            return false;
+        }
+        if (!enabled) {
+            return ClientSecret.fromHash(hashedSecret).matches(providedSecret, passwordHasher);
+        }
+
+        byte[] digest = memo.digest(providedSecret, hashedSecret);
+        if (memo.matches(hashedSecret, digest)) {
+            return true;
+        }
+        if (!ClientSecret.fromHash(hashedSecret).matches(providedSecret, passwordHasher)) {
+            return false;
+        }
+
+        memo.remember(hashedSecret, digest);
+        return true;
+    }
+
+    int size() {
+        return memo.size();
+    }
+}
@@ -0,0 +1,86 @@
+package com.mssousa.auth.infrastructure.security.client;
+
+import java.util.function.Consumer;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames;
+import org.springframework.security.oauth2.server.authorization.authentication.OAuth2AuthorizationCodeRequestAuthenticationContext;
+import org.springframework.security.oauth2.server.authorization.authentication.OAuth2AuthorizationCodeRequestAuthenticationException;
+import org.springframework.security.oauth2.server.authorization.authentication.OAuth2AuthorizationCodeRequestAuthenticationToken;
+import org.springframework.security.oauth2.server.authorization.authentication.OAuth2AuthorizationCodeRequestAuthenticationValidator;
+import org.springframework.util.StringUtils;
+
+import com.mssousa.auth.application.service.client.ClientRegistry;
+
+/**
+ * Validação do redirect_uri das requisições de autorização (authorize e PAR) pelas
+ * URIs registradas no ClientSystem.
+ *
+ * Funcionamento:
+ * - Substitui a etapa de redirect_uri do validador padrão do Authorization Server;
+ *   a validação de escopos continua sendo a padrão
+ * - O ClientSystem vem do ClientRegistry, a mesma instância em memória que originou o
+ *   RegisteredClient; a comparação usa o RedirectUriMatcher compilado nela
+ * - Porta variável só é aceita nas URIs registradas com porta curinga (:*); as demais
+ *   URIs, inclusive de loopback, são comparadas exatamente
+ * - Sem redirect_uri na requisição, vale a regra padrão (uma única URI registrada e
+ *   sem escopo openid)
+ * - Em caso de recusa, o erro não é enviado ao redirect_uri informado
+ */
+public class RegisteredRedirectUriValidator implements Consumer<OAuth2AuthorizationCodeRequestAuthenticationContext> {
+
+    private static final String ERROR_URI = "https://datatracker.ietf.org/doc/html/rfc6749#section-4.1.2.1";
+
+    private final ClientRegistry clientRegistry;
+
+    public RegisteredRedirectUriValidator(ClientRegistry clientRegistry) {
+        this.clientRegistry = clientRegistry;
+    }
+
+    /**
+     * Validador completo: redirect_uri pelo ClientSystem, escopos pelo padrão.
+     */
+    public Consumer<OAuth2AuthorizationCodeRequestAuthenticationContext> withDefaultScopeValidation() {
+        return andThen(OAuth2AuthorizationCodeRequestAuthenticationValidator.DEFAULT_SCOPE_VALIDATOR);
+    }
+
+    @Override
+    public void accept(OAuth2AuthorizationCodeRequestAuthenticationContext context) {
+
+        OAuth2AuthorizationCodeRequestAuthenticationToken authentication = context.getAuthentication();
+        String redirectUri = authentication.getRedirectUri();
+
+        if (!StringUtils.hasText(redirectUri)) {
+            OAuth2AuthorizationCodeRequestAuthenticationValidator.DEFAULT_REDIRECT_URI_VALIDATOR.accept(context);
+            return;
+        }
+
+        boolean matches = redirectUri.indexOf('#') < 0
+                && clientRegistry.findByClientId(context.getRegisteredClient().getClientId())
+                        .map(client -> client.matchesRedirectUri(redirectUri))
+                        .orElse(false);
+
+        if (!matches) {
+            throw invalidRedirectUri(authentication);
+        }
+    }
+
+    private static OAuth2AuthorizationCodeRequestAuthenticationException invalidRedirectUri(
+            OAuth2AuthorizationCodeRequestAuthenticationToken authentication) {
+
+        OAuth2Error error = new OAuth2Error(OAuth2ErrorCodes.INVALID_REQUEST,
+                "OAuth 2.0 Parameter: " + OAuth2ParameterNames.REDIRECT_URI, ERROR_URI);
+
+        // sem o redirect_uri recusado: o erro é exibido, não redirecionado
+        OAuth2AuthorizationCodeRequestAuthenticationToken result =
+                new OAuth2AuthorizationCodeRequestAuthenticationToken(
+                        authentication.getAuthorizationUri(), authentication.getClientId(),
+                        (Authentication) authentication.getPrincipal(), null, authentication.getState(),
+                        authentication.getScopes(), authentication.getAdditionalParameters());
+        result.setAuthenticated(true);
+
+        return new OAuth2AuthorizationCodeRequestAuthenticationException(error, result);
+    }
+}
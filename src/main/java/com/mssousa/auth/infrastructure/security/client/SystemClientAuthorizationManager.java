@@ -0,0 +1,44 @@
+package com.mssousa.auth.infrastructure.security.client;
+
+import java.util.function.Supplier;
+
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationResult;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+/**
+ * Restringe os endpoints /api/systems/{clientId}/... ao próprio sistema.
+ *
+ * Regras:
+ * - Exige um JWT client_credentials emitido para o client do caminho: "sub" e "aud"
+ *   iguais ao {clientId}
+ * - Tokens de usuário são recusados: carregam o claim "client_id" (adicionado pelo
+ *   JwtTokenCustomizer), e "sub" é o id do usuário
+ * - Qualquer outro chamador, inclusive o token de outro sistema, recebe 403
+ */
+public class SystemClientAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+    static final String CLIENT_ID_VARIABLE = "clientId";
+
+    @Override
+    public AuthorizationResult authorize(Supplier<? extends Authentication> authentication,
+            RequestAuthorizationContext context) {
+
+        String clientId = context.getVariables().get(CLIENT_ID_VARIABLE);
+        if (clientId == null || !(authentication.get() instanceof JwtAuthenticationToken token)) {
+            return new AuthorizationDecision(false);
+        }
+
+        Jwt jwt = token.getToken();
+        boolean granted = clientId.equals(jwt.getSubject())
+                && jwt.getAudience() != null
+                && jwt.getAudience().contains(clientId)
+                && !jwt.hasClaim("client_id");
+
+        return new AuthorizationDecision(granted);
+    }
+}
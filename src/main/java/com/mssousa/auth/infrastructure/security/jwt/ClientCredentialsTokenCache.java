@@ -0,0 +1,227 @@
+package com.mssousa.auth.infrastructure.security.jwt;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.OAuth2Token;
+import org.springframework.security.oauth2.server.authorization.OAuth2TokenType;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClient;
+import org.springframework.security.oauth2.server.authorization.token.OAuth2TokenContext;
+import org.springframework.security.oauth2.server.authorization.token.OAuth2TokenGenerator;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.mssousa.auth.application.service.client.ClientSystemChangedEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reutilização de access tokens client_credentials, para clients que optaram por ela.
+ *
+ * Funcionamento:
+ * - {@link #decorate(OAuth2TokenGenerator)} envolve o gerador de tokens do
+ *   Authorization Server; apenas access tokens client_credentials de clients em
+ *   auth.client-token-cache.client-ids passam pelo cache, os demais vão direto ao gerador
+ * - Chave: clientId e conjunto de scopes autorizados
+ * - O token é devolvido enquanto não tiver passado a fração configurada de
+ *   auth.jwt.expiration-ms (limitada ao tempo de vida do próprio token); depois
+ *   disso, a próxima requisição gera um novo token
+ * - Cada entrada guarda o hash do secret com que o client se autenticou: uma troca
+ *   de secret não reaproveita tokens, mesmo que a invalidação não chegue a este nó
+ * - Invalidação por {@link ClientSystemChangedEvent} (ex: client desativado ou secret
+ *   trocado), após o commit; um contador de gerações descarta tokens gerados antes
+ *   da invalidação
+ * - Tamanho limitado: com o cache cheio, entradas vencidas são removidas e, se
+ *   ainda não houver espaço, o novo token simplesmente não é guardado
+ * - A varredura das vencidas é amortizada: roda em uma thread por vez e só
+ *   depois que a entrada mais antiga pode ter vencido (e no máximo uma vez a
+ *   cada 1/8 da janela de reutilização); até lá, tokens gerados com o cache
+ *   cheio são descartados sem varrer
+ *
+ * Métricas (prefixo auth.client-token-cache):
+ * - lookups: consultas, por resultado (hit, miss)
+ * - entries: tokens em cache
+ */
+@Slf4j
+public class ClientCredentialsTokenCache {
+
+    private static final String METRIC_PREFIX = "auth.client-token-cache";
+    private static final int SWEEPS_PER_TTL = 8;
+
+    private final Set<String> clientIds;
+    private final long reuseNanos;
+    private final double reuseFraction;
+    private final int maxEntries;
+    private final LongSupplier nanoClock;
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+    private volatile long nextSweepAt;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public ClientCredentialsTokenCache(ClientTokenCacheProperties properties, JwtProperties jwtProperties,
+            MeterRegistry meterRegistry) {
+        this(properties, jwtProperties, meterRegistry, System::nanoTime);
+    }
+
+    ClientCredentialsTokenCache(ClientTokenCacheProperties properties, JwtProperties jwtProperties,
+            MeterRegistry meterRegistry, LongSupplier nanoClock) {
+
+        this.clientIds = Set.copyOf(properties.getClientIds());
+        this.reuseFraction = properties.getReuseFraction();
+        this.reuseNanos = (long) (TimeUnit.MILLISECONDS.toNanos(jwtProperties.getExpirationMs()) * reuseFraction);
+        this.maxEntries = properties.getMaxEntries();
+        this.nanoClock = nanoClock;
+        this.nextSweepAt = nanoClock.getAsLong();
+
+        this.hitCounter = lookupCounter(meterRegistry, "hit");
+        this.missCounter = lookupCounter(meterRegistry, "miss");
+        Gauge.builder(METRIC_PREFIX + ".entries", entries, Map::size)
+                .description("Client credentials access tokens in cache")
+                .register(meterRegistry);
+
+        if (!clientIds.isEmpty()) {
+            log.info("Client token cache enabled for {} clients: reuseFraction={}", clientIds.size(), reuseFraction);
+        }
+    }
+
+    /**
+     * Envolve o gerador de tokens. Sem clients habilitados, devolve o próprio gerador.
+     */
+    @SuppressWarnings("unchecked")
+    public OAuth2TokenGenerator<OAuth2Token> decorate(OAuth2TokenGenerator<? extends OAuth2Token> delegate) {
+        OAuth2TokenGenerator<OAuth2Token> generator = (OAuth2TokenGenerator<OAuth2Token>) delegate;
+        if (clientIds.isEmpty()) {
+            return generator;
+        }
+        return context -> isCacheable(context) ? generate(context, generator) : generator.generate(context);
+    }
+
+    /**
+     * Descarta os tokens do client após o commit da alteração. Sem transação ativa,
+     * é executado imediatamente.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onClientSystemChanged(ClientSystemChangedEvent event) {
+        generation.incrementAndGet();
+        entries.keySet().removeIf(key -> key.clientId().equals(event.clientId()));
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private boolean isCacheable(OAuth2TokenContext context) {
+        return AuthorizationGrantType.CLIENT_CREDENTIALS.equals(context.getAuthorizationGrantType())
+                && OAuth2TokenType.ACCESS_TOKEN.equals(context.getTokenType())
+                && clientIds.contains(context.getRegisteredClient().getClientId());
+    }
+
+    private OAuth2Token generate(OAuth2TokenContext context, OAuth2TokenGenerator<OAuth2Token> delegate) {
+
+        RegisteredClient client = context.getRegisteredClient();
+        Key key = new Key(client.getClientId(), Set.copyOf(context.getAuthorizedScopes()));
+        long now = nanoClock.getAsLong();
+
+        Entry entry = entries.get(key);
+        if (entry != null && entry.reuseUntil() - now > 0
+                && entry.clientSecret().equals(String.valueOf(client.getClientSecret()))) {
+            hitCounter.increment();
+            return entry.token();
+        }
+
+        missCounter.increment();
+        long tokenGeneration = generation.get();
+        OAuth2Token token = delegate.generate(context);
+        if (token != null) {
+            store(key, new Entry(token, String.valueOf(client.getClientSecret()), now + reuseNanos(token)),
+                    tokenGeneration, now);
+        }
+        return token;
+    }
+
+    /**
+     * Janela de reutilização: a fração de auth.jwt.expiration-ms, limitada à mesma
+     * fração do tempo de vida do token gerado.
+     */
+    private long reuseNanos(OAuth2Token token) {
+        if (token.getIssuedAt() == null || token.getExpiresAt() == null) {
+            return reuseNanos;
+        }
+        long lifetimeNanos = Duration.between(token.getIssuedAt(), token.getExpiresAt()).toNanos();
+        return Math.min(reuseNanos, (long) (lifetimeNanos * reuseFraction));
+    }
+
+    private void store(Key key, Entry entry, long tokenGeneration, long now) {
+
+        if (entries.size() >= maxEntries) {
+            sweepExpired(now);
+            if (entries.size() >= maxEntries) {
+                return;
+            }
+        }
+
+        entries.put(key, entry);
+
+        // uma invalidação ocorreu durante a geração: o token pode ser de um client alterado
+        if (generation.get() != tokenGeneration) {
+            entries.remove(key, entry);
+        }
+    }
+
+    /**
+     * Remove as entradas vencidas, se já houver alguma a remover. Agenda a próxima
+     * varredura para quando a entrada mais antiga restante vencer.
+     */
+    private void sweepExpired(long now) {
+
+        if (now - nextSweepAt < 0 || !sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long earliestExpiry = now + reuseNanos;
+            for (Iterator<Entry> iterator = entries.values().iterator(); iterator.hasNext(); ) {
+                long reuseUntil = iterator.next().reuseUntil();
+                if (reuseUntil - now <= 0) {
+                    iterator.remove();
+                } else if (reuseUntil - earliestExpiry < 0) {
+                    earliestExpiry = reuseUntil;
+                }
+            }
+            long minInterval = reuseNanos / SWEEPS_PER_TTL;
+            nextSweepAt = Math.max(earliestExpiry - now, minInterval) + now;
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(METRIC_PREFIX + ".lookups")
+                .description("Client credentials token cache lookups")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record Key(String clientId, Set<String> scopes) {
+    }
+
+    /**
+     * @param clientSecret hash do secret com que o client se autenticou
+     * @param reuseUntil   fim da janela de reutilização, em nanos do relógio monotônico
+     */
+    private record Entry(OAuth2Token token, String clientSecret, long reuseUntil) {
+    }
+}
@@ -0,0 +1,45 @@
+package com.mssousa.auth.infrastructure.security.jwt;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Propriedades de configuração da reutilização de access tokens client_credentials.
+ * Carregadas do application.yml com prefixo "auth.client-token-cache".
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "auth.client-token-cache")
+public class ClientTokenCacheProperties {
+
+    /**
+     * Clients (clientId) que optaram pela reutilização de tokens.
+     * Vazio por padrão: cada requisição gera um novo token.
+     */
+    private Set<String> clientIds = new HashSet<>();
+
+    /**
+     * Fração de auth.jwt.expiration-ms durante a qual o mesmo token é devolvido.
+     * Depois dela um novo token é gerado, de modo que o token devolvido sempre tem
+     * ao menos (1 - fração) do tempo de vida restante.
+     */
+    @DecimalMin(value = "0.0", inclusive = false, message = "Reuse fraction deve ser maior que 0")
+    @DecimalMax(value = "1.0", inclusive = false, message = "Reuse fraction deve ser menor que 1")
+    private double reuseFraction = 0.5;
+
+    /**
+     * Quantidade máxima de tokens em cache (um por client e conjunto de scopes).
+     */
+    @Positive(message = "Max entries deve ser positivo")
+    private int maxEntries = 1_000;
+}
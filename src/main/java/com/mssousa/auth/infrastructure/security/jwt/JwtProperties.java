@@ -45,4 +45,20 @@ public class JwtProperties {
      * Incrementar este valor invalida todos os tokens existentes.
      */
     private int tokenVersion = 1;
+
+    /**
+     * Como as autorizações do usuário são levadas no access token.
+     * Padrão: ROLES (claim "roles" com os códigos dos perfis).
+     */
+    private PermissionClaims permissionClaims = PermissionClaims.ROLES;
+
+    public enum PermissionClaims {
+        /** Claim "roles" com os códigos dos perfis. */
+        ROLES,
+        /**
+         * Claims "perms" (bitmap base64url das permissões) e "perms_ver" (versão do
+         * dicionário de permissões do sistema), no lugar de "roles".
+         */
+        BITMAP
+    }
 }
@@ -5,12 +5,13 @@ import org.springframework.security.oauth2.server.authorization.token.JwtEncodin
 import org.springframework.security.oauth2.server.authorization.token.OAuth2TokenCustomizer;
 
 import com.mssousa.auth.application.service.authentication.model.AuthenticatedUser;
+import com.mssousa.auth.application.service.authorization.PermissionDictionaryProvider;
 import com.mssousa.auth.application.service.authorization.UserAuthorizationService;
 import com.mssousa.auth.application.service.client.ClientValidationService;
+import com.mssousa.auth.domain.model.role.PermissionDictionary;
+import com.mssousa.auth.infrastructure.security.jwt.JwtProperties.PermissionClaims;
 import com.mssousa.auth.infrastructure.security.oauth2.CustomAuthenticationToken;
 
-import lombok.RequiredArgsConstructor;
-
 /**
  * Customizador de tokens JWT para access tokens gerados pelo Spring Authorization Server.
  * 
@@ -19,6 +20,8 @@ import lombok.RequiredArgsConstructor;
  * - Filtrar apenas access_tokens (ignorar refresh_token, id_token, etc.)
  * - Extrair os dados do usuário autenticado a partir do CustomAuthenticationToken
  * - Adicionar claims customizados ao JWT (subject, username, email, name, is_master)
+ * - Adicionar as autorizações: "roles" (códigos dos perfis) ou, no modo BITMAP,
+ *   "perms" (bitmap base64url das permissões) e "perms_ver" (versão do dicionário)
  * 
  * Funcionamento:
  * - Registrado como @Bean na configuração de segurança
@@ -26,12 +29,23 @@ import lombok.RequiredArgsConstructor;
  * - Recebe o JwtEncodingContext contendo o Authentication e o builder de claims
  * - Só atua quando o token é do tipo access_token E o principal é um CustomAuthenticationToken
  */
-@RequiredArgsConstructor
 public class JwtTokenCustomizer
         implements OAuth2TokenCustomizer<JwtEncodingContext> {
 
     private final ClientValidationService clientValidationService;
     private final UserAuthorizationService userAuthorizationService;
+    private final PermissionDictionaryProvider permissionDictionaryProvider;
+    private final PermissionClaims permissionClaims;
+
+    public JwtTokenCustomizer(ClientValidationService clientValidationService,
+            UserAuthorizationService userAuthorizationService,
+            PermissionDictionaryProvider permissionDictionaryProvider,
+            PermissionClaims permissionClaims) {
+        this.clientValidationService = clientValidationService;
+        this.userAuthorizationService = userAuthorizationService;
+        this.permissionDictionaryProvider = permissionDictionaryProvider;
+        this.permissionClaims = permissionClaims;
+    }
 
     @Override
     public void customize(JwtEncodingContext context) {
@@ -51,7 +65,7 @@ public class JwtTokenCustomizer
 
         String clientId = context.getRegisteredClient().getClientId();
 
-        // Valida se client está ativo
+        // Valida se client está ativo (mesma instância em memória usada na autenticação do client)
         var client =
                 clientValidationService.validateActiveClient(clientId);
 
@@ -70,8 +84,18 @@ public class JwtTokenCustomizer
             .claim("username", user.username())
             .claim("email", user.email())
             .claim("name", user.name())
-            .claim("is_master", user.master())
-            .claim("roles", authorizedUser.roles());
+            .claim("is_master", user.master());
+
+        if (permissionClaims == PermissionClaims.BITMAP) {
+            PermissionDictionary dictionary = permissionDictionaryProvider.forSystem(client.getId());
+            context.getClaims()
+                .claim("perms", user.master()
+                        ? dictionary.encodeAll()
+                        : dictionary.encode(authorizedUser.roles()))
+                .claim("perms_ver", dictionary.getVersion());
+        } else {
+            context.getClaims().claim("roles", authorizedUser.roles());
+        }
     }
 }
 
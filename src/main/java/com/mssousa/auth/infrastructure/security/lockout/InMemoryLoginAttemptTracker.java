@@ -0,0 +1,271 @@
+package com.mssousa.auth.infrastructure.security.lockout;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.mssousa.auth.application.service.authentication.LoginAttemptTracker;
+import com.mssousa.auth.domain.model.user.LoginAttempt;
+import com.mssousa.auth.domain.model.user.UserId;
+import com.mssousa.auth.domain.repository.LoginAttemptRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Contador de falhas de login em memória, com bloqueio temporário e persistência em lote.
+ *
+ * Funcionamento:
+ * - Cada usuário tem um contador de falhas com decaimento exponencial (meia-vida configurável)
+ * - Ao atingir o limite, o usuário fica bloqueado por {@code lockDurationMs}
+ * - As atualizações são feitas com {@code ConcurrentHashMap.compute}, que bloqueia apenas
+ *   o bin da chave: tentativas de usuários diferentes não disputam o mesmo lock
+ * - Os usuários alterados são marcados e gravados periodicamente em lote em login_attempt;
+ *   uma onda de credential stuffing custa incrementos em memória, não locks de linha
+ * - Na inicialização, os bloqueios ainda vigentes são recarregados do banco
+ *
+ * O bloqueio é temporário (e não {@code User.block()}) para que um atacante não consiga
+ * bloquear permanentemente a conta de terceiros apenas errando a senha.
+ *
+ * Métricas (prefixo auth.login.lockout):
+ * - locked: bloqueios disparados
+ * - entries: usuários mantidos em memória
+ * - flush.failed: gravações em lote que falharam (serão repetidas)
+ */
+@Slf4j
+@Component
+public class InMemoryLoginAttemptTracker implements LoginAttemptTracker {
+
+    private static final String METRIC_PREFIX = "auth.login.lockout";
+
+    private final LoginAttemptRepository repository;
+    private final Clock clock;
+
+    private final boolean enabled;
+    private final int threshold;
+    private final long halfLifeMs;
+    private final long lockDurationMs;
+    private final int maxEntries;
+
+    private final Map<Long, AttemptState> states = new ConcurrentHashMap<>();
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+
+    private final Counter lockedCounter;
+    private final Counter flushFailedCounter;
+
+    @Autowired
+    public InMemoryLoginAttemptTracker(LoginLockoutProperties properties,
+            LoginAttemptRepository repository, MeterRegistry meterRegistry) {
+        this(properties, repository, meterRegistry, Clock.systemUTC());
+    }
+
+    InMemoryLoginAttemptTracker(LoginLockoutProperties properties, LoginAttemptRepository repository,
+            MeterRegistry meterRegistry, Clock clock) {
+
+        this.repository = repository;
+        this.clock = clock;
+        this.enabled = properties.isEnabled();
+        this.threshold = properties.getThreshold();
+        this.halfLifeMs = properties.getHalfLifeMs();
+        this.lockDurationMs = properties.getLockDurationMs();
+        this.maxEntries = properties.getMaxEntries();
+
+        this.lockedCounter = Counter.builder(METRIC_PREFIX + ".locked")
+                .description("Users temporarily locked after repeated login failures")
+                .register(meterRegistry);
+        this.flushFailedCounter = Counter.builder(METRIC_PREFIX + ".flush.failed")
+                .description("Batched login attempt writes that failed and will be retried")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".entries", states, Map::size)
+                .description("Users with login attempt state held in memory")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean isLocked(UserId userId) {
+
+        if (!enabled) {
+            return false;
+        }
+
+        AttemptState state = states.get(userId.value());
+        return state != null && state.isLockedAt(clock.millis());
+    }
+
+    @Override
+    public void recordFailure(UserId userId) {
+
+        if (!enabled) {
+            return;
+        }
+
+        long now = clock.millis();
+        AttemptState updated = states.compute(userId.value(),
+                (id, current) -> failure(current, now));
+
+        if (updated.lockedUntil() == now + lockDurationMs) {
+            lockedCounter.increment();
+            log.warn("User {} temporarily locked after repeated login failures", userId.value());
+        }
+
+        dirty.add(userId.value());
+    }
+
+    @Override
+    public void recordSuccess(UserId userId) {
+
+        if (!enabled) {
+            return;
+        }
+
+        if (states.remove(userId.value()) != null) {
+            dirty.add(userId.value());
+        }
+    }
+
+    /**
+     * Grava em lote os usuários alterados desde a última execução.
+     * Em caso de falha, os usuários voltam a ser marcados e a gravação é repetida
+     * na próxima execução.
+     */
+    @Scheduled(fixedDelayString = "${auth.login-lockout.flush-interval-ms:5000}")
+    public synchronized void flush() {
+
+        if (!dirty.isEmpty()) {
+            List<LoginAttempt> batch = drainDirty();
+            try {
+                repository.saveAll(batch);
+                log.debug("Flushed {} login attempt records", batch.size());
+
+            } catch (DataAccessException ex) {
+                batch.forEach(attempt -> dirty.add(attempt.userId().value()));
+                flushFailedCounter.increment();
+                log.warn("Failed to flush {} login attempt records, will retry", batch.size(), ex);
+            }
+        }
+
+        evictIfNeeded();
+    }
+
+    /**
+     * Recarrega os bloqueios ainda vigentes, para que reinícios não os anulem.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadActiveLocks() {
+
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            List<LoginAttempt> locked = repository.findLockedAfter(clock.instant());
+            for (LoginAttempt attempt : locked) {
+                states.putIfAbsent(attempt.userId().value(), AttemptState.from(attempt));
+            }
+            log.info("Loaded {} active login lockouts", locked.size());
+
+        } catch (DataAccessException ex) {
+            log.warn("Failed to load active login lockouts", ex);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    int size() {
+        return states.size();
+    }
+
+    private AttemptState failure(AttemptState current, long now) {
+
+        double score = current == null ? 1.0 : decay(current, now) + 1.0;
+        long lockedUntil = current == null ? 0L : current.lockedUntil();
+
+        if (score >= threshold && lockedUntil <= now) {
+            lockedUntil = now + lockDurationMs;
+        }
+
+        return new AttemptState(score, now, lockedUntil);
+    }
+
+    private double decay(AttemptState state, long now) {
+        long elapsed = Math.max(0L, now - state.lastFailureAt());
+        return state.score() * Math.pow(0.5, (double) elapsed / halfLifeMs);
+    }
+
+    private List<LoginAttempt> drainDirty() {
+
+        List<LoginAttempt> batch = new ArrayList<>(dirty.size());
+        Iterator<Long> iterator = dirty.iterator();
+
+        while (iterator.hasNext()) {
+            Long id = iterator.next();
+            iterator.remove();
+
+            AttemptState state = states.get(id);
+            batch.add(state != null
+                    ? state.toLoginAttempt(UserId.of(id))
+                    : new LoginAttempt(UserId.of(id), 0, null, null));
+        }
+
+        return batch;
+    }
+
+    /**
+     * Remove da memória usuários sem bloqueio vigente e cujas falhas já decaíram
+     * para menos de uma. Usuários ainda não gravados nunca são removidos.
+     */
+    private void evictIfNeeded() {
+
+        if (states.size() <= maxEntries) {
+            return;
+        }
+
+        long now = clock.millis();
+        states.entrySet().removeIf(entry -> !dirty.contains(entry.getKey())
+                && !entry.getValue().isLockedAt(now)
+                && decay(entry.getValue(), now) < 1.0);
+    }
+
+    /**
+     * Estado imutável de um usuário. Instantes em milissegundos desde a época.
+     */
+    private record AttemptState(double score, long lastFailureAt, long lockedUntil) {
+
+        static AttemptState from(LoginAttempt attempt) {
+            return new AttemptState(
+                    attempt.failedCount(),
+                    attempt.lastFailureAt() != null ? attempt.lastFailureAt().toEpochMilli() : 0L,
+                    attempt.lockedUntil() != null ? attempt.lockedUntil().toEpochMilli() : 0L);
+        }
+
+        boolean isLockedAt(long now) {
+            return lockedUntil > now;
+        }
+
+        LoginAttempt toLoginAttempt(UserId userId) {
+            return new LoginAttempt(
+                    userId,
+                    (int) Math.round(score),
+                    lastFailureAt > 0 ? Instant.ofEpochMilli(lastFailureAt) : null,
+                    lockedUntil > 0 ? Instant.ofEpochMilli(lockedUntil) : null);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.mssousa.auth.infrastructure.security.lockout;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Propriedades de configuração do bloqueio temporário por falhas de login.
+ * Carregadas do application.yml com prefixo "auth.login-lockout".
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "auth.login-lockout")
+public class LoginLockoutProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Falhas (com decaimento) que disparam o bloqueio.
+     */
+    @Positive(message = "Threshold deve ser positivo")
+    private int threshold = 10;
+
+    /**
+     * Meia-vida do contador de falhas: a cada intervalo, as falhas acumuladas caem pela metade.
+     */
+    @Positive(message = "Half life deve ser positivo")
+    private long halfLifeMs = 900_000;
+
+    /**
+     * Duração do bloqueio temporário.
+     */
+    @Positive(message = "Lock duration deve ser positivo")
+    private long lockDurationMs = 900_000;
+
+    /**
+     * Intervalo entre as gravações em lote no banco.
+     */
+    @Positive(message = "Flush interval deve ser positivo")
+    private long flushIntervalMs = 5_000;
+
+    /**
+     * Quantidade máxima aproximada de usuários mantidos em memória.
+     */
+    @Positive(message = "Max entries deve ser positivo")
+    private int maxEntries = 100_000;
+}
@@ -1,12 +1,17 @@
 package com.mssousa.auth.infrastructure.security.oauth2;
 
 import org.springframework.security.authentication.AuthenticationProvider;
-import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
+import com.mssousa.auth.application.exception.AuthenticationThrottledException;
 import com.mssousa.auth.application.service.authentication.AuthenticationService;
 import com.mssousa.auth.application.service.authentication.model.AuthenticatedUser;
+import com.mssousa.auth.infrastructure.security.ratelimit.LoginRateLimiter;
 
 import lombok.RequiredArgsConstructor;
 
@@ -16,21 +21,26 @@ import lombok.RequiredArgsConstructor;
  * Responsabilidades:
  * - Servir como ponte entre o fluxo OAuth2 do Spring Security e o AuthenticationService da aplicação
  * - Extrair login e senha do Authentication recebido pelo framework
+ * - Recusar tentativas acima do rate limit (por login e por IP) antes de qualquer
+ *   consulta ao banco ou cálculo de hash
  * - Delegar a validação de credenciais ao AuthenticationService (camada de aplicação)
  * - Converter o resultado em um CustomAuthenticationToken autenticado
  * - Traduzir exceções da aplicação em BadCredentialsException do Spring Security
  * 
  * Funcionamento:
- * - Registrado no AuthenticationManager via configuração de segurança
+ * - Registrado no AuthenticationManager global via AuthenticationConfig
  * - Invocado automaticamente pelo Spring Security quando recebe um CustomAuthenticationToken
- * - O método supports() garante que este provider só processa CustomAuthenticationToken
+ *   ou o UsernamePasswordAuthenticationToken do login por formulário
+ * - O método supports() garante que este provider só processa esses dois tipos
  * - Em caso de sucesso, retorna um CustomAuthenticationToken autenticado com os dados do usuário
- * - Em caso de falha, lança BadCredentialsException genérica (segurança)
+ * - Em caso de falha, lança BadCredentialsException genérica (segurança), sem stack trace
+ * - Em caso de sobrecarga, lança LoginThrottledException (429), pois as credenciais não foram avaliadas
  */
 @RequiredArgsConstructor
 public class CustomAuthenticationProvider implements AuthenticationProvider {
 
     private final AuthenticationService authenticationService;
+    private final LoginRateLimiter loginRateLimiter;
 
     @Override
     public Authentication authenticate(Authentication authentication)
@@ -39,19 +49,38 @@ public class CustomAuthenticationProvider implements AuthenticationProvider {
         String login = authentication.getName();
         String password = authentication.getCredentials().toString();
 
+        if (!loginRateLimiter.tryAcquire(login, resolveClientIp())) {
+            throw new LoginThrottledException("Too many login attempts, try again later");
+        }
+
         try {
             AuthenticatedUser user =
                 authenticationService.authenticate(login, password);
 
             return CustomAuthenticationToken.authenticated(user);
 
+        } catch (AuthenticationThrottledException ex) {
+            throw new LoginThrottledException("Too many login attempts, try again later");
+
         } catch (Exception ex) {
-            throw new BadCredentialsException("Invalid username or password");
+            throw new InvalidCredentialsException("Invalid username or password");
+        }
+    }
+
+    /**
+     * IP do cliente da requisição atual, ou null fora de uma requisição HTTP.
+     */
+    private String resolveClientIp() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            return servletAttributes.getRequest().getRemoteAddr();
         }
+        return null;
     }
 
     @Override
     public boolean supports(Class<?> authentication) {
-        return CustomAuthenticationToken.class.isAssignableFrom(authentication);
+        return CustomAuthenticationToken.class.isAssignableFrom(authentication)
+                || UsernamePasswordAuthenticationToken.class.isAssignableFrom(authentication);
     }
 }
\ No newline at end of file
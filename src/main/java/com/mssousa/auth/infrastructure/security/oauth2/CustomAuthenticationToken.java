@@ -32,6 +32,7 @@ import com.mssousa.auth.application.service.authentication.model.AuthenticatedUs
 public class CustomAuthenticationToken extends AbstractAuthenticationToken {
 
     private final AuthenticatedUser principal;
+    private final String login;
     private final Object credentials;
 
     /**
@@ -41,6 +42,7 @@ public class CustomAuthenticationToken extends AbstractAuthenticationToken {
     public CustomAuthenticationToken(String login, String password) {
         super(Collections.emptyList());
         this.principal = null;
+        this.login = login;
         this.credentials = password;
         setAuthenticated(false);
         setDetails(login);
@@ -56,6 +58,7 @@ public class CustomAuthenticationToken extends AbstractAuthenticationToken {
 
         super(authorities);
         this.principal = principal;
+        this.login = principal.username().value();
         this.credentials = null;
         setAuthenticated(true);
     }
@@ -79,4 +82,13 @@ public class CustomAuthenticationToken extends AbstractAuthenticationToken {
     public Object getPrincipal() {
         return principal;
     }
+
+    /**
+     * Login informado (antes da autenticação) ou username do usuário autenticado.
+     * Sem este override, o token não autenticado retornaria nome vazio, pois não há principal.
+     */
+    @Override
+    public String getName() {
+        return login;
+    }
 }
@@ -0,0 +1,21 @@
+package com.mssousa.auth.infrastructure.security.oauth2;
+
+import org.springframework.security.authentication.BadCredentialsException;
+
+/**
+ * BadCredentialsException sem stack trace, para o caso esperado de credenciais inválidas.
+ *
+ * Criada a cada falha (o Spring Security altera a exceção durante o processamento),
+ * mas sem capturar a pilha, que sob credential stuffing custa CPU e alocação.
+ */
+public class InvalidCredentialsException extends BadCredentialsException {
+
+    public InvalidCredentialsException(String message) {
+        super(message);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
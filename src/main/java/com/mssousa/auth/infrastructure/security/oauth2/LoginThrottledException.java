@@ -0,0 +1,22 @@
+package com.mssousa.auth.infrastructure.security.oauth2;
+
+import org.springframework.security.core.AuthenticationException;
+
+/**
+ * Falha de autenticação por excesso de carga, no formato do Spring Security.
+ *
+ * Diferente de BadCredentialsException, indica que as credenciais não foram avaliadas
+ * e que o cliente pode tentar novamente. Mapeada para 429 (Too Many Requests).
+ * Sem stack trace: a recusa é esperada e ocorre justamente sob carga.
+ */
+public class LoginThrottledException extends AuthenticationException {
+
+    public LoginThrottledException(String message) {
+        super(message);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
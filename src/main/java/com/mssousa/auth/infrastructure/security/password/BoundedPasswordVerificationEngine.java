@@ -0,0 +1,260 @@
+package com.mssousa.auth.infrastructure.security.password;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import com.mssousa.auth.application.exception.AuthenticationFailedException;
+import com.mssousa.auth.application.exception.AuthenticationThrottledException;
+import com.mssousa.auth.application.service.authentication.PasswordVerificationEngine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Motor de verificação de senhas com controle de admissão.
+ *
+ * Funcionamento:
+ * - Pool fixo de threads dedicado ao hash (dimensionado pelos núcleos disponíveis)
+ * - Fila limitada: quando cheia, a tentativa é recusada imediatamente
+ * - A requisição aguarda o resultado por no máximo {@code waitTimeoutMs};
+ *   verificações que expiram ainda na fila são removidas e não consomem CPU
+ * - Na variante assíncrona, o mesmo prazo é aplicado por um timer, sem ocupar
+ *   a thread de quem submeteu
+ * - Tarefas em segundo plano entregam o resultado a uma thread à parte, também com
+ *   fila limitada: gravações no banco nunca ocupam uma thread de hash
+ *
+ * Sob picos de tentativas (ex: credential stuffing), o nó degrada recusando logins
+ * com {@link AuthenticationThrottledException} em vez de saturar todos os núcleos
+ * e atrasar as demais requisições da aplicação.
+ *
+ * Métricas (prefixo auth.password.verification):
+ * - queue.size: verificações aguardando thread
+ * - active: verificações em execução
+ * - queue.wait: tempo entre a submissão e o início da verificação
+ * - rejected: recusas, por motivo (queue_full, wait_timeout, background_dropped)
+ */
+@Slf4j
+@Component
+public class BoundedPasswordVerificationEngine implements PasswordVerificationEngine {
+
+    private static final String METRIC_PREFIX = "auth.password.verification";
+
+    private final ThreadPoolExecutor executor;
+    private final ThreadPoolExecutor followUpExecutor;
+    private final long waitTimeoutMs;
+
+    private final Timer queueWaitTimer;
+    private final Counter queueFullCounter;
+    private final Counter waitTimeoutCounter;
+    private final Counter backgroundDroppedCounter;
+
+    public BoundedPasswordVerificationEngine(PasswordVerificationProperties properties,
+            MeterRegistry meterRegistry) {
+
+        int poolSize = properties.resolvePoolSize();
+
+        this.waitTimeoutMs = properties.getWaitTimeoutMs();
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                new VerificationThreadFactory("password-verification-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.followUpExecutor = new ThreadPoolExecutor(
+                1,
+                1,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                new VerificationThreadFactory("password-follow-up-"),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder(METRIC_PREFIX + ".queue.size", executor, e -> e.getQueue().size())
+                .description("Password verifications waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password verifications currently running")
+                .register(meterRegistry);
+
+        this.queueWaitTimer = Timer.builder(METRIC_PREFIX + ".queue.wait")
+                .description("Time a password verification waited before starting")
+                .register(meterRegistry);
+        this.queueFullCounter = rejectedCounter(meterRegistry, "queue_full");
+        this.waitTimeoutCounter = rejectedCounter(meterRegistry, "wait_timeout");
+        this.backgroundDroppedCounter = rejectedCounter(meterRegistry, "background_dropped");
+
+        log.info("Password verification engine started: poolSize={}, queueCapacity={}, waitTimeoutMs={}",
+                poolSize, properties.getQueueCapacity(), waitTimeoutMs);
+    }
+
+    @Override
+    public boolean verify(BooleanSupplier verification) {
+
+        long submittedAt = System.nanoTime();
+
+        FutureTask<Boolean> task = new FutureTask<>(() -> {
+            queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+            return verification.getAsBoolean();
+        });
+
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException ex) {
+            queueFullCounter.increment();
+            log.warn("Password verification rejected: queue is full");
+            throw AuthenticationThrottledException.queueFull();
+        }
+
+        return await(task);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> verifyAsync(BooleanSupplier verification) {
+
+        long submittedAt = System.nanoTime();
+        CompletableFuture<Boolean> result = new CompletableFuture<>();
+
+        Runnable task = () -> {
+            if (result.isDone()) {
+                return; // expirou enquanto aguardava na fila
+            }
+            queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+            try {
+                result.complete(verification.getAsBoolean());
+            } catch (RuntimeException ex) {
+                result.completeExceptionally(ex);
+            }
+        };
+
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException ex) {
+            queueFullCounter.increment();
+            log.warn("Password verification rejected: queue is full");
+            return CompletableFuture.failedFuture(
+                    AuthenticationThrottledException.queueFull());
+        }
+
+        Executor timeout = CompletableFuture.delayedExecutor(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        timeout.execute(() -> {
+            if (result.completeExceptionally(
+                    AuthenticationThrottledException.waitTimeout())) {
+                executor.remove(task);
+                waitTimeoutCounter.increment();
+                log.warn("Password verification rejected: wait timeout of {}ms exceeded", waitTimeoutMs);
+            }
+        });
+
+        return result;
+    }
+
+    @Override
+    public <T> boolean tryExecute(Supplier<T> task, Consumer<T> followUp) {
+        try {
+            executor.execute(() -> {
+                try {
+                    T result = task.get();
+                    followUpExecutor.execute(() -> runFollowUp(followUp, result));
+                } catch (RejectedExecutionException ex) {
+                    backgroundDroppedCounter.increment();
+                    log.debug("Background password follow-up dropped: queue is full");
+                } catch (RuntimeException ex) {
+                    log.warn("Background password task failed", ex);
+                }
+            });
+            return true;
+
+        } catch (RejectedExecutionException ex) {
+            backgroundDroppedCounter.increment();
+            log.debug("Background password task dropped: queue is full");
+            return false;
+        }
+    }
+
+    private static <T> void runFollowUp(Consumer<T> followUp, T result) {
+        try {
+            followUp.accept(result);
+        } catch (RuntimeException ex) {
+            log.warn("Background password follow-up failed", ex);
+        }
+    }
+
+    private boolean await(Future<Boolean> task) {
+        try {
+            return task.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+
+        } catch (TimeoutException ex) {
+            task.cancel(false);
+            executor.remove((Runnable) task);
+            waitTimeoutCounter.increment();
+            log.warn("Password verification rejected: wait timeout of {}ms exceeded", waitTimeoutMs);
+            throw AuthenticationThrottledException.waitTimeout();
+
+        } catch (InterruptedException ex) {
+            task.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new AuthenticationFailedException("Password verification interrupted", ex);
+
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new AuthenticationFailedException("Password verification failed", cause);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        followUpExecutor.shutdown();
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder(METRIC_PREFIX + ".rejected")
+                .description("Password verifications refused by admission control")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Threads nomeadas e daemon, para facilitar diagnóstico e não bloquear o shutdown da JVM.
+     */
+    private static final class VerificationThreadFactory implements ThreadFactory {
+
+        private final String namePrefix;
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        private VerificationThreadFactory(String namePrefix) {
+            this.namePrefix = namePrefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, namePrefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
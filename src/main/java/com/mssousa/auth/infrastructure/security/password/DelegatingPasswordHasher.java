@@ -0,0 +1,68 @@
+package com.mssousa.auth.infrastructure.security.password;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.mssousa.auth.domain.service.PasswordHasher;
+
+/**
+ * Implementação de {@link PasswordHasher} com hashes prefixados pelo algoritmo.
+ *
+ * Funcionamento:
+ * - Novos hashes usam o algoritmo e o custo da {@link PasswordHashingPolicy}
+ * - Hashes de qualquer algoritmo suportado continuam sendo verificados
+ * - Hashes sem prefixo (formato legado) são tratados como BCrypt
+ * - needsRehash é verdadeiro para hashes legados, de outro algoritmo ou de custo menor
+ * - Todo hash carrega o próprio custo (BCrypt e Argon2 nativamente; PBKDF2 via
+ *   {@link Pbkdf2IterationsPasswordEncoder}), então mudar o custo não invalida senhas armazenadas
+ */
+public class DelegatingPasswordHasher implements PasswordHasher {
+
+    private static final int SALT_LENGTH = 16;
+    private static final int ARGON2_HASH_LENGTH = 32;
+
+    private final DelegatingPasswordEncoder delegate;
+
+    public DelegatingPasswordHasher(PasswordHashingPolicy policy) {
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(PasswordHashAlgorithm.BCRYPT.id(), bcrypt(policy.bcryptStrength()));
+        encoders.put(PasswordHashAlgorithm.ARGON2ID.id(),
+                argon2(policy.argon2MemoryKib(), policy.argon2Parallelism(), policy.argon2Iterations()));
+        encoders.put(PasswordHashAlgorithm.PBKDF2.id(), new Pbkdf2IterationsPasswordEncoder(policy.pbkdf2Iterations()));
+
+        this.delegate = new DelegatingPasswordEncoder(policy.algorithm().id(), encoders);
+        this.delegate.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+    }
+
+    @Override
+    public String hash(String plainPassword) {
+        return delegate.encode(plainPassword);
+    }
+
+    @Override
+    public boolean matches(String plainPassword, String hashedPassword) {
+        return delegate.matches(plainPassword, hashedPassword);
+    }
+
+    @Override
+    public boolean needsRehash(String hashedPassword) {
+        return delegate.upgradeEncoding(hashedPassword);
+    }
+
+    static PasswordEncoder bcrypt(int strength) {
+        return new BCryptPasswordEncoder(strength);
+    }
+
+    static PasswordEncoder argon2(int memoryKib, int parallelism, int iterations) {
+        return new Argon2PasswordEncoder(SALT_LENGTH, ARGON2_HASH_LENGTH, parallelism, memoryKib, iterations);
+    }
+
+    static PasswordEncoder pbkdf2(int iterations) {
+        return Pbkdf2IterationsPasswordEncoder.newEncoder(iterations);
+    }
+}
@@ -0,0 +1,89 @@
+package com.mssousa.auth.infrastructure.security.password;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.mssousa.auth.application.service.authentication.VerifiedCredentialCache;
+import com.mssousa.auth.domain.model.user.LoginCredentials;
+import com.mssousa.auth.domain.model.user.UserId;
+import com.mssousa.auth.infrastructure.security.HmacVerificationMemo;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cache em memória de senhas verificadas, por nó.
+ *
+ * Funcionamento:
+ * - Guarda, por usuário, um HMAC de (userId, senha, hash atual) em um {@link HmacVerificationMemo}
+ * - Como o hash atual compõe o HMAC, uma troca de senha invalida a entrada mesmo
+ *   que a invalidação explícita não chegue a este nó
+ *
+ * Métricas (prefixo auth.password.verified-cache):
+ * - lookups: consultas, por resultado (hit, miss)
+ * - entries: usuários em cache
+ */
+@Slf4j
+@Component
+public class HmacVerifiedCredentialCache implements VerifiedCredentialCache {
+
+    private static final String METRIC_PREFIX = "auth.password.verified-cache";
+
+    private final boolean enabled;
+    private final HmacVerificationMemo<Long> memo;
+
+    @Autowired
+    public HmacVerifiedCredentialCache(VerifiedCredentialCacheProperties properties,
+            MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    HmacVerifiedCredentialCache(VerifiedCredentialCacheProperties properties,
+            MeterRegistry meterRegistry, LongSupplier nanoClock) {
+
+        this.enabled = properties.isEnabled();
+        this.memo = new HmacVerificationMemo<>(METRIC_PREFIX,
+                TimeUnit.SECONDS.toNanos(properties.getTtlSeconds()), properties.getMaxEntries(),
+                meterRegistry, nanoClock);
+
+        if (enabled) {
+            log.info("Verified credential cache enabled: ttlSeconds={}, maxEntries={}",
+                    properties.getTtlSeconds(), properties.getMaxEntries());
+        }
+    }
+
+    @Override
+    public boolean isVerified(LoginCredentials credentials, String plainPassword) {
+
+        if (!enabled) {
+            return false;
+        }
+        return memo.matches(credentials.userId().value(), digest(credentials, plainPassword));
+    }
+
+    @Override
+    public void remember(LoginCredentials credentials, String plainPassword) {
+
+        if (!enabled) {
+            return;
+        }
+        memo.remember(credentials.userId().value(), digest(credentials, plainPassword));
+    }
+
+    @Override
+    public void invalidate(UserId userId) {
+        memo.invalidate(userId.value());
+    }
+
+    int size() {
+        return memo.size();
+    }
+
+    private byte[] digest(LoginCredentials credentials, String plainPassword) {
+        return memo.digest(String.valueOf(credentials.userId().value()), plainPassword,
+                credentials.passwordHash());
+    }
+}
@@ -0,0 +1,22 @@
+package com.mssousa.auth.infrastructure.security.password;
+
+/**
+ * Algoritmos de hash de senha suportados.
+ * O id é usado como prefixo do hash armazenado (ex: {bcrypt}$2a$12$...).
+ */
+public enum PasswordHashAlgorithm {
+
+    BCRYPT("bcrypt"),
+    ARGON2ID("argon2id"),
+    PBKDF2("pbkdf2");
+
+    private final String id;
+
+    PasswordHashAlgorithm(String id) {
+        this.id = id;
+    }
+
+    public String id() {
+        return id;
+    }
+}
@@ -0,0 +1,109 @@
+package com.mssousa.auth.infrastructure.security.password;
+
+import java.util.function.IntFunction;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Calibra o custo do hash de senhas para a máquina atual.
+ *
+ * Escolhe o maior custo cuja verificação fique dentro de {@code targetLatencyMs},
+ * respeitando o piso de segurança configurado (nunca abaixo do mínimo, mesmo
+ * em máquinas lentas) e o teto.
+ *
+ * Estratégia por algoritmo:
+ * - bcrypt: custo logarítmico, testado passo a passo (cada passo dobra o tempo)
+ * - argon2id: iterações testadas passo a passo, com memória fixa
+ * - pbkdf2: tempo linear nas iterações, estimado a partir de uma única medição
+ *
+ * O custo calibrado pode variar entre reinícios e entre nós; isso é seguro porque todo
+ * hash grava o custo com que foi gerado e é verificado com ele.
+ */
+@Slf4j
+public class PasswordHashingCalibrator {
+
+    private static final String PROBE = "calibration-probe-password";
+
+    public PasswordHashingPolicy calibrate(PasswordHashingProperties properties) {
+
+        PasswordHashingPolicy configured = PasswordHashingPolicy.from(properties);
+        long targetNanos = properties.getTargetLatencyMs() * 1_000_000L;
+
+        PasswordHashingPolicy calibrated = switch (properties.getAlgorithm()) {
+            case BCRYPT -> {
+                PasswordHashingProperties.Bcrypt bcrypt = properties.getBcrypt();
+                int strength = calibrateStepwise(bcrypt.getMinStrength(), bcrypt.getMaxStrength(), targetNanos,
+                        DelegatingPasswordHasher::bcrypt);
+                yield withCosts(configured, strength, configured.argon2Iterations(), configured.pbkdf2Iterations());
+            }
+            case ARGON2ID -> {
+                PasswordHashingProperties.Argon2 argon2 = properties.getArgon2();
+                int iterations = calibrateStepwise(argon2.getMinIterations(), argon2.getMaxIterations(), targetNanos,
+                        cost -> DelegatingPasswordHasher.argon2(argon2.getMemoryKib(), argon2.getParallelism(), cost));
+                yield withCosts(configured, configured.bcryptStrength(), iterations, configured.pbkdf2Iterations());
+            }
+            case PBKDF2 -> {
+                PasswordHashingProperties.Pbkdf2 pbkdf2 = properties.getPbkdf2();
+                int iterations = calibrateLinear(pbkdf2.getMinIterations(), pbkdf2.getMaxIterations(), targetNanos);
+                yield withCosts(configured, configured.bcryptStrength(), configured.argon2Iterations(), iterations);
+            }
+        };
+
+        log.info("Password hashing calibrated: algorithm={}, targetLatencyMs={}, policy={}",
+                properties.getAlgorithm(), properties.getTargetLatencyMs(), calibrated);
+
+        return calibrated;
+    }
+
+    /**
+     * Sobe o custo enquanto a verificação couber na latência alvo.
+     */
+    int calibrateStepwise(int minCost, int maxCost, long targetNanos, IntFunction<PasswordEncoder> encoderForCost) {
+
+        // aquecimento (JIT), para não superestimar o custo da primeira medição
+        measure(encoderForCost.apply(minCost));
+
+        int chosen = minCost;
+        for (int cost = minCost; cost <= maxCost; cost++) {
+            if (measure(encoderForCost.apply(cost)) > targetNanos) {
+                break;
+            }
+            chosen = cost;
+        }
+        return chosen;
+    }
+
+    /**
+     * Estima as iterações proporcionalmente ao tempo medido no piso.
+     */
+    int calibrateLinear(int minIterations, int maxIterations, long targetNanos) {
+
+        PasswordEncoder encoder = DelegatingPasswordHasher.pbkdf2(minIterations);
+        measure(encoder);
+        long elapsed = Math.max(1L, measure(encoder));
+
+        long estimated = (long) minIterations * targetNanos / elapsed;
+        return (int) Math.max(minIterations, Math.min(maxIterations, estimated));
+    }
+
+    private long measure(PasswordEncoder encoder) {
+        String hash = encoder.encode(PROBE);
+        long start = System.nanoTime();
+        encoder.matches(PROBE, hash);
+        return System.nanoTime() - start;
+    }
+
+    private PasswordHashingPolicy withCosts(PasswordHashingPolicy policy, int bcryptStrength,
+            int argon2Iterations, int pbkdf2Iterations) {
+        return new PasswordHashingPolicy(
+            policy.algorithm(),
+            bcryptStrength,
+            policy.argon2MemoryKib(),
+            policy.argon2Parallelism(),
+            argon2Iterations,
+            pbkdf2Iterations
+        );
+    }
+}
@@ -0,0 +1,28 @@
+package com.mssousa.auth.infrastructure.security.password;
+
+/**
+ * Política efetiva de hash de senhas (algoritmo e custos), após a calibração.
+ */
+public record PasswordHashingPolicy(
+    PasswordHashAlgorithm algorithm,
+    int bcryptStrength,
+    int argon2MemoryKib,
+    int argon2Parallelism,
+    int argon2Iterations,
+    int pbkdf2Iterations
+) {
+
+    /**
+     * Política com os custos configurados, sem calibração.
+     */
+    public static PasswordHashingPolicy from(PasswordHashingProperties properties) {
+        return new PasswordHashingPolicy(
+            properties.getAlgorithm(),
+            properties.getBcrypt().getStrength(),
+            properties.getArgon2().getMemoryKib(),
+            properties.getArgon2().getParallelism(),
+            properties.getArgon2().getIterations(),
+            properties.getPbkdf2().getIterations()
+        );
+    }
+}
@@ -0,0 +1,90 @@
+package com.mssousa.auth.infrastructure.security.password;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Propriedades de configuração do hash de senhas.
+ * Carregadas do application.yml com prefixo "auth.password-hashing".
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "auth.password-hashing")
+public class PasswordHashingProperties {
+
+    /**
+     * Algoritmo usado para gerar novos hashes.
+     * Hashes de outros algoritmos continuam válidos e são refeitos no próximo login.
+     */
+    @NotNull(message = "Algoritmo de hash é obrigatório")
+    private PasswordHashAlgorithm algorithm = PasswordHashAlgorithm.BCRYPT;
+
+    /**
+     * Se verdadeiro, o custo é calibrado na inicialização para atingir {@code targetLatencyMs}.
+     * Se falso, usa os custos configurados abaixo.
+     */
+    private boolean calibrate = true;
+
+    /**
+     * Latência alvo, em milissegundos, de uma verificação de senha nesta máquina.
+     */
+    @Positive(message = "Target latency deve ser positivo")
+    private long targetLatencyMs = 250L;
+
+    private Bcrypt bcrypt = new Bcrypt();
+    private Argon2 argon2 = new Argon2();
+    private Pbkdf2 pbkdf2 = new Pbkdf2();
+
+    @Getter
+    @Setter
+    public static class Bcrypt {
+
+        /** Custo usado quando a calibração está desabilitada. */
+        private int strength = 12;
+
+        /** Piso de segurança: a calibração nunca escolhe um custo menor. */
+        private int minStrength = 10;
+
+        /** Teto da calibração. */
+        private int maxStrength = 16;
+    }
+
+    @Getter
+    @Setter
+    public static class Argon2 {
+
+        /** Memória por hash, em KiB. */
+        private int memoryKib = 19456;
+
+        private int parallelism = 1;
+
+        /** Iterações usadas quando a calibração está desabilitada. */
+        private int iterations = 2;
+
+        /** Piso de segurança: a calibração nunca escolhe menos iterações. */
+        private int minIterations = 2;
+
+        /** Teto da calibração. */
+        private int maxIterations = 10;
+    }
+
+    @Getter
+    @Setter
+    public static class Pbkdf2 {
+
+        /** Iterações usadas quando a calibração está desabilitada. */
+        private int iterations = 600_000;
+
+        /** Piso de segurança: a calibração nunca escolhe menos iterações. */
+        private int minIterations = 600_000;
+
+        /** Teto da calibração. */
+        private int maxIterations = 5_000_000;
+    }
+}
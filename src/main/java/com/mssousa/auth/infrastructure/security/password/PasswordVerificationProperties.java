@@ -0,0 +1,48 @@
+package com.mssousa.auth.infrastructure.security.password;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Propriedades de configuração do pool de verificação de senhas.
+ * Carregadas do application.yml com prefixo "auth.password-verification".
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "auth.password-verification")
+public class PasswordVerificationProperties {
+
+    /**
+     * Quantidade de threads dedicadas à verificação de hash.
+     * Padrão: 0 (usa a quantidade de núcleos disponíveis).
+     */
+    @PositiveOrZero(message = "Pool size não pode ser negativo")
+    private int poolSize = 0;
+
+    /**
+     * Quantidade máxima de verificações aguardando uma thread livre.
+     * Quando a fila está cheia, novas tentativas são recusadas imediatamente.
+     */
+    @Positive(message = "Queue capacity deve ser positivo")
+    private int queueCapacity = 64;
+
+    /**
+     * Tempo máximo, em milissegundos, que uma requisição aguarda o resultado da verificação.
+     * Padrão: 2000 (2 segundos)
+     */
+    @Positive(message = "Wait timeout deve ser positivo")
+    private long waitTimeoutMs = 2000L;
+
+    /**
+     * Resolve o tamanho efetivo do pool.
+     */
+    public int resolvePoolSize() {
+        return poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+    }
+}
@@ -0,0 +1,100 @@
+package com.mssousa.auth.infrastructure.security.password;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm;
+
+/**
+ * PBKDF2 com a quantidade de iterações gravada no próprio hash.
+ *
+ * O Pbkdf2PasswordEncoder do Spring não grava as iterações: um hash só é verificado
+ * com a mesma configuração que o gerou. Aqui o hash tem o formato
+ * {@code <iterações>$<salt+hash em hex>} e é verificado com as iterações gravadas,
+ * de modo que a calibração (que varia entre reinícios e entre nós) ou uma mudança em
+ * auth.password-hashing.pbkdf2.iterations não invalidam senhas já armazenadas.
+ *
+ * Hashes legados, sem iterações gravadas, são verificados com as iterações atuais e
+ * marcados para atualização.
+ */
+class Pbkdf2IterationsPasswordEncoder implements PasswordEncoder {
+
+    private static final int SALT_LENGTH = 16;
+    private static final char SEPARATOR = '$';
+
+    /** Limite para iterações lidas do hash; acima disso o hash é considerado inválido. */
+    private static final int MAX_ITERATIONS = 100_000_000;
+
+    private final int iterations;
+    private final Map<Integer, PasswordEncoder> encoders = new ConcurrentHashMap<>();
+
+    Pbkdf2IterationsPasswordEncoder(int iterations) {
+        this.iterations = iterations;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return iterations + String.valueOf(SEPARATOR) + encoder(iterations).encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+
+        if (rawPassword == null || encodedPassword == null) {
+            return false;
+        }
+
+        int separator = encodedPassword.indexOf(SEPARATOR);
+        if (separator < 0) {
+            return encoder(iterations).matches(rawPassword, encodedPassword);
+        }
+
+        int storedIterations = parseIterations(encodedPassword.substring(0, separator));
+        return storedIterations > 0
+                && encoder(storedIterations).matches(rawPassword, encodedPassword.substring(separator + 1));
+    }
+
+    /**
+     * Verdadeiro para hashes legados ou com menos iterações que as atuais.
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+
+        if (encodedPassword == null) {
+            return false;
+        }
+
+        int separator = encodedPassword.indexOf(SEPARATOR);
+        return separator < 0 || parseIterations(encodedPassword.substring(0, separator)) < iterations;
+    }
+
+    private PasswordEncoder encoder(int iterations) {
+        return encoders.computeIfAbsent(iterations, Pbkdf2IterationsPasswordEncoder::newEncoder);
+    }
+
+    static PasswordEncoder newEncoder(int iterations) {
+        return new Pbkdf2PasswordEncoder("", SALT_LENGTH, iterations, SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256);
+    }
+
+    /**
+     * @return as iterações, ou -1 se o texto não for um número válido
+     */
+    private static int parseIterations(String text) {
+
+        if (text.isEmpty() || text.length() > 9) {
+            return -1;
+        }
+
+        int value = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value > 0 && value <= MAX_ITERATIONS ? value : -1;
+    }
+}
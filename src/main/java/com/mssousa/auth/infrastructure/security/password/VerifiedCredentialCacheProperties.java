@@ -0,0 +1,36 @@
+package com.mssousa.auth.infrastructure.security.password;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Propriedades de configuração do cache de senhas verificadas.
+ * Carregadas do application.yml com prefixo "auth.verified-credential-cache".
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "auth.verified-credential-cache")
+public class VerifiedCredentialCacheProperties {
+
+    /**
+     * Desabilitado por padrão: habilitar apenas quando houver reautenticações em rajada.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Tempo de vida de cada verificação em cache.
+     */
+    @Positive(message = "TTL seconds deve ser positivo")
+    private int ttlSeconds = 30;
+
+    /**
+     * Quantidade máxima de usuários em cache.
+     */
+    @Positive(message = "Max entries deve ser positivo")
+    private int maxEntries = 10_000;
+}
@@ -0,0 +1,64 @@
+package com.mssousa.auth.infrastructure.security.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Propriedades de configuração do rate limit de login.
+ * Carregadas do application.yml com prefixo "auth.login-rate-limit".
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "auth.login-rate-limit")
+public class LoginRateLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Quantidade máxima aproximada de chaves (logins ou IPs) mantidas em memória, por limiter.
+     */
+    @Positive(message = "Max entries deve ser positivo")
+    private int maxEntries = 100_000;
+
+    /**
+     * Quantidade de stripes de cada limiter.
+     */
+    @Positive(message = "Stripes deve ser positivo")
+    private int stripes = 64;
+
+    /**
+     * Limite por login normalizado.
+     */
+    private Bucket login = new Bucket(5, 10);
+
+    /**
+     * Limite por IP do cliente.
+     */
+    private Bucket ip = new Bucket(50, 100);
+
+    @Getter
+    @Setter
+    public static class Bucket {
+
+        /** Tentativas permitidas em rajada. */
+        @Positive(message = "Capacity deve ser positivo")
+        private int capacity;
+
+        /** Tentativas repostas por minuto. */
+        @Positive(message = "Refill per minute deve ser positivo")
+        private int refillPerMinute;
+
+        public Bucket() {
+        }
+
+        public Bucket(int capacity, int refillPerMinute) {
+            this.capacity = capacity;
+            this.refillPerMinute = refillPerMinute;
+        }
+    }
+}
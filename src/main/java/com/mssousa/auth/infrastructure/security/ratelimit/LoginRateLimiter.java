@@ -0,0 +1,105 @@
+package com.mssousa.auth.infrastructure.security.ratelimit;
+
+import java.util.Locale;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Rate limit de tentativas de login, aplicado antes de qualquer consulta ao banco
+ * ou cálculo de hash.
+ *
+ * Chaves:
+ * - login normalizado (trim + lowercase): limita ataques a uma conta específica
+ * - IP do cliente: limita um mesmo origem tentando várias contas
+ *
+ * Métricas (prefixo auth.login.rate-limit):
+ * - rejected: tentativas recusadas, por chave (login, ip)
+ * - entries: chaves mantidas em memória, por chave
+ */
+@Slf4j
+@Component
+public class LoginRateLimiter {
+
+    private static final String METRIC_PREFIX = "auth.login.rate-limit";
+
+    private final boolean enabled;
+    private final TokenBucketRateLimiter loginLimiter;
+    private final TokenBucketRateLimiter ipLimiter;
+    private final Counter loginRejectedCounter;
+    private final Counter ipRejectedCounter;
+
+    public LoginRateLimiter(LoginRateLimitProperties properties, MeterRegistry meterRegistry) {
+
+        this.enabled = properties.isEnabled();
+        this.loginLimiter = limiter(properties, properties.getLogin());
+        this.ipLimiter = limiter(properties, properties.getIp());
+
+        this.loginRejectedCounter = rejectedCounter(meterRegistry, "login");
+        this.ipRejectedCounter = rejectedCounter(meterRegistry, "ip");
+
+        Gauge.builder(METRIC_PREFIX + ".entries", loginLimiter, TokenBucketRateLimiter::size)
+                .tag("key", "login")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".entries", ipLimiter, TokenBucketRateLimiter::size)
+                .tag("key", "ip")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Consome uma tentativa para o login e para o IP.
+     * Se o login recusar a tentativa, a do IP é devolvida: uma tentativa recusada
+     * não chega à verificação e não deve contar para o limite da origem.
+     *
+     * @param login    login informado (username ou email)
+     * @param clientIp IP do cliente, ou null se desconhecido
+     * @return true se a tentativa estiver dentro dos limites
+     */
+    public boolean tryAcquire(String login, String clientIp) {
+
+        if (!enabled) {
+            return true;
+        }
+
+        if (clientIp != null && !ipLimiter.tryAcquire(clientIp)) {
+            ipRejectedCounter.increment();
+            log.warn("Login attempt rate limited by client IP: {}", clientIp);
+            return false;
+        }
+
+        if (!loginLimiter.tryAcquire(normalize(login))) {
+            if (clientIp != null) {
+                ipLimiter.refund(clientIp);
+            }
+            loginRejectedCounter.increment();
+            log.warn("Login attempt rate limited by login: {}", login);
+            return false;
+        }
+
+        return true;
+    }
+
+    static String normalize(String login) {
+        return login == null ? "" : login.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static TokenBucketRateLimiter limiter(LoginRateLimitProperties properties,
+            LoginRateLimitProperties.Bucket bucket) {
+        return new TokenBucketRateLimiter(
+                bucket.getCapacity(),
+                bucket.getRefillPerMinute(),
+                properties.getMaxEntries(),
+                properties.getStripes());
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String key) {
+        return Counter.builder(METRIC_PREFIX + ".rejected")
+                .description("Login attempts rejected before credential verification")
+                .tag("key", key)
+                .register(meterRegistry);
+    }
+}
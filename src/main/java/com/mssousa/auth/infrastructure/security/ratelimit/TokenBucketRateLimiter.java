@@ -0,0 +1,241 @@
+package com.mssousa.auth.infrastructure.security.ratelimit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Rate limiter em memória, sem locks, com um token bucket por chave.
+ *
+ * Algoritmo (GCRA, equivalente a token bucket):
+ * - Cada chave guarda apenas o "theoretical arrival time" (TAT) em um AtomicLong
+ * - Uma requisição é aceita se TAT - agora <= tolerância de rajada
+ * - Ao aceitar, o TAT avança um intervalo de emissão via CAS
+ *
+ * Memória limitada:
+ * - As chaves são distribuídas em stripes, cada uma com capacidade própria
+ * - Ao exceder a capacidade, a stripe remove chaves ociosas (bucket cheio,
+ *   equivalente a não existir) e, se necessário, a menos usada de uma amostra (LRU aproximado)
+ * - A amostra começa em uma posição aleatória da tabela, obtida dividindo o
+ *   Spliterator do mapa ao acaso, e não sempre nas primeiras posições
+ * - Apenas uma thread por stripe faz a limpeza; as demais seguem sem bloquear
+ */
+public class TokenBucketRateLimiter {
+
+    private static final int EVICTION_SAMPLE_SIZE = 16;
+
+    private final Stripe[] stripes;
+    private final int mask;
+    private final int stripeCapacity;
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final LongSupplier nanoClock;
+
+    /**
+     * @param capacity        requisições permitidas em rajada
+     * @param refillPerMinute tokens repostos por minuto
+     * @param maxEntries      quantidade máxima aproximada de chaves em memória
+     * @param stripeCount     quantidade de stripes (arredondada para potência de 2)
+     */
+    public TokenBucketRateLimiter(int capacity, int refillPerMinute, int maxEntries, int stripeCount) {
+        this(capacity, refillPerMinute, maxEntries, stripeCount, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(int capacity, int refillPerMinute, int maxEntries, int stripeCount,
+            LongSupplier nanoClock) {
+
+        if (capacity <= 0 || refillPerMinute <= 0 || maxEntries <= 0 || stripeCount <= 0) {
+            throw new IllegalArgumentException("Rate limiter parameters must be positive");
+        }
+
+        int size = 1;
+        while (size < stripeCount) {
+            size <<= 1;
+        }
+
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.mask = size - 1;
+        this.stripeCapacity = Math.max(1, maxEntries / size);
+        this.emissionIntervalNanos = TimeUnit.MINUTES.toNanos(1) / refillPerMinute;
+        this.burstToleranceNanos = emissionIntervalNanos * (capacity - 1);
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Consome um token da chave.
+     *
+     * @return true se a requisição estiver dentro do limite
+     */
+    public boolean tryAcquire(String key) {
+
+        long now = nanoClock.getAsLong();
+        Stripe stripe = stripes[spread(key.hashCode()) & mask];
+
+        Bucket bucket = stripe.buckets.get(key);
+        if (bucket == null) {
+            bucket = stripe.buckets.computeIfAbsent(key, k -> new Bucket(now));
+            if (stripe.buckets.size() > stripeCapacity) {
+                stripe.evict(now, stripeCapacity);
+            }
+        }
+
+        bucket.lastAccess = now;
+        return bucket.tryAcquire(now, emissionIntervalNanos, burstToleranceNanos);
+    }
+
+    /**
+     * Devolve um token consumido por {@link #tryAcquire(String)}, quando a tentativa
+     * acabou recusada por outro limite e não deve contar para esta chave.
+     * Sem efeito se a chave não estiver mais em memória.
+     */
+    public void refund(String key) {
+
+        Bucket bucket = stripes[spread(key.hashCode()) & mask].buckets.get(key);
+        if (bucket != null) {
+            bucket.refund(nanoClock.getAsLong(), emissionIntervalNanos);
+        }
+    }
+
+    /**
+     * Quantidade aproximada de chaves em memória.
+     */
+    public int size() {
+        int total = 0;
+        for (Stripe stripe : stripes) {
+            total += stripe.buckets.size();
+        }
+        return total;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class Bucket {
+
+        private final AtomicLong theoreticalArrival;
+        private volatile long lastAccess;
+
+        Bucket(long now) {
+            this.theoreticalArrival = new AtomicLong(now);
+            this.lastAccess = now;
+        }
+
+        boolean tryAcquire(long now, long emissionInterval, long burstTolerance) {
+            while (true) {
+                long current = theoreticalArrival.get();
+                long tat = Math.max(current, now);
+                if (tat - now > burstTolerance) {
+                    return false;
+                }
+                if (theoreticalArrival.compareAndSet(current, tat + emissionInterval)) {
+                    return true;
+                }
+            }
+        }
+
+        void refund(long now, long emissionInterval) {
+            while (true) {
+                long current = theoreticalArrival.get();
+                if (current - now <= 0) {
+                    return;
+                }
+                long refunded = Math.max(current - emissionInterval, now);
+                if (theoreticalArrival.compareAndSet(current, refunded)) {
+                    return;
+                }
+            }
+        }
+
+        boolean isIdle(long now) {
+            return theoreticalArrival.get() - now <= 0;
+        }
+    }
+
+    private static final class Stripe {
+
+        private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+        private final AtomicBoolean evicting = new AtomicBoolean();
+
+        void evict(long now, int capacity) {
+            if (!evicting.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                while (buckets.size() > capacity) {
+                    if (!evictSample(now)) {
+                        return;
+                    }
+                }
+            } finally {
+                evicting.set(false);
+            }
+        }
+
+        /**
+         * Remove as chaves ociosas da amostra ou, se não houver, a de acesso mais antigo.
+         */
+        private boolean evictSample(long now) {
+            Map.Entry<String, Bucket> oldest = null;
+            boolean removed = false;
+
+            for (Map.Entry<String, Bucket> entry : sample()) {
+                if (entry.getValue().isIdle(now)) {
+                    removed |= buckets.remove(entry.getKey(), entry.getValue());
+                } else if (oldest == null || entry.getValue().lastAccess < oldest.getValue().lastAccess) {
+                    oldest = entry;
+                }
+            }
+
+            if (!removed && oldest != null) {
+                removed = buckets.remove(oldest.getKey(), oldest.getValue());
+            }
+            return removed;
+        }
+
+        /**
+         * Amostra a partir de um trecho aleatório da tabela: desce por metades do
+         * Spliterator escolhidas ao acaso até um trecho com o tamanho da amostra.
+         * Se o trecho escolhido estiver vazio, recorre ao início da tabela.
+         */
+        private List<Map.Entry<String, Bucket>> sample() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            Spliterator<Map.Entry<String, Bucket>> range = buckets.entrySet().spliterator();
+            while (range.estimateSize() > EVICTION_SAMPLE_SIZE) {
+                Spliterator<Map.Entry<String, Bucket>> prefix = range.trySplit();
+                if (prefix == null) {
+                    break;
+                }
+                if (random.nextBoolean()) {
+                    range = prefix;
+                }
+            }
+
+            List<Map.Entry<String, Bucket>> sample = new ArrayList<>(EVICTION_SAMPLE_SIZE);
+            fill(sample, range);
+            if (sample.isEmpty()) {
+                fill(sample, buckets.entrySet().spliterator());
+            }
+            return sample;
+        }
+
+        private static void fill(List<Map.Entry<String, Bucket>> sample,
+                Spliterator<Map.Entry<String, Bucket>> range) {
+            while (sample.size() < EVICTION_SAMPLE_SIZE) {
+                if (!range.tryAdvance(sample::add)) {
+                    return;
+                }
+            }
+        }
+    }
+}
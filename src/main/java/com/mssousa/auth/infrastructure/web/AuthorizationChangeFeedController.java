@@ -0,0 +1,89 @@
+package com.mssousa.auth.infrastructure.web;
+
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.mssousa.auth.application.service.authorization.AuthorizationChangeFeedService;
+import com.mssousa.auth.application.service.authorization.AuthorizationChangeFeedService.AuthorizationDelta;
+import com.mssousa.auth.application.service.authorization.AuthorizationChangeFeedService.AuthorizationSnapshot;
+import com.mssousa.auth.application.service.authorization.UserAuthorizationService.UserAuthorization;
+import com.mssousa.auth.domain.model.system.ClientSystem;
+import com.mssousa.auth.domain.repository.ClientSystemRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Publica as alterações de autorização de um sistema posteriores a uma versão.
+ *
+ * O resource server carrega o cache local por /snapshot (paginado com after=último
+ * userId, adotando a "version" da primeira página), guarda a última versão aplicada
+ * ("toVersion") e consulta periodicamente com since=versão, aplicando apenas os
+ * usuários alterados. Em "reset", recarrega o cache por /snapshot; em "hasMore",
+ * consulta novamente em seguida.
+ *
+ * Acesso restrito ao próprio sistema: o resource server chama com um JWT
+ * client_credentials do {clientId} (ver SecurityConfig); outros chamadores recebem 403.
+ */
+@RestController
+@RequestMapping("/api/systems/{clientId}/authorization-changes")
+@RequiredArgsConstructor
+public class AuthorizationChangeFeedController {
+
+    private final ClientSystemRepository clientSystemRepository;
+    private final AuthorizationChangeFeedService authorizationChangeFeedService;
+
+    @GetMapping
+    public ResponseEntity<AuthorizationChangesResponse> get(@PathVariable String clientId,
+            @RequestParam(defaultValue = "0") long since) {
+
+        ClientSystem system = clientSystemRepository.findByClientId(clientId).orElse(null);
+        if (system == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        AuthorizationDelta delta = authorizationChangeFeedService.changesSince(system.getId(), since);
+
+        return ResponseEntity.ok(new AuthorizationChangesResponse(
+                clientId, delta.fromVersion(), delta.toVersion(), delta.reset(), delta.hasMore(),
+                toChanges(delta.users())));
+    }
+
+    @GetMapping("/snapshot")
+    public ResponseEntity<AuthorizationSnapshotResponse> snapshot(@PathVariable String clientId,
+            @RequestParam(defaultValue = "0") long after) {
+
+        ClientSystem system = clientSystemRepository.findByClientId(clientId).orElse(null);
+        if (system == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        AuthorizationSnapshot snapshot = authorizationChangeFeedService.snapshot(system.getId(), after);
+
+        return ResponseEntity.ok(new AuthorizationSnapshotResponse(
+                clientId, snapshot.version(), snapshot.hasMore(), toChanges(snapshot.users())));
+    }
+
+    private static List<UserChange> toChanges(List<UserAuthorization> users) {
+        return users.stream()
+                .map(user -> new UserChange(user.userId().value(), user.isGranted(), user.roles()))
+                .toList();
+    }
+
+    public record AuthorizationChangesResponse(String clientId, long fromVersion, long toVersion,
+            boolean reset, boolean hasMore, List<UserChange> users) {
+    }
+
+    public record AuthorizationSnapshotResponse(String clientId, long version, boolean hasMore,
+            List<UserChange> users) {
+    }
+
+    public record UserChange(Long userId, boolean granted, Set<String> roles) {
+    }
+}
@@ -0,0 +1,62 @@
+package com.mssousa.auth.infrastructure.web;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import com.mssousa.auth.application.service.authorization.PermissionDictionaryProvider;
+import com.mssousa.auth.domain.model.role.PermissionDictionary;
+import com.mssousa.auth.domain.model.system.ClientSystem;
+import com.mssousa.auth.domain.repository.ClientSystemRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Publica o dicionário de permissões de um sistema para os resource servers.
+ *
+ * O resource server mantém o dicionário em cache pela versão (ETag) e só o consulta
+ * novamente quando recebe um token cujo "perms_ver" difere da versão em cache.
+ * O índice de cada permissão é a sua posição em "permissions".
+ */
+@RestController
+@RequestMapping("/api/systems/{clientId}/permission-dictionary")
+@RequiredArgsConstructor
+public class PermissionDictionaryController {
+
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic();
+
+    private final ClientSystemRepository clientSystemRepository;
+    private final PermissionDictionaryProvider permissionDictionaryProvider;
+
+    @GetMapping
+    public ResponseEntity<PermissionDictionaryResponse> get(@PathVariable String clientId, WebRequest request) {
+
+        ClientSystem system = clientSystemRepository.findByClientId(clientId).orElse(null);
+        if (system == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        PermissionDictionary dictionary = permissionDictionaryProvider.forSystem(system.getId());
+        String etag = "\"" + dictionary.getVersion() + "\"";
+
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CACHE_CONTROL)
+                .body(new PermissionDictionaryResponse(
+                        clientId, dictionary.getVersion(), dictionary.getPermissions()));
+    }
+
+    public record PermissionDictionaryResponse(String clientId, String version, List<String> permissions) {
+    }
+}
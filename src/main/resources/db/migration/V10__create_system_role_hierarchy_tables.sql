@@ -0,0 +1,50 @@
+-- Hierarquia de perfis dentro de um sistema: o perfil pai implica o perfil filho
+-- (ex: ADMIN -> EDITOR -> VIEWER).
+CREATE TABLE system_role_parent (
+    system_role_id  BIGINT    NOT NULL,
+    parent_role_id  BIGINT    NOT NULL,
+    created_at      TIMESTAMP NOT NULL DEFAULT NOW(),
+    created_by      VARCHAR(50),
+
+    CONSTRAINT pk_system_role_parent PRIMARY KEY (system_role_id, parent_role_id),
+
+    CONSTRAINT fk_srp_system_role
+        FOREIGN KEY (system_role_id)
+        REFERENCES system_role(id)
+        ON DELETE CASCADE,
+
+    CONSTRAINT fk_srp_parent_role
+        FOREIGN KEY (parent_role_id)
+        REFERENCES system_role(id)
+        ON DELETE CASCADE,
+
+    CONSTRAINT ck_srp_not_self CHECK (system_role_id <> parent_role_id)
+);
+
+CREATE INDEX idx_srp_parent_role_id ON system_role_parent(parent_role_id);
+
+-- Fecho transitivo (não reflexivo) de system_role_parent, mantido incrementalmente
+-- pela aplicação a cada aresta incluída ou removida.
+-- path_count: quantidade de caminhos distintos de ancestor até descendant; permite
+-- remover uma aresta sem recalcular o grafo quando há mais de um caminho.
+CREATE TABLE system_role_closure (
+    ancestor_id    BIGINT  NOT NULL,
+    descendant_id  BIGINT  NOT NULL,
+    path_count     BIGINT  NOT NULL,
+
+    CONSTRAINT pk_system_role_closure PRIMARY KEY (ancestor_id, descendant_id),
+
+    CONSTRAINT fk_src_ancestor
+        FOREIGN KEY (ancestor_id)
+        REFERENCES system_role(id)
+        ON DELETE CASCADE,
+
+    CONSTRAINT fk_src_descendant
+        FOREIGN KEY (descendant_id)
+        REFERENCES system_role(id)
+        ON DELETE CASCADE,
+
+    CONSTRAINT ck_src_path_count CHECK (path_count > 0)
+);
+
+CREATE INDEX idx_src_descendant_id ON system_role_closure(descendant_id);
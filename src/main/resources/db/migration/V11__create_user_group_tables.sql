@@ -0,0 +1,87 @@
+-- Grupos de usuários de um sistema: perfis vinculados ao grupo são concedidos a todos
+-- os membros (vínculos usuário-sistema).
+CREATE TABLE user_group (
+    id           BIGINT       PRIMARY KEY,
+    system_id    BIGINT       NOT NULL,
+    code         VARCHAR(50)  NOT NULL,
+    description  VARCHAR(255),
+    status       VARCHAR(20)  NOT NULL,
+
+    created_at   TIMESTAMP    NOT NULL DEFAULT NOW(),
+    created_by   VARCHAR(50),
+
+    CONSTRAINT fk_user_group_system
+        FOREIGN KEY (system_id)
+        REFERENCES client_system(id)
+        ON DELETE CASCADE,
+
+    CONSTRAINT uq_user_group_code UNIQUE (system_id, code)
+);
+
+CREATE TABLE user_group_member (
+    group_id        BIGINT    NOT NULL,
+    user_system_id  BIGINT    NOT NULL,
+    created_at      TIMESTAMP NOT NULL DEFAULT NOW(),
+    created_by      VARCHAR(50),
+
+    CONSTRAINT pk_user_group_member PRIMARY KEY (group_id, user_system_id),
+
+    CONSTRAINT fk_ugm_group
+        FOREIGN KEY (group_id)
+        REFERENCES user_group(id)
+        ON DELETE CASCADE,
+
+    CONSTRAINT fk_ugm_user_system
+        FOREIGN KEY (user_system_id)
+        REFERENCES user_system(id)
+        ON DELETE CASCADE
+);
+
+CREATE INDEX idx_ugm_user_system_id ON user_group_member(user_system_id);
+
+CREATE TABLE user_group_role (
+    group_id        BIGINT    NOT NULL,
+    system_role_id  BIGINT    NOT NULL,
+    created_at      TIMESTAMP NOT NULL DEFAULT NOW(),
+    created_by      VARCHAR(50),
+
+    CONSTRAINT pk_user_group_role PRIMARY KEY (group_id, system_role_id),
+
+    CONSTRAINT fk_ugr_group
+        FOREIGN KEY (group_id)
+        REFERENCES user_group(id)
+        ON DELETE CASCADE,
+
+    CONSTRAINT fk_ugr_system_role
+        FOREIGN KEY (system_role_id)
+        REFERENCES system_role(id)
+        ON DELETE CASCADE
+);
+
+CREATE INDEX idx_ugr_system_role_id ON user_group_role(system_role_id);
+
+-- Expansão materializada: perfis recebidos por cada vínculo usuário-sistema através de
+-- grupos ativos, mantida incrementalmente pela aplicação.
+-- group_count: quantidade de grupos ativos do vínculo que concedem o perfil; a linha é
+-- removida quando chega a zero. Status do vínculo e do perfil são filtrados na leitura.
+CREATE TABLE user_system_group_role (
+    user_system_id  BIGINT  NOT NULL,
+    system_role_id  BIGINT  NOT NULL,
+    group_count     INT     NOT NULL,
+
+    CONSTRAINT pk_user_system_group_role PRIMARY KEY (user_system_id, system_role_id),
+
+    CONSTRAINT fk_usgr_user_system
+        FOREIGN KEY (user_system_id)
+        REFERENCES user_system(id)
+        ON DELETE CASCADE,
+
+    CONSTRAINT fk_usgr_system_role
+        FOREIGN KEY (system_role_id)
+        REFERENCES system_role(id)
+        ON DELETE CASCADE,
+
+    CONSTRAINT ck_usgr_group_count CHECK (group_count > 0)
+);
+
+CREATE INDEX idx_usgr_system_role_id ON user_system_group_role(system_role_id);
@@ -0,0 +1,12 @@
+-- Permissões (recurso:ação, ex: invoice:read) concedidas por cada perfil.
+CREATE TABLE system_role_permission (
+    system_role_id  BIGINT        NOT NULL,
+    permission      VARCHAR(100)  NOT NULL,
+
+    CONSTRAINT pk_system_role_permission PRIMARY KEY (system_role_id, permission),
+
+    CONSTRAINT fk_srperm_system_role
+        FOREIGN KEY (system_role_id)
+        REFERENCES system_role(id)
+        ON DELETE CASCADE
+);
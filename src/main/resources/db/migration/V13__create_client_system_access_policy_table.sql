@@ -0,0 +1,14 @@
+-- Política de acesso de cada sistema (expressão compilada pela aplicação).
+-- Sistemas sem linha nesta tabela não possuem restrições além das regras fixas.
+CREATE TABLE client_system_access_policy (
+    system_id   BIGINT        PRIMARY KEY,
+    expression  VARCHAR(4000) NOT NULL,
+
+    updated_at  TIMESTAMP     NOT NULL DEFAULT NOW(),
+    updated_by  VARCHAR(50),
+
+    CONSTRAINT fk_csap_client_system
+        FOREIGN KEY (system_id)
+        REFERENCES client_system(id)
+        ON DELETE CASCADE
+);
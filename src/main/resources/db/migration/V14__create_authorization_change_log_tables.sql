@@ -0,0 +1,30 @@
+-- Versão corrente das autorizações de cada sistema. Incrementada (com bloqueio da
+-- linha até o commit) a cada alteração, o que torna as versões contínuas e visíveis
+-- em ordem.
+CREATE TABLE authorization_version (
+    system_id  BIGINT  PRIMARY KEY,
+    version    BIGINT  NOT NULL,
+
+    CONSTRAINT fk_authorization_version_system
+        FOREIGN KEY (system_id)
+        REFERENCES client_system(id)
+        ON DELETE CASCADE
+);
+
+-- Registro das alterações de autorização por sistema. user_id nulo indica uma
+-- alteração que afeta todos os usuários do sistema (ex: perfil alterado).
+CREATE TABLE authorization_change_log (
+    system_id   BIGINT     NOT NULL,
+    version     BIGINT     NOT NULL,
+    user_id     BIGINT,
+    changed_at  TIMESTAMP  NOT NULL DEFAULT NOW(),
+
+    CONSTRAINT pk_authorization_change_log PRIMARY KEY (system_id, version),
+
+    CONSTRAINT fk_acl_system
+        FOREIGN KEY (system_id)
+        REFERENCES client_system(id)
+        ON DELETE CASCADE
+);
+
+CREATE INDEX idx_authorization_change_log_changed_at ON authorization_change_log(changed_at);
@@ -0,0 +1,9 @@
+-- Client secrets passam a ser armazenados como hash BCrypt (formato sem prefixo,
+-- aceito por ClientSecret e pelo PasswordHasher configurado).
+-- gen_salt('bf', 12) gera hashes $2a$ com o mesmo custo padrão das senhas.
+CREATE EXTENSION IF NOT EXISTS pgcrypto;
+
+UPDATE client_system
+   SET client_secret = crypt(client_secret, gen_salt('bf', 12))
+ WHERE client_secret IS NOT NULL
+   AND client_secret !~ '^(\{[a-z0-9]+\}|\$2[aby]\$)';
@@ -0,0 +1,17 @@
+-- URIs de redirecionamento de cada sistema cliente (inclui a principal,
+-- mantida também em client_system.redirect_uri).
+CREATE TABLE client_system_redirect_uri (
+    client_system_id  BIGINT        NOT NULL,
+    redirect_uri      VARCHAR(255)  NOT NULL,
+
+    CONSTRAINT pk_client_system_redirect_uri PRIMARY KEY (client_system_id, redirect_uri),
+
+    CONSTRAINT fk_csru_client_system
+        FOREIGN KEY (client_system_id)
+        REFERENCES client_system(id)
+        ON DELETE CASCADE
+);
+
+INSERT INTO client_system_redirect_uri (client_system_id, redirect_uri)
+SELECT id, redirect_uri
+  FROM client_system;
@@ -0,0 +1,7 @@
+-- Fluxos OAuth2 e formas de autenticação permitidos a cada sistema cliente, separados
+-- por vírgula (valores de ClientGrantType e ClientAuthMethod). Sistemas existentes
+-- ficam com o login de usuários via HTTP Basic; client_credentials e o secret no corpo
+-- da requisição devem ser habilitados por sistema.
+ALTER TABLE client_system
+    ADD COLUMN grant_types   VARCHAR(100) NOT NULL DEFAULT 'AUTHORIZATION_CODE,REFRESH_TOKEN',
+    ADD COLUMN auth_methods  VARCHAR(100) NOT NULL DEFAULT 'CLIENT_SECRET_BASIC';
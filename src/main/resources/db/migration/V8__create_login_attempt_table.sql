@@ -0,0 +1,15 @@
+CREATE TABLE login_attempt (
+    user_id          BIGINT      PRIMARY KEY,
+    failed_count     INTEGER     NOT NULL,
+    last_failure_at  TIMESTAMP,
+    locked_until     TIMESTAMP,
+
+    updated_at       TIMESTAMP   NOT NULL DEFAULT NOW(),
+
+    CONSTRAINT fk_login_attempt_user
+        FOREIGN KEY (user_id)
+        REFERENCES "user"(id)
+        ON DELETE CASCADE
+);
+
+CREATE INDEX idx_login_attempt_locked_until ON login_attempt(locked_until);
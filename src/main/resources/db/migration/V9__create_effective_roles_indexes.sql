@@ -0,0 +1,10 @@
+-- Índices de cobertura para a consulta de perfis efetivos (user_system -> user_system_role -> system_role).
+-- user_system já é resolvido pela constraint uq_user_system (user_id, system_id).
+
+CREATE INDEX idx_usr_user_system_status_role
+    ON user_system_role(user_system_id, status)
+    INCLUDE (system_role_id);
+
+CREATE INDEX idx_system_role_id_status_code
+    ON system_role(id, status)
+    INCLUDE (code);
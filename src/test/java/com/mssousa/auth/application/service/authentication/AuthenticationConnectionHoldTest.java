@@ -0,0 +1,205 @@
+package com.mssousa.auth.application.service.authentication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.mssousa.auth.domain.model.user.LoginCredentials;
+import com.mssousa.auth.domain.model.user.UserId;
+import com.mssousa.auth.domain.model.user.UserStatus;
+import com.mssousa.auth.domain.repository.UserRepository;
+import com.mssousa.auth.domain.service.TestPasswordHasher;
+
+/**
+ * Regressão: o login não pode manter transação (e, portanto, conexão) aberta
+ * durante o cálculo de hash.
+ *
+ * O serviço roda atrás do proxy transacional do Spring, e o repositório abre a
+ * própria transação curta, como o Spring Data faz. O tempo de cada transação é
+ * medido e comparado ao tempo do hash, para custos de BCrypt diferentes.
+ */
+@SpringJUnitConfig(AuthenticationConnectionHoldTest.Config.class)
+class AuthenticationConnectionHoldTest {
+
+    @Autowired
+    private AuthenticationService authenticationService;
+
+    @Autowired
+    private RecordingTransactionManager transactionManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TimingVerificationEngine verificationEngine;
+
+    @BeforeEach
+    void setUp() {
+        transactionManager.holdTimesNanos.clear();
+        verificationEngine.transactionActiveDuringVerification = false;
+    }
+
+    @ParameterizedTest(name = "BCrypt cost {0}")
+    @ValueSource(ints = {4, 12})
+    @DisplayName("Deve liberar a transação antes do hash, independentemente do custo")
+    void shouldNotHoldTransactionDuringHashing(int cost) {
+
+        LoginCredentials credentials = new LoginCredentials(
+                UserId.of(1L), "mateus", "mateus@email.com", "Mateus Dias",
+                new BCryptPasswordEncoder(cost).encode("123456"), false, UserStatus.ACTIVE);
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        doAnswer(invocation -> readOnly.execute(status -> Optional.of(credentials)))
+                .when(userRepository).findLoginCredentials(any());
+
+        authenticationService.authenticate("mateus", "123456");
+
+        assertFalse(verificationEngine.transactionActiveDuringVerification,
+                "Password verification must run without an active transaction");
+        assertEquals(1, transactionManager.holdTimesNanos.size(),
+                "Only the credentials lookup should open a transaction");
+
+        long holdNanos = transactionManager.holdTimesNanos.get(0);
+        if (cost == 12) {
+            assertTrue(holdNanos < verificationEngine.lastVerificationNanos / 4,
+                    "Transaction held for " + TimeUnit.NANOSECONDS.toMillis(holdNanos)
+                            + "ms while hashing took "
+                            + TimeUnit.NANOSECONDS.toMillis(verificationEngine.lastVerificationNanos) + "ms");
+        }
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    static class Config {
+
+        @Bean
+        RecordingTransactionManager transactionManager() {
+            return new RecordingTransactionManager();
+        }
+
+        @Bean
+        UserRepository userRepository() {
+            return mock(UserRepository.class);
+        }
+
+        @Bean
+        TimingVerificationEngine verificationEngine() {
+            return new TimingVerificationEngine();
+        }
+
+        @Bean
+        AuthenticationService authenticationService(UserRepository userRepository,
+                TimingVerificationEngine verificationEngine) {
+            return new AuthenticationServiceImpl(userRepository, verificationEngine,
+                    mock(LoginAttemptTracker.class), mock(VerifiedCredentialCache.class),
+                    TestPasswordHasher.INSTANCE);
+        }
+    }
+
+    /**
+     * Executa a verificação na thread chamadora, registrando sua duração e se havia
+     * transação ativa naquele momento.
+     */
+    static class TimingVerificationEngine implements PasswordVerificationEngine {
+
+        volatile boolean transactionActiveDuringVerification;
+        volatile long lastVerificationNanos;
+
+        @Override
+        public boolean verify(BooleanSupplier verification) {
+            transactionActiveDuringVerification |= TransactionSynchronizationManager.isActualTransactionActive();
+            long start = System.nanoTime();
+            boolean result = verification.getAsBoolean();
+            lastVerificationNanos = System.nanoTime() - start;
+            return result;
+        }
+
+        @Override
+        public CompletableFuture<Boolean> verifyAsync(BooleanSupplier verification) {
+            return CompletableFuture.completedFuture(verify(verification));
+        }
+
+        @Override
+        public <T> boolean tryExecute(Supplier<T> task, Consumer<T> followUp) {
+            return false;
+        }
+    }
+
+    /**
+     * Transaction manager sem recurso real, que mede o tempo entre o início e o fim
+     * de cada transação (equivalente ao tempo de posse da conexão).
+     */
+    static class RecordingTransactionManager extends AbstractPlatformTransactionManager {
+
+        final List<Long> holdTimesNanos = new ArrayList<>();
+
+        @Override
+        protected Object doGetTransaction() {
+            Transaction existing = (Transaction) TransactionSynchronizationManager.getResource(this);
+            return existing != null ? existing : new Transaction();
+        }
+
+        @Override
+        protected boolean isExistingTransaction(Object transaction) {
+            return ((Transaction) transaction).beganAt != 0;
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            ((Transaction) transaction).beganAt = System.nanoTime();
+            TransactionSynchronizationManager.bindResource(this, transaction);
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            record(status);
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+            record(status);
+        }
+
+        @Override
+        protected void doCleanupAfterCompletion(Object transaction) {
+            TransactionSynchronizationManager.unbindResource(this);
+        }
+
+        private void record(DefaultTransactionStatus status) {
+            holdTimesNanos.add(System.nanoTime() - ((Transaction) status.getTransaction()).beganAt);
+        }
+
+        private static final class Transaction {
+            long beganAt;
+        }
+    }
+}
@@ -2,54 +2,83 @@ package com.mssousa.auth.application.service.authentication;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.mock;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 import com.mssousa.auth.application.exception.AuthenticationFailedException;
+import com.mssousa.auth.application.exception.AuthenticationThrottledException;
 import com.mssousa.auth.application.service.authentication.model.AuthenticatedUser;
-import com.mssousa.auth.domain.model.user.Email;
-import com.mssousa.auth.domain.model.user.User;
+import com.mssousa.auth.domain.model.user.LoginCredentials;
 import com.mssousa.auth.domain.model.user.UserId;
 import com.mssousa.auth.domain.model.user.UserStatus;
-import com.mssousa.auth.domain.model.user.Username;
 import com.mssousa.auth.domain.repository.UserRepository;
+import com.mssousa.auth.domain.service.TestPasswordHasher;
 
 class AuthenticationServiceImplTest {
 
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private PasswordVerificationEngine passwordVerificationEngine;
+
+    @Mock
+    private LoginAttemptTracker loginAttemptTracker;
+
+    @Mock
+    private VerifiedCredentialCache verifiedCredentialCache;
+
     private AuthenticationServiceImpl authenticationService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        authenticationService = new AuthenticationServiceImpl(userRepository);
+        when(passwordVerificationEngine.verify(any()))
+                .thenAnswer(invocation -> invocation.<BooleanSupplier>getArgument(0).getAsBoolean());
+        when(passwordVerificationEngine.verifyAsync(any()))
+                .thenAnswer(invocation -> CompletableFuture.supplyAsync(
+                        () -> invocation.<BooleanSupplier>getArgument(0).getAsBoolean()));
+        authenticationService = new AuthenticationServiceImpl(userRepository, passwordVerificationEngine,
+                loginAttemptTracker, verifiedCredentialCache, new TestPasswordHasher(5));
     }
 
-    private User buildUser(UserStatus status, boolean passwordMatches) {
-        User user = mock(User.class);
-
-        when(user.getId()).thenReturn(UserId.of(1L));
-        when(user.getUsername()).thenReturn(Username.of("mateus"));
-        when(user.getEmail()).thenReturn(Email.of("mateus@email.com"));
-        when(user.getName()).thenReturn("Mateus Dias");
-        when(user.getStatus()).thenReturn(status);
-        when(user.isMaster()).thenReturn(false);
-        when(user.verifyPassword(any())).thenReturn(passwordMatches);
+    // Hash de custo baixo para manter os testes rápidos
+    private static final String PASSWORD_HASH = new BCryptPasswordEncoder(4).encode("123456");
+    private static final String OTHER_PASSWORD_HASH = new BCryptPasswordEncoder(4).encode("outraSenha");
 
-        return user;
+    private LoginCredentials buildCredentials(UserStatus status, boolean passwordMatches) {
+        return new LoginCredentials(
+                UserId.of(1L),
+                "mateus",
+                "mateus@email.com",
+                "Mateus Dias",
+                passwordMatches ? PASSWORD_HASH : OTHER_PASSWORD_HASH,
+                false,
+                status);
     }
 
     // ============================================================
@@ -60,8 +89,7 @@ class AuthenticationServiceImplTest {
     @DisplayName("Deve lançar AuthenticationFailedException quando usuário não existir")
     void shouldFailWhenUserDoesNotExist() {
 
-        when(userRepository.findByUsername(any())).thenReturn(Optional.empty());
-        when(userRepository.findByEmail(any())).thenReturn(Optional.empty());
+        when(userRepository.findLoginCredentials(any())).thenReturn(Optional.empty());
 
         assertThrows(AuthenticationFailedException.class,
                 () -> authenticationService.authenticate("inexistente", "123456"));
@@ -75,10 +103,10 @@ class AuthenticationServiceImplTest {
     @DisplayName("Deve lançar AuthenticationFailedException quando senha for inválida")
     void shouldFailWhenPasswordIsInvalid() {
 
-        User user = buildUser(UserStatus.ACTIVE, false);
+        LoginCredentials credentials = buildCredentials(UserStatus.ACTIVE, false);
 
-        when(userRepository.findByUsername(any()))
-                .thenReturn(Optional.of(user));
+        when(userRepository.findLoginCredentials(any()))
+                .thenReturn(Optional.of(credentials));
 
         assertThrows(AuthenticationFailedException.class,
                 () -> authenticationService.authenticate("mateus", "senhaErrada"));
@@ -92,10 +120,10 @@ class AuthenticationServiceImplTest {
     @DisplayName("Deve lançar AuthenticationFailedException quando usuário não estiver ACTIVE")
     void shouldFailWhenUserIsNotActive() {
 
-        User user = buildUser(UserStatus.DISABLED, true);
+        LoginCredentials credentials = buildCredentials(UserStatus.DISABLED, true);
 
-        when(userRepository.findByUsername(any()))
-                .thenReturn(Optional.of(user));
+        when(userRepository.findLoginCredentials(any()))
+                .thenReturn(Optional.of(credentials));
 
         assertThrows(AuthenticationFailedException.class,
                 () -> authenticationService.authenticate("mateus", "123456"));
@@ -109,10 +137,10 @@ class AuthenticationServiceImplTest {
     @DisplayName("Deve autenticar com sucesso quando credenciais forem válidas")
     void shouldAuthenticateSuccessfully() {
 
-        User user = buildUser(UserStatus.ACTIVE, true);
+        LoginCredentials credentials = buildCredentials(UserStatus.ACTIVE, true);
 
-        when(userRepository.findByUsername(any()))
-                .thenReturn(Optional.of(user));
+        when(userRepository.findLoginCredentials(any()))
+                .thenReturn(Optional.of(credentials));
 
         AuthenticatedUser result =
                 authenticationService.authenticate("mateus", "123456");
@@ -123,4 +151,265 @@ class AuthenticationServiceImplTest {
         assertEquals("Mateus Dias", result.name());
         assertFalse(result.master());
     }
+
+    // ============================================================
+    // 5️⃣ Verificação recusada por sobrecarga
+    // ============================================================
+
+    @Test
+    @DisplayName("Deve propagar AuthenticationThrottledException quando a verificação for recusada")
+    void shouldPropagateThrottlingWhenVerificationIsRejected() {
+
+        LoginCredentials credentials = buildCredentials(UserStatus.ACTIVE, true);
+
+        when(userRepository.findLoginCredentials(any()))
+                .thenReturn(Optional.of(credentials));
+        doThrow(new AuthenticationThrottledException("Password verification queue is full"))
+                .when(passwordVerificationEngine).verify(any());
+
+        assertThrows(AuthenticationThrottledException.class,
+                () -> authenticationService.authenticate("mateus", "123456"));
+    }
+
+    // ============================================================
+    // 6️⃣ Login por email e login inválido
+    // ============================================================
+
+    @Test
+    @DisplayName("Deve autenticar usando email como login")
+    void shouldAuthenticateWithEmailLogin() {
+
+        LoginCredentials credentials = buildCredentials(UserStatus.ACTIVE, true);
+
+        when(userRepository.findLoginCredentials("Mateus@Email.com"))
+                .thenReturn(Optional.of(credentials));
+
+        AuthenticatedUser result =
+                authenticationService.authenticate("Mateus@Email.com", "123456");
+
+        assertEquals("mateus", result.username().value());
+    }
+
+    @Test
+    @DisplayName("Não deve consultar o banco quando o login não for username nem email válido")
+    void shouldNotQueryWhenLoginIsNeitherUsernameNorEmail() {
+
+        assertThrows(AuthenticationFailedException.class,
+                () -> authenticationService.authenticate("not a login!", "123456"));
+
+        verifyNoInteractions(userRepository);
+    }
+
+    // ============================================================
+    // 7️⃣ Atualização de hash desatualizado
+    // ============================================================
+
+    @Test
+    @DisplayName("Deve atualizar em segundo plano o hash desatualizado após login válido")
+    void shouldUpgradeOutdatedHashAfterSuccessfulLogin() {
+
+        LoginCredentials credentials = buildCredentials(UserStatus.ACTIVE, true);
+
+        when(userRepository.findLoginCredentials(any()))
+                .thenReturn(Optional.of(credentials));
+        when(passwordVerificationEngine.tryExecute(any(), any()))
+                .thenAnswer(invocation -> {
+                    Object newHash = invocation.<Supplier<?>>getArgument(0).get();
+                    invocation.<Consumer<Object>>getArgument(1).accept(newHash);
+                    return true;
+                });
+
+        authenticationService.authenticate("mateus", "123456");
+
+        verify(userRepository).updatePasswordHash(eq(UserId.of(1L)), eq(PASSWORD_HASH),
+                argThat(newHash -> !newHash.equals(PASSWORD_HASH)));
+    }
+
+    @Test
+    @DisplayName("Não deve atualizar o hash quando a senha for inválida")
+    void shouldNotUpgradeHashWhenPasswordIsInvalid() {
+
+        LoginCredentials credentials = buildCredentials(UserStatus.ACTIVE, false);
+
+        when(userRepository.findLoginCredentials(any()))
+                .thenReturn(Optional.of(credentials));
+
+        assertThrows(AuthenticationFailedException.class,
+                () -> authenticationService.authenticate("mateus", "123456"));
+
+        verify(passwordVerificationEngine, never()).tryExecute(any(), any());
+    }
+
+    // ============================================================
+    // 8️⃣ Bloqueio temporário por falhas repetidas
+    // ============================================================
+
+    @Test
+    @DisplayName("Deve recusar usuário bloqueado sem verificar a senha")
+    void shouldRefuseLockedUserWithoutVerifyingPassword() {
+
+        LoginCredentials credentials = buildCredentials(UserStatus.ACTIVE, true);
+
+        when(userRepository.findLoginCredentials(any()))
+                .thenReturn(Optional.of(credentials));
+        when(loginAttemptTracker.isLocked(UserId.of(1L))).thenReturn(true);
+
+        assertThrows(AuthenticationFailedException.class,
+                () -> authenticationService.authenticate("mateus", "123456"));
+
+        verify(passwordVerificationEngine, never()).verify(any());
+        verify(loginAttemptTracker, never()).recordFailure(any());
+    }
+
+    @Test
+    @DisplayName("Deve registrar a falha quando a senha for inválida")
+    void shouldRecordFailureWhenPasswordIsInvalid() {
+
+        LoginCredentials credentials = buildCredentials(UserStatus.ACTIVE, false);
+
+        when(userRepository.findLoginCredentials(any()))
+                .thenReturn(Optional.of(credentials));
+
+        assertThrows(AuthenticationFailedException.class,
+                () -> authenticationService.authenticate("mateus", "senhaErrada"));
+
+        verify(loginAttemptTracker).recordFailure(UserId.of(1L));
+        verify(loginAttemptTracker, never()).recordSuccess(any());
+    }
+
+    @Test
+    @DisplayName("Deve zerar as falhas após login válido")
+    void shouldRecordSuccessAfterValidLogin() {
+
+        LoginCredentials credentials = buildCredentials(UserStatus.ACTIVE, true);
+
+        when(userRepository.findLoginCredentials(any()))
+                .thenReturn(Optional.of(credentials));
+
+        authenticationService.authenticate("mateus", "123456");
+
+        verify(loginAttemptTracker).recordSuccess(UserId.of(1L));
+    }
+
+    // ============================================================
+    // 9️⃣ Cache de senhas verificadas
+    // ============================================================
+
+    @Test
+    @DisplayName("Deve dispensar a verificação de hash quando a senha estiver em cache")
+    void shouldSkipVerificationOnCacheHit() {
+
+        LoginCredentials credentials = buildCredentials(UserStatus.ACTIVE, true);
+
+        when(userRepository.findLoginCredentials(any()))
+                .thenReturn(Optional.of(credentials));
+        when(verifiedCredentialCache.isVerified(credentials, "123456")).thenReturn(true);
+
+        AuthenticatedUser result = authenticationService.authenticate("mateus", "123456");
+
+        assertEquals("mateus", result.username().value());
+        verify(passwordVerificationEngine, never()).verify(any());
+        verify(verifiedCredentialCache, never()).remember(any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve validar o status mesmo quando a senha estiver em cache")
+    void shouldValidateStatusOnCacheHit() {
+
+        LoginCredentials credentials = buildCredentials(UserStatus.BLOCKED, true);
+
+        when(userRepository.findLoginCredentials(any()))
+                .thenReturn(Optional.of(credentials));
+        when(verifiedCredentialCache.isVerified(credentials, "123456")).thenReturn(true);
+
+        assertThrows(AuthenticationFailedException.class,
+                () -> authenticationService.authenticate("mateus", "123456"));
+    }
+
+    @Test
+    @DisplayName("Deve guardar em cache apenas senhas verificadas com sucesso")
+    void shouldRememberOnlyVerifiedPasswords() {
+
+        when(userRepository.findLoginCredentials(any()))
+                .thenReturn(Optional.of(buildCredentials(UserStatus.ACTIVE, false)));
+
+        assertThrows(AuthenticationFailedException.class,
+                () -> authenticationService.authenticate("mateus", "123456"));
+        verify(verifiedCredentialCache, never()).remember(any(), any());
+
+        LoginCredentials credentials = buildCredentials(UserStatus.ACTIVE, true);
+        when(userRepository.findLoginCredentials(any()))
+                .thenReturn(Optional.of(credentials));
+
+        authenticationService.authenticate("mateus", "123456");
+        verify(verifiedCredentialCache).remember(credentials, "123456");
+    }
+
+    // ============================================================
+    // 🔟 Autenticação assíncrona
+    // ============================================================
+
+    @Test
+    @DisplayName("Deve autenticar de forma assíncrona quando credenciais forem válidas")
+    void shouldAuthenticateAsynchronously() {
+
+        LoginCredentials credentials = buildCredentials(UserStatus.ACTIVE, true);
+
+        when(userRepository.findLoginCredentials(any()))
+                .thenReturn(Optional.of(credentials));
+
+        AuthenticatedUser result = authenticationService.authenticateAsync("mateus", "123456").join();
+
+        assertEquals("mateus", result.username().value());
+        verify(passwordVerificationEngine, never()).verify(any());
+        verify(loginAttemptTracker).recordSuccess(UserId.of(1L));
+    }
+
+    @Test
+    @DisplayName("Deve concluir com falha assíncrona quando a senha for inválida")
+    void shouldFailAsynchronouslyWhenPasswordIsInvalid() {
+
+        LoginCredentials credentials = buildCredentials(UserStatus.ACTIVE, false);
+
+        when(userRepository.findLoginCredentials(any()))
+                .thenReturn(Optional.of(credentials));
+
+        CompletionException ex = assertThrows(CompletionException.class,
+                () -> authenticationService.authenticateAsync("mateus", "senhaErrada").join());
+
+        assertInstanceOf(AuthenticationFailedException.class, ex.getCause());
+        verify(loginAttemptTracker).recordFailure(UserId.of(1L));
+    }
+
+    @Test
+    @DisplayName("Deve retornar future com falha, sem verificar hash, quando usuário não existir")
+    void shouldReturnFailedFutureWhenUserDoesNotExist() {
+
+        when(userRepository.findLoginCredentials(any())).thenReturn(Optional.empty());
+
+        CompletableFuture<AuthenticatedUser> result =
+                authenticationService.authenticateAsync("inexistente", "123456");
+
+        assertTrue(result.isCompletedExceptionally());
+        verify(passwordVerificationEngine, never()).verifyAsync(any());
+    }
+
+    @Test
+    @DisplayName("Deve propagar a recusa por sobrecarga no future")
+    void shouldPropagateThrottlingAsynchronously() {
+
+        LoginCredentials credentials = buildCredentials(UserStatus.ACTIVE, true);
+
+        when(userRepository.findLoginCredentials(any()))
+                .thenReturn(Optional.of(credentials));
+        when(passwordVerificationEngine.verifyAsync(any()))
+                .thenReturn(CompletableFuture.failedFuture(
+                        new AuthenticationThrottledException("Password verification queue is full")));
+
+        CompletionException ex = assertThrows(CompletionException.class,
+                () -> authenticationService.authenticateAsync("mateus", "123456").join());
+
+        assertInstanceOf(AuthenticationThrottledException.class, ex.getCause());
+        verify(loginAttemptTracker, never()).recordFailure(any());
+    }
 }
@@ -0,0 +1,186 @@
+package com.mssousa.auth.application.service.authorization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.mssousa.auth.application.service.authorization.AuthorizationChangeFeedService.AuthorizationDelta;
+import com.mssousa.auth.application.service.authorization.AuthorizationChangeFeedService.AuthorizationSnapshot;
+import com.mssousa.auth.application.service.authorization.UserAuthorizationService.UserAuthorization;
+import com.mssousa.auth.domain.exception.DomainException;
+import com.mssousa.auth.domain.model.authorization.AuthorizationChange;
+import com.mssousa.auth.domain.model.role.EffectiveRoles;
+import com.mssousa.auth.domain.model.system.SystemId;
+import com.mssousa.auth.domain.model.user.UserId;
+import com.mssousa.auth.domain.repository.AuthorizationChangeLogRepository;
+import com.mssousa.auth.domain.repository.UserSystemRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuthorizationChangeFeedService - Application Service Test")
+class AuthorizationChangeFeedServiceTest {
+
+    private static final SystemId SYSTEM = SystemId.of(10L);
+    private static final UserId ALICE = UserId.of(1L);
+    private static final UserId BOB = UserId.of(2L);
+    private static final Instant NOW = Instant.parse("2026-03-02T10:00:00Z");
+
+    @Mock
+    private AuthorizationChangeLogRepository changeLogRepository;
+
+    @Mock
+    private UserAuthorizationService userAuthorizationService;
+
+    @Mock
+    private UserSystemRepository userSystemRepository;
+
+    @InjectMocks
+    private AuthorizationChangeFeedService service;
+
+    private static AuthorizationChange change(long version, UserId userId) {
+        return new AuthorizationChange(version, userId, NOW);
+    }
+
+    @Test
+    @DisplayName("Deve registrar a alteração com o usuário afetado")
+    void shouldAppendChange() {
+
+        service.onAuthorizationChanged(AuthorizationChangedEvent.forUser(ALICE, SYSTEM));
+        service.onAuthorizationChanged(AuthorizationChangedEvent.forSystem(SYSTEM));
+
+        verify(changeLogRepository).append(SYSTEM, ALICE);
+        verify(changeLogRepository).append(SYSTEM, null);
+    }
+
+    @Test
+    @DisplayName("Deve retornar as autorizações atuais dos usuários alterados, sem repetição")
+    void shouldReturnChangedUsers() {
+
+        when(changeLogRepository.currentVersion(SYSTEM)).thenReturn(8L);
+        when(changeLogRepository.findSince(SYSTEM, 5L, AuthorizationChangeFeedService.MAX_CHANGES))
+                .thenReturn(List.of(change(6L, ALICE), change(7L, BOB), change(8L, ALICE)));
+        when(userAuthorizationService.authorizeAll(Set.of(ALICE, BOB), SYSTEM)).thenReturn(Stream.of(
+                new UserAuthorization(ALICE, EffectiveRoles.granted(Set.of("ADMIN"))),
+                new UserAuthorization(BOB, EffectiveRoles.denied(EffectiveRoles.Outcome.NO_ACTIVE_ROLES))));
+
+        AuthorizationDelta delta = service.changesSince(SYSTEM, 5L);
+
+        assertThat(delta.reset()).isFalse();
+        assertThat(delta.hasMore()).isFalse();
+        assertThat(delta.toVersion()).isEqualTo(8L);
+        assertThat(delta.users()).extracting(UserAuthorization::userId).containsExactly(ALICE, BOB);
+        assertThat(delta.users().get(1).isGranted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve indicar mais alterações quando o limite da consulta é atingido")
+    void shouldSignalMoreChanges() {
+
+        when(changeLogRepository.currentVersion(SYSTEM)).thenReturn(5_000L);
+        when(changeLogRepository.findSince(SYSTEM, 0L, AuthorizationChangeFeedService.MAX_CHANGES))
+                .thenReturn(List.of(change(1L, ALICE), change(2L, BOB)));
+        when(userAuthorizationService.authorizeAll(any(), any())).thenReturn(Stream.empty());
+
+        AuthorizationDelta delta = service.changesSince(SYSTEM, 0L);
+
+        assertThat(delta.hasMore()).isTrue();
+        assertThat(delta.toVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Não deve consultar o registro quando o consumidor está atualizado")
+    void shouldReturnUnchanged() {
+
+        when(changeLogRepository.currentVersion(SYSTEM)).thenReturn(3L);
+
+        AuthorizationDelta delta = service.changesSince(SYSTEM, 3L);
+
+        assertThat(delta.reset()).isFalse();
+        assertThat(delta.users()).isEmpty();
+        verify(changeLogRepository, never()).findSince(any(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Deve pedir reset quando há alteração de todo o sistema")
+    void shouldResetOnSystemWideChange() {
+
+        when(changeLogRepository.currentVersion(SYSTEM)).thenReturn(7L);
+        when(changeLogRepository.findSince(SYSTEM, 5L, AuthorizationChangeFeedService.MAX_CHANGES))
+                .thenReturn(List.of(change(6L, ALICE), change(7L, null)));
+
+        AuthorizationDelta delta = service.changesSince(SYSTEM, 5L);
+
+        assertThat(delta.reset()).isTrue();
+        assertThat(delta.toVersion()).isEqualTo(7L);
+        verify(userAuthorizationService, never()).authorizeAll(any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve pedir reset quando a versão é anterior à retenção ou posterior à atual")
+    void shouldResetOnGapOrUnknownVersion() {
+
+        when(changeLogRepository.currentVersion(SYSTEM)).thenReturn(20L);
+        when(changeLogRepository.findSince(SYSTEM, 2L, AuthorizationChangeFeedService.MAX_CHANGES))
+                .thenReturn(List.of(change(15L, ALICE)));
+
+        assertThat(service.changesSince(SYSTEM, 2L).reset()).isTrue();
+        assertThat(service.changesSince(SYSTEM, 30L).reset()).isTrue();
+        assertThatThrownBy(() -> service.changesSince(SYSTEM, -1L)).isInstanceOf(DomainException.class);
+    }
+
+    @Test
+    @DisplayName("Deve montar o snapshot com a versão lida antes das autorizações")
+    void shouldBuildSnapshotFromVersionReadFirst() {
+
+        when(changeLogRepository.currentVersion(SYSTEM)).thenReturn(12L);
+        when(userSystemRepository.findUserIdsBySystemId(SYSTEM, 0L, AuthorizationChangeFeedService.MAX_SNAPSHOT_USERS))
+                .thenReturn(List.of(ALICE, BOB));
+        when(userAuthorizationService.authorizeAll(List.of(ALICE, BOB), SYSTEM)).thenReturn(Stream.of(
+                new UserAuthorization(ALICE, EffectiveRoles.granted(Set.of("ADMIN"))),
+                new UserAuthorization(BOB, EffectiveRoles.granted(Set.of("USER")))));
+
+        AuthorizationSnapshot snapshot = service.snapshot(SYSTEM, 0L);
+
+        assertThat(snapshot.version()).isEqualTo(12L);
+        assertThat(snapshot.hasMore()).isFalse();
+        assertThat(snapshot.users()).extracting(UserAuthorization::userId).containsExactly(ALICE, BOB);
+
+        InOrder inOrder = inOrder(changeLogRepository, userAuthorizationService);
+        inOrder.verify(changeLogRepository).currentVersion(SYSTEM);
+        inOrder.verify(userAuthorizationService).authorizeAll(List.of(ALICE, BOB), SYSTEM);
+    }
+
+    @Test
+    @DisplayName("Deve indicar mais usuários quando a página do snapshot está cheia")
+    void shouldSignalMoreSnapshotUsers() {
+
+        List<UserId> page = LongStream.rangeClosed(1, AuthorizationChangeFeedService.MAX_SNAPSHOT_USERS)
+                .mapToObj(UserId::of)
+                .toList();
+        when(userSystemRepository.findUserIdsBySystemId(SYSTEM, 0L, AuthorizationChangeFeedService.MAX_SNAPSHOT_USERS))
+                .thenReturn(page);
+        when(userAuthorizationService.authorizeAll(page, SYSTEM)).thenReturn(Stream.empty());
+
+        assertThat(service.snapshot(SYSTEM, 0L).hasMore()).isTrue();
+        assertThatThrownBy(() -> service.snapshot(SYSTEM, -1L)).isInstanceOf(DomainException.class);
+    }
+}
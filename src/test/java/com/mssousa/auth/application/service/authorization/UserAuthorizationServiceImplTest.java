@@ -1,45 +1,45 @@
 package com.mssousa.auth.application.service.authorization;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.mock;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
 
-import com.mssousa.auth.domain.model.binding.userSystem.UserSystem;
-import com.mssousa.auth.domain.model.binding.userSystem.UserSystemId;
-import com.mssousa.auth.domain.model.binding.userSystemRole.UserSystemRole;
-import com.mssousa.auth.domain.model.role.SystemRole;
-import com.mssousa.auth.domain.model.role.SystemRoleId;
+import com.mssousa.auth.domain.model.role.EffectiveRoles;
 import com.mssousa.auth.domain.model.system.SystemId;
 import com.mssousa.auth.domain.model.user.UserId;
-import com.mssousa.auth.domain.repository.SystemRoleRepository;
-import com.mssousa.auth.domain.repository.UserSystemRepository;
+import com.mssousa.auth.application.service.authorization.UserAuthorizationService.UserAuthorization;
 import com.mssousa.auth.domain.repository.UserSystemRoleRepository;
 
 @ExtendWith(MockitoExtension.class)
 class UserAuthorizationServiceImplTest {
 
-    @Mock
-    private UserSystemRepository userSystemRepository;
-
     @Mock
     private UserSystemRoleRepository userSystemRoleRepository;
 
-    @Mock
-    private SystemRoleRepository systemRoleRepository;
-
     @InjectMocks
     private UserAuthorizationServiceImpl service;
 
@@ -53,83 +53,77 @@ class UserAuthorizationServiceImplTest {
 
         assertEquals(Set.of("MASTER"), result.roles());
 
-        verifyNoInteractions(
-                userSystemRepository,
-                userSystemRoleRepository,
-                systemRoleRepository
-        );
+        verifyNoInteractions(userSystemRoleRepository);
     }
 
-    @Test
-    void shouldThrowWhenUserSystemNotFound() {
+    @ParameterizedTest
+    @EnumSource(value = EffectiveRoles.Outcome.class, names = "GRANTED", mode = EnumSource.Mode.EXCLUDE)
+    void shouldThrowWhenNoEffectiveRoles(EffectiveRoles.Outcome outcome) {
 
-        when(userSystemRepository.findByUserIdAndSystemId(userId, systemId))
-                .thenReturn(Optional.empty());
+        when(userSystemRoleRepository.findEffectiveRoles(userId, systemId))
+                .thenReturn(EffectiveRoles.denied(outcome));
 
         assertThrows(OAuth2AuthenticationException.class,
                 () -> service.authorize(userId, systemId, false));
     }
 
     @Test
-    void shouldThrowWhenUserSystemInactive() {
+    void shouldReturnRolesWhenAuthorizationIsValid() {
 
-        var userSystem = mock(UserSystem.class);
+        when(userSystemRoleRepository.findEffectiveRoles(userId, systemId))
+                .thenReturn(EffectiveRoles.granted(Set.of("ADMIN", "VIEWER")));
 
-        when(userSystem.isActive()).thenReturn(false);
-        when(userSystemRepository.findByUserIdAndSystemId(userId, systemId))
-                .thenReturn(Optional.of(userSystem));
+        var result = service.authorize(userId, systemId, false);
 
-        assertThrows(OAuth2AuthenticationException.class,
-                () -> service.authorize(userId, systemId, false));
+        assertEquals(Set.of("ADMIN", "VIEWER"), result.roles());
     }
 
-    @Test
-    void shouldThrowWhenNoActiveRolesFound() {
-
-        var userSystem = mock(UserSystem.class);
-        var userSystemId = UserSystemId.of(100L);
+    // =====================================================
+    // Autorização em lote
+    // =====================================================
 
-        when(userSystem.isActive()).thenReturn(true);
-        when(userSystem.getId()).thenReturn(userSystemId);
+    @Test
+    void shouldResolveAllUsersInOrderWithoutDuplicates() {
 
-        when(userSystemRepository.findByUserIdAndSystemId(userId, systemId))
-                .thenReturn(Optional.of(userSystem));
+        UserId other = UserId.of(2L);
+        when(userSystemRoleRepository.findEffectiveRoles(List.of(userId, other), systemId))
+                .thenReturn(Map.of(
+                        userId, EffectiveRoles.granted(Set.of("ADMIN")),
+                        other, EffectiveRoles.denied(EffectiveRoles.Outcome.BINDING_INACTIVE)));
 
-        when(userSystemRoleRepository.findByUserSystemId(userSystemId))
-                .thenReturn(List.of());
+        List<UserAuthorization> result = service.authorizeAll(List.of(userId, other, userId), systemId).toList();
 
-        assertThrows(OAuth2AuthenticationException.class,
-                () -> service.authorize(userId, systemId, false));
+        assertEquals(List.of(userId, other), result.stream().map(UserAuthorization::userId).toList());
+        assertTrue(result.get(0).isGranted());
+        assertEquals(Set.of("ADMIN"), result.get(0).roles());
+        assertFalse(result.get(1).isGranted());
+        assertEquals(EffectiveRoles.Outcome.BINDING_INACTIVE, result.get(1).effectiveRoles().outcome());
     }
 
     @Test
-    void shouldReturnRolesWhenAuthorizationIsValid() {
-
-        var userSystem = mock(UserSystem.class);
-        var userSystemId = UserSystemId.of(100L);
-
-        when(userSystem.isActive()).thenReturn(true);
-        when(userSystem.getId()).thenReturn(userSystemId);
-
-        when(userSystemRepository.findByUserIdAndSystemId(userId, systemId))
-                .thenReturn(Optional.of(userSystem));
-
-        var binding = mock(UserSystemRole.class);
-        when(binding.isActive()).thenReturn(true);
-        when(binding.getSystemRoleId()).thenReturn(SystemRoleId.of(200L));
-
-        when(userSystemRoleRepository.findByUserSystemId(userSystemId))
-                .thenReturn(List.of(binding));
-
-        var role = mock(SystemRole.class);
-        when(role.isActive()).thenReturn(true);
-        when(role.getCode()).thenReturn("ADMIN");
+    @SuppressWarnings("unchecked")
+    void shouldQueryInChunksAsTheStreamIsConsumed() {
+
+        List<UserId> userIds = LongStream.rangeClosed(1, UserAuthorizationServiceImpl.CHUNK_SIZE * 2L + 1)
+                .mapToObj(UserId::of)
+                .toList();
+        when(userSystemRoleRepository.findEffectiveRoles(anyList(), eq(systemId)))
+                .thenAnswer(invocation -> ((Collection<UserId>) invocation.getArgument(0)).stream()
+                        .collect(Collectors.toMap(Function.identity(),
+                                id -> EffectiveRoles.granted(Set.of("VIEWER")))));
+
+        Stream<UserAuthorization> stream = service.authorizeAll(userIds, systemId);
+        verifyNoInteractions(userSystemRoleRepository);
+
+        assertEquals(userIds.size(), stream.filter(UserAuthorization::isGranted).count());
+        verify(userSystemRoleRepository, times(3)).findEffectiveRoles(anyList(), eq(systemId));
+    }
 
-        when(systemRoleRepository.findAllById(any()))
-                .thenReturn(List.of(role));
+    @Test
+    void shouldNotQueryWhenNoUsersAreGiven() {
 
-        var result = service.authorize(userId, systemId, false);
+        assertEquals(0, service.authorizeAll(List.of(), systemId).count());
 
-        assertEquals(Set.of("ADMIN"), result.roles());
+        verifyNoInteractions(userSystemRoleRepository);
     }
 }
@@ -0,0 +1,199 @@
+package com.mssousa.auth.application.service.group;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.mssousa.auth.application.service.authorization.AuthorizationChangedEvent;
+import com.mssousa.auth.domain.exception.DomainException;
+import com.mssousa.auth.domain.model.binding.BindingStatus;
+import com.mssousa.auth.domain.model.binding.userSystem.UserSystem;
+import com.mssousa.auth.domain.model.binding.userSystem.UserSystemId;
+import com.mssousa.auth.domain.model.group.UserGroup;
+import com.mssousa.auth.domain.model.group.UserGroupId;
+import com.mssousa.auth.domain.model.group.UserGroupStatus;
+import com.mssousa.auth.domain.model.role.SystemRole;
+import com.mssousa.auth.domain.model.role.SystemRoleId;
+import com.mssousa.auth.domain.model.role.SystemRoleStatus;
+import com.mssousa.auth.domain.model.shared.IdGenerator;
+import com.mssousa.auth.domain.model.system.SystemId;
+import com.mssousa.auth.domain.model.user.UserId;
+import com.mssousa.auth.domain.repository.SystemRoleRepository;
+import com.mssousa.auth.domain.repository.UserGroupRepository;
+import com.mssousa.auth.domain.repository.UserSystemRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserGroupService - Application Service Test")
+class UserGroupServiceTest {
+
+    private static final SystemId SYSTEM = SystemId.of(10L);
+    private static final UserGroupId GROUP_ID = UserGroupId.of(100L);
+    private static final UserId USER = UserId.of(1L);
+
+    @Mock
+    private UserGroupRepository userGroupRepository;
+
+    @Mock
+    private UserSystemRepository userSystemRepository;
+
+    @Mock
+    private SystemRoleRepository systemRoleRepository;
+
+    @Mock
+    private IdGenerator idGenerator;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private UserGroupService service;
+
+    private UserGroup group;
+
+    @BeforeEach
+    void setUp() {
+        group = UserGroup.builder()
+                .id(GROUP_ID)
+                .systemId(SYSTEM)
+                .code("TEAM")
+                .status(UserGroupStatus.ACTIVE)
+                .build();
+        lenient().when(userGroupRepository.findById(GROUP_ID)).thenReturn(Optional.of(group));
+    }
+
+    private UserSystem binding() {
+        UserSystem binding = UserSystem.builder()
+                .id(UserSystemId.of(50L))
+                .userId(USER)
+                .systemId(SYSTEM)
+                .status(BindingStatus.ACTIVE)
+                .build();
+        when(userSystemRepository.findByUserIdAndSystemId(USER, SYSTEM)).thenReturn(Optional.of(binding));
+        return binding;
+    }
+
+    private SystemRole role(long id, SystemId systemId) {
+        SystemRole role = SystemRole.builder()
+                .id(SystemRoleId.of(id))
+                .system_id(systemId)
+                .code("ROLE_" + id)
+                .status(SystemRoleStatus.ACTIVE)
+                .build();
+        when(systemRoleRepository.findById(role.getId())).thenReturn(Optional.of(role));
+        return role;
+    }
+
+    @Test
+    @DisplayName("Deve criar o grupo ativo")
+    void shouldCreateGroup() {
+
+        when(idGenerator.generate()).thenReturn(200L);
+        when(userGroupRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        UserGroup created = service.createGroup(10L, "OPS", "Operações");
+
+        assertThat(created.getId()).isEqualTo(UserGroupId.of(200L));
+        assertThat(created.isActive()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Não deve criar grupo com código repetido no sistema")
+    void shouldRejectDuplicateCode() {
+
+        when(userGroupRepository.existsBySystemIdAndCode(SYSTEM, "TEAM")).thenReturn(true);
+
+        assertThatThrownBy(() -> service.createGroup(10L, "TEAM", null))
+                .isInstanceOf(DomainException.class);
+
+        verify(userGroupRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Deve incluir o membro e invalidar apenas a autorização do usuário")
+    void shouldAddMember() {
+
+        UserSystem binding = binding();
+        when(userGroupRepository.addMember(GROUP_ID, binding.getId())).thenReturn(true);
+
+        service.addMember(100L, 1L);
+
+        verify(eventPublisher).publishEvent(AuthorizationChangedEvent.forUser(USER, SYSTEM));
+    }
+
+    @Test
+    @DisplayName("Não deve publicar evento quando o usuário já é membro")
+    void shouldIgnoreExistingMember() {
+
+        UserSystem binding = binding();
+        when(userGroupRepository.addMember(GROUP_ID, binding.getId())).thenReturn(false);
+
+        service.addMember(100L, 1L);
+
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("Deve exigir vínculo do usuário com o sistema do grupo")
+    void shouldRequireBindingForMember() {
+
+        when(userSystemRepository.findByUserIdAndSystemId(USER, SYSTEM)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.addMember(100L, 1L))
+                .isInstanceOf(DomainException.class);
+
+        verify(userGroupRepository, never()).addMember(any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve vincular o perfil e invalidar as autorizações do sistema")
+    void shouldAddRole() {
+
+        SystemRole role = role(5L, SYSTEM);
+        when(userGroupRepository.addRole(GROUP_ID, role.getId())).thenReturn(true);
+
+        service.addRole(100L, 5L);
+
+        verify(eventPublisher).publishEvent(AuthorizationChangedEvent.forSystem(SYSTEM));
+    }
+
+    @Test
+    @DisplayName("Não deve vincular perfil de outro sistema")
+    void shouldRejectRoleFromOtherSystem() {
+
+        role(5L, SystemId.of(20L));
+
+        assertThatThrownBy(() -> service.addRole(100L, 5L))
+                .isInstanceOf(DomainException.class);
+
+        verify(userGroupRepository, never()).addRole(any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve desativar o grupo uma única vez")
+    void shouldDeactivateGroupOnce() {
+
+        when(userGroupRepository.save(group)).thenReturn(group);
+
+        service.deactivateGroup(100L);
+        service.deactivateGroup(100L);
+
+        assertThat(group.isActive()).isFalse();
+        verify(userGroupRepository).save(group);
+        verify(eventPublisher).publishEvent(AuthorizationChangedEvent.forSystem(SYSTEM));
+    }
+}
@@ -0,0 +1,153 @@
+package com.mssousa.auth.application.service.role;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.mssousa.auth.application.service.authorization.AuthorizationChangedEvent;
+import com.mssousa.auth.domain.exception.DomainException;
+import com.mssousa.auth.domain.model.role.SystemRole;
+import com.mssousa.auth.domain.model.role.SystemRoleId;
+import com.mssousa.auth.domain.model.role.SystemRoleStatus;
+import com.mssousa.auth.domain.model.system.SystemId;
+import com.mssousa.auth.domain.repository.RoleHierarchyRepository;
+import com.mssousa.auth.domain.repository.SystemRoleRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RoleHierarchyService - Application Service Test")
+class RoleHierarchyServiceTest {
+
+    private static final SystemId SYSTEM = SystemId.of(10L);
+
+    @Mock
+    private SystemRoleRepository systemRoleRepository;
+
+    @Mock
+    private RoleHierarchyRepository roleHierarchyRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private RoleHierarchyService service;
+
+    private SystemRole admin;
+    private SystemRole editor;
+
+    @BeforeEach
+    void setUp() {
+        admin = role(1L, SYSTEM, "ADMIN");
+        editor = role(2L, SYSTEM, "EDITOR");
+    }
+
+    private SystemRole role(long id, SystemId systemId, String code) {
+        SystemRole role = SystemRole.builder()
+                .id(SystemRoleId.of(id))
+                .system_id(systemId)
+                .code(code)
+                .status(SystemRoleStatus.ACTIVE)
+                .build();
+        lenient().when(systemRoleRepository.findById(role.getId())).thenReturn(Optional.of(role));
+        return role;
+    }
+
+    @Test
+    @DisplayName("Deve incluir a aresta e invalidar as autorizações do sistema")
+    void shouldAddParent() {
+
+        service.addParent(2L, 1L);
+
+        verify(roleHierarchyRepository).lock(SYSTEM);
+        verify(roleHierarchyRepository).addParent(editor.getId(), admin.getId());
+        verify(eventPublisher).publishEvent(AuthorizationChangedEvent.forSystem(SYSTEM));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar aresta que fecharia um ciclo")
+    void shouldRejectCycle() {
+
+        // ADMIN já implica EDITOR; EDITOR -> ADMIN fecharia o ciclo
+        when(roleHierarchyRepository.implies(admin.getId(), editor.getId())).thenReturn(true);
+
+        assertThatThrownBy(() -> service.addParent(1L, 2L))
+                .isInstanceOf(DomainException.class)
+                .hasMessageContaining("ciclos");
+
+        verify(roleHierarchyRepository, never()).addParent(any(), any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar perfil como pai de si mesmo")
+    void shouldRejectSelfParent() {
+
+        assertThatThrownBy(() -> service.addParent(1L, 1L))
+                .isInstanceOf(DomainException.class);
+
+        verify(roleHierarchyRepository, never()).addParent(any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar perfis de sistemas diferentes")
+    void shouldRejectRolesFromDifferentSystems() {
+
+        role(3L, SystemId.of(20L), "OTHER");
+
+        assertThatThrownBy(() -> service.addParent(3L, 1L))
+                .isInstanceOf(DomainException.class);
+
+        verify(roleHierarchyRepository, never()).lock(any());
+    }
+
+    @Test
+    @DisplayName("Não deve alterar nada quando a aresta já existe")
+    void shouldIgnoreExistingParent() {
+
+        when(roleHierarchyRepository.existsParent(editor.getId(), admin.getId())).thenReturn(true);
+
+        service.addParent(2L, 1L);
+
+        verify(roleHierarchyRepository, never()).addParent(any(), any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("Deve remover a aresta e invalidar as autorizações do sistema")
+    void shouldRemoveParent() {
+
+        when(roleHierarchyRepository.existsParent(editor.getId(), admin.getId())).thenReturn(true);
+
+        service.removeParent(2L, 1L);
+
+        verify(roleHierarchyRepository).removeParent(editor.getId(), admin.getId());
+        verify(eventPublisher).publishEvent(AuthorizationChangedEvent.forSystem(SYSTEM));
+    }
+
+    @Test
+    @DisplayName("Deve remover o perfil sob o lock do sistema, após desfazer suas arestas")
+    void shouldDeleteRoleUnderSystemLock() {
+
+        service.deleteRole(2L);
+
+        InOrder order = inOrder(roleHierarchyRepository, systemRoleRepository);
+        order.verify(roleHierarchyRepository).lock(SYSTEM);
+        order.verify(roleHierarchyRepository).detach(editor.getId());
+        order.verify(systemRoleRepository).deleteById(editor.getId());
+    }
+}
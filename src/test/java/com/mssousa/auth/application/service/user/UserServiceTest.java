@@ -17,11 +17,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 
+import com.mssousa.auth.application.service.authentication.VerifiedCredentialCache;
 import com.mssousa.auth.domain.exception.DomainException;
 import com.mssousa.auth.domain.model.shared.IdGenerator;
 import com.mssousa.auth.domain.model.user.Email;
@@ -33,6 +35,8 @@ import com.mssousa.auth.domain.model.user.Username;
 import com.mssousa.auth.domain.repository.UserRepository;
 import com.mssousa.auth.domain.service.EmailSender;
 import com.mssousa.auth.domain.service.MasterUserPolicy;
+import com.mssousa.auth.domain.service.PasswordHasher;
+import com.mssousa.auth.domain.service.TestPasswordHasher;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("UserService - Application Service Test")
@@ -50,6 +54,12 @@ class UserServiceTest {
     @Mock
     private EmailSender emailSender;
 
+    @Mock
+    private VerifiedCredentialCache verifiedCredentialCache;
+
+    @Spy
+    private PasswordHasher passwordHasher = TestPasswordHasher.INSTANCE;
+
     @InjectMocks
     private UserService userService;
 
@@ -62,7 +72,7 @@ class UserServiceTest {
             .id(UserId.of(1L))
             .username(Username.of("user"))
             .email(Email.of("user@example.com"))
-            .password(Password.fromPlainText("Pass1234"))
+            .password(Password.fromPlainText("Pass1234", TestPasswordHasher.INSTANCE))
             .master(false)
             .status(UserStatus.ACTIVE)
             .name("Regular User")
@@ -72,7 +82,7 @@ class UserServiceTest {
             .id(UserId.of(2L))
             .username(Username.of("admin"))
             .email(Email.of("admin@example.com"))
-            .password(Password.fromPlainText("Pass1234"))
+            .password(Password.fromPlainText("Pass1234", TestPasswordHasher.INSTANCE))
             .master(true)
             .status(UserStatus.ACTIVE)
             .name("Admin User")
@@ -241,6 +251,69 @@ class UserServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Senha e Status")
+    class PasswordAndStatusTests {
+
+        @Test
+        @DisplayName("Deve invalidar a senha em cache ao trocar a senha")
+        void shouldInvalidateCachedPasswordOnChange() {
+            // Arrange
+            when(userRepository.findById(regularUser.getId())).thenReturn(Optional.of(regularUser));
+
+            // Act
+            userService.changePassword(regularUser.getId().value(), "Pass1234", "NewPass5678");
+
+            // Assert
+            assertThat(regularUser.verifyPassword("NewPass5678", TestPasswordHasher.INSTANCE)).isTrue();
+            verify(verifiedCredentialCache).invalidate(regularUser.getId());
+        }
+
+        @Test
+        @DisplayName("Não deve invalidar o cache quando a senha atual estiver incorreta")
+        void shouldNotInvalidateWhenCurrentPasswordIsWrong() {
+            // Arrange
+            when(userRepository.findById(regularUser.getId())).thenReturn(Optional.of(regularUser));
+
+            // Act & Assert
+            assertThatThrownBy(() ->
+                userService.changePassword(regularUser.getId().value(), "Wrong1234", "NewPass5678")
+            ).isInstanceOf(DomainException.class);
+
+            verify(verifiedCredentialCache, never()).invalidate(any());
+        }
+
+        @Test
+        @DisplayName("Deve invalidar a senha em cache ao bloquear o usuário")
+        void shouldInvalidateCachedPasswordOnBlock() {
+            // Arrange
+            when(userRepository.findById(regularUser.getId())).thenReturn(Optional.of(regularUser));
+            when(userRepository.save(any())).thenAnswer(i -> i.getArguments()[0]);
+
+            // Act
+            User blocked = userService.blockUser(regularUser.getId().value());
+
+            // Assert
+            assertThat(blocked.getStatus()).isEqualTo(UserStatus.BLOCKED);
+            verify(verifiedCredentialCache).invalidate(regularUser.getId());
+        }
+
+        @Test
+        @DisplayName("Deve invalidar a senha em cache ao desabilitar o usuário")
+        void shouldInvalidateCachedPasswordOnDisable() {
+            // Arrange
+            when(userRepository.findById(regularUser.getId())).thenReturn(Optional.of(regularUser));
+            when(userRepository.save(any())).thenAnswer(i -> i.getArguments()[0]);
+
+            // Act
+            User disabled = userService.disableUser(regularUser.getId().value());
+
+            // Assert
+            assertThat(disabled.getStatus()).isEqualTo(UserStatus.DISABLED);
+            verify(verifiedCredentialCache).invalidate(regularUser.getId());
+        }
+    }
+
     @Nested
     @DisplayName("Exclusão de Usuário")
     class DeleteUserTests {
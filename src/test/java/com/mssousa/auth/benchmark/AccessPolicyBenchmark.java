@@ -0,0 +1,140 @@
+package com.mssousa.auth.benchmark;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.mssousa.auth.domain.model.binding.BindingStatus;
+import com.mssousa.auth.domain.model.binding.userSystem.UserSystem;
+import com.mssousa.auth.domain.model.binding.userSystem.UserSystemId;
+import com.mssousa.auth.domain.model.policy.AccessContext;
+import com.mssousa.auth.domain.model.policy.AccessPolicy;
+import com.mssousa.auth.domain.model.system.ClientSystem;
+import com.mssousa.auth.domain.model.system.SystemId;
+import com.mssousa.auth.domain.model.system.SystemStatus;
+import com.mssousa.auth.domain.model.user.Email;
+import com.mssousa.auth.domain.model.user.Password;
+import com.mssousa.auth.domain.model.user.User;
+import com.mssousa.auth.domain.model.user.UserId;
+import com.mssousa.auth.domain.model.user.UserStatus;
+import com.mssousa.auth.domain.model.user.Username;
+import com.mssousa.auth.domain.service.AccessValidator;
+import com.mssousa.auth.domain.service.TestPasswordHasher;
+
+/**
+ * Custo da validação de acesso: antes (apenas as regras fixas) e depois (regras fixas
+ * seguidas da política compilada do sistema), em um acesso permitido.
+ *
+ * As políticas vão de uma condição simples até uma combinação de horário, dias da
+ * semana, faixas de IP e atributos. Execute com -prof gc para conferir que a avaliação
+ * não aloca (gc.alloc.rate.norm igual ao do validador atual).
+ *
+ * Execução (após mvn test-compile):
+ * - pela IDE, executando o main desta classe
+ * - ou: java -cp "target/test-classes:target/classes:$(mvn -q dependency:build-classpath
+ *   -Dmdep.outputFile=/dev/stdout)" org.openjdk.jmh.Main AccessPolicyBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccessPolicyBenchmark {
+
+    @Param({ "SIMPLE", "COMPOSITE" })
+    private String policy;
+
+    private AccessValidator currentValidator;
+    private AccessValidator policyValidator;
+    private AccessPolicy compiled;
+    private AccessContext context;
+    private User user;
+    private ClientSystem system;
+    private UserSystem binding;
+
+    @Setup
+    public void setUp() throws UnknownHostException {
+        String expression = switch (policy) {
+            case "SIMPLE" -> "ip in (\"10.0.0.0/8\")";
+            default -> """
+                    user.master
+                    or weekday in (MON, TUE, WED, THU, FRI) zone "America/Sao_Paulo"
+                       and time between 08:00 and 18:00 zone "America/Sao_Paulo"
+                       and ip in ("192.168.0.0/16", "172.16.0.0/12", "10.0.0.0/8", "2001:db8::/32")
+                       and attr.department in ("finance", "ops", "engineering")
+                    """;
+        };
+        compiled = AccessPolicy.compile(expression);
+        currentValidator = new AccessValidator();
+        policyValidator = new AccessValidator(systemId -> compiled);
+
+        user = User.builder()
+                .id(UserId.of(2L))
+                .username(Username.of("user"))
+                .email(Email.of("user@test.com"))
+                .password(Password.fromPlainText("Password123", TestPasswordHasher.INSTANCE))
+                .master(false)
+                .status(UserStatus.ACTIVE)
+                .name("Regular User")
+                .build();
+        system = ClientSystem.builder()
+                .id(SystemId.of(100L))
+                .clientId("bench-client")
+                .clientSecret("bench-secret")
+                .name("Bench System")
+                .redirectUri("https://example.com/callback")
+                .status(SystemStatus.ACTIVE)
+                .build();
+        binding = UserSystem.builder()
+                .id(UserSystemId.of(1L))
+                .userId(user.getId())
+                .systemId(system.getId())
+                .status(BindingStatus.ACTIVE)
+                .build();
+        // Quarta-feira, 11:00 em São Paulo
+        context = AccessContext.builder()
+                .instant(Instant.parse("2026-03-04T14:00:00Z"))
+                .address(InetAddress.getByName("10.20.30.40"))
+                .attribute("department", "ops")
+                .build();
+    }
+
+    @Benchmark
+    public boolean validatorBefore() {
+        return currentValidator.canAccess(user, system, binding);
+    }
+
+    @Benchmark
+    public boolean validatorAfter() {
+        return policyValidator.canAccess(user, system, binding, context);
+    }
+
+    @Benchmark
+    public boolean policyOnly() {
+        return compiled.allows(context);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AccessPolicyBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,108 @@
+package com.mssousa.auth.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2Error;
+
+import com.mssousa.auth.application.exception.AuthenticationFailedException;
+import com.mssousa.auth.application.exception.StacklessOAuth2AuthenticationException;
+import com.mssousa.auth.infrastructure.security.oauth2.InvalidCredentialsException;
+
+/**
+ * Custo do caminho de falha de login e de autorização: antes (exceções novas, com
+ * stack trace) e depois (instância pré-alocada / exceções sem stack trace).
+ *
+ * A falha é lançada a uma profundidade de pilha configurável, simulando a cadeia de
+ * filtros do servlet e do Spring Security, onde a captura da pilha é mais cara.
+ *
+ * Execução (após mvn test-compile):
+ * - pela IDE, executando o main desta classe
+ * - ou: java -cp "target/test-classes:target/classes:$(mvn -q dependency:build-classpath
+ *   -Dmdep.outputFile=/dev/stdout)" org.openjdk.jmh.Main AuthenticationFailureBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthenticationFailureBenchmark {
+
+    @Param({ "16", "128" })
+    private int depth;
+
+    @Benchmark
+    public AuthenticationException loginFailureBefore() {
+        try {
+            throwAt(depth, () -> new AuthenticationFailedException("Invalid credentials"));
+            return null;
+        } catch (AuthenticationFailedException ex) {
+            return new BadCredentialsException("Invalid username or password");
+        }
+    }
+
+    @Benchmark
+    public AuthenticationException loginFailureAfter() {
+        try {
+            throwAt(depth, AuthenticationFailedException::invalidCredentials);
+            return null;
+        } catch (AuthenticationFailedException ex) {
+            return new InvalidCredentialsException("Invalid username or password");
+        }
+    }
+
+    @Benchmark
+    public RuntimeException accessDeniedBefore() {
+        try {
+            throwAt(depth, () -> new OAuth2AuthenticationException(new OAuth2Error("access_denied")));
+            return null;
+        } catch (OAuth2AuthenticationException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public RuntimeException accessDeniedAfter() {
+        try {
+            throwAt(depth, StacklessOAuth2AuthenticationException::accessDenied);
+            return null;
+        } catch (OAuth2AuthenticationException ex) {
+            return ex;
+        }
+    }
+
+    private static void throwAt(int remaining, ExceptionFactory factory) {
+        if (remaining == 0) {
+            throw factory.create();
+        }
+        throwAt(remaining - 1, factory);
+    }
+
+    @FunctionalInterface
+    private interface ExceptionFactory {
+        RuntimeException create();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AuthenticationFailureBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
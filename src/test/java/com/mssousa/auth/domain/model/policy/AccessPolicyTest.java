@@ -0,0 +1,196 @@
+package com.mssousa.auth.domain.model.policy;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+
+import com.mssousa.auth.domain.exception.DomainException;
+
+/**
+ * Testes unitários de {@link AccessPolicy} e do seu compilador.
+ */
+class AccessPolicyTest {
+
+    // 2026-03-02 é uma segunda-feira.
+    private static final Instant MONDAY_10H_UTC = Instant.parse("2026-03-02T10:00:00Z");
+
+    private static AccessContext at(Instant instant) {
+        return AccessContext.builder().instant(instant).build();
+    }
+
+    private static AccessContext from(String address) throws UnknownHostException {
+        return AccessContext.builder()
+                .instant(MONDAY_10H_UTC)
+                .address(InetAddress.getByName(address))
+                .build();
+    }
+
+    // =====================================================
+    // Horário e dia da semana
+    // =====================================================
+
+    @Test
+    void timeWindowShouldBeClosedAtStartAndOpenAtEnd() {
+        AccessPolicy policy = AccessPolicy.compile("time between 10:00 and 18:00");
+
+        assertTrue(policy.allows(at(MONDAY_10H_UTC)));
+        assertFalse(policy.allows(at(Instant.parse("2026-03-02T09:59:59Z"))));
+        assertFalse(policy.allows(at(Instant.parse("2026-03-02T18:00:00Z"))));
+    }
+
+    @Test
+    void timeWindowShouldWrapAroundMidnight() {
+        AccessPolicy policy = AccessPolicy.compile("time between 22:00 and 06:00");
+
+        assertTrue(policy.allows(at(Instant.parse("2026-03-02T23:30:00Z"))));
+        assertTrue(policy.allows(at(Instant.parse("2026-03-02T05:59:00Z"))));
+        assertFalse(policy.allows(at(MONDAY_10H_UTC)));
+    }
+
+    @Test
+    void timeWindowShouldUseZone() {
+        AccessPolicy policy = AccessPolicy.compile("time between 08:00 and 12:00 zone \"America/Sao_Paulo\"");
+
+        // 10:00 UTC = 07:00 em São Paulo; 13:00 UTC = 10:00
+        assertFalse(policy.allows(at(MONDAY_10H_UTC)));
+        assertTrue(policy.allows(at(Instant.parse("2026-03-02T13:00:00Z"))));
+    }
+
+    @Test
+    void weekdayShouldUseLocalDate() {
+        AccessPolicy weekdays = AccessPolicy.compile("weekday in (MON, TUE, WED, THU, FRI)");
+        AccessPolicy tokyo = AccessPolicy.compile("weekday in (tue) zone \"Asia/Tokyo\"");
+
+        assertTrue(weekdays.allows(at(MONDAY_10H_UTC)));
+        assertFalse(weekdays.allows(at(Instant.parse("2026-03-01T10:00:00Z"))));
+        // 16:00 UTC de segunda-feira já é terça-feira em Tóquio
+        assertTrue(tokyo.allows(at(Instant.parse("2026-03-02T16:00:00Z"))));
+        assertFalse(tokyo.allows(at(MONDAY_10H_UTC)));
+    }
+
+    // =====================================================
+    // Endereço de origem
+    // =====================================================
+
+    @Test
+    void ipRangeShouldMatchIpv4AndIpv6() throws UnknownHostException {
+        AccessPolicy policy = AccessPolicy.compile("ip in (\"10.0.0.0/8\", \"192.168.1.7\", \"2001:db8::/32\")");
+
+        assertTrue(policy.allows(from("10.20.30.40")));
+        assertTrue(policy.allows(from("192.168.1.7")));
+        assertTrue(policy.allows(from("2001:db8:1::1")));
+        assertFalse(policy.allows(from("192.168.1.8")));
+        assertFalse(policy.allows(from("11.0.0.1")));
+        assertFalse(policy.allows(from("2001:db9::1")));
+    }
+
+    @Test
+    void ipRangeShouldDenyUnknownAddress() {
+        AccessPolicy policy = AccessPolicy.compile("ip in (\"0.0.0.0/0\")");
+
+        assertFalse(policy.allows(at(MONDAY_10H_UTC)));
+    }
+
+    @Test
+    void ipRangeShouldRejectHostNamesAndInvalidPrefixes() {
+        assertThrows(DomainException.class, () -> AccessPolicy.compile("ip in (\"example.com\")"));
+        assertThrows(DomainException.class, () -> AccessPolicy.compile("ip in (\"10.0.0.0/33\")"));
+        assertThrows(DomainException.class, () -> AccessPolicy.compile("ip in (\"10.0.0.0/\")"));
+    }
+
+    @Test
+    void ipRangeShouldRejectOutOfRangeOctetsAndMalformedLiterals() {
+        assertThrows(DomainException.class, () -> AccessPolicy.compile("ip in (\"999.1.1.1\")"));
+        assertThrows(DomainException.class, () -> AccessPolicy.compile("ip in (\"10.0.1\")"));
+        assertThrows(DomainException.class, () -> AccessPolicy.compile("ip in (\"abcd:zz\")"));
+        assertThrows(DomainException.class, () -> AccessPolicy.compile("ip in (\"fe80::1%eth0\")"));
+    }
+
+    @Test
+    void ipRangeShouldAcceptIpv6PrefixesOnIpv4MappedLiterals() throws UnknownHostException {
+        AccessPolicy policy = AccessPolicy.compile("ip in (\"::ffff:10.0.0.1/128\", \"::ffff:192.168.0.0/112\")");
+
+        assertTrue(policy.allows(from("10.0.0.1")));
+        assertTrue(policy.allows(from("192.168.7.8")));
+        assertFalse(policy.allows(from("10.0.0.2")));
+        assertFalse(policy.allows(from("192.169.0.1")));
+    }
+
+    // =====================================================
+    // Atributos do usuário e combinações
+    // =====================================================
+
+    @Test
+    void attributeShouldMatchAnyValue() {
+        AccessPolicy policy = AccessPolicy.compile("attr.department in (\"finance\", \"ops\")");
+        AccessPolicy equality = AccessPolicy.compile("attr.department = \"ops\"");
+
+        AccessContext ops = AccessContext.builder().instant(MONDAY_10H_UTC).attribute("department", "ops").build();
+        AccessContext sales = AccessContext.builder().instant(MONDAY_10H_UTC).attribute("department", "sales").build();
+
+        assertTrue(policy.allows(ops));
+        assertTrue(equality.allows(ops));
+        assertFalse(policy.allows(sales));
+        assertFalse(policy.allows(at(MONDAY_10H_UTC)));
+    }
+
+    @Test
+    void shouldCombineWithPrecedence() throws UnknownHostException {
+        // and tem precedência sobre or
+        AccessPolicy policy = AccessPolicy.compile(
+                "user.master or ip in (\"10.0.0.0/8\") and not weekday in (SAT, SUN)");
+
+        AccessContext master = AccessContext.builder().instant(MONDAY_10H_UTC).master(true).build();
+
+        assertTrue(policy.allows(master));
+        assertTrue(policy.allows(from("10.1.1.1")));
+        assertFalse(policy.allows(from("8.8.8.8")));
+    }
+
+    // =====================================================
+    // Otimização
+    // =====================================================
+
+    @Test
+    void shouldFoldConstants() {
+        assertTrue(AccessPolicy.compile("true or ip in (\"10.0.0.0/8\")").isUnrestricted());
+        assertTrue(AccessPolicy.compile("not not (false or true)").isUnrestricted());
+        assertFalse(AccessPolicy.compile("user.master and false").allows(at(MONDAY_10H_UTC)));
+        assertInstanceOf(Condition.Master.class, AccessPolicy.compile("true and user.master").root());
+    }
+
+    @Test
+    void shouldFlattenAndOrderByCost() {
+        Condition root = AccessPolicy.compile(
+                "attr.team = \"a\" and (ip in (\"10.0.0.0/8\") and user.master)").root();
+
+        Condition.AllOf allOf = assertInstanceOf(Condition.AllOf.class, root);
+        assertEquals(3, allOf.children().length);
+        assertInstanceOf(Condition.Master.class, allOf.children()[0]);
+        assertInstanceOf(Condition.AddressRange.class, allOf.children()[1]);
+        assertInstanceOf(Condition.AttributeIn.class, allOf.children()[2]);
+    }
+
+    // =====================================================
+    // Erros de sintaxe
+    // =====================================================
+
+    @Test
+    void shouldReportPositionOfSyntaxErrors() {
+        DomainException error = assertThrows(DomainException.class,
+                () -> AccessPolicy.compile("user.master and"));
+        assertTrue(error.getMessage().contains("posição 15"));
+
+        assertThrows(DomainException.class, () -> AccessPolicy.compile(" "));
+        assertThrows(DomainException.class, () -> AccessPolicy.compile("time between 8h and 18:00"));
+        assertThrows(DomainException.class, () -> AccessPolicy.compile("weekday in (MONDAY)"));
+        assertThrows(DomainException.class, () -> AccessPolicy.compile("time between 08:00 and 18:00 zone \"Mars/Base\""));
+        assertThrows(DomainException.class, () -> AccessPolicy.compile("(user.master"));
+        assertThrows(DomainException.class, () -> AccessPolicy.compile("user.master user.master"));
+        assertThrows(DomainException.class, () -> AccessPolicy.compile("attr.team = \"a"));
+    }
+}
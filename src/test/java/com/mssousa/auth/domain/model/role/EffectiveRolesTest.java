@@ -0,0 +1,62 @@
+package com.mssousa.auth.domain.model.role;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes unitários do modelo de leitura {@link EffectiveRoles}.
+ */
+class EffectiveRolesTest {
+
+    // =====================================================
+    // Concessão
+    // =====================================================
+
+    @Test
+    void shouldBeGrantedWhenRoleCodesArePresent() {
+        EffectiveRoles roles = EffectiveRoles.granted(Set.of("ADMIN"));
+
+        assertTrue(roles.isGranted());
+        assertEquals(EffectiveRoles.Outcome.GRANTED, roles.outcome());
+        assertEquals(Set.of("ADMIN"), roles.roleCodes());
+    }
+
+    @Test
+    void shouldBeDeniedWhenGrantedWithoutRoleCodes() {
+        EffectiveRoles roles = EffectiveRoles.granted(Set.of());
+
+        assertFalse(roles.isGranted());
+        assertEquals(EffectiveRoles.Outcome.NO_ACTIVE_ROLES, roles.outcome());
+    }
+
+    // =====================================================
+    // Negação
+    // =====================================================
+
+    @Test
+    void shouldHaveNoRoleCodesWhenDenied() {
+        EffectiveRoles roles = EffectiveRoles.denied(EffectiveRoles.Outcome.BINDING_INACTIVE);
+
+        assertFalse(roles.isGranted());
+        assertTrue(roles.roleCodes().isEmpty());
+    }
+
+    // =====================================================
+    // Imutabilidade
+    // =====================================================
+
+    @Test
+    void shouldCopyRoleCodes() {
+        Set<String> codes = new HashSet<>(Set.of("ADMIN"));
+        EffectiveRoles roles = EffectiveRoles.granted(codes);
+
+        codes.add("VIEWER");
+
+        assertEquals(Set.of("ADMIN"), roles.roleCodes());
+        assertThrows(UnsupportedOperationException.class, () -> roles.roleCodes().add("VIEWER"));
+    }
+}
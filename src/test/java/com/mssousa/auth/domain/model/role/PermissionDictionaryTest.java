@@ -0,0 +1,100 @@
+package com.mssousa.auth.domain.model.role;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.mssousa.auth.domain.model.system.SystemId;
+
+/**
+ * Testes unitários de {@link PermissionDictionary}.
+ */
+class PermissionDictionaryTest {
+
+    private static final SystemId SYSTEM = SystemId.of(1L);
+
+    private static SystemRole role(long id, String code, SystemRoleStatus status, Set<String> permissions) {
+        return SystemRole.builder()
+                .id(SystemRoleId.of(id))
+                .system_id(SYSTEM)
+                .code(code)
+                .status(status)
+                .permissions(permissions)
+                .build();
+    }
+
+    private static PermissionDictionary dictionary() {
+        return PermissionDictionary.of(SYSTEM, List.of(
+                role(1L, "ADMIN", SystemRoleStatus.ACTIVE, Set.of("invoice:write", "invoice:read", "user:manage")),
+                role(2L, "VIEWER", SystemRoleStatus.ACTIVE, Set.of("invoice:read")),
+                role(3L, "LEGACY", SystemRoleStatus.INACTIVE, Set.of("legacy:read"))));
+    }
+
+    // =====================================================
+    // Índice
+    // =====================================================
+
+    @Test
+    void shouldIndexActivePermissionsAlphabetically() {
+        PermissionDictionary dictionary = dictionary();
+
+        assertEquals(List.of("invoice:read", "invoice:write", "user:manage"), dictionary.getPermissions());
+        assertEquals(1, dictionary.indexOf("invoice:write"));
+        assertEquals(-1, dictionary.indexOf("legacy:read"));
+    }
+
+    @Test
+    void shouldDeriveVersionFromPermissionIndexOnly() {
+        PermissionDictionary reordered = PermissionDictionary.of(SYSTEM, List.of(
+                role(9L, "OTHER", SystemRoleStatus.ACTIVE, Set.of("user:manage", "invoice:write", "invoice:read"))));
+        PermissionDictionary changed = PermissionDictionary.of(SYSTEM, List.of(
+                role(9L, "OTHER", SystemRoleStatus.ACTIVE, Set.of("invoice:read"))));
+
+        assertEquals(dictionary().getVersion(), reordered.getVersion());
+        assertNotEquals(dictionary().getVersion(), changed.getVersion());
+    }
+
+    // =====================================================
+    // Bitmap
+    // =====================================================
+
+    @Test
+    void shouldEncodeUnionOfRolePermissions() {
+        PermissionDictionary dictionary = dictionary();
+
+        String encoded = dictionary.encode(Set.of("VIEWER", "UNKNOWN"));
+
+        assertEquals(Set.of("invoice:read"), dictionary.decode(encoded));
+        assertEquals(Set.of("invoice:read", "invoice:write", "user:manage"),
+                dictionary.decode(dictionary.encode(Set.of("ADMIN", "VIEWER"))));
+        assertEquals(dictionary.encode(Set.of("ADMIN")), dictionary.encodeAll());
+    }
+
+    @Test
+    void shouldUseLeastSignificantBitFirstLayout() {
+        Set<String> permissions = IntStream.range(0, 70)
+                .mapToObj(i -> String.format("resource:action%02d", i))
+                .collect(Collectors.toSet());
+        PermissionDictionary dictionary = PermissionDictionary.of(SYSTEM, List.of(
+                role(1L, "ALL", SystemRoleStatus.ACTIVE, permissions),
+                role(2L, "ONE", SystemRoleStatus.ACTIVE, Set.of("resource:action65"))));
+
+        byte[] bitmap = Base64.getUrlDecoder().decode(dictionary.encode(Set.of("ONE")));
+
+        // índice 65: byte 8, bit 1; bytes zerados ao final são omitidos
+        assertEquals(9, bitmap.length);
+        assertEquals(0b10, bitmap[8]);
+        assertEquals(Set.of("resource:action65"), dictionary.decode(dictionary.encode(Set.of("ONE"))));
+    }
+
+    @Test
+    void shouldEncodeEmptyBitmapWhenNoRoleMatches() {
+        assertEquals("", dictionary().encode(Set.of()));
+    }
+}
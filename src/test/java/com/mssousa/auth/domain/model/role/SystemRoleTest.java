@@ -2,6 +2,8 @@ package com.mssousa.auth.domain.model.role;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.Set;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -160,4 +162,37 @@ class SystemRoleTest {
 
         assertEquals("Nova descrição", role.getDescription());
     }
+
+    // =====================================================
+    // Permissões
+    // =====================================================
+
+    @Test
+    void shouldGrantAndRevokePermission() {
+        SystemRole role = SystemRole.builder()
+                .id(id)
+                .system_id(systemId)
+                .code(code)
+                .status(SystemRoleStatus.ACTIVE)
+                .build();
+
+        role.grantPermission("invoice:read");
+        role.grantPermission("invoice:read");
+        assertEquals(Set.of("invoice:read"), role.getPermissions());
+
+        role.revokePermission("invoice:read");
+        assertTrue(role.getPermissions().isEmpty());
+    }
+
+    @Test
+    void shouldRejectPermissionOutsideResourceActionFormat() {
+        SystemRole.Builder builder = SystemRole.builder()
+                .id(id)
+                .system_id(systemId)
+                .code(code)
+                .status(SystemRoleStatus.ACTIVE)
+                .permissions(Set.of("invoice"));
+
+        assertThrows(DomainException.class, builder::build);
+    }
 }
@@ -1,16 +1,25 @@
 package com.mssousa.auth.domain.model.system;
 
 import com.mssousa.auth.domain.exception.DomainException;
+import com.mssousa.auth.domain.service.PasswordHasher;
+import com.mssousa.auth.domain.service.TestPasswordHasher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 class ClientSystemTest {
 
+    private static final PasswordHasher HASHER = TestPasswordHasher.INSTANCE;
+
     private SystemId systemId;
     private String clientId;
     private String clientSecret;
+    private String hashedSecret;
     private String name;
     private String redirectUri;
 
@@ -19,6 +28,7 @@ class ClientSystemTest {
         systemId = SystemId.of(1L);
         clientId = "test-client-id";
         clientSecret = "test-secret-123";
+        hashedSecret = new BCryptPasswordEncoder(4).encode(clientSecret);
         name = "Test System";
         redirectUri = "https://example.com/callback";
     }
@@ -425,9 +435,10 @@ class ClientSystemTest {
                 .build();
         String newSecret = "new-secret-456";
         
-        system.updateClientSecret(newSecret);
+        system.updateClientSecret(newSecret, HASHER);
         
-        assertEquals(newSecret, system.getClientSecret());
+        assertNotEquals(newSecret, system.getClientSecret());
+        assertTrue(system.verifyClientSecret(newSecret, HASHER));
     }
 
     @Test
@@ -442,7 +453,7 @@ class ClientSystemTest {
                 .build();
         
         DomainException exception = assertThrows(DomainException.class,
-            () -> system.updateClientSecret(null));
+            () -> system.updateClientSecret(null, HASHER));
         assertEquals(ClientSystem.CLIENT_SECRET_NULL_OR_BLANK, exception.getMessage());
     }
 
@@ -458,7 +469,7 @@ class ClientSystemTest {
                 .build();
         
         DomainException exception = assertThrows(DomainException.class,
-            () -> system.updateClientSecret(""));
+            () -> system.updateClientSecret("", HASHER));
         assertEquals(ClientSystem.CLIENT_SECRET_NULL_OR_BLANK, exception.getMessage());
     }
 
@@ -474,7 +485,7 @@ class ClientSystemTest {
                 .build();
         
         DomainException exception = assertThrows(DomainException.class,
-            () -> system.updateClientSecret("   "));
+            () -> system.updateClientSecret("   ", HASHER));
         assertEquals(ClientSystem.CLIENT_SECRET_NULL_OR_BLANK, exception.getMessage());
     }
 
@@ -653,13 +664,13 @@ class ClientSystemTest {
         ClientSystem system = ClientSystem.builder()
                 .id(systemId)
                 .clientId(clientId)
-                .clientSecret(clientSecret)
+                .clientSecret(hashedSecret)
                 .name(name)
                 .redirectUri(redirectUri)
                 .status(SystemStatus.ACTIVE)
                 .build();
         
-        assertTrue(system.verifyClientSecret(clientSecret));
+        assertTrue(system.verifyClientSecret(clientSecret, HASHER));
     }
 
     @Test
@@ -667,13 +678,13 @@ class ClientSystemTest {
         ClientSystem system = ClientSystem.builder()
                 .id(systemId)
                 .clientId(clientId)
-                .clientSecret(clientSecret)
+                .clientSecret(hashedSecret)
                 .name(name)
                 .redirectUri(redirectUri)
                 .status(SystemStatus.ACTIVE)
                 .build();
         
-        assertFalse(system.verifyClientSecret("wrong-secret"));
+        assertFalse(system.verifyClientSecret("wrong-secret", HASHER));
     }
 
     @Test
@@ -681,13 +692,13 @@ class ClientSystemTest {
         ClientSystem system = ClientSystem.builder()
                 .id(systemId)
                 .clientId(clientId)
-                .clientSecret(clientSecret)
+                .clientSecret(hashedSecret)
                 .name(name)
                 .redirectUri(redirectUri)
                 .status(SystemStatus.ACTIVE)
                 .build();
         
-        assertFalse(system.verifyClientSecret(null));
+        assertFalse(system.verifyClientSecret(null, HASHER));
     }
 
     // ==================== Testes Integrados ====================
@@ -721,7 +732,7 @@ class ClientSystemTest {
         ClientSystem system = ClientSystem.builder()
                 .id(systemId)
                 .clientId(clientId)
-                .clientSecret(clientSecret)
+                .clientSecret(hashedSecret)
                 .name(name)
                 .redirectUri(redirectUri)
                 .status(SystemStatus.ACTIVE)
@@ -732,10 +743,10 @@ class ClientSystemTest {
         assertEquals("New System Name", system.getName());
         
         // Atualizar secret
-        system.updateClientSecret("new-secret");
-        assertEquals("new-secret", system.getClientSecret());
-        assertTrue(system.verifyClientSecret("new-secret"));
-        assertFalse(system.verifyClientSecret(clientSecret));
+        system.updateClientSecret("new-secret", HASHER);
+        assertNotEquals("new-secret", system.getClientSecret());
+        assertTrue(system.verifyClientSecret("new-secret", HASHER));
+        assertFalse(system.verifyClientSecret(clientSecret, HASHER));
         
         // Atualizar redirect URI
         system.updateRedirectUri("https://newsystem.com/callback");
@@ -749,26 +760,124 @@ class ClientSystemTest {
         ClientSystem system = ClientSystem.builder()
                 .id(systemId)
                 .clientId(clientId)
-                .clientSecret(clientSecret)
+                .clientSecret(hashedSecret)
                 .name(name)
                 .redirectUri(redirectUri)
                 .status(SystemStatus.ACTIVE)
                 .build();
         
         // Validar credenciais corretas
-        assertTrue(system.verifyClientSecret(clientSecret));
+        assertTrue(system.verifyClientSecret(clientSecret, HASHER));
         assertTrue(system.matchesRedirectUri(redirectUri));
         assertTrue(system.canAcceptAuthentication());
         
         // Validar credenciais incorretas
-        assertFalse(system.verifyClientSecret("wrong-secret"));
+        assertFalse(system.verifyClientSecret("wrong-secret", HASHER));
         assertFalse(system.matchesRedirectUri("https://wrong.com/callback"));
         
         // Desativar e verificar que não aceita autenticação
         system.deactivate();
         assertFalse(system.canAcceptAuthentication());
         // Mas ainda valida credenciais
-        assertTrue(system.verifyClientSecret(clientSecret));
+        assertTrue(system.verifyClientSecret(clientSecret, HASHER));
         assertTrue(system.matchesRedirectUri(redirectUri));
     }
+
+    // ==================== Múltiplas URIs de Redirecionamento ====================
+
+    @Test
+    void testMultipleRedirectUris() {
+        ClientSystem system = ClientSystem.builder()
+                .id(systemId)
+                .clientId(clientId)
+                .clientSecret(clientSecret)
+                .name(name)
+                .redirectUri(redirectUri)
+                .redirectUris(List.of("https://staging.example.com/callback", "http://127.0.0.1:*/callback"))
+                .status(SystemStatus.ACTIVE)
+                .build();
+
+        assertEquals(Set.of(redirectUri, "https://staging.example.com/callback", "http://127.0.0.1:*/callback"),
+                system.getRedirectUris());
+        assertTrue(system.matchesRedirectUri(redirectUri));
+        assertTrue(system.matchesRedirectUri("https://staging.example.com/callback"));
+        assertTrue(system.matchesRedirectUri("http://127.0.0.1:51234/callback"));
+        assertFalse(system.matchesRedirectUri("https://other.example.com/callback"));
+    }
+
+    @Test
+    void testAddAndRemoveRedirectUri() {
+        ClientSystem system = ClientSystem.builder()
+                .id(systemId)
+                .clientId(clientId)
+                .clientSecret(clientSecret)
+                .name(name)
+                .redirectUri(redirectUri)
+                .status(SystemStatus.ACTIVE)
+                .build();
+
+        system.addRedirectUri("https://staging.example.com/callback");
+        assertTrue(system.matchesRedirectUri("https://staging.example.com/callback"));
+
+        system.updateRedirectUri("https://newsystem.com/callback");
+        assertTrue(system.matchesRedirectUri("https://staging.example.com/callback"));
+        assertFalse(system.matchesRedirectUri(redirectUri));
+
+        system.removeRedirectUri("https://staging.example.com/callback");
+        assertFalse(system.matchesRedirectUri("https://staging.example.com/callback"));
+        assertThrows(DomainException.class, () -> system.removeRedirectUri("https://newsystem.com/callback"));
+    }
+
+    @Test
+    void testInvalidAdditionalRedirectUri() {
+        ClientSystem.Builder builder = ClientSystem.builder()
+                .id(systemId)
+                .clientId(clientId)
+                .clientSecret(clientSecret)
+                .name(name)
+                .redirectUri(redirectUri)
+                .status(SystemStatus.ACTIVE);
+
+        assertThrows(DomainException.class, () -> builder.redirectUris(List.of("ftp://example.com")).build());
+    }
+
+    // ==================== Fluxos e Formas de Autenticação ====================
+
+    @Test
+    void testDefaultGrantTypesAndAuthMethods() {
+        ClientSystem system = ClientSystem.builder()
+                .id(systemId)
+                .clientId(clientId)
+                .clientSecret(clientSecret)
+                .name(name)
+                .redirectUri(redirectUri)
+                .status(SystemStatus.ACTIVE)
+                .build();
+
+        assertEquals(Set.of(ClientGrantType.AUTHORIZATION_CODE, ClientGrantType.REFRESH_TOKEN), system.getGrantTypes());
+        assertEquals(Set.of(ClientAuthMethod.CLIENT_SECRET_BASIC), system.getAuthMethods());
+    }
+
+    @Test
+    void testUpdateGrantTypesAndAuthMethods() {
+        ClientSystem system = ClientSystem.builder()
+                .id(systemId)
+                .clientId(clientId)
+                .clientSecret(clientSecret)
+                .name(name)
+                .redirectUri(redirectUri)
+                .grantTypes(List.of(ClientGrantType.CLIENT_CREDENTIALS))
+                .status(SystemStatus.ACTIVE)
+                .build();
+
+        assertEquals(Set.of(ClientGrantType.CLIENT_CREDENTIALS), system.getGrantTypes());
+
+        system.updateGrantTypes(List.of(ClientGrantType.AUTHORIZATION_CODE, ClientGrantType.CLIENT_CREDENTIALS));
+        system.updateAuthMethods(List.of(ClientAuthMethod.CLIENT_SECRET_POST));
+
+        assertEquals(Set.of(ClientGrantType.AUTHORIZATION_CODE, ClientGrantType.CLIENT_CREDENTIALS), system.getGrantTypes());
+        assertEquals(Set.of(ClientAuthMethod.CLIENT_SECRET_POST), system.getAuthMethods());
+        assertThrows(DomainException.class, () -> system.updateGrantTypes(List.of()));
+        assertThrows(DomainException.class, () -> system.updateAuthMethods(List.of()));
+    }
 }
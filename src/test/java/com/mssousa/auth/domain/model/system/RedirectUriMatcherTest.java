@@ -0,0 +1,104 @@
+package com.mssousa.auth.domain.model.system;
+
+import com.mssousa.auth.domain.exception.DomainException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RedirectUriMatcherTest {
+
+    @Test
+    void shouldMatchExactUrisOnly() {
+        RedirectUriMatcher matcher = RedirectUriMatcher.compile(List.of(
+                "https://app.example.com/callback",
+                "https://staging.example.com/callback"));
+
+        assertTrue(matcher.matches("https://app.example.com/callback"));
+        assertTrue(matcher.matches("https://staging.example.com/callback"));
+        assertFalse(matcher.matches("https://app.example.com/callback/"));
+        assertFalse(matcher.matches("https://APP.example.com/callback"));
+        assertFalse(matcher.matches("https://app.example.com/callback?x=1"));
+        assertFalse(matcher.matches(null));
+    }
+
+    @Test
+    void shouldMatchAnyPortOnLoopbackWildcard() {
+        RedirectUriMatcher matcher = RedirectUriMatcher.compile(List.of(
+                "http://127.0.0.1:*/callback",
+                "http://[::1]:*/cb"));
+
+        assertTrue(matcher.matches("http://127.0.0.1:8080/callback"));
+        assertTrue(matcher.matches("http://127.0.0.1:1/callback"));
+        assertTrue(matcher.matches("http://127.0.0.1:65535/callback"));
+        assertTrue(matcher.matches("http://[::1]:49152/cb"));
+
+        assertFalse(matcher.matches("http://127.0.0.1/callback"));
+        assertFalse(matcher.matches("http://127.0.0.1:/callback"));
+        assertFalse(matcher.matches("http://127.0.0.1:0/callback"));
+        assertFalse(matcher.matches("http://127.0.0.1:65536/callback"));
+        assertFalse(matcher.matches("http://127.0.0.1:123456/callback"));
+        assertFalse(matcher.matches("http://127.0.0.1:8080/callback/extra"));
+        assertFalse(matcher.matches("http://127.0.0.1:8080/other"));
+        assertFalse(matcher.matches("http://[::1]:8080/callback"));
+        assertFalse(matcher.matches("http://localhost:8080/callback"));
+    }
+
+    @Test
+    void shouldAcceptOnlyAsciiDigitsInWildcardPort() {
+        RedirectUriMatcher matcher = RedirectUriMatcher.compile(List.of("http://127.0.0.1:*/cb"));
+
+        assertFalse(matcher.matches("http://127.0.0.1:\u0660/cb"));
+        assertFalse(matcher.matches("http://127.0.0.1:80\u0660/cb"));
+        assertFalse(matcher.matches("http://127.0.0.1:\uFF18\uFF10/cb"));
+    }
+
+    @Test
+    void shouldCombineExactUrisAndPatterns() {
+        RedirectUriMatcher matcher = RedirectUriMatcher.compile(List.of(
+                "http://localhost:8080/callback",
+                "http://127.0.0.1:*/other"));
+
+        assertTrue(matcher.matches("http://localhost:8080/callback"));
+        assertTrue(matcher.matches("http://127.0.0.1:3000/other"));
+        assertFalse(matcher.matches("http://localhost:3000/callback"));
+    }
+
+    @Test
+    void shouldHandleManyRegisteredUris() {
+        List<String> uris = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            uris.add("https://env" + i + ".example.com/callback");
+            uris.add("http://127.0.0.1:*/env" + i);
+        }
+        RedirectUriMatcher matcher = RedirectUriMatcher.compile(uris);
+
+        assertTrue(matcher.matches("https://env499.example.com/callback"));
+        assertTrue(matcher.matches("http://127.0.0.1:5000/env42"));
+        assertFalse(matcher.matches("http://127.0.0.1:5000/env500"));
+    }
+
+    @Test
+    void shouldRejectWildcardOutsideLoopbackPort() {
+        assertThrows(DomainException.class,
+                () -> RedirectUriMatcher.compile(List.of("https://app.example.com:*/callback")));
+        assertThrows(DomainException.class,
+                () -> RedirectUriMatcher.compile(List.of("https://*.example.com/callback")));
+        assertThrows(DomainException.class,
+                () -> RedirectUriMatcher.compile(List.of("http://127.0.0.1:*/callback/*")));
+        assertThrows(DomainException.class,
+                () -> RedirectUriMatcher.compile(List.of("http://localhost:*/callback")));
+    }
+
+    @Test
+    void shouldRemovePortWildcard() {
+        assertEquals("http://127.0.0.1/callback",
+                RedirectUriMatcher.withoutPortWildcard("http://127.0.0.1:*/callback"));
+        assertEquals("http://[::1]",
+                RedirectUriMatcher.withoutPortWildcard("http://[::1]:*"));
+        assertEquals("https://app.example.com/callback",
+                RedirectUriMatcher.withoutPortWildcard("https://app.example.com/callback"));
+    }
+}
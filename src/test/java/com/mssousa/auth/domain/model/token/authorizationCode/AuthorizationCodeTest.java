@@ -22,6 +22,7 @@ import com.mssousa.auth.domain.model.user.User;
 import com.mssousa.auth.domain.model.user.UserId;
 import com.mssousa.auth.domain.model.user.UserStatus;
 import com.mssousa.auth.domain.model.user.Username;
+import com.mssousa.auth.domain.service.TestPasswordHasher;
 
 class AuthorizationCodeTest {
 
@@ -40,7 +41,7 @@ class AuthorizationCodeTest {
                 .id(UserId.of(1L))
                 .username(Username.of("testuser"))
                 .email(Email.of("test@example.com"))
-                .password(Password.fromPlainText("password123"))
+                .password(Password.fromPlainText("password123", TestPasswordHasher.INSTANCE))
                 .master(false)
                 .status(UserStatus.ACTIVE)
                 .name("Test User")
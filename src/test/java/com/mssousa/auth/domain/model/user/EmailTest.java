@@ -96,4 +96,19 @@ class EmailTest {
         Email email = Email.of("TEST@EXAMPLE.COM");
         assertEquals("test@example.com", email.toString());
     }
+
+    @Test
+    void testIsValid() {
+        assertTrue(Email.isValid("  TEST@EXAMPLE.COM "));
+        assertFalse(Email.isValid(null));
+        assertFalse(Email.isValid("   "));
+        assertFalse(Email.isValid("user@example"));
+        assertFalse(Email.isValid("john_doe"));
+    }
+
+    @Test
+    void testNormalize() {
+        assertEquals("test@example.com", Email.normalize("  TEST@Example.com "));
+        assertNull(Email.normalize(null));
+    }
 }
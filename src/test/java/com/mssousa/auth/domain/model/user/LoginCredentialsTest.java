@@ -0,0 +1,35 @@
+package com.mssousa.auth.domain.model.user;
+
+import com.mssousa.auth.domain.service.PasswordHasher;
+import com.mssousa.auth.domain.service.TestPasswordHasher;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginCredentialsTest {
+
+    private static final PasswordHasher HASHER = TestPasswordHasher.INSTANCE;
+    private static final String PASSWORD_HASH = new BCryptPasswordEncoder(4).encode("senha123");
+
+    private LoginCredentials credentials(UserStatus status) {
+        return new LoginCredentials(UserId.of(1L), "user123", "user@example.com", "User",
+                PASSWORD_HASH, false, status);
+    }
+
+    @Test
+    void testVerifyPassword() {
+        LoginCredentials credentials = credentials(UserStatus.ACTIVE);
+
+        assertTrue(credentials.verifyPassword("senha123", HASHER));
+        assertFalse(credentials.verifyPassword("outraSenha", HASHER));
+        assertFalse(credentials.verifyPassword(null, HASHER));
+    }
+
+    @Test
+    void testIsActive() {
+        assertTrue(credentials(UserStatus.ACTIVE).isActive());
+        assertFalse(credentials(UserStatus.BLOCKED).isActive());
+        assertFalse(credentials(UserStatus.DISABLED).isActive());
+    }
+}
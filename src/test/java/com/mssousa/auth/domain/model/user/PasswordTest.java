@@ -1,15 +1,21 @@
 package com.mssousa.auth.domain.model.user;
 
 import com.mssousa.auth.domain.exception.DomainException;
+import com.mssousa.auth.domain.service.PasswordHasher;
+import com.mssousa.auth.domain.service.TestPasswordHasher;
 import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 class PasswordTest {
 
+    // Custo acima do usado nos hashes "desatualizados" (4)
+    private static final PasswordHasher HASHER = new TestPasswordHasher(5);
+
     @Test
     void testCreatePasswordFromPlainText() {
-        Password password = Password.fromPlainText("mySecurePass123");
+        Password password = Password.fromPlainText("mySecurePass123", HASHER);
         
         assertNotNull(password);
         assertNotNull(password.hashedValue());
@@ -19,64 +25,64 @@ class PasswordTest {
     @Test
     void testPasswordMatches() {
         String plainPassword = "mySecurePassword";
-        Password password = Password.fromPlainText(plainPassword);
+        Password password = Password.fromPlainText(plainPassword, HASHER);
         
-        assertTrue(password.matches(plainPassword));
+        assertTrue(password.matches(plainPassword, HASHER));
     }
 
     @Test
     void testPasswordDoesNotMatch() {
-        Password password = Password.fromPlainText("correctPassword");
+        Password password = Password.fromPlainText("correctPassword", HASHER);
         
-        assertFalse(password.matches("wrongPassword"));
+        assertFalse(password.matches("wrongPassword", HASHER));
     }
 
     @Test
     void testPasswordMatchesWithNull() {
-        Password password = Password.fromPlainText("myPassword");
+        Password password = Password.fromPlainText("myPassword", HASHER);
         
-        assertFalse(password.matches(null));
+        assertFalse(password.matches(null, HASHER));
     }
 
     @Test
     void testInvalidPasswordNull() {
         DomainException exception = assertThrows(DomainException.class, 
-            () -> Password.fromPlainText(null));
+            () -> Password.fromPlainText(null, HASHER));
         assertEquals(Password.DEFAULT_ERROR_PASSWORD, exception.getMessage());
     }
 
     @Test
     void testInvalidPasswordEmpty() {
         DomainException exception = assertThrows(DomainException.class, 
-            () -> Password.fromPlainText(""));
+            () -> Password.fromPlainText("", HASHER));
         assertEquals(Password.DEFAULT_ERROR_PASSWORD, exception.getMessage());
     }
 
     @Test
     void testInvalidPasswordBlank() {
         DomainException exception = assertThrows(DomainException.class, 
-            () -> Password.fromPlainText("   "));
+            () -> Password.fromPlainText("   ", HASHER));
         assertEquals(Password.DEFAULT_ERROR_PASSWORD, exception.getMessage());
     }
 
     @Test
     void testInvalidPasswordTooShort() {
         DomainException exception = assertThrows(DomainException.class, 
-            () -> Password.fromPlainText("short"));
+            () -> Password.fromPlainText("short", HASHER));
         assertEquals(Password.DEFAULT_ERROR_PASSWORD_MIN_LENGTH, exception.getMessage());
     }
 
     @Test
     void testPasswordFromHash() {
         String plainPassword = "testPassword123";
-        Password originalPassword = Password.fromPlainText(plainPassword);
+        Password originalPassword = Password.fromPlainText(plainPassword, HASHER);
         String hash = originalPassword.hashedValue();
         
         Password reconstructedPassword = Password.fromHash(hash);
         
         assertNotNull(reconstructedPassword);
         assertEquals(hash, reconstructedPassword.hashedValue());
-        assertTrue(reconstructedPassword.matches(plainPassword));
+        assertTrue(reconstructedPassword.matches(plainPassword, HASHER));
     }
 
     @Test
@@ -96,7 +102,7 @@ class PasswordTest {
     @Test
     void testPasswordEquality() {
         String plainPassword = "testPassword";
-        Password password1 = Password.fromPlainText(plainPassword);
+        Password password1 = Password.fromPlainText(plainPassword, HASHER);
         String hash = password1.hashedValue();
         Password password2 = Password.fromHash(hash);
         
@@ -105,8 +111,8 @@ class PasswordTest {
 
     @Test
     void testPasswordEqualityDifferentHashes() {
-        Password password1 = Password.fromPlainText("password123");
-        Password password2 = Password.fromPlainText("password123");
+        Password password1 = Password.fromPlainText("password123", HASHER);
+        Password password2 = Password.fromPlainText("password123", HASHER);
         
         // Os hashes serão diferentes devido ao salt do BCrypt
         assertNotEquals(password1.hashedValue(), password2.hashedValue());
@@ -116,7 +122,7 @@ class PasswordTest {
     @Test
     void testPasswordHashCode() {
         String plainPassword = "testPassword";
-        Password password1 = Password.fromPlainText(plainPassword);
+        Password password1 = Password.fromPlainText(plainPassword, HASHER);
         String hash = password1.hashedValue();
         Password password2 = Password.fromHash(hash);
         
@@ -125,9 +131,28 @@ class PasswordTest {
 
     @Test
     void testPasswordMinimumLength() {
-        Password password = Password.fromPlainText("12345678"); // Exactly 8 characters
+        Password password = Password.fromPlainText("12345678", HASHER); // Exactly 8 characters
         
         assertNotNull(password);
-        assertTrue(password.matches("12345678"));
+        assertTrue(password.matches("12345678", HASHER));
+    }
+
+    @Test
+    void testNeedsRehashForLowerCost() {
+        Password outdated = Password.fromHash(new BCryptPasswordEncoder(4).encode("myPassword"));
+
+        assertTrue(outdated.needsRehash(HASHER));
+        assertFalse(Password.fromPlainText("myPassword", HASHER).needsRehash(HASHER));
+    }
+
+    @Test
+    void testRehash() {
+        Password outdated = Password.fromHash(new BCryptPasswordEncoder(4).encode("myPassword"));
+
+        Password rehashed = outdated.rehash("myPassword", HASHER);
+
+        assertNotEquals(outdated, rehashed);
+        assertTrue(rehashed.matches("myPassword", HASHER));
+        assertFalse(rehashed.needsRehash(HASHER));
     }
 }
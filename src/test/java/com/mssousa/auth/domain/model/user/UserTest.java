@@ -2,6 +2,7 @@ package com.mssousa.auth.domain.model.user;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -9,11 +10,17 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 import com.mssousa.auth.domain.exception.DomainException;
+import com.mssousa.auth.domain.service.PasswordHasher;
+import com.mssousa.auth.domain.service.TestPasswordHasher;
 
 class UserTest {
 
+    // Custo acima do usado nos hashes "desatualizados" (4)
+    private static final PasswordHasher HASHER = new TestPasswordHasher(5);
+
     private UserId userId;
     private Username username;
     private Email email;
@@ -25,7 +32,7 @@ class UserTest {
         userId = UserId.of(1L);
         username = Username.of("testuser");
         email = Email.of("test@example.com");
-        password = Password.fromPlainText("password123");
+        password = Password.fromPlainText("password123", HASHER);
         name = "Test User";
     }
 
@@ -491,12 +498,12 @@ class UserTest {
                 .status(UserStatus.ACTIVE)
                 .name(name)
                 .build();
-        Password newPassword = Password.fromPlainText("newPassword456");
+        Password newPassword = Password.fromPlainText("newPassword456", HASHER);
 
         user.changePassword(newPassword);
 
         assertEquals(newPassword, user.getPassword());
-        assertTrue(user.verifyPassword("newPassword456"));
+        assertTrue(user.verifyPassword("newPassword456", HASHER));
     }
 
     @Test
@@ -528,7 +535,7 @@ class UserTest {
                 .name(name)
                 .build();
 
-        assertTrue(user.verifyPassword("password123"));
+        assertTrue(user.verifyPassword("password123", HASHER));
     }
 
     @Test
@@ -543,7 +550,7 @@ class UserTest {
                 .name(name)
                 .build();
 
-        assertFalse(user.verifyPassword("wrongPassword"));
+        assertFalse(user.verifyPassword("wrongPassword", HASHER));
     }
 
     @Test
@@ -558,7 +565,43 @@ class UserTest {
                 .name(name)
                 .build();
 
-        assertFalse(user.verifyPassword(null));
+        assertFalse(user.verifyPassword(null, HASHER));
+    }
+
+    @Test
+    void testVerifyPasswordRehashesOutdatedHash() {
+        Password outdated = Password.fromHash(new BCryptPasswordEncoder(4).encode("password123"));
+        User user = User.builder()
+                .id(userId)
+                .username(username)
+                .email(email)
+                .password(outdated)
+                .master(false)
+                .status(UserStatus.ACTIVE)
+                .name(name)
+                .build();
+
+        assertTrue(user.verifyPassword("password123", HASHER));
+        assertNotEquals(outdated, user.getPassword());
+        assertFalse(user.getPassword().needsRehash(HASHER));
+        assertTrue(user.verifyPassword("password123", HASHER));
+    }
+
+    @Test
+    void testVerifyWrongPasswordDoesNotRehash() {
+        Password outdated = Password.fromHash(new BCryptPasswordEncoder(4).encode("password123"));
+        User user = User.builder()
+                .id(userId)
+                .username(username)
+                .email(email)
+                .password(outdated)
+                .master(false)
+                .status(UserStatus.ACTIVE)
+                .name(name)
+                .build();
+
+        assertFalse(user.verifyPassword("wrongPassword", HASHER));
+        assertEquals(outdated, user.getPassword());
     }
 
     // ==================== Gerenciamento Master ====================
@@ -836,16 +879,16 @@ class UserTest {
                 .build();
 
         // Verificar senha inicial
-        assertTrue(user.verifyPassword("password123"));
-        assertFalse(user.verifyPassword("wrongPassword"));
+        assertTrue(user.verifyPassword("password123", HASHER));
+        assertFalse(user.verifyPassword("wrongPassword", HASHER));
 
         // Trocar senha
-        Password newPassword = Password.fromPlainText("newSecurePass999");
+        Password newPassword = Password.fromPlainText("newSecurePass999", HASHER);
         user.changePassword(newPassword);
 
         // Verificar nova senha
-        assertTrue(user.verifyPassword("newSecurePass999"));
-        assertFalse(user.verifyPassword("password123"));
+        assertTrue(user.verifyPassword("newSecurePass999", HASHER));
+        assertFalse(user.verifyPassword("password123", HASHER));
     }
 
     // ==================== Testes de Builder ====================
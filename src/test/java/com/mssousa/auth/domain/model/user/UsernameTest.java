@@ -85,4 +85,13 @@ class UsernameTest {
         Username username = Username.of("testuser");
         assertEquals("testuser", username.toString());
     }
+
+    @Test
+    void testIsValid() {
+        assertTrue(Username.isValid("john_doe"));
+        assertFalse(Username.isValid(null));
+        assertFalse(Username.isValid("ab"));
+        assertFalse(Username.isValid("a".repeat(51)));
+        assertFalse(Username.isValid("john@doe.com"));
+    }
 }
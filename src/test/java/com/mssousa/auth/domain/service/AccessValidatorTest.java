@@ -4,6 +4,10 @@ package com.mssousa.auth.domain.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Instant;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -13,6 +17,8 @@ import com.mssousa.auth.domain.exception.DomainException;
 import com.mssousa.auth.domain.model.binding.BindingStatus;
 import com.mssousa.auth.domain.model.binding.userSystem.UserSystem;
 import com.mssousa.auth.domain.model.binding.userSystem.UserSystemId;
+import com.mssousa.auth.domain.model.policy.AccessContext;
+import com.mssousa.auth.domain.model.policy.AccessPolicy;
 import com.mssousa.auth.domain.model.system.ClientSystem;
 import com.mssousa.auth.domain.model.system.SystemId;
 import com.mssousa.auth.domain.model.system.SystemStatus;
@@ -197,13 +203,80 @@ class AccessValidatorTest {
         }
     }
 
+    @Nested
+    @DisplayName("Política de acesso do sistema")
+    class AccessPolicyTests {
+
+        private final AccessValidator policyValidator = new AccessValidator(
+                systemId -> AccessPolicy.compile("ip in (\"10.0.0.0/8\")"));
+
+        @Test
+        @DisplayName("Deve permitir acesso que atende à política")
+        void shouldAllowAccessMatchingPolicy() throws UnknownHostException {
+            // Arrange
+            User user = createRegularUser();
+            ClientSystem system = createActiveSystem();
+            UserSystem binding = createActiveBinding(user, system);
+
+            // Act & Assert
+            assertThat(policyValidator.canAccess(user, system, binding, contextFrom("10.1.2.3"))).isTrue();
+        }
+
+        @Test
+        @DisplayName("Deve bloquear acesso fora da política, inclusive de usuário MASTER")
+        void shouldBlockAccessOutsidePolicy() throws UnknownHostException {
+            // Arrange
+            User masterUser = createMasterUser();
+            ClientSystem system = createActiveSystem();
+            AccessContext context = contextFrom("8.8.8.8");
+
+            // Act & Assert
+            assertThatThrownBy(() -> policyValidator.validateAccess(masterUser, system, null, context))
+                    .isInstanceOf(DomainException.class)
+                    .hasMessageContaining("política de acesso");
+        }
+
+        @Test
+        @DisplayName("Deve aplicar as regras fixas antes da política")
+        void shouldApplyFixedRulesFirst() throws UnknownHostException {
+            // Arrange
+            User user = createRegularUser();
+            ClientSystem system = createActiveSystem();
+            AccessContext context = contextFrom("10.1.2.3");
+
+            // Act & Assert
+            assertThatThrownBy(() -> policyValidator.validateAccess(user, system, null, context))
+                    .isInstanceOf(DomainException.class)
+                    .hasMessageContaining("não possui vínculo");
+        }
+
+        @Test
+        @DisplayName("Sem política cadastrada, deve aplicar apenas as regras fixas")
+        void shouldAllowWithoutPolicy() throws UnknownHostException {
+            // Arrange
+            User user = createRegularUser();
+            ClientSystem system = createActiveSystem();
+            UserSystem binding = createActiveBinding(user, system);
+
+            // Act & Assert
+            assertThat(accessValidator.canAccess(user, system, binding, contextFrom("8.8.8.8"))).isTrue();
+        }
+
+        private AccessContext contextFrom(String address) throws UnknownHostException {
+            return AccessContext.builder()
+                    .instant(Instant.now())
+                    .address(InetAddress.getByName(address))
+                    .build();
+        }
+    }
+
     // Helper methods
     private User createMasterUser() {
         return User.builder()
         .id(UserId.of(1L))
         .username(Username.of("admin"))
         .email(Email.of("admin@test.com"))
-        .password(Password.fromPlainText("Password123"))
+        .password(Password.fromPlainText("Password123", TestPasswordHasher.INSTANCE))
         .master(true)
         .status(UserStatus.ACTIVE)
         .name("Admin User")
@@ -215,7 +288,7 @@ class AccessValidatorTest {
         .id(UserId.of(2L))
         .username(Username.of("user"))
         .email(Email.of("user@test.com"))
-        .password(Password.fromPlainText("Password123"))
+        .password(Password.fromPlainText("Password123", TestPasswordHasher.INSTANCE))
         .master(false)
         .status(UserStatus.ACTIVE)
         .name("Regular User")
@@ -220,7 +220,7 @@ class MasterUserPolicyTest {
         .id(UserId.of(1L))
         .username(Username.of("admin"))
         .email(Email.of("admin@test.com"))
-        .password(Password.fromPlainText("Password123"))
+        .password(Password.fromPlainText("Password123", TestPasswordHasher.INSTANCE))
         .master(true)
         .status(UserStatus.ACTIVE)
         .name("Admin User")
@@ -232,7 +232,7 @@ class MasterUserPolicyTest {
         .id(UserId.of(2L))
         .username(Username.of("user"))
         .email(Email.of("user@test.com"))
-        .password(Password.fromPlainText("Password123"))
+        .password(Password.fromPlainText("Password123", TestPasswordHasher.INSTANCE))
         .master(false)
         .status(UserStatus.ACTIVE)
         .name("Regular User")
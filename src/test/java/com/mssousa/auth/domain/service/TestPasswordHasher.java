@@ -0,0 +1,33 @@
+package com.mssousa.auth.domain.service;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * PasswordHasher para testes: BCrypt com custo 4, para manter os testes rápidos.
+ * Hashes de custo diferente de 4 são considerados desatualizados.
+ */
+public final class TestPasswordHasher implements PasswordHasher {
+
+    public static final TestPasswordHasher INSTANCE = new TestPasswordHasher(4);
+
+    private final BCryptPasswordEncoder encoder;
+
+    public TestPasswordHasher(int strength) {
+        this.encoder = new BCryptPasswordEncoder(strength);
+    }
+
+    @Override
+    public String hash(String plainPassword) {
+        return encoder.encode(plainPassword);
+    }
+
+    @Override
+    public boolean matches(String plainPassword, String hashedPassword) {
+        return encoder.matches(plainPassword, hashedPassword);
+    }
+
+    @Override
+    public boolean needsRehash(String hashedPassword) {
+        return encoder.upgradeEncoding(hashedPassword);
+    }
+}
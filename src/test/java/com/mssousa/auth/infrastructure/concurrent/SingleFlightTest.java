@@ -0,0 +1,166 @@
+package com.mssousa.auth.infrastructure.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight<String, Object> singleFlight = new SingleFlight<>("test", 4, meterRegistry);
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private double count(String name) {
+        return meterRegistry.get("auth.single-flight." + name).tag("name", "test").counter().count();
+    }
+
+    /**
+     * Dispara as chamadas com uma carga bloqueada e a libera quando todas as demais
+     * estão aguardando.
+     */
+    private List<Future<Object>> callConcurrently(CountDownLatch release, AtomicInteger loads, Object result)
+            throws InterruptedException {
+
+        List<Future<Object>> futures = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            futures.add(executor.submit(() -> singleFlight.load("key", key -> {
+                loads.incrementAndGet();
+                await(release);
+                if (result instanceof RuntimeException e) {
+                    throw e;
+                }
+                return result;
+            })));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (count("coalesced") < CALLERS - 1 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        release.countDown();
+        return futures;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    void concurrentCallersShouldShareOneLoad() throws Exception {
+        Object value = new Object();
+        AtomicInteger loads = new AtomicInteger();
+
+        for (Future<Object> future : callConcurrently(new CountDownLatch(1), loads, value)) {
+            assertSame(value, future.get(5, TimeUnit.SECONDS));
+        }
+
+        assertEquals(1, loads.get());
+        assertEquals(1.0, count("loads"));
+        assertEquals(CALLERS - 1, count("coalesced"));
+        assertEquals(0, singleFlight.inFlight());
+    }
+
+    @Test
+    void failureShouldReachEveryWaiter() throws Exception {
+        IllegalStateException failure = new IllegalStateException("db down");
+        AtomicInteger loads = new AtomicInteger();
+
+        for (Future<Object> future : callConcurrently(new CountDownLatch(1), loads, failure)) {
+            Exception thrown = assertThrows(Exception.class, () -> future.get(5, TimeUnit.SECONDS));
+            assertSame(failure, thrown.getCause());
+        }
+
+        assertEquals(1, loads.get());
+        assertEquals(0, singleFlight.inFlight());
+    }
+
+    @Test
+    void completedLoadShouldNotBeReused() {
+        AtomicInteger loads = new AtomicInteger();
+
+        singleFlight.load("key", key -> loads.incrementAndGet());
+        singleFlight.load("key", key -> loads.incrementAndGet());
+        singleFlight.load("other", key -> loads.incrementAndGet());
+
+        assertEquals(3, loads.get());
+        assertEquals(0.0, count("coalesced"));
+    }
+
+    @Test
+    void callerOfAnotherGenerationShouldStartNewLoad() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        Object stale = new Object();
+        Object fresh = new Object();
+
+        Future<Object> first = executor.submit(() -> singleFlight.load("key", 1L, key -> {
+            started.countDown();
+            await(release);
+            return stale;
+        }));
+        await(started);
+
+        // chamada após uma invalidação: não aguarda a carga iniciada antes dela
+        assertSame(fresh, singleFlight.load("key", 2L, key -> fresh));
+
+        // a carga substituída não volta a ser aguardada, mesmo que ainda esteja em andamento
+        Future<Object> joiner = executor.submit(() -> singleFlight.load("key", 1L, key -> fresh));
+        assertSame(fresh, joiner.get(5, TimeUnit.SECONDS));
+
+        release.countDown();
+        assertSame(stale, first.get(5, TimeUnit.SECONDS));
+        assertEquals(3.0, count("loads"));
+        assertEquals(1.0, count("superseded"));
+        assertEquals(0, singleFlight.inFlight());
+    }
+
+    @Test
+    void callerOfSameGenerationShouldJoinLoad() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        Object value = new Object();
+
+        Future<Object> first = executor.submit(() -> singleFlight.load("key", 7L, key -> {
+            started.countDown();
+            await(release);
+            return value;
+        }));
+        await(started);
+
+        Future<Object> joiner = executor.submit(() -> singleFlight.load("key", 7L, key -> new Object()));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (count("coalesced") < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        release.countDown();
+
+        assertSame(value, first.get(5, TimeUnit.SECONDS));
+        assertSame(value, joiner.get(5, TimeUnit.SECONDS));
+        assertEquals(1.0, count("loads"));
+    }
+}
@@ -0,0 +1,155 @@
+package com.mssousa.auth.infrastructure.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.Mockito.mock;
+
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.ClientAuthenticationMethod;
+import org.springframework.security.oauth2.core.OAuth2Token;
+import org.springframework.security.oauth2.server.authorization.InMemoryOAuth2AuthorizationService;
+import org.springframework.security.oauth2.server.authorization.authentication.OAuth2AccessTokenAuthenticationToken;
+import org.springframework.security.oauth2.server.authorization.authentication.OAuth2ClientAuthenticationToken;
+import org.springframework.security.oauth2.server.authorization.authentication.OAuth2ClientCredentialsAuthenticationProvider;
+import org.springframework.security.oauth2.server.authorization.authentication.OAuth2ClientCredentialsAuthenticationToken;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClient;
+import org.springframework.security.oauth2.server.authorization.context.AuthorizationServerContext;
+import org.springframework.security.oauth2.server.authorization.context.AuthorizationServerContextHolder;
+import org.springframework.security.oauth2.server.authorization.settings.AuthorizationServerSettings;
+import org.springframework.security.oauth2.server.authorization.token.OAuth2TokenGenerator;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import com.mssousa.auth.application.service.authorization.PermissionDictionaryProvider;
+import com.mssousa.auth.application.service.authorization.UserAuthorizationService;
+import com.mssousa.auth.application.service.client.ClientValidationService;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Emissão de tokens client_credentials pelo provider do Authorization Server com o
+ * gerador de tokens registrado em {@link JwtConfig}: clients habilitados em
+ * auth.client-token-cache.client-ids recebem o mesmo JWT em requisições seguidas.
+ */
+@SpringJUnitConfig({JwtConfig.class, ClientCredentialsTokenReuseTest.Config.class})
+@TestPropertySource(properties = {
+        "auth.jwt.secret-key=test-secret",
+        "auth.jwt.issuer=" + ClientCredentialsTokenReuseTest.ISSUER,
+        "auth.client-token-cache.client-ids=batch"
+})
+class ClientCredentialsTokenReuseTest {
+
+    static final String ISSUER = "http://localhost:9000";
+
+    @Autowired
+    private OAuth2TokenGenerator<OAuth2Token> tokenGenerator;
+
+    private OAuth2ClientCredentialsAuthenticationProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        provider = new OAuth2ClientCredentialsAuthenticationProvider(
+                new InMemoryOAuth2AuthorizationService(), tokenGenerator);
+
+        // o filtro do Authorization Server publica o contexto (issuer) em cada requisição
+        AuthorizationServerSettings settings = AuthorizationServerSettings.builder().issuer(ISSUER).build();
+        AuthorizationServerContextHolder.setContext(new AuthorizationServerContext() {
+            @Override
+            public String getIssuer() {
+                return ISSUER;
+            }
+
+            @Override
+            public AuthorizationServerSettings getAuthorizationServerSettings() {
+                return settings;
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        AuthorizationServerContextHolder.resetContext();
+    }
+
+    private static RegisteredClient client(String clientId) {
+        return RegisteredClient.withId(UUID.randomUUID().toString())
+                .clientId(clientId)
+                .clientSecret("hash")
+                .clientAuthenticationMethod(ClientAuthenticationMethod.CLIENT_SECRET_BASIC)
+                .authorizationGrantType(AuthorizationGrantType.CLIENT_CREDENTIALS)
+                .scope("read")
+                .build();
+    }
+
+    private String requestToken(RegisteredClient client) {
+        OAuth2ClientAuthenticationToken clientPrincipal =
+                new OAuth2ClientAuthenticationToken(client, ClientAuthenticationMethod.CLIENT_SECRET_BASIC, null);
+
+        OAuth2AccessTokenAuthenticationToken result = (OAuth2AccessTokenAuthenticationToken) provider.authenticate(
+                new OAuth2ClientCredentialsAuthenticationToken(clientPrincipal, Set.of("read"), null));
+        return result.getAccessToken().getTokenValue();
+    }
+
+    @Test
+    @DisplayName("Deve devolver o mesmo token em requisições seguidas de um client habilitado")
+    void shouldReuseTokenForOptedInClient() {
+        RegisteredClient batch = client("batch");
+
+        assertEquals(requestToken(batch), requestToken(batch));
+    }
+
+    @Test
+    @DisplayName("Deve gerar um novo token a cada requisição dos demais clients")
+    void shouldGenerateNewTokenForOtherClients() {
+        RegisteredClient web = client("web");
+
+        assertNotEquals(requestToken(web), requestToken(web));
+    }
+
+    @Configuration
+    static class Config {
+
+        @Bean
+        JWKSource<SecurityContext> jwkSource() throws Exception {
+            RSAKey key = new RSAKeyGenerator(2048).keyID(UUID.randomUUID().toString()).generate();
+            return new ImmutableJWKSet<>(new JWKSet(key));
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        ClientValidationService clientValidationService() {
+            return mock(ClientValidationService.class);
+        }
+
+        @Bean
+        UserAuthorizationService userAuthorizationService() {
+            return mock(UserAuthorizationService.class);
+        }
+
+        @Bean
+        PermissionDictionaryProvider permissionDictionaryProvider() {
+            return mock(PermissionDictionaryProvider.class);
+        }
+    }
+}
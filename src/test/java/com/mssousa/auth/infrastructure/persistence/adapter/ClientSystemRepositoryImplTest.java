@@ -0,0 +1,58 @@
+package com.mssousa.auth.infrastructure.persistence.adapter;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.mssousa.auth.application.service.client.ClientSystemChangedEvent;
+import com.mssousa.auth.domain.model.system.ClientSystem;
+import com.mssousa.auth.domain.model.system.SystemId;
+import com.mssousa.auth.infrastructure.persistence.entity.ClientSystemEntity;
+import com.mssousa.auth.infrastructure.persistence.jpa.ClientSystemJpaRepository;
+import com.mssousa.auth.infrastructure.persistence.mapper.AuthMapper;
+
+@ExtendWith(MockitoExtension.class)
+class ClientSystemRepositoryImplTest {
+
+    @Mock
+    private ClientSystemJpaRepository jpaRepository;
+
+    @Mock
+    private AuthMapper mapper;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ClientSystemRepositoryImpl repository;
+
+    @Test
+    @DisplayName("Deve publicar a alteração do client somente após removê-lo")
+    void shouldPublishAfterDelete() {
+
+        ClientSystemEntity entity = mock(ClientSystemEntity.class);
+        ClientSystem system = mock(ClientSystem.class);
+        when(system.getId()).thenReturn(SystemId.of(10L));
+        when(system.getClientId()).thenReturn("client-a");
+        when(jpaRepository.findById(10L)).thenReturn(Optional.of(entity));
+        when(mapper.toDomain(entity)).thenReturn(system);
+
+        repository.deleteById(SystemId.of(10L));
+
+        InOrder order = inOrder(jpaRepository, eventPublisher);
+        order.verify(jpaRepository).deleteById(10L);
+        order.verify(eventPublisher).publishEvent(any(ClientSystemChangedEvent.class));
+    }
+}
@@ -0,0 +1,131 @@
+package com.mssousa.auth.infrastructure.persistence.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import com.mssousa.auth.domain.model.role.SystemRoleId;
+
+/**
+ * Executa o SQL do fecho transitivo contra um PostgreSQL real, com as migrations do projeto.
+ * Ignorado quando não há Docker disponível.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("RoleHierarchyRepositoryImpl - PostgreSQL")
+class RoleHierarchyRepositoryImplTest {
+
+    @Container
+    private static final PostgreSQLContainer POSTGRES = new PostgreSQLContainer("postgres:17-alpine");
+
+    private static JdbcTemplate jdbcTemplate;
+
+    private RoleHierarchyRepositoryImpl repository;
+    private long systemId;
+
+    @BeforeAll
+    static void migrate() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @BeforeEach
+    void setUp() {
+        repository = new RoleHierarchyRepositoryImpl(jdbcTemplate);
+        systemId = jdbcTemplate.queryForObject("""
+                INSERT INTO client_system (client_id, name, redirect_uri, status)
+                VALUES ('client-' || gen_random_uuid(), 'Sistema', 'https://app.example.com/callback', 'ACTIVE')
+                RETURNING id
+                """, Long.class);
+    }
+
+    private SystemRoleId role(String code) {
+        return SystemRoleId.of(jdbcTemplate.queryForObject("""
+                INSERT INTO system_role (system_id, code, status) VALUES (?, ?, 'ACTIVE') RETURNING id
+                """, Long.class, systemId, code));
+    }
+
+    private Map<List<Long>, Long> closure(SystemRoleId... roles) {
+        Long[] ids = java.util.Arrays.stream(roles).map(SystemRoleId::value).toArray(Long[]::new);
+        return jdbcTemplate.query("""
+                SELECT ancestor_id, descendant_id, path_count FROM system_role_closure
+                WHERE ancestor_id = ANY (?) OR descendant_id = ANY (?)
+                """, rs -> {
+                    Map<List<Long>, Long> rows = new java.util.HashMap<>();
+                    while (rs.next()) {
+                        rows.put(List.of(rs.getLong(1), rs.getLong(2)), rs.getLong(3));
+                    }
+                    return rows;
+                }, ids, ids);
+    }
+
+    private static List<Long> pair(SystemRoleId ancestor, SystemRoleId descendant) {
+        return List.of(ancestor.value(), descendant.value());
+    }
+
+    @Test
+    @DisplayName("Deve contar os caminhos de um losango e mantê-lo ao remover uma das arestas")
+    void shouldMaintainDiamondPathCounts() {
+
+        // ADMIN -> EDITOR -> VIEWER e ADMIN -> AUDITOR -> VIEWER
+        SystemRoleId admin = role("ADMIN");
+        SystemRoleId editor = role("EDITOR");
+        SystemRoleId auditor = role("AUDITOR");
+        SystemRoleId viewer = role("VIEWER");
+
+        repository.addParent(editor, admin);
+        repository.addParent(auditor, admin);
+        repository.addParent(viewer, editor);
+        repository.addParent(viewer, auditor);
+
+        assertThat(closure(admin, editor, auditor, viewer)).isEqualTo(Map.of(
+                pair(admin, editor), 1L,
+                pair(admin, auditor), 1L,
+                pair(editor, viewer), 1L,
+                pair(auditor, viewer), 1L,
+                pair(admin, viewer), 2L));
+
+        repository.removeParent(viewer, editor);
+
+        assertThat(repository.implies(admin, viewer)).isTrue();
+        assertThat(closure(admin, editor, auditor, viewer)).isEqualTo(Map.of(
+                pair(admin, editor), 1L,
+                pair(admin, auditor), 1L,
+                pair(auditor, viewer), 1L,
+                pair(admin, viewer), 1L));
+    }
+
+    @Test
+    @DisplayName("Deve desfazer todas as arestas do perfil, preservando o fecho dos demais")
+    void shouldDetachRole() {
+
+        // ADMIN -> EDITOR -> VIEWER
+        SystemRoleId admin = role("ADMIN");
+        SystemRoleId editor = role("EDITOR");
+        SystemRoleId viewer = role("VIEWER");
+
+        repository.addParent(editor, admin);
+        repository.addParent(viewer, editor);
+        assertThat(repository.findImpliedRoles(admin)).isEqualTo(Set.of(editor, viewer));
+
+        repository.detach(editor);
+
+        assertThat(closure(admin, editor, viewer)).isEmpty();
+        assertThat(repository.findImpliedRoles(admin)).isEmpty();
+        assertThat(repository.existsParent(viewer, editor)).isFalse();
+    }
+}
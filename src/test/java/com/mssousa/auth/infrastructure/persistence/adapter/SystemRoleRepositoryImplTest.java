@@ -0,0 +1,62 @@
+package com.mssousa.auth.infrastructure.persistence.adapter;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.mssousa.auth.application.service.authorization.AuthorizationChangedEvent;
+import com.mssousa.auth.domain.model.role.SystemRole;
+import com.mssousa.auth.domain.model.role.SystemRoleId;
+import com.mssousa.auth.domain.model.system.SystemId;
+import com.mssousa.auth.infrastructure.persistence.entity.SystemRoleEntity;
+import com.mssousa.auth.infrastructure.persistence.jpa.ClientSystemJpaRepository;
+import com.mssousa.auth.infrastructure.persistence.jpa.SystemRoleJpaRepository;
+import com.mssousa.auth.infrastructure.persistence.mapper.AuthMapper;
+
+@ExtendWith(MockitoExtension.class)
+class SystemRoleRepositoryImplTest {
+
+    @Mock
+    private SystemRoleJpaRepository jpaRepository;
+
+    @Mock
+    private ClientSystemJpaRepository clientSystemJpaRepository;
+
+    @Mock
+    private AuthMapper mapper;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private SystemRoleRepositoryImpl repository;
+
+    @Test
+    @DisplayName("Deve publicar a alteração de autorização somente após remover o perfil")
+    void shouldPublishAfterDelete() {
+
+        SystemRoleEntity entity = mock(SystemRoleEntity.class);
+        SystemRole role = mock(SystemRole.class);
+        when(role.getSystemId()).thenReturn(SystemId.of(10L));
+        when(jpaRepository.findById(1L)).thenReturn(Optional.of(entity));
+        when(mapper.toDomain(entity)).thenReturn(role);
+
+        repository.deleteById(SystemRoleId.of(1L));
+
+        InOrder order = inOrder(jpaRepository, eventPublisher);
+        order.verify(jpaRepository).deleteById(1L);
+        order.verify(eventPublisher).publishEvent(any(AuthorizationChangedEvent.class));
+    }
+}
@@ -0,0 +1,136 @@
+package com.mssousa.auth.infrastructure.persistence.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import com.mssousa.auth.domain.model.binding.userSystem.UserSystemId;
+import com.mssousa.auth.domain.model.group.UserGroupId;
+import com.mssousa.auth.domain.model.role.SystemRoleId;
+
+/**
+ * Executa a manutenção da expansão user_system_group_role contra um PostgreSQL real.
+ * Ignorado quando não há Docker disponível.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("UserGroupRepositoryImpl - PostgreSQL")
+class UserGroupRepositoryImplTest {
+
+    @Container
+    private static final PostgreSQLContainer POSTGRES = new PostgreSQLContainer("postgres:17-alpine");
+
+    private static JdbcTemplate jdbcTemplate;
+    private static TransactionTemplate transactionTemplate;
+
+    @BeforeAll
+    static void migrate() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    @Test
+    @DisplayName("Deve remover a linha da expansão quando dois grupos retiram o mesmo perfil ao mesmo tempo")
+    void shouldRetractSamePairConcurrently() throws Exception {
+
+        UserGroupRepositoryImpl repository = new UserGroupRepositoryImpl(jdbcTemplate);
+
+        long systemId = jdbcTemplate.queryForObject("""
+                INSERT INTO client_system (client_id, name, redirect_uri, status)
+                VALUES ('client-groups', 'Sistema', 'https://app.example.com/callback', 'ACTIVE')
+                RETURNING id
+                """, Long.class);
+        long userId = jdbcTemplate.queryForObject("""
+                INSERT INTO "user" (username, email, password_hash, name, status)
+                VALUES ('maria', 'maria@example.com', 'hash', 'Maria', 'ACTIVE')
+                RETURNING id
+                """, Long.class);
+        UserSystemId member = UserSystemId.of(jdbcTemplate.queryForObject("""
+                INSERT INTO user_system (user_id, system_id, status) VALUES (?, ?, 'ACTIVE') RETURNING id
+                """, Long.class, userId, systemId));
+        SystemRoleId role = SystemRoleId.of(jdbcTemplate.queryForObject("""
+                INSERT INTO system_role (system_id, code, status) VALUES (?, 'EDITOR', 'ACTIVE') RETURNING id
+                """, Long.class, systemId));
+
+        UserGroupId first = UserGroupId.of(1L);
+        UserGroupId second = UserGroupId.of(2L);
+        for (UserGroupId group : new UserGroupId[] {first, second}) {
+            jdbcTemplate.update("""
+                    INSERT INTO user_group (id, system_id, code, status) VALUES (?, ?, ?, 'ACTIVE')
+                    """, group.value(), systemId, "GROUP_" + group.value());
+            repository.addMember(group, member);
+            repository.addRole(group, role);
+        }
+        assertThat(groupCount(member, role)).isEqualTo(2);
+
+        // A primeira retirada segura a transação aberta até a segunda ficar bloqueada
+        CountDownLatch firstRetracted = new CountDownLatch(1);
+        CountDownLatch secondWaiting = new CountDownLatch(1);
+
+        CompletableFuture<Void> firstTx = CompletableFuture.runAsync(() ->
+                transactionTemplate.executeWithoutResult(status -> {
+                    repository.removeRole(first, role);
+                    firstRetracted.countDown();
+                    await(secondWaiting);
+                }));
+        await(firstRetracted);
+
+        CompletableFuture<Void> secondTx = CompletableFuture.runAsync(() ->
+                transactionTemplate.executeWithoutResult(status -> repository.removeRole(second, role)));
+        awaitBlockedBackend();
+        secondWaiting.countDown();
+
+        firstTx.get(10, TimeUnit.SECONDS);
+        secondTx.get(10, TimeUnit.SECONDS);
+
+        assertThat(groupCount(member, role)).isZero();
+    }
+
+    private static int groupCount(UserSystemId member, SystemRoleId role) {
+        return jdbcTemplate.queryForObject("""
+                SELECT COALESCE(SUM(group_count), 0) FROM user_system_group_role
+                WHERE user_system_id = ? AND system_role_id = ?
+                """, Integer.class, member.value(), role.value());
+    }
+
+    private static void awaitBlockedBackend() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            Integer blocked = jdbcTemplate.queryForObject("""
+                    SELECT COUNT(*) FROM pg_stat_activity WHERE wait_event_type = 'Lock'
+                    """, Integer.class);
+            if (blocked != null && blocked > 0) {
+                return;
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("A segunda retirada não aguardou o bloqueio da primeira");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(10, TimeUnit.SECONDS)) {
+                throw new AssertionError("Tempo esgotado aguardando a outra transação");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}
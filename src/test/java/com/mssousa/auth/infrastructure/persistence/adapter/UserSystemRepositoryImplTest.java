@@ -0,0 +1,68 @@
+package com.mssousa.auth.infrastructure.persistence.adapter;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.mssousa.auth.application.service.authorization.AuthorizationChangedEvent;
+import com.mssousa.auth.domain.model.binding.userSystem.UserSystem;
+import com.mssousa.auth.domain.model.binding.userSystem.UserSystemId;
+import com.mssousa.auth.domain.model.system.SystemId;
+import com.mssousa.auth.domain.model.user.UserId;
+import com.mssousa.auth.infrastructure.persistence.entity.UserSystemEntity;
+import com.mssousa.auth.infrastructure.persistence.jpa.ClientSystemJpaRepository;
+import com.mssousa.auth.infrastructure.persistence.jpa.UserJpaRepository;
+import com.mssousa.auth.infrastructure.persistence.jpa.UserSystemJpaRepository;
+import com.mssousa.auth.infrastructure.persistence.mapper.AuthMapper;
+
+@ExtendWith(MockitoExtension.class)
+class UserSystemRepositoryImplTest {
+
+    @Mock
+    private UserSystemJpaRepository jpaRepository;
+
+    @Mock
+    private UserJpaRepository userJpaRepository;
+
+    @Mock
+    private ClientSystemJpaRepository clientSystemJpaRepository;
+
+    @Mock
+    private AuthMapper mapper;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private UserSystemRepositoryImpl repository;
+
+    @Test
+    @DisplayName("Deve publicar a alteração de autorização somente após remover o vínculo")
+    void shouldPublishAfterDelete() {
+
+        UserSystemEntity entity = mock(UserSystemEntity.class);
+        UserSystem userSystem = mock(UserSystem.class);
+        when(userSystem.getUserId()).thenReturn(UserId.of(1L));
+        when(userSystem.getSystemId()).thenReturn(SystemId.of(10L));
+        when(jpaRepository.findById(5L)).thenReturn(Optional.of(entity));
+        when(mapper.toDomain(entity)).thenReturn(userSystem);
+
+        repository.deleteById(UserSystemId.of(5L));
+
+        InOrder order = inOrder(jpaRepository, eventPublisher);
+        order.verify(jpaRepository).deleteById(5L);
+        order.verify(eventPublisher).publishEvent(any(AuthorizationChangedEvent.class));
+    }
+}
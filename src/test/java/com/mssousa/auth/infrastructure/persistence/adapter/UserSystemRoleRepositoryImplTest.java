@@ -0,0 +1,72 @@
+package com.mssousa.auth.infrastructure.persistence.adapter;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.mssousa.auth.application.service.authorization.AuthorizationChangedEvent;
+import com.mssousa.auth.domain.model.binding.userSystemRole.UserSystemRoleId;
+import com.mssousa.auth.infrastructure.persistence.entity.ClientSystemEntity;
+import com.mssousa.auth.infrastructure.persistence.entity.UserEntity;
+import com.mssousa.auth.infrastructure.persistence.entity.UserSystemEntity;
+import com.mssousa.auth.infrastructure.persistence.entity.UserSystemRoleEntity;
+import com.mssousa.auth.infrastructure.persistence.jpa.SystemRoleJpaRepository;
+import com.mssousa.auth.infrastructure.persistence.jpa.UserSystemJpaRepository;
+import com.mssousa.auth.infrastructure.persistence.jpa.UserSystemRoleJpaRepository;
+import com.mssousa.auth.infrastructure.persistence.mapper.AuthMapper;
+
+@ExtendWith(MockitoExtension.class)
+class UserSystemRoleRepositoryImplTest {
+
+    @Mock
+    private UserSystemRoleJpaRepository jpaRepository;
+
+    @Mock
+    private UserSystemJpaRepository userSystemJpaRepository;
+
+    @Mock
+    private SystemRoleJpaRepository systemRoleJpaRepository;
+
+    @Mock
+    private AuthMapper mapper;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private UserSystemRoleRepositoryImpl repository;
+
+    @Test
+    @DisplayName("Deve publicar a alteração de autorização somente após remover o vínculo")
+    void shouldPublishAfterDelete() {
+
+        UserEntity user = mock(UserEntity.class);
+        ClientSystemEntity system = mock(ClientSystemEntity.class);
+        UserSystemEntity userSystem = mock(UserSystemEntity.class);
+        UserSystemRoleEntity entity = mock(UserSystemRoleEntity.class);
+        when(user.getId()).thenReturn(1L);
+        when(system.getId()).thenReturn(10L);
+        when(userSystem.getUser()).thenReturn(user);
+        when(userSystem.getSystem()).thenReturn(system);
+        when(entity.getUserSystem()).thenReturn(userSystem);
+        when(jpaRepository.findById(7L)).thenReturn(Optional.of(entity));
+
+        repository.deleteById(UserSystemRoleId.of(7L));
+
+        InOrder order = inOrder(jpaRepository, eventPublisher);
+        order.verify(jpaRepository).deleteById(7L);
+        order.verify(eventPublisher).publishEvent(any(AuthorizationChangedEvent.class));
+    }
+}
@@ -0,0 +1,19 @@
+package com.mssousa.auth.infrastructure.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Leitura das métricas dos caches nos testes.
+ */
+public final class TestMeters {
+
+    private TestMeters() {
+    }
+
+    /**
+     * Contagem de {@code <prefixo>.lookups} com o resultado informado.
+     */
+    public static double lookups(MeterRegistry meterRegistry, String metricPrefix, String result) {
+        return meterRegistry.get(metricPrefix + ".lookups").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,102 @@
+package com.mssousa.auth.infrastructure.security.authorization;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.mssousa.auth.application.service.policy.AccessPolicyChangedEvent;
+import com.mssousa.auth.domain.model.policy.AccessPolicy;
+import com.mssousa.auth.domain.model.system.SystemId;
+import com.mssousa.auth.domain.repository.AccessPolicyRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AccessPolicyRegistryTest {
+
+    private static final SystemId SYSTEM = SystemId.of(10L);
+
+    private final AccessPolicyRepository accessPolicyRepository = mock(AccessPolicyRepository.class);
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    private AccessPolicyRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        AccessPolicyProperties properties = new AccessPolicyProperties();
+        properties.setTtlSeconds(60);
+        registry = new AccessPolicyRegistry(accessPolicyRepository, properties, new SimpleMeterRegistry(),
+                nanoTime::get);
+    }
+
+    @Test
+    @DisplayName("Deve compilar a política uma única vez por sistema durante o TTL")
+    void shouldCompileOncePerSystemWithinTtl() {
+        when(accessPolicyRepository.findExpression(SYSTEM)).thenReturn(Optional.of("user.master"));
+
+        AccessPolicy first = registry.forSystem(SYSTEM);
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(59));
+
+        assertSame(first, registry.forSystem(SYSTEM));
+        verify(accessPolicyRepository, times(1)).findExpression(SYSTEM);
+    }
+
+    @Test
+    @DisplayName("Deve recompilar a política após o TTL, aplicando alterações feitas em outro nó")
+    void shouldReloadPolicyAfterTtl() {
+        when(accessPolicyRepository.findExpression(SYSTEM))
+                .thenReturn(Optional.of("user.master"))
+                .thenReturn(Optional.of("time between"));
+
+        assertNotSame(AccessPolicy.DENY_ALL, registry.forSystem(SYSTEM));
+
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(60));
+        assertSame(AccessPolicy.DENY_ALL, registry.forSystem(SYSTEM));
+        verify(accessPolicyRepository, times(2)).findExpression(SYSTEM);
+    }
+
+    @Test
+    @DisplayName("Deve negar o acesso com expressão inválida e reler a expressão após o intervalo de nova tentativa")
+    void shouldRetryInvalidExpressionAfterInterval() {
+        when(accessPolicyRepository.findExpression(SYSTEM))
+                .thenReturn(Optional.of("time between"))
+                .thenReturn(Optional.of("user.master"));
+
+        assertSame(AccessPolicy.DENY_ALL, registry.forSystem(SYSTEM));
+
+        nanoTime.addAndGet(AccessPolicyRegistry.FAILURE_RETRY_NANOS - 1);
+        assertSame(AccessPolicy.DENY_ALL, registry.forSystem(SYSTEM));
+        verify(accessPolicyRepository, times(1)).findExpression(SYSTEM);
+
+        nanoTime.incrementAndGet();
+        assertNotSame(AccessPolicy.DENY_ALL, registry.forSystem(SYSTEM));
+        verify(accessPolicyRepository, times(2)).findExpression(SYSTEM);
+    }
+
+    @Test
+    @DisplayName("Deve descartar a política carregada durante uma invalidação")
+    void shouldDiscardPolicyLoadedDuringInvalidation() {
+        when(accessPolicyRepository.findExpression(SYSTEM))
+                .thenAnswer(invocation -> {
+                    registry.onAccessPolicyChanged(new AccessPolicyChangedEvent(SYSTEM));
+                    return Optional.of("user.master");
+                })
+                .thenReturn(Optional.of("user.master"));
+
+        registry.forSystem(SYSTEM);
+        registry.forSystem(SYSTEM);
+        registry.forSystem(SYSTEM);
+
+        verify(accessPolicyRepository, times(2)).findExpression(SYSTEM);
+    }
+}
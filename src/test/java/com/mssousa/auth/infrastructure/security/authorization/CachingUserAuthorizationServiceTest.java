@@ -0,0 +1,184 @@
+package com.mssousa.auth.infrastructure.security.authorization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+
+import com.mssousa.auth.application.exception.StacklessOAuth2AuthenticationException;
+import com.mssousa.auth.application.service.authorization.AuthorizationChangedEvent;
+import com.mssousa.auth.application.service.authorization.UserAuthorizationService;
+import com.mssousa.auth.application.service.authorization.UserAuthorizationService.AuthorizedUser;
+import com.mssousa.auth.domain.model.system.SystemId;
+import com.mssousa.auth.domain.model.user.UserId;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CachingUserAuthorizationServiceTest {
+
+    private static final UserId USER = UserId.of(1L);
+    private static final UserId OTHER_USER = UserId.of(2L);
+    private static final SystemId SYSTEM = SystemId.of(10L);
+    private static final SystemId OTHER_SYSTEM = SystemId.of(20L);
+
+    private final UserAuthorizationService delegate = mock(UserAuthorizationService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    private CachingUserAuthorizationService service;
+
+    @BeforeEach
+    void setUp() {
+        service = cache(300, 100);
+        // um conjunto novo a cada consulta, como o delegate real
+        when(delegate.authorize(any(), any(), anyBoolean()))
+                .thenAnswer(invocation -> new AuthorizedUser(new HashSet<>(Set.of("ADMIN"))));
+    }
+
+    private CachingUserAuthorizationService cache(int ttlSeconds, int maxEntries) {
+        AuthorizationCacheProperties properties = new AuthorizationCacheProperties();
+        properties.setTtlSeconds(ttlSeconds);
+        properties.setMaxEntries(maxEntries);
+        return new CachingUserAuthorizationService(delegate, properties, meterRegistry, nanoTime::get);
+    }
+
+    private double count(String name, String tag, String value) {
+        return meterRegistry.get("auth.authorization.cache." + name).tag(tag, value).counter().count();
+    }
+
+    @Test
+    @DisplayName("Deve consultar o delegate apenas no primeiro acesso")
+    void shouldServeRepeatedLookupsFromCache() {
+
+        service.authorize(USER, SYSTEM, false);
+        AuthorizedUser result = service.authorize(USER, SYSTEM, false);
+
+        assertEquals(Set.of("ADMIN"), result.roles());
+        verify(delegate, times(1)).authorize(USER, SYSTEM, false);
+        assertEquals(1.0, count("lookups", "result", "hit"));
+        assertEquals(1.0, count("lookups", "result", "miss"));
+        assertEquals(1, meterRegistry.get("auth.authorization.cache.load").timer().count());
+    }
+
+    @Test
+    @DisplayName("Deve devolver a autorização já pronta nos hits, compartilhando os perfis")
+    void shouldShareRoleSetsAcrossUsers() {
+
+        AuthorizedUser loaded = service.authorize(USER, SYSTEM, false);
+        AuthorizedUser hit = service.authorize(USER, SYSTEM, false);
+        AuthorizedUser otherUser = service.authorize(OTHER_USER, SYSTEM, false);
+
+        assertSame(loaded, hit);
+        assertSame(loaded.roles(), otherUser.roles());
+    }
+
+    @Test
+    @DisplayName("Deve recarregar após o TTL")
+    void shouldReloadAfterTtl() {
+
+        service.authorize(USER, SYSTEM, false);
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(301));
+        service.authorize(USER, SYSTEM, false);
+
+        verify(delegate, times(2)).authorize(USER, SYSTEM, false);
+        assertEquals(1.0, count("evictions", "reason", "expired"));
+    }
+
+    @Test
+    @DisplayName("Não deve armazenar negações")
+    void shouldNotCacheDenials() {
+
+        when(delegate.authorize(USER, SYSTEM, false))
+                .thenThrow(StacklessOAuth2AuthenticationException.accessDenied());
+
+        assertThrows(OAuth2AuthenticationException.class, () -> service.authorize(USER, SYSTEM, false));
+        assertThrows(OAuth2AuthenticationException.class, () -> service.authorize(USER, SYSTEM, false));
+
+        verify(delegate, times(2)).authorize(USER, SYSTEM, false);
+        assertEquals(0, service.size());
+    }
+
+    @Test
+    @DisplayName("Deve invalidar apenas o par (usuário, sistema) alterado")
+    void shouldInvalidateOnlyAffectedUser() {
+
+        service.authorize(USER, SYSTEM, false);
+        service.authorize(OTHER_USER, SYSTEM, false);
+
+        service.onAuthorizationChanged(AuthorizationChangedEvent.forUser(USER, SYSTEM));
+
+        service.authorize(USER, SYSTEM, false);
+        service.authorize(OTHER_USER, SYSTEM, false);
+
+        verify(delegate, times(2)).authorize(USER, SYSTEM, false);
+        verify(delegate, times(1)).authorize(OTHER_USER, SYSTEM, false);
+    }
+
+    @Test
+    @DisplayName("Deve invalidar todos os usuários do sistema quando um perfil for alterado")
+    void shouldInvalidateWholeSystem() {
+
+        service.authorize(USER, SYSTEM, false);
+        service.authorize(OTHER_USER, SYSTEM, false);
+        service.authorize(USER, OTHER_SYSTEM, false);
+
+        service.onAuthorizationChanged(AuthorizationChangedEvent.forSystem(SYSTEM));
+
+        assertEquals(1, service.size());
+        assertEquals(2.0, count("evictions", "reason", "invalidated"));
+    }
+
+    @Test
+    @DisplayName("Deve descartar resultado carregado durante uma invalidação")
+    void shouldDiscardLoadRacingWithInvalidation() {
+
+        when(delegate.authorize(USER, SYSTEM, false)).thenAnswer(invocation -> {
+            service.onAuthorizationChanged(AuthorizationChangedEvent.forUser(USER, SYSTEM));
+            return new AuthorizedUser(Set.of("STALE"));
+        });
+
+        service.authorize(USER, SYSTEM, false);
+
+        assertEquals(0, service.size());
+    }
+
+    @Test
+    @DisplayName("Não deve exceder o tamanho máximo")
+    void shouldRespectMaxEntries() {
+
+        service = cache(300, 2);
+
+        service.authorize(UserId.of(1L), SYSTEM, false);
+        service.authorize(UserId.of(2L), SYSTEM, false);
+        service.authorize(UserId.of(3L), SYSTEM, false);
+
+        assertEquals(2, service.size());
+        assertEquals(1.0, count("evictions", "reason", "size"));
+    }
+
+    @Test
+    @DisplayName("Não deve usar o cache para usuários MASTER")
+    void shouldBypassCacheForMaster() {
+
+        service.authorize(USER, SYSTEM, true);
+        service.authorize(USER, SYSTEM, true);
+
+        verify(delegate, times(2)).authorize(USER, SYSTEM, true);
+        assertEquals(0, service.size());
+    }
+}
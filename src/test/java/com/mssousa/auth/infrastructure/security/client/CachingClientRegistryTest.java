@@ -0,0 +1,191 @@
+package com.mssousa.auth.infrastructure.security.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mssousa.auth.application.service.client.ClientSystemChangedEvent;
+import com.mssousa.auth.domain.model.system.ClientSystem;
+import com.mssousa.auth.domain.model.system.SystemId;
+import com.mssousa.auth.domain.model.system.SystemStatus;
+import com.mssousa.auth.domain.repository.ClientSystemRepository;
+import com.mssousa.auth.infrastructure.security.TestMeters;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CachingClientRegistryTest {
+
+    private final ClientSystemRepository repository = mock(ClientSystemRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final List<Runnable> refreshTasks = new ArrayList<>();
+
+    private CachingClientRegistry registry;
+    private ClientSystem client;
+
+    @BeforeEach
+    void setUp() {
+        ClientRegistryProperties properties = new ClientRegistryProperties();
+        properties.setTtlSeconds(600);
+        properties.setRefreshAheadSeconds(120);
+        properties.setNegativeTtlSeconds(60);
+        properties.setMaxNegativeEntries(2);
+        registry = new CachingClientRegistry(repository, properties, meterRegistry, refreshTasks::add, nanoTime::get);
+
+        client = client("portal", SystemStatus.ACTIVE);
+        when(repository.findByClientId("portal")).thenReturn(Optional.of(client));
+    }
+
+    private static ClientSystem client(String clientId, SystemStatus status) {
+        return ClientSystem.builder()
+                .id(SystemId.of(10L))
+                .clientId(clientId)
+                .clientSecret("secret")
+                .name("Portal")
+                .redirectUri("https://portal.example.com/callback")
+                .status(status)
+                .build();
+    }
+
+    private void advanceSeconds(long seconds) {
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+    }
+
+    private double lookups(String result) {
+        return TestMeters.lookups(meterRegistry, "auth.client-registry", result);
+    }
+
+    @Test
+    void shouldServeSnapshotWithoutQueryingByClientId() {
+        when(repository.findAll()).thenReturn(List.of(client));
+
+        registry.loadSnapshot();
+
+        assertSame(client, registry.findByClientId("portal").orElseThrow());
+        verify(repository, never()).findByClientId(anyString());
+        assertEquals(1.0, lookups("hit"));
+    }
+
+    @Test
+    void shouldLoadOnMissAndCache() {
+        registry.findByClientId("portal");
+        registry.findByClientId("portal");
+
+        verify(repository, times(1)).findByClientId("portal");
+        assertEquals(1.0, lookups("miss"));
+        assertEquals(1.0, lookups("hit"));
+    }
+
+    @Test
+    void shouldCacheInactiveClients() {
+        ClientSystem inactive = client("legacy", SystemStatus.INACTIVE);
+        when(repository.findByClientId("legacy")).thenReturn(Optional.of(inactive));
+
+        registry.findByClientId("legacy");
+        Optional<ClientSystem> cached = registry.findByClientId("legacy");
+
+        assertTrue(cached.isPresent());
+        verify(repository, times(1)).findByClientId("legacy");
+    }
+
+    @Test
+    void shouldCacheUnknownClientIdsUntilNegativeTtl() {
+        when(repository.findByClientId("ghost")).thenReturn(Optional.empty());
+
+        assertTrue(registry.findByClientId("ghost").isEmpty());
+        assertTrue(registry.findByClientId("ghost").isEmpty());
+        verify(repository, times(1)).findByClientId("ghost");
+        assertEquals(1.0, lookups("negative"));
+
+        advanceSeconds(61);
+        registry.findByClientId("ghost");
+        verify(repository, times(2)).findByClientId("ghost");
+    }
+
+    @Test
+    void shouldBoundNegativeCache() {
+        when(repository.findByClientId(anyString())).thenReturn(Optional.empty());
+
+        registry.findByClientId("a");
+        registry.findByClientId("b");
+        registry.findByClientId("c");
+        registry.findByClientId("c");
+
+        // limite de 2 entradas negativas: "c" não é guardado enquanto "a" e "b" valem
+        verify(repository, times(2)).findByClientId("c");
+    }
+
+    @Test
+    void shouldRefreshAheadOnceAndKeepServing() {
+        registry.findByClientId("portal");
+
+        advanceSeconds(500);
+        registry.findByClientId("portal");
+        registry.findByClientId("portal");
+
+        assertEquals(1, refreshTasks.size());
+        verify(repository, times(1)).findByClientId("portal");
+
+        refreshTasks.get(0).run();
+        verify(repository, times(2)).findByClientId("portal");
+
+        // a recarga renovou a expiração: sem nova recarga nem miss
+        advanceSeconds(200);
+        registry.findByClientId("portal");
+        assertEquals(1, refreshTasks.size());
+        assertEquals(1.0, lookups("miss"));
+    }
+
+    @Test
+    void shouldReloadAfterExpiration() {
+        registry.findByClientId("portal");
+
+        advanceSeconds(601);
+        registry.findByClientId("portal");
+
+        verify(repository, times(2)).findByClientId("portal");
+        assertEquals(2.0, lookups("miss"));
+    }
+
+    @Test
+    void shouldInvalidateOnChange() {
+        when(repository.findByClientId("ghost")).thenReturn(Optional.empty());
+        registry.findByClientId("portal");
+        registry.findByClientId("ghost");
+
+        registry.onClientSystemChanged(new ClientSystemChangedEvent(SystemId.of(10L), "portal"));
+        registry.onClientSystemChanged(new ClientSystemChangedEvent(SystemId.of(11L), "ghost"));
+        registry.findByClientId("portal");
+        registry.findByClientId("ghost");
+
+        verify(repository, times(2)).findByClientId("portal");
+        verify(repository, times(2)).findByClientId("ghost");
+    }
+
+    @Test
+    void shouldDiscardLoadStartedBeforeInvalidation() {
+        when(repository.findByClientId("portal")).thenAnswer(invocation -> {
+            registry.onClientSystemChanged(new ClientSystemChangedEvent(SystemId.of(10L), "portal"));
+            return Optional.of(client);
+        });
+
+        registry.findByClientId("portal");
+
+        assertEquals(0, registry.size());
+    }
+}
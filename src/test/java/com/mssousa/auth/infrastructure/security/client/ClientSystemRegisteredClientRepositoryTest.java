@@ -0,0 +1,184 @@
+package com.mssousa.auth.infrastructure.security.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.ClientAuthenticationMethod;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClient;
+
+import com.mssousa.auth.application.service.client.ClientRegistry;
+import com.mssousa.auth.domain.model.system.ClientAuthMethod;
+import com.mssousa.auth.domain.model.system.ClientGrantType;
+import com.mssousa.auth.domain.model.system.ClientSystem;
+import com.mssousa.auth.domain.model.system.SystemId;
+import com.mssousa.auth.domain.model.system.SystemStatus;
+import com.mssousa.auth.domain.repository.ClientSystemRepository;
+
+class ClientSystemRegisteredClientRepositoryTest {
+
+    private final ClientRegistry clientRegistry = mock(ClientRegistry.class);
+    private final ClientSystemRepository clientSystemRepository = mock(ClientSystemRepository.class);
+    private final ClientSystemRegisteredClientRepository repository =
+            new ClientSystemRegisteredClientRepository(clientRegistry, clientSystemRepository);
+
+    private static ClientSystem client(String redirectUri, SystemStatus status) {
+        return ClientSystem.builder()
+                .id(SystemId.of(10L))
+                .clientId("portal")
+                .clientSecret("secret")
+                .name("Portal")
+                .redirectUri(redirectUri)
+                .status(status)
+                .build();
+    }
+
+    @Test
+    void shouldMapClientSystem() {
+        when(clientRegistry.findByClientId("portal"))
+                .thenReturn(Optional.of(client("https://portal.example.com/callback", SystemStatus.ACTIVE)));
+
+        RegisteredClient registeredClient = repository.findByClientId("portal");
+
+        assertEquals("10", registeredClient.getId());
+        assertEquals("portal", registeredClient.getClientId());
+        assertEquals("secret", registeredClient.getClientSecret());
+        assertEquals("https://portal.example.com/callback", registeredClient.getRedirectUris().iterator().next());
+        assertEquals(true, registeredClient.getAuthorizationGrantTypes()
+                .contains(AuthorizationGrantType.AUTHORIZATION_CODE));
+    }
+
+    @Test
+    void shouldReuseViewWhileRegistryReturnsSameInstance() {
+        when(clientRegistry.findByClientId("portal"))
+                .thenReturn(Optional.of(client("https://portal.example.com/callback", SystemStatus.ACTIVE)));
+
+        assertSame(repository.findByClientId("portal"), repository.findByClientId("portal"));
+    }
+
+    @Test
+    void shouldRebuildViewWhenClientChanges() {
+        when(clientRegistry.findByClientId("portal"))
+                .thenReturn(Optional.of(client("https://portal.example.com/callback", SystemStatus.ACTIVE)))
+                .thenReturn(Optional.of(client("https://portal.example.com/new", SystemStatus.ACTIVE)));
+
+        RegisteredClient first = repository.findByClientId("portal");
+        RegisteredClient second = repository.findByClientId("portal");
+
+        assertNotSame(first, second);
+        assertEquals("https://portal.example.com/new", second.getRedirectUris().iterator().next());
+    }
+
+    @Test
+    void shouldReturnNullForInactiveOrUnknownClients() {
+        when(clientRegistry.findByClientId("portal"))
+                .thenReturn(Optional.of(client("https://portal.example.com/callback", SystemStatus.INACTIVE)));
+        when(clientRegistry.findByClientId("ghost")).thenReturn(Optional.empty());
+
+        assertNull(repository.findByClientId("portal"));
+        assertNull(repository.findByClientId("ghost"));
+    }
+
+    @Test
+    void findByIdShouldQueryDatabaseOnlyOnce() {
+        ClientSystem client = client("https://portal.example.com/callback", SystemStatus.ACTIVE);
+        when(clientSystemRepository.findById(SystemId.of(10L))).thenReturn(Optional.of(client));
+        when(clientRegistry.findByClientId("portal")).thenReturn(Optional.of(client));
+
+        RegisteredClient first = repository.findById("10");
+        RegisteredClient second = repository.findById("10");
+
+        assertSame(first, second);
+        verify(clientSystemRepository, times(1)).findById(SystemId.of(10L));
+        assertNull(repository.findById("not-a-number"));
+    }
+
+    @Test
+    void shouldExposeOnlyGrantTypesAndAuthMethodsOfTheClient() {
+        RegisteredClient userLogin = ClientSystemRegisteredClientRepository.toRegisteredClient(
+                client("https://portal.example.com/callback", SystemStatus.ACTIVE));
+
+        assertEquals(Set.of(AuthorizationGrantType.AUTHORIZATION_CODE, AuthorizationGrantType.REFRESH_TOKEN),
+                userLogin.getAuthorizationGrantTypes());
+        assertEquals(Set.of(ClientAuthenticationMethod.CLIENT_SECRET_BASIC), userLogin.getClientAuthenticationMethods());
+
+        ClientSystem service = ClientSystem.builder()
+                .id(SystemId.of(20L))
+                .clientId("batch")
+                .clientSecret("secret")
+                .name("Batch")
+                .redirectUri("https://batch.example.com/callback")
+                .grantTypes(List.of(ClientGrantType.CLIENT_CREDENTIALS))
+                .authMethods(List.of(ClientAuthMethod.CLIENT_SECRET_POST))
+                .status(SystemStatus.ACTIVE)
+                .build();
+        RegisteredClient machine = ClientSystemRegisteredClientRepository.toRegisteredClient(service);
+
+        assertEquals(Set.of(AuthorizationGrantType.CLIENT_CREDENTIALS), machine.getAuthorizationGrantTypes());
+        assertEquals(Set.of(ClientAuthenticationMethod.CLIENT_SECRET_POST), machine.getClientAuthenticationMethods());
+    }
+
+    @Test
+    void saveShouldStoreClientSystemKeepingStatus() {
+        when(clientSystemRepository.findById(SystemId.of(10L)))
+                .thenReturn(Optional.of(client("https://portal.example.com/callback", SystemStatus.INACTIVE)));
+
+        RegisteredClient registeredClient = RegisteredClient.withId("10")
+                .clientId("portal")
+                .clientSecret("hash")
+                .clientName("Portal")
+                .clientAuthenticationMethod(ClientAuthenticationMethod.CLIENT_SECRET_POST)
+                .authorizationGrantType(AuthorizationGrantType.CLIENT_CREDENTIALS)
+                .redirectUri("https://portal.example.com/callback")
+                .redirectUri("https://portal.example.com/other")
+                .build();
+
+        repository.save(registeredClient);
+
+        ArgumentCaptor<ClientSystem> saved = ArgumentCaptor.forClass(ClientSystem.class);
+        verify(clientSystemRepository).save(saved.capture());
+        assertEquals(SystemId.of(10L), saved.getValue().getId());
+        assertEquals("hash", saved.getValue().getClientSecret());
+        assertEquals("https://portal.example.com/callback", saved.getValue().getRedirectUri());
+        assertEquals(Set.of("https://portal.example.com/callback", "https://portal.example.com/other"),
+                saved.getValue().getRedirectUris());
+        assertEquals(Set.of(ClientGrantType.CLIENT_CREDENTIALS), saved.getValue().getGrantTypes());
+        assertEquals(Set.of(ClientAuthMethod.CLIENT_SECRET_POST), saved.getValue().getAuthMethods());
+        assertEquals(SystemStatus.INACTIVE, saved.getValue().getStatus());
+    }
+
+    @Test
+    void saveShouldRejectClientsWithoutDomainEquivalent() {
+        RegisteredClient foreignId = RegisteredClient.withId("abc")
+                .clientId("portal")
+                .clientSecret("hash")
+                .authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+                .redirectUri("https://portal.example.com/callback")
+                .build();
+        RegisteredClient deviceCode = RegisteredClient.withId("10")
+                .clientId("portal")
+                .clientSecret("hash")
+                .authorizationGrantType(AuthorizationGrantType.DEVICE_CODE)
+                .redirectUri("https://portal.example.com/callback")
+                .build();
+
+        assertThrows(IllegalArgumentException.class, () -> repository.save(foreignId));
+        assertThrows(IllegalArgumentException.class, () -> repository.save(deviceCode));
+        verify(clientSystemRepository, never()).save(any());
+    }
+}
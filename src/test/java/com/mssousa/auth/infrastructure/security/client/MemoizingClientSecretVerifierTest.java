@@ -0,0 +1,108 @@
+package com.mssousa.auth.infrastructure.security.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.mssousa.auth.domain.service.TestPasswordHasher;
+import com.mssousa.auth.infrastructure.security.TestMeters;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class MemoizingClientSecretVerifierTest {
+
+    private static final BCryptPasswordEncoder BCRYPT = new BCryptPasswordEncoder(4);
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private MemoizingClientSecretVerifier verifier(boolean enabled, int ttlSeconds, int maxEntries) {
+        ClientSecretCacheProperties properties = new ClientSecretCacheProperties();
+        properties.setEnabled(enabled);
+        properties.setTtlSeconds(ttlSeconds);
+        properties.setMaxEntries(maxEntries);
+        return new MemoizingClientSecretVerifier(TestPasswordHasher.INSTANCE, properties, meterRegistry, nanoTime::get);
+    }
+
+    private double lookups(String result) {
+        return TestMeters.lookups(meterRegistry, "auth.client-secret.verified-cache", result);
+    }
+
+    @Test
+    @DisplayName("Deve memorizar apenas verificações bem-sucedidas")
+    void shouldRememberSuccessfulVerifications() {
+
+        MemoizingClientSecretVerifier verifier = verifier(true, 300, 10);
+        String hash = BCRYPT.encode("s3cr3t");
+
+        assertFalse(verifier.matches("wrong", hash));
+        assertEquals(0, verifier.size());
+
+        assertTrue(verifier.matches("s3cr3t", hash));
+        assertTrue(verifier.matches("s3cr3t", hash));
+        assertFalse(verifier.matches("wrong", hash));
+
+        assertEquals(1.0, lookups("hit"));
+        assertEquals(3.0, lookups("miss"));
+    }
+
+    @Test
+    @DisplayName("Não deve reaproveitar a verificação quando o secret for trocado")
+    void shouldMissWhenHashChanges() {
+
+        MemoizingClientSecretVerifier verifier = verifier(true, 300, 10);
+        verifier.matches("s3cr3t", BCRYPT.encode("s3cr3t"));
+
+        assertFalse(verifier.matches("s3cr3t", BCRYPT.encode("n3w-s3cr3t")));
+        assertEquals(0.0, lookups("hit"));
+    }
+
+    @Test
+    @DisplayName("Deve verificar novamente após o TTL")
+    void shouldExpireAfterTtl() {
+
+        MemoizingClientSecretVerifier verifier = verifier(true, 300, 10);
+        String hash = BCRYPT.encode("s3cr3t");
+        verifier.matches("s3cr3t", hash);
+
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(301));
+
+        assertTrue(verifier.matches("s3cr3t", hash));
+        assertEquals(0.0, lookups("hit"));
+    }
+
+    @Test
+    @DisplayName("Deve respeitar o tamanho máximo")
+    void shouldBoundEntries() {
+
+        MemoizingClientSecretVerifier verifier = verifier(true, 300, 2);
+        verifier.matches("a", BCRYPT.encode("a"));
+        verifier.matches("b", BCRYPT.encode("b"));
+        verifier.matches("c", BCRYPT.encode("c"));
+        assertEquals(2, verifier.size());
+
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(301));
+        verifier.matches("d", BCRYPT.encode("d"));
+        assertEquals(1, verifier.size());
+    }
+
+    @Test
+    @DisplayName("Desabilitado, deve sempre executar o hash")
+    void shouldNotRememberWhenDisabled() {
+
+        MemoizingClientSecretVerifier verifier = verifier(false, 300, 10);
+        String hash = BCRYPT.encode("s3cr3t");
+
+        assertTrue(verifier.matches("s3cr3t", hash));
+        assertTrue(verifier.matches("s3cr3t", hash));
+        assertFalse(verifier.matches(null, hash));
+        assertEquals(0, verifier.size());
+    }
+}
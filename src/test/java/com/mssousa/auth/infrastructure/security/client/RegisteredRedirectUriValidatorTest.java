@@ -0,0 +1,126 @@
+package com.mssousa.auth.infrastructure.security.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.core.endpoint.PkceParameterNames;
+import org.springframework.security.oauth2.server.authorization.InMemoryOAuth2AuthorizationConsentService;
+import org.springframework.security.oauth2.server.authorization.InMemoryOAuth2AuthorizationService;
+import org.springframework.security.oauth2.server.authorization.authentication.OAuth2AuthorizationCodeRequestAuthenticationException;
+import org.springframework.security.oauth2.server.authorization.authentication.OAuth2AuthorizationCodeRequestAuthenticationProvider;
+import org.springframework.security.oauth2.server.authorization.authentication.OAuth2AuthorizationCodeRequestAuthenticationToken;
+import org.springframework.security.oauth2.server.authorization.context.AuthorizationServerContext;
+import org.springframework.security.oauth2.server.authorization.context.AuthorizationServerContextHolder;
+import org.springframework.security.oauth2.server.authorization.settings.AuthorizationServerSettings;
+
+import com.mssousa.auth.application.service.client.ClientRegistry;
+import com.mssousa.auth.domain.model.system.ClientSystem;
+import com.mssousa.auth.domain.model.system.SystemId;
+import com.mssousa.auth.domain.model.system.SystemStatus;
+import com.mssousa.auth.domain.repository.ClientSystemRepository;
+
+/**
+ * Requisições de autorização pelo provider do Authorization Server com o
+ * RegisteredRedirectUriValidator instalado, como em SecurityConfig.
+ */
+class RegisteredRedirectUriValidatorTest {
+
+    private static final String ISSUER = "http://localhost:9000";
+
+    private final ClientRegistry clientRegistry = mock(ClientRegistry.class);
+
+    private OAuth2AuthorizationCodeRequestAuthenticationProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        ClientSystem client = ClientSystem.builder()
+                .id(SystemId.of(10L))
+                .clientId("cli")
+                .clientSecret("secret")
+                .name("CLI")
+                .redirectUri("http://127.0.0.1:*/callback")
+                .redirectUris(List.of("https://cli.example.com/callback"))
+                .status(SystemStatus.ACTIVE)
+                .build();
+        when(clientRegistry.findByClientId("cli")).thenReturn(Optional.of(client));
+
+        provider = new OAuth2AuthorizationCodeRequestAuthenticationProvider(
+                new ClientSystemRegisteredClientRepository(clientRegistry, mock(ClientSystemRepository.class)),
+                new InMemoryOAuth2AuthorizationService(),
+                new InMemoryOAuth2AuthorizationConsentService());
+        provider.setAuthenticationValidator(
+                new RegisteredRedirectUriValidator(clientRegistry).withDefaultScopeValidation());
+
+        // o filtro do Authorization Server publica o contexto (issuer) em cada requisição
+        AuthorizationServerSettings settings = AuthorizationServerSettings.builder().issuer(ISSUER).build();
+        AuthorizationServerContextHolder.setContext(new AuthorizationServerContext() {
+            @Override
+            public String getIssuer() {
+                return ISSUER;
+            }
+
+            @Override
+            public AuthorizationServerSettings getAuthorizationServerSettings() {
+                return settings;
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        AuthorizationServerContextHolder.resetContext();
+    }
+
+    private OAuth2AuthorizationCodeRequestAuthenticationToken authorize(String redirectUri) {
+        OAuth2AuthorizationCodeRequestAuthenticationToken request =
+                new OAuth2AuthorizationCodeRequestAuthenticationToken(ISSUER + "/oauth2/authorize",
+                        "cli", new TestingAuthenticationToken("user", null, "ROLE_USER"), redirectUri, "state", Set.of(),
+                        Map.of(PkceParameterNames.CODE_CHALLENGE, "E9Melhoa2OwvFrEMTJguCHaoeK1t8URWbuGJSstw-cM",
+                                PkceParameterNames.CODE_CHALLENGE_METHOD, "S256"));
+        return (OAuth2AuthorizationCodeRequestAuthenticationToken) provider.authenticate(request);
+    }
+
+    @Test
+    void shouldAcceptRegisteredUris() {
+        assertEquals("https://cli.example.com/callback",
+                authorize("https://cli.example.com/callback").getRedirectUri());
+        assertEquals("http://127.0.0.1:49152/callback",
+                authorize("http://127.0.0.1:49152/callback").getRedirectUri());
+    }
+
+    @Test
+    void shouldRejectUnregisteredUriWithoutRedirecting() {
+        OAuth2AuthorizationCodeRequestAuthenticationException ex = assertThrows(
+                OAuth2AuthorizationCodeRequestAuthenticationException.class,
+                () -> authorize("https://evil.example.com/callback"));
+
+        assertEquals(OAuth2ErrorCodes.INVALID_REQUEST, ex.getError().getErrorCode());
+        assertNull(ex.getAuthorizationCodeRequestAuthentication().getRedirectUri());
+    }
+
+    @Test
+    void shouldRejectNonAsciiPortDigits() {
+        assertThrows(OAuth2AuthorizationCodeRequestAuthenticationException.class,
+                () -> authorize("http://127.0.0.1:\u0660/callback"));
+    }
+
+    @Test
+    void shouldRejectLoopbackWithoutPort() {
+        // o validador padrão aceitaria: a URI foi publicada ao Authorization Server sem a porta
+        assertThrows(OAuth2AuthorizationCodeRequestAuthenticationException.class,
+                () -> authorize("http://127.0.0.1/callback"));
+    }
+}
@@ -0,0 +1,169 @@
+package com.mssousa.auth.infrastructure.security.jwt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.OAuth2Token;
+import org.springframework.security.oauth2.server.authorization.OAuth2TokenType;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClient;
+import org.springframework.security.oauth2.server.authorization.token.DefaultOAuth2TokenContext;
+import org.springframework.security.oauth2.server.authorization.token.OAuth2TokenContext;
+import org.springframework.security.oauth2.server.authorization.token.OAuth2TokenGenerator;
+
+import com.mssousa.auth.application.service.client.ClientSystemChangedEvent;
+import com.mssousa.auth.domain.model.system.SystemId;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ClientCredentialsTokenCacheTest {
+
+    private static final long EXPIRATION_MS = 3_600_000L;
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final AtomicInteger generated = new AtomicInteger();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final OAuth2TokenGenerator<OAuth2Token> delegate = context -> {
+        Instant issuedAt = Instant.now();
+        return new OAuth2AccessToken(OAuth2AccessToken.TokenType.BEARER, "token-" + generated.incrementAndGet(),
+                issuedAt, issuedAt.plusMillis(EXPIRATION_MS));
+    };
+
+    private ClientCredentialsTokenCache cache(Set<String> clientIds) {
+        return cache(clientIds, 10);
+    }
+
+    private ClientCredentialsTokenCache cache(Set<String> clientIds, int maxEntries) {
+        ClientTokenCacheProperties properties = new ClientTokenCacheProperties();
+        properties.setClientIds(clientIds);
+        properties.setReuseFraction(0.5);
+        properties.setMaxEntries(maxEntries);
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setExpirationMs(EXPIRATION_MS);
+        return new ClientCredentialsTokenCache(properties, jwtProperties, meterRegistry, nanoTime::get);
+    }
+
+    private static RegisteredClient client(String clientId, String secret) {
+        return RegisteredClient.withId("10")
+                .clientId(clientId)
+                .clientSecret(secret)
+                .authorizationGrantType(AuthorizationGrantType.CLIENT_CREDENTIALS)
+                .build();
+    }
+
+    private static OAuth2TokenContext context(RegisteredClient client, AuthorizationGrantType grantType,
+            Set<String> scopes) {
+        return DefaultOAuth2TokenContext.builder()
+                .registeredClient(client)
+                .authorizationGrantType(grantType)
+                .tokenType(OAuth2TokenType.ACCESS_TOKEN)
+                .authorizedScopes(scopes)
+                .build();
+    }
+
+    private void advanceMinutes(long minutes) {
+        nanoTime.addAndGet(TimeUnit.MINUTES.toNanos(minutes));
+    }
+
+    @Test
+    void shouldReuseTokenUntilReuseFraction() {
+        OAuth2TokenGenerator<OAuth2Token> generator = cache(Set.of("batch")).decorate(delegate);
+        OAuth2TokenContext context = context(client("batch", "hash"), AuthorizationGrantType.CLIENT_CREDENTIALS,
+                Set.of("read"));
+
+        OAuth2Token first = generator.generate(context);
+        advanceMinutes(29);
+        assertSame(first, generator.generate(context));
+
+        advanceMinutes(2);
+        assertNotSame(first, generator.generate(context));
+        assertEquals(2, generated.get());
+    }
+
+    @Test
+    void shouldKeyByScopes() {
+        OAuth2TokenGenerator<OAuth2Token> generator = cache(Set.of("batch")).decorate(delegate);
+        RegisteredClient client = client("batch", "hash");
+
+        OAuth2Token read = generator.generate(context(client, AuthorizationGrantType.CLIENT_CREDENTIALS,
+                Set.of("read")));
+        OAuth2Token readWrite = generator.generate(context(client, AuthorizationGrantType.CLIENT_CREDENTIALS,
+                Set.of("read", "write")));
+
+        assertNotSame(read, readWrite);
+        assertSame(readWrite, generator.generate(context(client, AuthorizationGrantType.CLIENT_CREDENTIALS,
+                Set.of("write", "read"))));
+    }
+
+    @Test
+    void shouldNotCacheOtherClientsOrGrants() {
+        ClientCredentialsTokenCache cache = cache(Set.of("batch"));
+        OAuth2TokenGenerator<OAuth2Token> generator = cache.decorate(delegate);
+
+        OAuth2TokenContext otherClient = context(client("web", "hash"), AuthorizationGrantType.CLIENT_CREDENTIALS,
+                Set.of());
+        OAuth2TokenContext otherGrant = context(client("batch", "hash"), AuthorizationGrantType.AUTHORIZATION_CODE,
+                Set.of());
+
+        assertNotSame(generator.generate(otherClient), generator.generate(otherClient));
+        assertNotSame(generator.generate(otherGrant), generator.generate(otherGrant));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void shouldReturnDelegateWhenNoClientOptedIn() {
+        assertSame(delegate, cache(Set.of()).decorate(delegate));
+    }
+
+    @Test
+    void shouldNotReuseAfterSecretChange() {
+        OAuth2TokenGenerator<OAuth2Token> generator = cache(Set.of("batch")).decorate(delegate);
+
+        OAuth2Token first = generator.generate(context(client("batch", "old-hash"),
+                AuthorizationGrantType.CLIENT_CREDENTIALS, Set.of()));
+        OAuth2Token second = generator.generate(context(client("batch", "new-hash"),
+                AuthorizationGrantType.CLIENT_CREDENTIALS, Set.of()));
+
+        assertNotSame(first, second);
+    }
+
+    @Test
+    void shouldInvalidateOnClientChange() {
+        ClientCredentialsTokenCache cache = cache(Set.of("batch"));
+        OAuth2TokenGenerator<OAuth2Token> generator = cache.decorate(delegate);
+        OAuth2TokenContext context = context(client("batch", "hash"), AuthorizationGrantType.CLIENT_CREDENTIALS,
+                Set.of());
+
+        OAuth2Token first = generator.generate(context);
+        cache.onClientSystemChanged(new ClientSystemChangedEvent(SystemId.of(10L), "batch"));
+
+        assertEquals(0, cache.size());
+        assertNotSame(first, generator.generate(context));
+    }
+
+    @Test
+    void shouldBoundEntries() {
+        ClientCredentialsTokenCache cache = cache(Set.of("batch"), 2);
+        OAuth2TokenGenerator<OAuth2Token> generator = cache.decorate(delegate);
+        RegisteredClient client = client("batch", "hash");
+
+        generator.generate(context(client, AuthorizationGrantType.CLIENT_CREDENTIALS, Set.of("a")));
+        generator.generate(context(client, AuthorizationGrantType.CLIENT_CREDENTIALS, Set.of("b")));
+        generator.generate(context(client, AuthorizationGrantType.CLIENT_CREDENTIALS, Set.of("c")));
+        assertEquals(2, cache.size());
+
+        advanceMinutes(31);
+        generator.generate(context(client, AuthorizationGrantType.CLIENT_CREDENTIALS, Set.of("d")));
+        assertEquals(1, cache.size());
+    }
+}
@@ -4,15 +4,17 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
 import java.util.Set;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.oauth2.jwt.JwtClaimsSet;
@@ -21,8 +23,13 @@ import org.springframework.security.oauth2.server.authorization.client.Registere
 import org.springframework.security.oauth2.server.authorization.token.JwtEncodingContext;
 
 import com.mssousa.auth.application.service.authentication.model.AuthenticatedUser;
+import com.mssousa.auth.application.service.authorization.PermissionDictionaryProvider;
 import com.mssousa.auth.application.service.authorization.UserAuthorizationService;
 import com.mssousa.auth.application.service.client.ClientValidationService;
+import com.mssousa.auth.domain.model.role.PermissionDictionary;
+import com.mssousa.auth.domain.model.role.SystemRole;
+import com.mssousa.auth.domain.model.role.SystemRoleId;
+import com.mssousa.auth.domain.model.role.SystemRoleStatus;
 import com.mssousa.auth.domain.model.system.ClientSystem;
 import com.mssousa.auth.domain.model.system.SystemId;
 import com.mssousa.auth.domain.model.user.Email;
@@ -48,9 +55,14 @@ class JwtTokenCustomizerTest {
     @Mock
     private JwtClaimsSet.Builder claimsBuilder;
 
-    @InjectMocks
     private JwtTokenCustomizer customizer;
 
+    @BeforeEach
+    void setUp() {
+        customizer = new JwtTokenCustomizer(clientValidationService, userAuthorizationService,
+                mock(PermissionDictionaryProvider.class), JwtProperties.PermissionClaims.ROLES);
+    }
+
     @Test
     void shouldDoNothingIfNotAccessToken() {
 
@@ -111,4 +123,52 @@ class JwtTokenCustomizerTest {
         verify(claimsBuilder).claim("client_id", "client-1");
         verify(claimsBuilder).claim("roles", Set.of("ADMIN"));
     }
+
+    @Test
+    void shouldAddPermissionBitmapInsteadOfRolesInBitmapMode() {
+
+        var permissionDictionaryProvider = mock(PermissionDictionaryProvider.class);
+        var bitmapCustomizer = new JwtTokenCustomizer(clientValidationService, userAuthorizationService,
+                permissionDictionaryProvider, JwtProperties.PermissionClaims.BITMAP);
+
+        when(context.getClaims()).thenReturn(claimsBuilder);
+        when(claimsBuilder.subject(anyString())).thenReturn(claimsBuilder);
+        when(claimsBuilder.claim(anyString(), any())).thenReturn(claimsBuilder);
+        when(context.getTokenType()).thenReturn(OAuth2TokenType.ACCESS_TOKEN);
+        when(context.getRegisteredClient()).thenReturn(registeredClient);
+        when(registeredClient.getClientId()).thenReturn("client-1");
+
+        var user = mock(AuthenticatedUser.class);
+        when(user.userId()).thenReturn(UserId.of(1L));
+        when(user.username()).thenReturn(Username.of("mateus"));
+        when(user.email()).thenReturn(Email.of("mateus@email.com"));
+        when(user.name()).thenReturn("Mateus");
+        when(user.master()).thenReturn(false);
+        var authentication = CustomAuthenticationToken.authenticated(user);
+        when(context.getPrincipal()).thenReturn(authentication);
+
+        var client = mock(ClientSystem.class);
+        when(client.getId()).thenReturn(SystemId.of(10L));
+        when(client.getClientId()).thenReturn("client-1");
+        when(clientValidationService.validateActiveClient("client-1")).thenReturn(client);
+
+        when(userAuthorizationService.authorize(any(), any(), anyBoolean()))
+                .thenReturn(new UserAuthorizationService.AuthorizedUser(Set.of("VIEWER")));
+
+        PermissionDictionary dictionary = PermissionDictionary.of(SystemId.of(10L), List.of(
+                SystemRole.builder()
+                        .id(SystemRoleId.of(1L))
+                        .system_id(SystemId.of(10L))
+                        .code("VIEWER")
+                        .status(SystemRoleStatus.ACTIVE)
+                        .permissions(Set.of("invoice:read"))
+                        .build()));
+        when(permissionDictionaryProvider.forSystem(SystemId.of(10L))).thenReturn(dictionary);
+
+        bitmapCustomizer.customize(context);
+
+        verify(claimsBuilder).claim("perms", dictionary.encode(Set.of("VIEWER")));
+        verify(claimsBuilder).claim("perms_ver", dictionary.getVersion());
+        verify(claimsBuilder, never()).claim("roles", Set.of("VIEWER"));
+    }
 }
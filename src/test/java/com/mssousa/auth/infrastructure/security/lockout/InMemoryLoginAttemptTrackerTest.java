@@ -0,0 +1,206 @@
+package com.mssousa.auth.infrastructure.security.lockout;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import com.mssousa.auth.domain.model.user.LoginAttempt;
+import com.mssousa.auth.domain.model.user.UserId;
+import com.mssousa.auth.domain.repository.LoginAttemptRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class InMemoryLoginAttemptTrackerTest {
+
+    private static final UserId USER = UserId.of(1L);
+    private static final UserId OTHER_USER = UserId.of(2L);
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+    private final LoginAttemptRepository repository = mock(LoginAttemptRepository.class);
+    private final List<Collection<LoginAttempt>> batches = new ArrayList<>();
+
+    private InMemoryLoginAttemptTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        doAnswer(invocation -> {
+            batches.add(List.copyOf(invocation.<Collection<LoginAttempt>>getArgument(0)));
+            return null;
+        }).when(repository).saveAll(any());
+
+        LoginLockoutProperties properties = new LoginLockoutProperties();
+        properties.setThreshold(3);
+        properties.setHalfLifeMs(Duration.ofMinutes(10).toMillis());
+        properties.setLockDurationMs(Duration.ofMinutes(15).toMillis());
+        tracker = new InMemoryLoginAttemptTracker(properties, repository, new SimpleMeterRegistry(), clock);
+    }
+
+    private void fail(UserId userId, int times) {
+        for (int i = 0; i < times; i++) {
+            tracker.recordFailure(userId);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve bloquear o usuário ao atingir o limite de falhas")
+    void shouldLockWhenThresholdIsReached() {
+
+        fail(USER, 2);
+        assertFalse(tracker.isLocked(USER));
+
+        fail(USER, 1);
+        assertTrue(tracker.isLocked(USER));
+        assertFalse(tracker.isLocked(OTHER_USER));
+    }
+
+    @Test
+    @DisplayName("Deve liberar o usuário após a duração do bloqueio")
+    void shouldUnlockAfterLockDuration() {
+
+        fail(USER, 3);
+
+        clock.advance(Duration.ofMinutes(15).plusSeconds(1));
+
+        assertFalse(tracker.isLocked(USER));
+    }
+
+    @Test
+    @DisplayName("Deve reduzir as falhas acumuladas com o passar do tempo")
+    void shouldDecayFailuresOverTime() {
+
+        fail(USER, 2);
+
+        // após duas meias-vidas, 2 falhas valem 0.5
+        clock.advance(Duration.ofMinutes(20));
+        fail(USER, 1);
+
+        assertFalse(tracker.isLocked(USER));
+    }
+
+    @Test
+    @DisplayName("Deve zerar as falhas após login bem-sucedido")
+    void shouldResetFailuresOnSuccess() {
+
+        fail(USER, 2);
+        tracker.recordSuccess(USER);
+        fail(USER, 2);
+
+        assertFalse(tracker.isLocked(USER));
+    }
+
+    @Test
+    @DisplayName("Deve gravar em lote apenas os usuários alterados desde o último flush")
+    void shouldFlushOnlyDirtyEntriesInBatch() {
+
+        fail(USER, 3);
+        fail(OTHER_USER, 1);
+
+        tracker.flush();
+
+        assertEquals(1, batches.size());
+        assertEquals(2, batches.get(0).size());
+        LoginAttempt locked = batches.get(0).stream()
+                .filter(attempt -> attempt.userId().equals(USER))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(3, locked.failedCount());
+        assertEquals(clock.instant().plus(Duration.ofMinutes(15)), locked.lockedUntil());
+
+        tracker.flush();
+        assertEquals(1, batches.size());
+    }
+
+    @Test
+    @DisplayName("Deve gravar o registro zerado após login bem-sucedido")
+    void shouldFlushResetAfterSuccess() {
+
+        fail(USER, 1);
+        tracker.flush();
+
+        tracker.recordSuccess(USER);
+        tracker.flush();
+
+        LoginAttempt reset = batches.get(1).iterator().next();
+        assertEquals(0, reset.failedCount());
+        assertNull(reset.lockedUntil());
+    }
+
+    @Test
+    @DisplayName("Deve repetir a gravação quando o flush falhar")
+    void shouldRetryWhenFlushFails() {
+
+        fail(USER, 1);
+        doThrow(new DataAccessResourceFailureException("down"))
+                .doNothing()
+                .when(repository).saveAll(any());
+
+        tracker.flush();
+        tracker.flush();
+
+        verify(repository, times(2)).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("Deve recarregar os bloqueios vigentes na inicialização")
+    void shouldLoadActiveLocks() {
+
+        when(repository.findLockedAfter(clock.instant())).thenReturn(List.of(
+                new LoginAttempt(USER, 3, clock.instant(), clock.instant().plus(Duration.ofMinutes(5)))));
+
+        tracker.loadActiveLocks();
+
+        assertTrue(tracker.isLocked(USER));
+        verify(repository, never()).saveAll(any());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.mssousa.auth.infrastructure.security.oauth2;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import com.mssousa.auth.application.service.authentication.AuthenticationService;
+import com.mssousa.auth.application.service.authentication.model.AuthenticatedUser;
+import com.mssousa.auth.domain.model.user.Email;
+import com.mssousa.auth.domain.model.user.UserId;
+import com.mssousa.auth.domain.model.user.Username;
+import com.mssousa.auth.infrastructure.security.ratelimit.LoginRateLimiter;
+
+class CustomAuthenticationProviderTest {
+
+    private final AuthenticationService authenticationService = mock(AuthenticationService.class);
+    private final LoginRateLimiter loginRateLimiter = mock(LoginRateLimiter.class);
+    private final CustomAuthenticationProvider provider =
+            new CustomAuthenticationProvider(authenticationService, loginRateLimiter);
+
+    @Test
+    @DisplayName("Deve autenticar o login por formulário pelo AuthenticationService")
+    void shouldAuthenticateFormLogin() {
+
+        AuthenticatedUser user = new AuthenticatedUser(UserId.of(1L), Username.of("mateus"),
+                Email.of("mateus@email.com"), "Mateus Dias", false);
+        when(loginRateLimiter.tryAcquire(any(), any())).thenReturn(true);
+        when(authenticationService.authenticate("mateus", "123456")).thenReturn(user);
+
+        assertTrue(provider.supports(UsernamePasswordAuthenticationToken.class));
+        Authentication result = provider.authenticate(
+                UsernamePasswordAuthenticationToken.unauthenticated("mateus", "123456"));
+
+        assertInstanceOf(CustomAuthenticationToken.class, result);
+        assertSame(user, result.getPrincipal());
+    }
+
+    @Test
+    @DisplayName("Deve recusar tentativas acima do rate limit sem consultar o AuthenticationService")
+    void shouldThrottleBeforeAuthenticating() {
+
+        when(loginRateLimiter.tryAcquire(any(), any())).thenReturn(false);
+
+        assertThrows(LoginThrottledException.class, () -> provider.authenticate(
+                UsernamePasswordAuthenticationToken.unauthenticated("mateus", "123456")));
+        verify(authenticationService, never()).authenticate(any(), any());
+    }
+}
@@ -0,0 +1,231 @@
+package com.mssousa.auth.infrastructure.security.password;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.mssousa.auth.application.exception.AuthenticationThrottledException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BoundedPasswordVerificationEngineTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private BoundedPasswordVerificationEngine engine;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (engine != null) {
+            engine.shutdown();
+        }
+    }
+
+    private BoundedPasswordVerificationEngine engine(int poolSize, int queueCapacity, long waitTimeoutMs) {
+        PasswordVerificationProperties properties = new PasswordVerificationProperties();
+        properties.setPoolSize(poolSize);
+        properties.setQueueCapacity(queueCapacity);
+        properties.setWaitTimeoutMs(waitTimeoutMs);
+        engine = new BoundedPasswordVerificationEngine(properties, meterRegistry);
+        return engine;
+    }
+
+    private CompletableFuture<Boolean> blockWorker(CountDownLatch started) {
+        return CompletableFuture.supplyAsync(() -> engine.verify(() -> {
+            started.countDown();
+            awaitRelease();
+            return true;
+        }));
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private double rejected(String reason) {
+        return meterRegistry.get("auth.password.verification.rejected").tag("reason", reason).counter().count();
+    }
+
+    @Test
+    @DisplayName("Deve retornar o resultado da verificação")
+    void shouldReturnVerificationResult() {
+
+        engine(1, 1, 1000);
+
+        assertTrue(engine.verify(() -> true));
+        assertFalse(engine.verify(() -> false));
+        assertEquals(2, meterRegistry.get("auth.password.verification.queue.wait").timer().count());
+    }
+
+    @Test
+    @DisplayName("Deve recusar imediatamente quando a fila estiver cheia")
+    void shouldRejectWhenQueueIsFull() throws Exception {
+
+        engine(1, 1, 5000);
+
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<Boolean> running = blockWorker(started);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> engine.verify(() -> true));
+        waitForQueueSize(1);
+
+        assertThrows(AuthenticationThrottledException.class, () -> engine.verify(() -> true));
+        assertEquals(1.0, rejected("queue_full"));
+
+        release.countDown();
+        assertTrue(running.get(5, TimeUnit.SECONDS));
+        assertTrue(queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Deve recusar e descartar a verificação quando o tempo de espera expirar")
+    void shouldRejectWhenWaitTimeoutExpires() throws Exception {
+
+        engine(1, 4, 50);
+
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<Boolean> blocked = blockWorker(started);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertThrows(AuthenticationThrottledException.class, () -> engine.verify(() -> true));
+
+        // a verificação bloqueada também expira para quem a submeteu
+        assertThrows(Exception.class, () -> blocked.get(5, TimeUnit.SECONDS));
+        assertEquals(2.0, rejected("wait_timeout"));
+        assertEquals(0.0, meterRegistry.get("auth.password.verification.queue.size").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Deve propagar exceções lançadas pela verificação")
+    void shouldPropagateVerificationErrors() {
+
+        engine(1, 1, 1000);
+
+        assertThrows(IllegalStateException.class, () -> engine.verify(() -> {
+            throw new IllegalStateException("boom");
+        }));
+    }
+
+    @Test
+    @DisplayName("Deve entregar o resultado da tarefa em segundo plano fora do pool de hash")
+    void shouldRunFollowUpOutsideHashingPool() throws Exception {
+
+        engine(1, 1, 1000);
+
+        AtomicReference<String> hashThread = new AtomicReference<>();
+        AtomicReference<String> followUpThread = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+
+        assertTrue(engine.tryExecute(() -> {
+            hashThread.set(Thread.currentThread().getName());
+            return "novo-hash";
+        }, result -> {
+            followUpThread.set(Thread.currentThread().getName() + ":" + result);
+            done.countDown();
+        }));
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertTrue(hashThread.get().startsWith("password-verification-"));
+        assertTrue(followUpThread.get().startsWith("password-follow-up-"));
+        assertTrue(followUpThread.get().endsWith(":novo-hash"));
+    }
+
+    @Test
+    @DisplayName("Deve concluir o future com o resultado da verificação assíncrona")
+    void shouldCompleteAsyncVerification() throws Exception {
+
+        engine(1, 1, 1000);
+
+        assertTrue(engine.verifyAsync(() -> true).get(5, TimeUnit.SECONDS));
+        assertFalse(engine.verifyAsync(() -> false).get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Deve concluir o future com recusa quando a fila estiver cheia")
+    void shouldFailAsyncWhenQueueIsFull() throws Exception {
+
+        engine(1, 1, 5000);
+
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<Boolean> running = blockWorker(started);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<Boolean> queued = engine.verifyAsync(() -> true);
+        CompletableFuture<Boolean> rejected = engine.verifyAsync(() -> true);
+
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> rejected.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(AuthenticationThrottledException.class, ex.getCause());
+        assertEquals(1.0, rejected("queue_full"));
+
+        release.countDown();
+        assertTrue(running.get(5, TimeUnit.SECONDS));
+        assertTrue(queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Deve concluir o future com recusa e descartar a verificação quando o prazo expirar")
+    void shouldFailAsyncWhenWaitTimeoutExpires() throws Exception {
+
+        engine(1, 4, 50);
+
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<Boolean> blocked = engine.verifyAsync(() -> {
+            started.countDown();
+            awaitRelease();
+            return true;
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<Boolean> expired = engine.verifyAsync(() -> true);
+
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> expired.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(AuthenticationThrottledException.class, ex.getCause());
+
+        // a verificação bloqueada também expira para quem a submeteu
+        assertThrows(ExecutionException.class, () -> blocked.get(5, TimeUnit.SECONDS));
+        // o contador é incrementado pelo timer logo após concluir o future
+        waitForRejected("wait_timeout", 2.0);
+        assertEquals(0.0, meterRegistry.get("auth.password.verification.queue.size").gauge().value());
+    }
+
+    private void waitForQueueSize(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("auth.password.verification.queue.size").gauge().value() < expected) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Queue never reached size " + expected);
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    private void waitForRejected(String reason, double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (rejected(reason) < expected) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Rejected(" + reason + ") never reached " + expected);
+            }
+            Thread.sleep(5);
+        }
+        assertEquals(expected, rejected(reason));
+    }
+}
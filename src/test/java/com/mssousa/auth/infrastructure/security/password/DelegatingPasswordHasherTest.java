@@ -0,0 +1,105 @@
+package com.mssousa.auth.infrastructure.security.password;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm;
+
+class DelegatingPasswordHasherTest {
+
+    // Custos baixos para manter os testes rápidos
+    private static PasswordHashingPolicy policy(PasswordHashAlgorithm algorithm, int bcryptStrength) {
+        return new PasswordHashingPolicy(algorithm, bcryptStrength, 1024, 1, 1, 1000);
+    }
+
+    private static PasswordHashingPolicy pbkdf2Policy(int iterations) {
+        return new PasswordHashingPolicy(PasswordHashAlgorithm.PBKDF2, 4, 1024, 1, 1, iterations);
+    }
+
+    @Test
+    @DisplayName("Deve gerar hash prefixado pelo algoritmo configurado")
+    void shouldPrefixHashWithAlgorithm() {
+
+        for (PasswordHashAlgorithm algorithm : PasswordHashAlgorithm.values()) {
+            DelegatingPasswordHasher hasher = new DelegatingPasswordHasher(policy(algorithm, 4));
+
+            String hash = hasher.hash("minhaSenha123");
+
+            assertTrue(hash.startsWith("{" + algorithm.id() + "}"), hash);
+            assertTrue(hasher.matches("minhaSenha123", hash));
+            assertFalse(hasher.matches("outraSenha", hash));
+            assertFalse(hasher.needsRehash(hash));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve verificar hashes legados sem prefixo e marcá-los para atualização")
+    void shouldMatchLegacyUnprefixedHash() {
+
+        DelegatingPasswordHasher hasher = new DelegatingPasswordHasher(policy(PasswordHashAlgorithm.BCRYPT, 4));
+        String legacy = new BCryptPasswordEncoder(4).encode("minhaSenha123");
+
+        assertTrue(hasher.matches("minhaSenha123", legacy));
+        assertTrue(hasher.needsRehash(legacy));
+    }
+
+    @Test
+    @DisplayName("Deve marcar para atualização hashes de custo menor ou de outro algoritmo")
+    void shouldRequireRehashForWeakerOrDifferentHash() {
+
+        DelegatingPasswordHasher weak = new DelegatingPasswordHasher(policy(PasswordHashAlgorithm.BCRYPT, 4));
+        DelegatingPasswordHasher strong = new DelegatingPasswordHasher(policy(PasswordHashAlgorithm.BCRYPT, 5));
+        DelegatingPasswordHasher argon2 = new DelegatingPasswordHasher(policy(PasswordHashAlgorithm.ARGON2ID, 4));
+
+        String weakHash = weak.hash("minhaSenha123");
+
+        assertTrue(strong.needsRehash(weakHash));
+        assertTrue(argon2.needsRehash(weakHash));
+        assertTrue(argon2.matches("minhaSenha123", weakHash));
+    }
+
+    @Test
+    @DisplayName("Deve verificar hashes PBKDF2 gerados com outra quantidade de iterações")
+    void shouldMatchPbkdf2HashAfterIterationChange() {
+
+        String hash = new DelegatingPasswordHasher(pbkdf2Policy(1000)).hash("minhaSenha123");
+
+        DelegatingPasswordHasher more = new DelegatingPasswordHasher(pbkdf2Policy(2000));
+        DelegatingPasswordHasher fewer = new DelegatingPasswordHasher(pbkdf2Policy(500));
+
+        assertTrue(more.matches("minhaSenha123", hash));
+        assertFalse(more.matches("outraSenha", hash));
+        assertTrue(more.needsRehash(hash));
+
+        assertTrue(fewer.matches("minhaSenha123", hash));
+        assertFalse(fewer.needsRehash(hash));
+    }
+
+    @Test
+    @DisplayName("Deve verificar hashes PBKDF2 legados, sem iterações gravadas, e marcá-los para atualização")
+    void shouldMatchLegacyPbkdf2Hash() {
+
+        String legacy = "{pbkdf2}" + new Pbkdf2PasswordEncoder("", 16, 1000,
+                SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256).encode("minhaSenha123");
+        DelegatingPasswordHasher hasher = new DelegatingPasswordHasher(pbkdf2Policy(1000));
+
+        assertTrue(hasher.matches("minhaSenha123", legacy));
+        assertTrue(hasher.needsRehash(legacy));
+    }
+
+    @Test
+    @DisplayName("Não deve verificar hashes PBKDF2 com iterações inválidas")
+    void shouldRejectPbkdf2HashWithInvalidIterations() {
+
+        DelegatingPasswordHasher hasher = new DelegatingPasswordHasher(pbkdf2Policy(1000));
+        String body = hasher.hash("minhaSenha123").substring("{pbkdf2}1000$".length());
+
+        assertFalse(hasher.matches("minhaSenha123", "{pbkdf2}0$" + body));
+        assertFalse(hasher.matches("minhaSenha123", "{pbkdf2}abc$" + body));
+        assertFalse(hasher.matches("minhaSenha123", "{pbkdf2}999999999999$" + body));
+    }
+}
@@ -0,0 +1,119 @@
+package com.mssousa.auth.infrastructure.security.password;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.mssousa.auth.domain.model.user.LoginCredentials;
+import com.mssousa.auth.domain.model.user.UserId;
+import com.mssousa.auth.domain.model.user.UserStatus;
+import com.mssousa.auth.infrastructure.security.TestMeters;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class HmacVerifiedCredentialCacheTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private HmacVerifiedCredentialCache cache(boolean enabled, int ttlSeconds, int maxEntries) {
+        VerifiedCredentialCacheProperties properties = new VerifiedCredentialCacheProperties();
+        properties.setEnabled(enabled);
+        properties.setTtlSeconds(ttlSeconds);
+        properties.setMaxEntries(maxEntries);
+        return new HmacVerifiedCredentialCache(properties, meterRegistry, nanoTime::get);
+    }
+
+    private static LoginCredentials credentials(long userId, String passwordHash) {
+        return new LoginCredentials(UserId.of(userId), "user" + userId, "user" + userId + "@email.com",
+                "User", passwordHash, false, UserStatus.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("Deve reconhecer a mesma senha para o mesmo hash")
+    void shouldHitForSamePasswordAndHash() {
+
+        HmacVerifiedCredentialCache cache = cache(true, 30, 10);
+        LoginCredentials credentials = credentials(1L, "$2a$hash");
+
+        assertFalse(cache.isVerified(credentials, "123456"));
+        cache.remember(credentials, "123456");
+
+        assertTrue(cache.isVerified(credentials, "123456"));
+        assertFalse(cache.isVerified(credentials, "1234567"));
+        assertEquals(1.0, TestMeters.lookups(meterRegistry, "auth.password.verified-cache", "hit"));
+    }
+
+    @Test
+    @DisplayName("Não deve reconhecer a senha quando o hash mudar")
+    void shouldMissWhenHashChanges() {
+
+        HmacVerifiedCredentialCache cache = cache(true, 30, 10);
+        cache.remember(credentials(1L, "$2a$old"), "123456");
+
+        assertFalse(cache.isVerified(credentials(1L, "$2a$new"), "123456"));
+    }
+
+    @Test
+    @DisplayName("Deve expirar a verificação após o TTL")
+    void shouldExpireAfterTtl() {
+
+        HmacVerifiedCredentialCache cache = cache(true, 30, 10);
+        LoginCredentials credentials = credentials(1L, "$2a$hash");
+        cache.remember(credentials, "123456");
+
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(31));
+
+        assertFalse(cache.isVerified(credentials, "123456"));
+    }
+
+    @Test
+    @DisplayName("Deve descartar a verificação ao invalidar o usuário")
+    void shouldMissAfterInvalidate() {
+
+        HmacVerifiedCredentialCache cache = cache(true, 30, 10);
+        LoginCredentials credentials = credentials(1L, "$2a$hash");
+        cache.remember(credentials, "123456");
+
+        cache.invalidate(UserId.of(1L));
+
+        assertFalse(cache.isVerified(credentials, "123456"));
+    }
+
+    @Test
+    @DisplayName("Não deve exceder o tamanho máximo, reaproveitando entradas expiradas")
+    void shouldRespectMaxEntries() {
+
+        HmacVerifiedCredentialCache cache = cache(true, 30, 2);
+        cache.remember(credentials(1L, "h"), "p");
+        cache.remember(credentials(2L, "h"), "p");
+        cache.remember(credentials(3L, "h"), "p");
+
+        assertEquals(2, cache.size());
+        assertFalse(cache.isVerified(credentials(3L, "h"), "p"));
+
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(31));
+        cache.remember(credentials(3L, "h"), "p");
+
+        assertEquals(1, cache.size());
+        assertTrue(cache.isVerified(credentials(3L, "h"), "p"));
+    }
+
+    @Test
+    @DisplayName("Não deve guardar nada quando desabilitado")
+    void shouldDoNothingWhenDisabled() {
+
+        HmacVerifiedCredentialCache cache = cache(false, 30, 10);
+        LoginCredentials credentials = credentials(1L, "$2a$hash");
+        cache.remember(credentials, "123456");
+
+        assertFalse(cache.isVerified(credentials, "123456"));
+        assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,45 @@
+package com.mssousa.auth.infrastructure.security.password;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PasswordHashingCalibratorTest {
+
+    private final PasswordHashingCalibrator calibrator = new PasswordHashingCalibrator();
+
+    private PasswordHashingProperties bcrypt(long targetLatencyMs) {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setTargetLatencyMs(targetLatencyMs);
+        properties.getBcrypt().setMinStrength(4);
+        properties.getBcrypt().setMaxStrength(6);
+        return properties;
+    }
+
+    @Test
+    @DisplayName("Nunca deve escolher custo abaixo do piso, mesmo se o alvo for inatingível")
+    void shouldRespectMinimumCost() {
+
+        PasswordHashingPolicy policy = calibrator.calibrate(bcrypt(1));
+
+        assertEquals(4, policy.bcryptStrength());
+    }
+
+    @Test
+    @DisplayName("Nunca deve escolher custo acima do teto")
+    void shouldRespectMaximumCost() {
+
+        PasswordHashingPolicy policy = calibrator.calibrate(bcrypt(60_000));
+
+        assertEquals(6, policy.bcryptStrength());
+    }
+
+    @Test
+    @DisplayName("Deve estimar as iterações de PBKDF2 dentro dos limites")
+    void shouldBoundPbkdf2Iterations() {
+
+        assertEquals(1000, calibrator.calibrateLinear(1000, 5000, 1));
+        assertEquals(5000, calibrator.calibrateLinear(1000, 5000, 60_000_000_000L));
+    }
+}
@@ -0,0 +1,44 @@
+package com.mssousa.auth.infrastructure.security.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class LoginRateLimiterTest {
+
+    private LoginRateLimiter limiter(int loginCapacity, int ipCapacity) {
+        LoginRateLimitProperties properties = new LoginRateLimitProperties();
+        properties.setLogin(new LoginRateLimitProperties.Bucket(loginCapacity, 1));
+        properties.setIp(new LoginRateLimitProperties.Bucket(ipCapacity, 1));
+        return new LoginRateLimiter(properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Não deve consumir o limite do IP quando o login recusar a tentativa")
+    void shouldNotChargeIpWhenLoginIsRejected() {
+
+        LoginRateLimiter limiter = limiter(1, 2);
+
+        assertTrue(limiter.tryAcquire("mateus", "10.0.0.1"));
+        assertFalse(limiter.tryAcquire("mateus", "10.0.0.1"));
+        assertFalse(limiter.tryAcquire("mateus", "10.0.0.1"));
+
+        // apenas a primeira tentativa contou para o IP
+        assertTrue(limiter.tryAcquire("outro", "10.0.0.1"));
+        assertFalse(limiter.tryAcquire("terceiro", "10.0.0.1"));
+    }
+
+    @Test
+    @DisplayName("Deve normalizar o login antes de aplicar o limite")
+    void shouldNormalizeLogin() {
+
+        LoginRateLimiter limiter = limiter(1, 10);
+
+        assertTrue(limiter.tryAcquire("Mateus ", null));
+        assertFalse(limiter.tryAcquire("mateus", null));
+    }
+}
@@ -0,0 +1,101 @@
+package com.mssousa.auth.infrastructure.security.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+
+    private TokenBucketRateLimiter limiter(int capacity, int refillPerMinute, int maxEntries) {
+        return new TokenBucketRateLimiter(capacity, refillPerMinute, maxEntries, 4, clock::get);
+    }
+
+    private void advanceSeconds(long seconds) {
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+    }
+
+    @Test
+    @DisplayName("Deve permitir a rajada configurada e recusar o excedente")
+    void shouldAllowBurstThenReject() {
+
+        TokenBucketRateLimiter limiter = limiter(3, 60, 100);
+
+        assertTrue(limiter.tryAcquire("mateus"));
+        assertTrue(limiter.tryAcquire("mateus"));
+        assertTrue(limiter.tryAcquire("mateus"));
+        assertFalse(limiter.tryAcquire("mateus"));
+    }
+
+    @Test
+    @DisplayName("Deve repor tokens com o passar do tempo")
+    void shouldRefillOverTime() {
+
+        TokenBucketRateLimiter limiter = limiter(1, 60, 100);
+
+        assertTrue(limiter.tryAcquire("mateus"));
+        assertFalse(limiter.tryAcquire("mateus"));
+
+        advanceSeconds(1);
+
+        assertTrue(limiter.tryAcquire("mateus"));
+        assertFalse(limiter.tryAcquire("mateus"));
+    }
+
+    @Test
+    @DisplayName("Deve limitar cada chave de forma independente")
+    void shouldLimitKeysIndependently() {
+
+        TokenBucketRateLimiter limiter = limiter(1, 60, 100);
+
+        assertTrue(limiter.tryAcquire("mateus"));
+        assertFalse(limiter.tryAcquire("mateus"));
+        assertTrue(limiter.tryAcquire("outro"));
+    }
+
+    @Test
+    @DisplayName("Deve devolver o token de uma tentativa recusada por outro limite")
+    void shouldRefundToken() {
+
+        TokenBucketRateLimiter limiter = limiter(1, 60, 100);
+
+        assertTrue(limiter.tryAcquire("10.0.0.1"));
+        limiter.refund("10.0.0.1");
+
+        assertTrue(limiter.tryAcquire("10.0.0.1"));
+        assertFalse(limiter.tryAcquire("10.0.0.1"));
+    }
+
+    @Test
+    @DisplayName("Não deve acumular tokens além da capacidade ao devolver")
+    void shouldNotRefundBeyondCapacity() {
+
+        TokenBucketRateLimiter limiter = limiter(1, 60, 100);
+
+        assertTrue(limiter.tryAcquire("10.0.0.1"));
+        limiter.refund("10.0.0.1");
+        limiter.refund("10.0.0.1");
+
+        assertTrue(limiter.tryAcquire("10.0.0.1"));
+        assertFalse(limiter.tryAcquire("10.0.0.1"));
+    }
+
+    @Test
+    @DisplayName("Deve manter a quantidade de chaves limitada")
+    void shouldBoundMemory() {
+
+        TokenBucketRateLimiter limiter = limiter(5, 60, 64);
+
+        for (int i = 0; i < 10_000; i++) {
+            limiter.tryAcquire("user" + i);
+        }
+
+        assertTrue(limiter.size() <= 64 + 4, "size=" + limiter.size());
+    }
+}
@@ -0,0 +1,141 @@
+package com.mssousa.auth.infrastructure.web;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClientRepository;
+import org.springframework.security.oauth2.server.authorization.settings.AuthorizationServerSettings;
+import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+import com.mssousa.auth.application.service.authorization.AuthorizationChangeFeedService;
+import com.mssousa.auth.application.service.authorization.AuthorizationChangeFeedService.AuthorizationDelta;
+import com.mssousa.auth.application.service.client.ClientRegistry;
+import com.mssousa.auth.domain.model.system.ClientSystem;
+import com.mssousa.auth.domain.model.system.SystemId;
+import com.mssousa.auth.domain.model.system.SystemStatus;
+import com.mssousa.auth.domain.repository.ClientSystemRepository;
+import com.mssousa.auth.infrastructure.config.SecurityConfig;
+
+/**
+ * Acesso ao feed de alterações de autorização pelas cadeias de {@link SecurityConfig}:
+ * só o próprio sistema, com um token client_credentials, lê as concessões.
+ */
+@SpringJUnitWebConfig(AuthorizationChangeFeedControllerTest.Config.class)
+class AuthorizationChangeFeedControllerTest {
+
+    private static final String FEED = "/api/systems/portal/authorization-changes";
+
+    @Autowired
+    private WebApplicationContext context;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+    }
+
+    @Test
+    @DisplayName("Deve atender o próprio sistema com token client_credentials")
+    void shouldServeOwnSystem() throws Exception {
+        mockMvc.perform(get(FEED).with(jwt().jwt(token -> token.subject("portal").audience(List.of("portal")))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.clientId").value("portal"));
+    }
+
+    @Test
+    @DisplayName("Deve recusar o token client_credentials de outro sistema")
+    void shouldRejectOtherSystem() throws Exception {
+        mockMvc.perform(get(FEED).with(jwt().jwt(token -> token.subject("billing").audience(List.of("billing")))))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Deve recusar o token de usuário emitido para o sistema")
+    void shouldRejectUserToken() throws Exception {
+        mockMvc.perform(get(FEED + "/snapshot").with(jwt().jwt(token -> token
+                        .subject("portal")
+                        .audience(List.of("portal"))
+                        .claim("client_id", "portal"))))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Deve exigir autenticação")
+    void shouldRequireAuthentication() throws Exception {
+        mockMvc.perform(get(FEED))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Configuration
+    @EnableWebMvc
+    @EnableWebSecurity
+    @Import({SecurityConfig.class, AuthorizationChangeFeedController.class})
+    static class Config {
+
+        @Bean
+        ClientSystemRepository clientSystemRepository() {
+            ClientSystemRepository repository = mock(ClientSystemRepository.class);
+            when(repository.findByClientId("portal")).thenReturn(Optional.of(ClientSystem.builder()
+                    .id(SystemId.of(10L))
+                    .clientId("portal")
+                    .clientSecret("secret")
+                    .name("Portal")
+                    .redirectUri("https://portal.example.com/callback")
+                    .status(SystemStatus.ACTIVE)
+                    .build()));
+            return repository;
+        }
+
+        @Bean
+        AuthorizationChangeFeedService authorizationChangeFeedService() {
+            AuthorizationChangeFeedService service = mock(AuthorizationChangeFeedService.class);
+            when(service.changesSince(any(), anyLong()))
+                    .thenReturn(new AuthorizationDelta(0L, 0L, false, false, List.of()));
+            return service;
+        }
+
+        @Bean
+        ClientRegistry clientRegistry() {
+            return mock(ClientRegistry.class);
+        }
+
+        @Bean
+        RegisteredClientRepository registeredClientRepository() {
+            return mock(RegisteredClientRepository.class);
+        }
+
+        @Bean
+        AuthorizationServerSettings authorizationServerSettings() {
+            return AuthorizationServerSettings.builder().build();
+        }
+
+        @Bean
+        JwtDecoder jwtDecoder() {
+            return mock(JwtDecoder.class);
+        }
+    }
+}